@@ -0,0 +1,50 @@
+package liquibase.benchmark;
+
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.DatabaseException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * In-process H2 databases for the benchmarks, so they do not depend on an external database.
+ */
+final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Opens a new in-memory H2 database, which lives until it is closed.
+     */
+    static Database open(String name) throws SQLException, DatabaseException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        return DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+    }
+
+    /**
+     * Runs the given SQL statements directly on the JDBC connection of the database.
+     */
+    static void execute(Database database, String... sql) throws SQLException {
+        Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+        try (Statement statement = connection.createStatement()) {
+            for (String oneSql : sql) {
+                statement.execute(oneSql);
+            }
+        }
+    }
+
+    /**
+     * Drops everything in the database and closes it.
+     */
+    static void close(Database database) throws SQLException, DatabaseException {
+        if (database != null) {
+            execute(database, "DROP ALL OBJECTS");
+            database.close();
+        }
+    }
+}
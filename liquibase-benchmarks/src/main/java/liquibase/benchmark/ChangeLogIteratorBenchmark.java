@@ -0,0 +1,85 @@
+package liquibase.benchmark;
+
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.RuntimeEnvironment;
+import liquibase.changelog.ChangeLogIterator;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.changelog.RanChangeSet;
+import liquibase.changelog.filter.AlreadyRanChangeSetFilter;
+import liquibase.changelog.filter.ChangeSetFilterResult;
+import liquibase.changelog.filter.NotRanChangeSetFilter;
+import liquibase.changelog.visitor.ChangeSetVisitor;
+import liquibase.database.Database;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filters a large changelog against a history where all but the last changesets ran, as an update of a long-lived
+ * database does, and looks up the changesets of the history in the changelog.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ChangeLogIteratorBenchmark {
+
+    private static final int NOT_RAN_CHANGE_SETS = 10;
+
+    @Param({"1000", "10000"})
+    public int changeSets;
+
+    private Database database;
+    private DatabaseChangeLog changeLog;
+    private List<RanChangeSet> history;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open("iterator");
+        changeLog = SyntheticChangeLogs.databaseChangeLog(changeSets);
+        history = SyntheticChangeLogs.history(changeLog, changeSets - NOT_RAN_CHANGE_SETS);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkDatabase.close(database);
+    }
+
+    @Benchmark
+    public void notRan(Blackhole blackhole) throws Exception {
+        iterate(new ChangeLogIterator(changeLog, new NotRanChangeSetFilter(history)), blackhole);
+    }
+
+    @Benchmark
+    public void alreadyRan(Blackhole blackhole) throws Exception {
+        iterate(new ChangeLogIterator(changeLog, new AlreadyRanChangeSetFilter(history)), blackhole);
+    }
+
+    @Benchmark
+    public void getChangeSet(Blackhole blackhole) {
+        for (RanChangeSet ranChangeSet : history) {
+            blackhole.consume(changeLog.getChangeSet(ranChangeSet));
+        }
+    }
+
+    private void iterate(ChangeLogIterator iterator, Blackhole blackhole) throws Exception {
+        iterator.run(new ChangeSetVisitor() {
+            @Override
+            public Direction getDirection() {
+                return Direction.FORWARD;
+            }
+
+            @Override
+            public void visit(ChangeSet changeSet, DatabaseChangeLog databaseChangeLog, Database database, Set<ChangeSetFilterResult> filterResults) {
+                blackhole.consume(changeSet);
+            }
+        }, new RuntimeEnvironment(database, new Contexts(), new LabelExpression()));
+    }
+}
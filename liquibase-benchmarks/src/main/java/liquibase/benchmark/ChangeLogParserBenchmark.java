@@ -0,0 +1,46 @@
+package liquibase.benchmark;
+
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.parser.ChangeLogParser;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.ResourceAccessor;
+import liquibase.sdk.resource.MockResourceAccessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses changelogs in each format, from memory so the file system does not count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ChangeLogParserBenchmark {
+
+    @Param({"xml", "yaml", "json", "sql"})
+    public String format;
+
+    @Param({"100", "1000"})
+    public int changeSets;
+
+    private String path;
+    private ResourceAccessor resourceAccessor;
+    private ChangeLogParser parser;
+
+    @Setup
+    public void setUp() throws Exception {
+        path = SyntheticChangeLogs.fileName(format);
+        resourceAccessor = new MockResourceAccessor(Collections.singletonMap(path, SyntheticChangeLogs.changeLog(format, changeSets)));
+        parser = ChangeLogParserFactory.getInstance().getParser(path, resourceAccessor);
+    }
+
+    @Benchmark
+    public DatabaseChangeLog parse() throws Exception {
+        return parser.parse(path, new ChangeLogParameters(), resourceAccessor);
+    }
+}
@@ -0,0 +1,41 @@
+package liquibase.benchmark;
+
+import liquibase.ChecksumVersion;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes the checksums of all the changesets of a changelog, as every update does to validate it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ChecksumBenchmark {
+
+    @Param({"1000"})
+    public int changeSets;
+
+    private List<ChangeSet> changeSetList;
+
+    @Setup
+    public void setUp() {
+        DatabaseChangeLog changeLog = SyntheticChangeLogs.databaseChangeLog(changeSets);
+        changeSetList = changeLog.getChangeSets();
+    }
+
+    @Benchmark
+    public void generateCheckSum(Blackhole blackhole) {
+        for (ChangeSet changeSet : changeSetList) {
+            changeSet.clearCheckSum(); //checksums are memoized, so each iteration has to compute them again
+            blackhole.consume(changeSet.generateCheckSum(ChecksumVersion.latest()));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package liquibase.benchmark;
+
+import liquibase.database.Database;
+import liquibase.datatype.DataTypeFactory;
+import liquibase.datatype.LiquibaseDataType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves column type descriptions for H2, as every column of a generated statement does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DataTypeBenchmark {
+
+    @Param({"int", "varchar(255)", "timestamp", "decimal(18, 2)", "java.sql.Types.VARCHAR(100)"})
+    public String description;
+
+    private Database database;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open("datatype");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkDatabase.close(database);
+    }
+
+    @Benchmark
+    public LiquibaseDataType fromDescription() {
+        return DataTypeFactory.getInstance().fromDescription(description, database);
+    }
+}
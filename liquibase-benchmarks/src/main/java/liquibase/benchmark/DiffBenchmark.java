@@ -0,0 +1,72 @@
+package liquibase.benchmark;
+
+import liquibase.CatalogAndSchema;
+import liquibase.GlobalConfiguration;
+import liquibase.database.Database;
+import liquibase.diff.DiffGeneratorFactory;
+import liquibase.diff.DiffResult;
+import liquibase.diff.compare.CompareControl;
+import liquibase.snapshot.DatabaseSnapshot;
+import liquibase.snapshot.SnapshotControl;
+import liquibase.snapshot.SnapshotGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Diffs the snapshots of two H2 schemas with many tables, where every other table has a changed column.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DiffBenchmark {
+
+    @Param({"200"})
+    public int tables;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private Database referenceDatabase;
+    private Database comparisonDatabase;
+    private DatabaseSnapshot referenceSnapshot;
+    private DatabaseSnapshot comparisonSnapshot;
+    private CompareControl compareControl;
+    private String scopeId;
+
+    @Setup
+    public void setUp() throws Exception {
+        referenceDatabase = BenchmarkDatabase.open("diffreference");
+        comparisonDatabase = BenchmarkDatabase.open("diffcomparison");
+        for (int i = 0; i < tables; i++) {
+            BenchmarkDatabase.execute(referenceDatabase,
+                    "CREATE TABLE table_" + i + " (id INT PRIMARY KEY, name VARCHAR(255) NOT NULL, created TIMESTAMP)",
+                    "CREATE INDEX idx_table_" + i + "_name ON table_" + i + " (name)");
+            BenchmarkDatabase.execute(comparisonDatabase,
+                    "CREATE TABLE table_" + i + " (id INT PRIMARY KEY, name VARCHAR(" + ((i % 2 == 0) ? 255 : 100) + ") NOT NULL, created TIMESTAMP)",
+                    "CREATE INDEX idx_table_" + i + "_name ON table_" + i + " (name)");
+        }
+        referenceSnapshot = SnapshotGeneratorFactory.getInstance().createSnapshot(CatalogAndSchema.DEFAULT, referenceDatabase, new SnapshotControl(referenceDatabase));
+        comparisonSnapshot = SnapshotGeneratorFactory.getInstance().createSnapshot(CatalogAndSchema.DEFAULT, comparisonDatabase, new SnapshotControl(comparisonDatabase));
+        compareControl = new CompareControl(new CompareControl.SchemaComparison[]{new CompareControl.SchemaComparison(CatalogAndSchema.DEFAULT, CatalogAndSchema.DEFAULT)},
+                referenceSnapshot.getSnapshotControl().getTypesToInclude());
+
+        scopeId = liquibase.Scope.enter(Collections.singletonMap(GlobalConfiguration.DIFF_THREADS.getKey(), threads));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        liquibase.Scope.exit(scopeId);
+        BenchmarkDatabase.close(referenceDatabase);
+        BenchmarkDatabase.close(comparisonDatabase);
+    }
+
+    @Benchmark
+    public DiffResult compare() throws Exception {
+        return DiffGeneratorFactory.getInstance().compare(referenceSnapshot, comparisonSnapshot, compareControl);
+    }
+}
@@ -0,0 +1,57 @@
+package liquibase.benchmark;
+
+import liquibase.change.core.LoadDataChange;
+import liquibase.database.Database;
+import liquibase.sdk.resource.MockResourceAccessor;
+import liquibase.statement.SqlStatement;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the statements of a loadData change reading a CSV file into an H2 table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LoadDataBenchmark {
+
+    private static final String FILE = "benchmark/data.csv";
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private Database database;
+    private String scopeId;
+
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder csv = new StringBuilder("id,name,amount,created\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(i).append(",name ").append(i).append(",").append(i).append(".25,2024-01-01 12:00:00\n");
+        }
+        scopeId = liquibase.Scope.enter(Collections.singletonMap(liquibase.Scope.Attr.resourceAccessor.name(),
+                new MockResourceAccessor(Collections.singletonMap(FILE, csv.toString()))));
+
+        database = BenchmarkDatabase.open("loaddata");
+        BenchmarkDatabase.execute(database, "CREATE TABLE data (id INT PRIMARY KEY, name VARCHAR(255), amount DECIMAL(18, 2), created TIMESTAMP)");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkDatabase.close(database);
+        liquibase.Scope.exit(scopeId);
+    }
+
+    @Benchmark
+    public SqlStatement[] generateStatements() {
+        LoadDataChange change = new LoadDataChange();
+        change.setTableName("data");
+        change.setFile(FILE);
+        return change.generateStatements(database);
+    }
+}
@@ -0,0 +1,56 @@
+package liquibase.benchmark;
+
+import liquibase.GlobalConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up values in nested scopes, and configuration values through them, as every changeset of an update does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ScopeBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int depth;
+
+    private final Deque<String> scopeIds = new ArrayDeque<>();
+
+    @Setup
+    public void setUp() throws Exception {
+        scopeIds.push(liquibase.Scope.enter(Collections.singletonMap("benchmark.root", "root")));
+        for (int i = 1; i < depth; i++) {
+            scopeIds.push(liquibase.Scope.enter(Collections.singletonMap("benchmark." + i, i)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        while (!scopeIds.isEmpty()) {
+            liquibase.Scope.exit(scopeIds.pop());
+        }
+    }
+
+    @Benchmark
+    public Object getValue() {
+        return liquibase.Scope.getCurrentScope().get("benchmark.root", String.class);
+    }
+
+    @Benchmark
+    public Object getMissingValue() {
+        return liquibase.Scope.getCurrentScope().get("benchmark.missing", String.class);
+    }
+
+    @Benchmark
+    public Object getConfigurationValue() {
+        return GlobalConfiguration.CONVERT_DATA_TYPES.getCurrentValue();
+    }
+}
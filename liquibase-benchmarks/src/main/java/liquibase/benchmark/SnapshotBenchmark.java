@@ -0,0 +1,47 @@
+package liquibase.benchmark;
+
+import liquibase.CatalogAndSchema;
+import liquibase.database.Database;
+import liquibase.snapshot.DatabaseSnapshot;
+import liquibase.snapshot.SnapshotControl;
+import liquibase.snapshot.SnapshotGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshots an H2 schema with many tables, as diff, generateChangelog and the preconditions of an update do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({"100"})
+    public int tables;
+
+    private Database database;
+
+    @Setup
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open("snapshot");
+        for (int i = 0; i < tables; i++) {
+            BenchmarkDatabase.execute(database,
+                    "CREATE TABLE table_" + i + " (id INT PRIMARY KEY, name VARCHAR(255) NOT NULL, created TIMESTAMP)",
+                    "CREATE INDEX idx_table_" + i + "_name ON table_" + i + " (name)");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkDatabase.close(database);
+    }
+
+    @Benchmark
+    public DatabaseSnapshot createSnapshot() throws Exception {
+        return SnapshotGeneratorFactory.getInstance().createSnapshot(CatalogAndSchema.DEFAULT, database, new SnapshotControl(database));
+    }
+}
@@ -0,0 +1,57 @@
+package liquibase.benchmark;
+
+import liquibase.change.Change;
+import liquibase.change.AddColumnConfig;
+import liquibase.change.core.CreateIndexChange;
+import liquibase.changelog.ChangeSet;
+import liquibase.database.Database;
+import liquibase.sqlgenerator.SqlGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the SQL of the most common changes for H2.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SqlGeneratorBenchmark {
+
+    private Database database;
+    private final List<Change> changes = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws Exception {
+        database = BenchmarkDatabase.open("sqlgenerator");
+        for (ChangeSet changeSet : SyntheticChangeLogs.databaseChangeLog(3).getChangeSets()) {
+            changes.addAll(changeSet.getChanges());
+        }
+        CreateIndexChange createIndex = new CreateIndexChange();
+        createIndex.setTableName("table_0");
+        createIndex.setIndexName("idx_table_0_name");
+        AddColumnConfig column = new AddColumnConfig();
+        column.setName("name");
+        createIndex.addColumn(column);
+        changes.add(createIndex);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkDatabase.close(database);
+    }
+
+    @Benchmark
+    public void generateSql(Blackhole blackhole) {
+        SqlGeneratorFactory sqlGeneratorFactory = SqlGeneratorFactory.getInstance();
+        for (Change change : changes) {
+            blackhole.consume(sqlGeneratorFactory.generateSql(change, database));
+        }
+    }
+}
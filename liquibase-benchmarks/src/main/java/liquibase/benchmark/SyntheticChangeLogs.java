@@ -0,0 +1,251 @@
+package liquibase.benchmark;
+
+import liquibase.change.AddColumnConfig;
+import liquibase.change.ColumnConfig;
+import liquibase.change.ConstraintsConfig;
+import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.change.core.InsertDataChange;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.changelog.RanChangeSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates changelogs of any size for the benchmarks.
+ * <p>
+ * Changeset {@code i} creates table {@code table_i} when {@code i % 3 == 0}, adds a column to the table created by the
+ * changeset before it when {@code i % 3 == 1}, and inserts a row into it when {@code i % 3 == 2}, so the changelogs
+ * mix the most common change types the same way in every format.
+ */
+final class SyntheticChangeLogs {
+
+    static final String AUTHOR = "benchmark";
+    static final String PATH = "benchmark/changelog";
+
+    private SyntheticChangeLogs() {
+    }
+
+    /**
+     * Returns the file name of a changelog in the given format: "xml", "yaml", "json" or "sql" for formatted SQL.
+     */
+    static String fileName(String format) {
+        return PATH + "." + format;
+    }
+
+    /**
+     * Returns the text of a changelog with the given number of changesets in the given format.
+     */
+    static String changeLog(String format, int changeSets) {
+        switch (format) {
+            case "xml":
+                return xml(changeSets);
+            case "yaml":
+                return yaml(changeSets);
+            case "json":
+                return json(changeSets);
+            case "sql":
+                return formattedSql(changeSets);
+            default:
+                throw new IllegalArgumentException("Unknown changelog format " + format);
+        }
+    }
+
+    /**
+     * Builds the same changelog as {@link #changeLog(String, int)} directly as a {@link DatabaseChangeLog}.
+     */
+    static DatabaseChangeLog databaseChangeLog(int changeSets) {
+        DatabaseChangeLog changeLog = new DatabaseChangeLog(PATH + ".xml");
+        for (int i = 0; i < changeSets; i++) {
+            ChangeSet changeSet = new ChangeSet(String.valueOf(i), AUTHOR, false, false, PATH + ".xml", null, null, changeLog);
+            String tableName = tableName(i);
+            switch (i % 3) {
+                case 0:
+                    CreateTableChange createTable = new CreateTableChange();
+                    createTable.setTableName(tableName);
+                    createTable.addColumn(new ColumnConfig().setName("id").setType("int").setConstraints(new ConstraintsConfig().setPrimaryKey(true)));
+                    createTable.addColumn(new ColumnConfig().setName("name").setType("varchar(255)"));
+                    changeSet.addChange(createTable);
+                    break;
+                case 1:
+                    AddColumnChange addColumn = new AddColumnChange();
+                    addColumn.setTableName(tableName);
+                    AddColumnConfig column = new AddColumnConfig();
+                    column.setName("created");
+                    column.setType("timestamp");
+                    addColumn.addColumn(column);
+                    changeSet.addChange(addColumn);
+                    break;
+                default:
+                    InsertDataChange insert = new InsertDataChange();
+                    insert.setTableName(tableName);
+                    insert.addColumn(new ColumnConfig().setName("id").setValueNumeric(i));
+                    insert.addColumn(new ColumnConfig().setName("name").setValue("row " + i));
+                    changeSet.addChange(insert);
+                    break;
+            }
+            changeLog.addChangeSet(changeSet);
+        }
+        return changeLog;
+    }
+
+    /**
+     * Returns the history of the given changelog as if its first {@code ranChangeSets} changesets were deployed.
+     */
+    static List<RanChangeSet> history(DatabaseChangeLog changeLog, int ranChangeSets) {
+        List<RanChangeSet> history = new ArrayList<>();
+        List<ChangeSet> changeSets = changeLog.getChangeSets();
+        for (int i = 0; i < ranChangeSets && i < changeSets.size(); i++) {
+            history.add(new RanChangeSet(changeSets.get(i)));
+        }
+        return history;
+    }
+
+    private static String tableName(int changeSet) {
+        return "table_" + (changeSet - (changeSet % 3));
+    }
+
+    private static String xml(int changeSets) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<databaseChangeLog xmlns=\"http://www.liquibase.org/xml/ns/dbchangelog\"\n")
+                .append("        xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n")
+                .append("        xsi:schemaLocation=\"http://www.liquibase.org/xml/ns/dbchangelog http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd\">\n");
+        for (int i = 0; i < changeSets; i++) {
+            String tableName = tableName(i);
+            xml.append("    <changeSet id=\"").append(i).append("\" author=\"" + AUTHOR + "\">\n");
+            switch (i % 3) {
+                case 0:
+                    xml.append("        <createTable tableName=\"").append(tableName).append("\">\n")
+                            .append("            <column name=\"id\" type=\"int\"><constraints primaryKey=\"true\"/></column>\n")
+                            .append("            <column name=\"name\" type=\"varchar(255)\"/>\n")
+                            .append("        </createTable>\n");
+                    break;
+                case 1:
+                    xml.append("        <addColumn tableName=\"").append(tableName).append("\">\n")
+                            .append("            <column name=\"created\" type=\"timestamp\"/>\n")
+                            .append("        </addColumn>\n");
+                    break;
+                default:
+                    xml.append("        <insert tableName=\"").append(tableName).append("\">\n")
+                            .append("            <column name=\"id\" valueNumeric=\"").append(i).append("\"/>\n")
+                            .append("            <column name=\"name\" value=\"row ").append(i).append("\"/>\n")
+                            .append("        </insert>\n");
+                    break;
+            }
+            xml.append("    </changeSet>\n");
+        }
+        return xml.append("</databaseChangeLog>\n").toString();
+    }
+
+    private static String yaml(int changeSets) {
+        StringBuilder yaml = new StringBuilder("databaseChangeLog:\n");
+        for (int i = 0; i < changeSets; i++) {
+            String tableName = tableName(i);
+            yaml.append("  - changeSet:\n")
+                    .append("      id: \"").append(i).append("\"\n")
+                    .append("      author: " + AUTHOR + "\n")
+                    .append("      changes:\n");
+            switch (i % 3) {
+                case 0:
+                    yaml.append("        - createTable:\n")
+                            .append("            tableName: ").append(tableName).append("\n")
+                            .append("            columns:\n")
+                            .append("              - column:\n")
+                            .append("                  name: id\n")
+                            .append("                  type: int\n")
+                            .append("                  constraints:\n")
+                            .append("                    primaryKey: true\n")
+                            .append("              - column:\n")
+                            .append("                  name: name\n")
+                            .append("                  type: varchar(255)\n");
+                    break;
+                case 1:
+                    yaml.append("        - addColumn:\n")
+                            .append("            tableName: ").append(tableName).append("\n")
+                            .append("            columns:\n")
+                            .append("              - column:\n")
+                            .append("                  name: created\n")
+                            .append("                  type: timestamp\n");
+                    break;
+                default:
+                    yaml.append("        - insert:\n")
+                            .append("            tableName: ").append(tableName).append("\n")
+                            .append("            columns:\n")
+                            .append("              - column:\n")
+                            .append("                  name: id\n")
+                            .append("                  valueNumeric: ").append(i).append("\n")
+                            .append("              - column:\n")
+                            .append("                  name: name\n")
+                            .append("                  value: row ").append(i).append("\n");
+                    break;
+            }
+        }
+        return yaml.toString();
+    }
+
+    private static String json(int changeSets) {
+        StringBuilder json = new StringBuilder("{\"databaseChangeLog\": [\n");
+        for (int i = 0; i < changeSets; i++) {
+            String tableName = tableName(i);
+            json.append("  {\"changeSet\": {\"id\": \"").append(i).append("\", \"author\": \"" + AUTHOR + "\", \"changes\": [\n");
+            switch (i % 3) {
+                case 0:
+                    json.append("    {\"createTable\": {\"tableName\": \"").append(tableName).append("\", \"columns\": [\n")
+                            .append("      {\"column\": {\"name\": \"id\", \"type\": \"int\", \"constraints\": {\"primaryKey\": true}}},\n")
+                            .append("      {\"column\": {\"name\": \"name\", \"type\": \"varchar(255)\"}}\n")
+                            .append("    ]}}\n");
+                    break;
+                case 1:
+                    json.append("    {\"addColumn\": {\"tableName\": \"").append(tableName).append("\", \"columns\": [\n")
+                            .append("      {\"column\": {\"name\": \"created\", \"type\": \"timestamp\"}}\n")
+                            .append("    ]}}\n");
+                    break;
+                default:
+                    json.append("    {\"insert\": {\"tableName\": \"").append(tableName).append("\", \"columns\": [\n")
+                            .append("      {\"column\": {\"name\": \"id\", \"valueNumeric\": ").append(i).append("}},\n")
+                            .append("      {\"column\": {\"name\": \"name\", \"value\": \"row ").append(i).append("\"}}\n")
+                            .append("    ]}}\n");
+                    break;
+            }
+            json.append("  ]}}").append(i < changeSets - 1 ? "," : "").append("\n");
+        }
+        return json.append("]}\n").toString();
+    }
+
+    /**
+     * Formatted SQL changesets also get a multi-line body, like the stored procedures and data patches they usually hold.
+     */
+    private static String formattedSql(int changeSets) {
+        StringBuilder sql = new StringBuilder("--liquibase formatted sql\n\n");
+        for (int i = 0; i < changeSets; i++) {
+            String tableName = tableName(i);
+            sql.append("--changeset " + AUTHOR + ":").append(i).append("\n");
+            switch (i % 3) {
+                case 0:
+                    sql.append("CREATE TABLE ").append(tableName).append(" (\n")
+                            .append("    id INT PRIMARY KEY,\n")
+                            .append("    name VARCHAR(255)\n")
+                            .append(");\n")
+                            .append("--rollback DROP TABLE ").append(tableName).append(";\n");
+                    break;
+                case 1:
+                    sql.append("ALTER TABLE ").append(tableName).append("\n")
+                            .append("    ADD created TIMESTAMP;\n")
+                            .append("--rollback ALTER TABLE ").append(tableName).append(" DROP COLUMN created;\n");
+                    break;
+                default:
+                    sql.append("INSERT INTO ").append(tableName).append(" (id, name)\n")
+                            .append("    VALUES (").append(i).append(", 'row ").append(i).append("');\n")
+                            .append("UPDATE ").append(tableName).append("\n")
+                            .append("    SET name = 'updated row ").append(i).append("'\n")
+                            .append("    WHERE id = ").append(i).append(";\n");
+                    break;
+            }
+            sql.append("\n");
+        }
+        return sql.toString();
+    }
+}
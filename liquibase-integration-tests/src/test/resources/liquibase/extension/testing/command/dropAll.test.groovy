@@ -27,6 +27,8 @@ Optional Args:
     Default: null
   force (Boolean) Argument to allow use of dropAll with values of 'true' or 'false'. The default is 'false'.
     Default: false
+  nativeDrop (Boolean) Drop the objects with statements specific to the database instead of snapshotting the schema first, on databases which support it (H2, PostgreSQL and Oracle). Not used for the schema holding the Liquibase tables. The default is 'false'.
+    Default: false
   password (String) Password to use to connect to the database
     Default: null
     OBFUSCATED
@@ -1,5 +1,6 @@
 package liquibase;
 
+import liquibase.change.core.LoadDataChange;
 import liquibase.command.core.DiffCommandStep;
 import liquibase.configuration.AutoloadedConfigurations;
 import liquibase.configuration.ConfigurationDefinition;
@@ -23,10 +24,12 @@ public class GlobalConfiguration implements AutoloadedConfigurations {
     public static final ConfigurationDefinition<Charset> FILE_ENCODING;
     public static final ConfigurationDefinition<Long> CHANGELOGLOCK_WAIT_TIME;
     public static final ConfigurationDefinition<Long> CHANGELOGLOCK_POLL_RATE;
+    public static final ConfigurationDefinition<ChangelogLockWaitStrategy> CHANGELOGLOCK_WAIT_STRATEGY;
     public static final ConfigurationDefinition<Boolean> CONVERT_DATA_TYPES;
     public static final ConfigurationDefinition<Boolean> GENERATE_CHANGESET_CREATED_VALUES;
     public static final ConfigurationDefinition<Boolean> AUTO_REORG;
     public static final ConfigurationDefinition<Boolean> DIFF_COLUMN_ORDER;
+    public static final ConfigurationDefinition<Integer> DIFF_THREADS;
     public static final ConfigurationDefinition<Boolean> ALWAYS_OVERRIDE_STORED_LOGIC_SCHEMA;
     public static final ConfigurationDefinition<Boolean> GENERATED_CHANGESET_IDS_INCLUDE_DESCRIPTION;
     public static final ConfigurationDefinition<Boolean> INCLUDE_CATALOG_IN_SPECIFICATION;
@@ -43,6 +46,10 @@ public class GlobalConfiguration implements AutoloadedConfigurations {
     public static final ConfigurationDefinition<Boolean> VALIDATE_XML_CHANGELOG_FILES;
 
     public static final ConfigurationDefinition<Boolean> TRIM_LOAD_DATA_FILE_HEADER;
+    public static final ConfigurationDefinition<LoadDataChange.LoadMode> LOAD_DATA_MODE;
+    public static final ConfigurationDefinition<Integer> LOAD_DATA_BATCH_SIZE;
+    public static final ConfigurationDefinition<String> SNAPSHOT_CACHE_DIRECTORY;
+    public static final ConfigurationDefinition<String> CHECKSUM_CACHE_FILE;
 
     /**
      * @deprecated No longer used
@@ -54,6 +61,7 @@ public class GlobalConfiguration implements AutoloadedConfigurations {
     public static final ConfigurationDefinition<Integer> DDL_LOCK_TIMEOUT;
     public static final ConfigurationDefinition<Boolean> SECURE_PARSING;
     public static final ConfigurationDefinition<String> SEARCH_PATH;
+    public static final ConfigurationDefinition<Boolean> INDEX_RESOURCE_SEARCH;
 
     public static final ConfigurationDefinition<UIServiceEnum> UI_SERVICE;
     public static final ConfigurationDefinition<SupportsMethodValidationLevelsEnum> SUPPORTS_METHOD_VALIDATION_LEVEL;
@@ -89,6 +97,14 @@ public class GlobalConfiguration implements AutoloadedConfigurations {
                 .setDefaultValue(10L)
                 .build();
 
+        CHANGELOGLOCK_WAIT_STRATEGY = builder.define("changelogLockWaitStrategy", ChangelogLockWaitStrategy.class)
+                .setDescription("How to wait for the changelog lock when it is locked. FIXED checks again every changelogLockPollRate seconds. " +
+                        "BACKOFF checks again after a short delay with random jitter that doubles on every check, up to changelogLockPollRate seconds. " +
+                        "NATIVE waits on a database lock (PostgreSQL advisory locks, MySQL/MariaDB GET_LOCK, SQL Server sp_getapplock) that is granted as soon as it is released, " +
+                        "then acquires the changelog lock table as usual; other databases use BACKOFF.")
+                .setDefaultValue(ChangelogLockWaitStrategy.FIXED)
+                .build();
+
         LIQUIBASE_TABLESPACE_NAME = builder.define("liquibaseTablespaceName", String.class)
                 .addAliasKey("liquibase.liquibaseTableSpaceName")
                 .addAliasKey("liquibase.databaseChangeLogTablespaceName")
@@ -159,6 +175,11 @@ public class GlobalConfiguration implements AutoloadedConfigurations {
                 .setDefaultValue(true)
                 .build();
 
+        DIFF_THREADS = builder.define("diffThreads", Integer.class)
+                .setDescription("Number of threads comparing the object types of a diff concurrently, such as tables, columns and indexes. The differences found are the same as when comparing the types one after the other. With 1, types are compared one after the other on the calling thread.")
+                .setDefaultValue(1)
+                .build();
+
         ALWAYS_OVERRIDE_STORED_LOGIC_SCHEMA = builder.define("alwaysOverrideStoredLogicSchema", Boolean.class)
                 .setDescription("When generating SQL for createProcedure, should the procedure schema be forced to the default schema if no schemaName attribute is set?")
                 .setDefaultValue(false)
@@ -243,6 +264,11 @@ public class GlobalConfiguration implements AutoloadedConfigurations {
                 .setDescription("Complete list of Location(s) to search for files such as changelog files in. Multiple paths can be specified by separating them with commas.")
                 .build();
 
+        INDEX_RESOURCE_SEARCH = builder.define("indexResourceSearch", Boolean.class)
+                .setDescription("If true, the files in each jar or zip file searched for changelogs, such as by includeAll, are listed once and kept in memory so later searches look them up instead of reading the file again. Files changed in a jar or zip file after it was first searched are not seen.")
+                .setDefaultValue(false)
+                .build();
+
         ALWAYS_DROP_INSTEAD_OF_REPLACE = builder.define("alwaysDropInsteadOfReplace", Boolean.class)
                 .setDescription("If true, drop and recreate a view instead of replacing it.")
                 .setDefaultValue(false)
@@ -272,6 +298,24 @@ public class GlobalConfiguration implements AutoloadedConfigurations {
                 .setDefaultValue(false)
                 .build();
 
+        LOAD_DATA_MODE = builder.define("loadDataMode", LoadDataChange.LoadMode.class)
+                .setDescription("How loadData and loadUpdateData read their CSV files when no loadMode is set on the change. Options are DEFAULT (read the whole file before executing), STREAMING (read and execute the file in bounded chunks, keeping memory constant regardless of file size) or COPY (stream the file with the PostgreSQL COPY command, falling back to DEFAULT where COPY is not available).")
+                .setDefaultValue(LoadDataChange.LoadMode.DEFAULT)
+                .build();
+
+        LOAD_DATA_BATCH_SIZE = builder.define("loadDataBatchSize", Integer.class)
+                .setDescription("Maximum number of CSV rows loadData sends to the database in a single JDBC batch or multi-row INSERT when no batchSize is set on the change. In STREAMING load mode this is also the number of rows read per chunk.")
+                .setDefaultValue(LoadDataChange.DEFAULT_BATCH_SIZE)
+                .build();
+
+        SNAPSHOT_CACHE_DIRECTORY = builder.define("snapshotCacheDirectory", String.class)
+                .setDescription("Directory to store schema snapshots in so later diff, diffChangelog and generateChangelog runs can reuse them. A stored snapshot is only reused while a catalog query shows no DDL changes in its schemas, which is supported on PostgreSQL, Oracle and SQL Server. Snapshots are not cached when not set.")
+                .build();
+
+        CHECKSUM_CACHE_FILE = builder.define("checksumCacheFile", String.class)
+                .setDescription("File to store changeset checksums in so later runs can reuse them for changesets whose parsed content did not change, instead of computing them again. Changesets that read other files, such as sqlFile or loadData, are always computed. Checksums are not cached when not set.")
+                .build();
+
         PRESERVE_CLASSPATH_PREFIX_IN_NORMALIZED_PATHS = builder.define("preserveClasspathPrefixInNormalizedPaths", Boolean.class)
                 .setDescription("If true 'classpath:' prefix will be preserved in normalized paths, allowing to resolve hierarchical resources under a classpath-based root.")
                 .setDefaultValue(false)
@@ -288,6 +332,12 @@ public class GlobalConfiguration implements AutoloadedConfigurations {
                 .build();
     }
 
+    public enum ChangelogLockWaitStrategy {
+        FIXED,
+        BACKOFF,
+        NATIVE
+    }
+
     public enum DuplicateFileMode {
         WARN,
         ERROR,
@@ -27,6 +27,7 @@ import liquibase.logging.Logger;
 import liquibase.logging.mdc.MdcKey;
 import liquibase.parser.ChangeLogParser;
 import liquibase.parser.ChangeLogParserFactory;
+import liquibase.parser.PreParsedChangeLogCache;
 import liquibase.parser.core.xml.XMLChangeLogSAXParser;
 import liquibase.resource.ResourceAccessor;
 import liquibase.serializer.ChangeLogSerializer;
@@ -249,7 +250,7 @@ public class Liquibase implements AutoCloseable {
             if (parser instanceof XMLChangeLogSAXParser) {
                 ((XMLChangeLogSAXParser) parser).setShouldWarnOnMismatchedXsdVersion(shouldWarnOnMismatchedXsdVersion);
             }
-            databaseChangeLog = parser.parse(changeLogFile, changeLogParameters, resourceAccessor);
+            databaseChangeLog = PreParsedChangeLogCache.parse(parser, changeLogFile, changeLogParameters, resourceAccessor);
             Scope.getCurrentScope().getLog(Liquibase.class).info("Parsed changelog file '" + changeLogFile + "'");
             if (StringUtils.isNotEmpty(databaseChangeLog.getLogicalFilePath())) {
                 Scope.getCurrentScope().addMdcValue(MdcKey.CHANGELOG_FILE, databaseChangeLog.getLogicalFilePath());
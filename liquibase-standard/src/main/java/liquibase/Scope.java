@@ -25,7 +25,7 @@ import liquibase.servicelocator.StandardServiceLocator;
 import liquibase.ui.ConsoleUIService;
 import liquibase.ui.UIService;
 import liquibase.util.CollectionUtil;
-import liquibase.util.SmartMap;
+import liquibase.util.ObjectUtil;
 import liquibase.util.StringUtil;
 import lombok.Getter;
 
@@ -34,6 +34,7 @@ import java.nio.charset.Charset;
 import java.text.DecimalFormat;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This scope object is used to hold configuration and other parameters within a call without needing complex method signatures.
@@ -124,7 +125,19 @@ public class Scope {
     }
 
     private final Scope parent;
-    private final SmartMap values = new SmartMap();
+    private final Scope root;
+
+    /**
+     * The root scope keeps its values in a concurrent map, because singletons are added to it as they are first used.
+     * The other scopes never change their values after they are created (except for {@link #setLpmArgs(String)}),
+     * so each one keeps the values of all its non-root parents flattened together with its own in an immutable map.
+     * Looking a value up is then at most two map lookups, whatever the depth of the scope, and needs no locking.
+     */
+    private volatile Map<String, Object> values;
+    /**
+     * Incremented every time a value is set in or removed from this scope after it is created.
+     */
+    private final AtomicLong valueChanges = new AtomicLong();
     @Getter
     private final String scopeId;
     private static final Map<String, List<MdcObject>> addedMdcEntries = new ConcurrentHashMap<>();
@@ -132,27 +145,30 @@ public class Scope {
     private LiquibaseListener listener;
 
     public static Scope getCurrentScope() {
-        InheritableThreadLocal<ScopeManager> manager = getScopeManagerThreadLocal();
-        if (manager.get() == null) {
-            manager.set(new SingletonScopeManager());
+        InheritableThreadLocal<ScopeManager> managerThreadLocal = getScopeManagerThreadLocal();
+        ScopeManager manager = managerThreadLocal.get();
+        if (manager == null) {
+            manager = new SingletonScopeManager();
+            managerThreadLocal.set(manager);
         }
-        if (manager.get().getCurrentScope() == null) {
+        Scope currentScope = manager.getCurrentScope();
+        if (currentScope == null) {
             Scope rootScope = new Scope();
-            manager.get().setCurrentScope(rootScope);
+            manager.setCurrentScope(rootScope);
 
-            rootScope.values.put(Attr.logService.name(), new JavaLogService());
-            rootScope.values.put(Attr.serviceLocator.name(), new StandardServiceLocator());
-            rootScope.values.put(Attr.resourceAccessor.name(), new ClassLoaderResourceAccessor());
-            rootScope.values.put(Attr.latestChecksumVersion.name(), ChecksumVersion.V9);
-            rootScope.values.put(Attr.checksumVersion.name(), ChecksumVersion.latest());
+            rootScope.putValue(Attr.logService.name(), new JavaLogService());
+            rootScope.putValue(Attr.serviceLocator.name(), new StandardServiceLocator());
+            rootScope.putValue(Attr.resourceAccessor.name(), new ClassLoaderResourceAccessor());
+            rootScope.putValue(Attr.latestChecksumVersion.name(), ChecksumVersion.V9);
+            rootScope.putValue(Attr.checksumVersion.name(), ChecksumVersion.latest());
 
-            rootScope.values.put(Attr.ui.name(), new ConsoleUIService());
+            rootScope.putValue(Attr.ui.name(), new ConsoleUIService());
 
             // Discover custom LogService early, before LiquibaseConfiguration.init(),
             // so that logging during configuration setup uses the correct LogService.
             LogService overrideLogService = rootScope.getSingleton(LogServiceFactory.class).getDefaultLogService();
             if (overrideLogService != null) {
-                rootScope.values.put(Attr.logService.name(), overrideLogService);
+                rootScope.putValue(Attr.logService.name(), overrideLogService);
             } else {
                 rootScope.getLog(Scope.class).warning("Could not find log service via LogServiceFactory. Using JavaLogService as default.");
             }
@@ -167,11 +183,12 @@ public class Scope {
                 }
             }
 
-            rootScope.values.put(Attr.serviceLocator.name(), serviceLocator);
-            rootScope.values.put(Attr.osgiPlatform.name(), ContainerChecker.isOsgiPlatform());
-            rootScope.values.put(Attr.deploymentId.name(), generateDeploymentId());
+            rootScope.putValue(Attr.serviceLocator.name(), serviceLocator);
+            rootScope.putValue(Attr.osgiPlatform.name(), ContainerChecker.isOsgiPlatform());
+            rootScope.putValue(Attr.deploymentId.name(), generateDeploymentId());
+            currentScope = manager.getCurrentScope();
         }
-        return manager.get().getCurrentScope();
+        return currentScope;
     }
 
     public static void setScopeManager(ScopeManager scopeManager) {
@@ -186,6 +203,8 @@ public class Scope {
     private Scope() {
         scopeId = "root";
         parent = null;
+        root = this;
+        values = new ConcurrentHashMap<>();
     }
 
     /**
@@ -197,10 +216,36 @@ public class Scope {
             throw new UnexpectedLiquibaseException("Cannot pass a null parent to a new Scope. Use Scope.child to correctly create a nested scope");
         }
         this.parent = parent;
+        this.root = parent.root;
         scopeId = generateScopeId();
-        if (scopeValues != null) {
-            values.putAll(scopeValues);
+        values = flattenValues(parent, scopeValues);
+    }
+
+    /**
+     * Returns the values of the given parent scope, unless it is the root, with the given values and the values of their
+     * {@link #JAVA_PROPERTIES} on top. Null values are not set, so the parent value stays visible.
+     */
+    private static Map<String, Object> flattenValues(Scope parent, Map<String, Object> scopeValues) {
+        Map<String, Object> parentValues = (parent.parent == null) ? Collections.emptyMap() : parent.values;
+        if ((scopeValues == null) || scopeValues.isEmpty()) {
+            return parentValues;
         }
+
+        Map<String, Object> flattenedValues = new HashMap<>(parentValues);
+        Object javaProperties = scopeValues.get(JAVA_PROPERTIES);
+        if (javaProperties instanceof Map) {
+            for (Map.Entry<?, ?> property : ((Map<?, ?>) javaProperties).entrySet()) {
+                if ((property.getKey() instanceof String) && (property.getValue() != null)) {
+                    flattenedValues.put((String) property.getKey(), property.getValue());
+                }
+            }
+        }
+        for (Map.Entry<String, Object> entry : scopeValues.entrySet()) {
+            if (entry.getValue() != null) {
+                flattenedValues.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(flattenedValues);
     }
 
     private String generateScopeId() {
@@ -328,7 +373,7 @@ public class Scope {
     }
 
 
-    public synchronized <T> T get(Enum key, Class<T> type) {
+    public <T> T get(Enum key, Class<T> type) {
         return get(key.name(), type);
     }
 
@@ -342,16 +387,19 @@ public class Scope {
      * Returns null if key is not defined in this or any parent scopes.
      */
     public <T> T get(String key, Class<T> type) {
-        T value = values.get(key, type);
-        if (value == null && values.containsKey(JAVA_PROPERTIES)) {
-            Map javaProperties = values.get(JAVA_PROPERTIES, Map.class);
-            value = (T)javaProperties.get(key);
-        }
-        if (value == null && parent != null) {
-            value = parent.get(key, type);
+        Object value = values.get(key);
+        if (value == null) {
+            if (parent == null) {
+                Object javaProperties = values.get(JAVA_PROPERTIES);
+                if (javaProperties instanceof Map) {
+                    value = ((Map<?, ?>) javaProperties).get(key);
+                }
+            } else {
+                value = root.get(key, Object.class);
+            }
         }
 
-        return value;
+        return ObjectUtil.convert(value, type);
     }
 
     /**
@@ -359,7 +407,7 @@ public class Scope {
      * If the value is not defined, the passed defaultValue is returned.
      * The value is converted to the given type if necessary using {@link liquibase.util.ObjectUtil#convert(Object, Class)}.
      */
-    public synchronized <T> T get(String key, T defaultValue) {
+    public <T> T get(String key, T defaultValue) {
         Class type;
         if (defaultValue == null) {
             type = Object.class;
@@ -377,34 +425,44 @@ public class Scope {
     /**
      * Looks up the singleton object of the given type. If the singleton has not been created yet, it will be instantiated.
      * The singleton is a singleton based on the root scope and the same object will be returned for all child scopes of the root.
+     * No lock is taken: if several threads create the same singleton at once, they all get the first one stored and the others are dropped.
      */
-    public synchronized <T extends SingletonObject> T getSingleton(Class<T> type) {
-        if (getParent() != null) {
-            return getParent().getSingleton(type);
+    public <T extends SingletonObject> T getSingleton(Class<T> type) {
+        if (parent != null) {
+            return root.getSingleton(type);
         }
 
         String key = type.getName();
         T singleton = get(key, type);
         if (singleton == null) {
-            try {
-                try {
-                    Constructor<T> constructor = type.getDeclaredConstructor(Scope.class);
-                    constructor.setAccessible(true);
-                    singleton = constructor.newInstance(this);
-                } catch (NoSuchMethodException e) { //try without scope
-                    Constructor<T> constructor = type.getDeclaredConstructor();
-                    constructor.setAccessible(true);
-                    singleton = constructor.newInstance();
-                }
-            } catch (Exception e) {
-                throw new UnexpectedLiquibaseException(e);
-            }
+            singleton = createSingleton(type);
 
-            values.put(key, singleton);
+            Object existingSingleton = values.putIfAbsent(key, singleton);
+            if (existingSingleton == null) {
+                valueChanges.incrementAndGet();
+            } else {
+                singleton = type.cast(existingSingleton);
+            }
         }
         return singleton;
     }
 
+    private <T extends SingletonObject> T createSingleton(Class<T> type) {
+        try {
+            try {
+                Constructor<T> constructor = type.getDeclaredConstructor(Scope.class);
+                constructor.setAccessible(true);
+                return constructor.newInstance(this);
+            } catch (NoSuchMethodException e) { //try without scope
+                Constructor<T> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return constructor.newInstance();
+            }
+        } catch (Exception e) {
+            throw new UnexpectedLiquibaseException(e);
+        }
+    }
+
     public Logger getLog(Class clazz) {
         return get(Attr.logService, LogService.class).getLog(clazz);
     }
@@ -584,7 +642,43 @@ public class Scope {
     }
 
     public void setLpmArgs(String args) {
-        this.values.put(Attr.lpmArgs.name(), args);
+        String key = Attr.lpmArgs.name();
+        if (parent == null) {
+            if (args == null) {
+                values.remove(key);
+            } else {
+                values.put(key, args);
+            }
+            valueChanges.incrementAndGet();
+            return;
+        }
+
+        Map<String, Object> newValues = new HashMap<>(values);
+        if (args == null) {
+            newValues.remove(key);
+            if ((parent.parent != null) && (parent.values.get(key) != null)) {
+                newValues.put(key, parent.values.get(key));
+            }
+        } else {
+            newValues.put(key, args);
+        }
+        values = Collections.unmodifiableMap(newValues);
+        valueChanges.incrementAndGet();
+    }
+
+    /**
+     * Returns a number that changes every time a value is set in or removed from this scope or the root scope after
+     * they are created, e.g. when a singleton is added to the root scope or by {@link #setLpmArgs(String)}.
+     * The values returned by {@link #get(String, Class)} can only differ between two calls if this number differs.
+     */
+    public long getValuesVersion() {
+        long rootChanges = root.valueChanges.get();
+        return (parent == null) ? rootChanges : rootChanges + valueChanges.get();
+    }
+
+    private void putValue(String key, Object value) {
+        values.put(key, value);
+        valueChanges.incrementAndGet();
     }
 
     @Override
@@ -538,10 +538,11 @@ public abstract class AbstractChange extends AbstractPlugin implements Change {
      */
     @Override
     public CheckSum generateCheckSum() {
+        Set<String> excludedFields = new HashSet<>(Arrays.asList(getExcludedFieldFilters(Scope.getCurrentScope().getChecksumVersion())));
         return CheckSum.compute(new StringChangeLogSerializer(new StringChangeLogSerializer.FieldFilter() {
             @Override
             public boolean include(Object obj, String field, Object value) {
-                if(Arrays.stream(getExcludedFieldFilters(Scope.getCurrentScope().getChecksumVersion())).anyMatch(filter -> filter.equals(field))) {
+                if (excludedFields.contains(field)) {
                     return false;
                 }
                 return super.include(obj, field, value);
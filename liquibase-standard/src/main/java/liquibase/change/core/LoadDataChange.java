@@ -25,6 +25,9 @@ import liquibase.snapshot.SnapshotGeneratorFactory;
 import liquibase.statement.BatchDmlExecutablePreparedStatement;
 import liquibase.statement.ExecutablePreparedStatementBase;
 import liquibase.statement.InsertExecutablePreparedStatement;
+import liquibase.statement.InsertMultiRowExecutablePreparedStatement;
+import liquibase.statement.LoadDataCopyStatement;
+import liquibase.statement.LoadDataStreamingStatement;
 import liquibase.statement.SqlStatement;
 import liquibase.statement.core.InsertOrUpdateStatement;
 import liquibase.statement.core.InsertSetStatement;
@@ -61,6 +64,10 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
      * CSV Lines starting with that sign(s) will be treated as comments by default
      */
     public static final String DEFAULT_COMMENT_PATTERN = "#";
+    /**
+     * Number of rows per JDBC batch or multi-row INSERT if neither the change nor the global configuration set one
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
     public static final Pattern BASE64_PATTERN = Pattern.compile("^(?:[A-Za-z0-9+/]{4})*(?:[A-Za-z0-9+/]{2}==|[A-Za-z0-9+/]{3}=)?$");
     private static final ResourceBundle coreBundle = getBundle("liquibase/i18n/liquibase-core");
     @Setter
@@ -78,6 +85,12 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
     @Setter
     private Boolean usePreparedStatements;
 
+    @Setter
+    private String loadMode;
+
+    @Setter
+    private Integer batchSize;
+
     /**
      * Transform a value read from a CSV file into a string to be written into the database if the column type
      * is not known.
@@ -130,6 +143,22 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
         return usePreparedStatements;
     }
 
+    @DatabaseChangeProperty(exampleValue = "streaming", supportsDatabase = ALL,
+        description = "How the CSV file is read. 'default' reads the whole file before executing, 'streaming' reads and " +
+            "executes the file in bounded chunks so memory use does not grow with the file size, 'copy' streams the " +
+            "file with the PostgreSQL COPY command and falls back to 'default' where COPY is not available. " +
+            "Defaults to the liquibase.loadDataMode setting")
+    public String getLoadMode() {
+        return loadMode;
+    }
+
+    @DatabaseChangeProperty(exampleValue = "1000", supportsDatabase = ALL,
+        description = "Maximum number of rows sent to the database in a single JDBC batch or multi-row INSERT. " +
+            "Defaults to the liquibase.loadDataBatchSize setting")
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
     @DatabaseChangeProperty(supportsDatabase = ALL,
         description = "Lines starting with this are treated as comments and ignored. "+
             "To disable comments, set 'commentLineStartsWith' to an empty value. Default: " + DEFAULT_COMMENT_PATTERN)
@@ -237,6 +266,167 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
     public SqlStatement[] generateStatements(Database database) {
         supportsBatchUpdates(database);
 
+        if (getEffectiveLoadMode() == LoadMode.COPY && !isLoggingExecutor(database)) {
+            LoadDataCopyStatement.CopyInOpener copyInOpener = getCopyInOpener(database);
+            if (copyInOpener != null) {
+                return new SqlStatement[]{new LoadDataCopyStatement(this, database, copyInOpener)};
+            }
+            Scope.getCurrentScope().getLog(getClass()).info("COPY load mode is not available for " + getFile() +
+                    " on " + database.getShortName() + ", loading it with INSERT statements instead");
+        }
+        if (isStreaming(database)) {
+            return new SqlStatement[]{new LoadDataStreamingStatement(this, database, getEffectiveBatchSize())};
+        }
+        return generateStatementsInMemory(database);
+    }
+
+    /**
+     * Returns how to open a COPY operation on the given database, or null if this change cannot be loaded with COPY.
+     * COPY cannot upsert, evaluate computed values or sequences, or read LOB files.
+     */
+    protected LoadDataCopyStatement.CopyInOpener getCopyInOpener(Database database) {
+        if (!(database instanceof PostgresDatabase) || !hasPreparedStatementsImplemented()) {
+            return null;
+        }
+        for (LoadDataColumnConfig column : columns) {
+            LOAD_DATA_TYPE type = column.getTypeEnum();
+            if ((type == LOAD_DATA_TYPE.COMPUTED) || (type == LOAD_DATA_TYPE.SEQUENCE)
+                    || (type == LOAD_DATA_TYPE.BLOB) || (type == LOAD_DATA_TYPE.CLOB)) {
+                return null;
+            }
+        }
+        return LoadDataCopyStatement.pgJdbcCopyInOpener(database);
+    }
+
+    /**
+     * Reads the whole CSV file and returns the statements for all of its rows at once.
+     * This is the classic loadData behavior and is also used whenever the statements have to be rendered
+     * as SQL, e.g. for updateSql or rollback generation.
+     */
+    protected SqlStatement[] generateStatementsInMemory(Database database) {
+        try {
+            List<LoadDataRowConfig> rows = new ArrayList<>();
+            readRows(database, rows::add);
+            return generateStatementsFromRows(database, rows);
+        } catch (IOException | LiquibaseException e) {
+            throw new RuntimeException(e);
+        } catch (UnexpectedLiquibaseException ule) {
+            if (isIgnorableFailure(ule)) {
+                return SqlStatement.EMPTY_SQL_STATEMENT;
+            }
+            throw ule;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads the CSV file in chunks of at most {@code chunkSize} rows and passes the statements generated for each
+     * chunk to the given handler before the next chunk is read, so only a single chunk is held in memory at a time.
+     *
+     * @param database  the database the statements are generated for
+     * @param chunkSize the maximum number of CSV rows per chunk
+     * @param handler   receives the statements of each chunk, typically to execute them
+     * @throws DatabaseException if the file cannot be read or the handler fails
+     */
+    public void generateStatementsInChunks(Database database, int chunkSize, StatementChunkHandler handler) throws DatabaseException {
+        if (chunkSize < 1) {
+            throw new UnexpectedLiquibaseException("loadData chunk size must be greater than zero, but was " + chunkSize);
+        }
+
+        List<LoadDataRowConfig> chunk = new ArrayList<>(chunkSize);
+        readRowsForExecution(database, row -> {
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                handler.handle(generateStatementsFromRows(database, chunk));
+                chunk.clear();
+            }
+        }, () -> {
+            if (!chunk.isEmpty()) {
+                handler.handle(generateStatementsFromRows(database, chunk));
+                chunk.clear();
+            }
+        });
+    }
+
+    /**
+     * Reads the CSV file and passes the converted column values of each row to the given handler, one row at a time.
+     * Used by load modes which do not go through {@link SqlStatement}s, such as {@link LoadMode#COPY}.
+     *
+     * @param database the database the values are converted for
+     * @param handler  receives the column values of each row
+     * @throws DatabaseException if the file cannot be read or the handler fails
+     */
+    public void processRows(Database database, RowValuesHandler handler) throws DatabaseException {
+        readRowsForExecution(database, row -> handler.handle(row.getColumns()), () -> {});
+    }
+
+    /**
+     * Reads all rows for direct execution, translating failures the same way {@link #generateStatements(Database)} does.
+     */
+    private void readRowsForExecution(Database database, RowHandler rowHandler, RowsCompletedHandler completedHandler) throws DatabaseException {
+        supportsBatchUpdates(database);
+        try {
+            readRows(database, rowHandler);
+            completedHandler.completed();
+        } catch (DatabaseException e) {
+            throw e;
+        } catch (UnexpectedLiquibaseException ule) {
+            if (!isIgnorableFailure(ule)) {
+                throw ule;
+            }
+        } catch (Exception e) {
+            throw new DatabaseException(e);
+        }
+    }
+
+    /**
+     * Should the CSV file be streamed in chunks rather than read into memory as a whole?
+     * Streaming only applies when statements are actually executed: when SQL is only being logged (e.g. updateSql),
+     * the complete list of statements is always generated.
+     */
+    protected boolean isStreaming(Database database) {
+        return getEffectiveLoadMode() == LoadMode.STREAMING && !isLoggingExecutor(database);
+    }
+
+    /**
+     * Returns the load mode set on this change or, if none is set, the global {@link GlobalConfiguration#LOAD_DATA_MODE}.
+     */
+    public LoadMode getEffectiveLoadMode() {
+        if (StringUtils.isNotBlank(loadMode)) {
+            return LoadMode.valueOf(loadMode.trim().toUpperCase(Locale.US));
+        }
+        LoadMode globalMode = GlobalConfiguration.LOAD_DATA_MODE.getCurrentValue();
+        return globalMode == null ? LoadMode.DEFAULT : globalMode;
+    }
+
+    /**
+     * Returns the batch size set on this change or, if none is set, the global {@link GlobalConfiguration#LOAD_DATA_BATCH_SIZE}.
+     */
+    public int getEffectiveBatchSize() {
+        if (batchSize != null) {
+            return batchSize;
+        }
+        Integer globalBatchSize = GlobalConfiguration.LOAD_DATA_BATCH_SIZE.getCurrentValue();
+        return globalBatchSize == null ? DEFAULT_BATCH_SIZE : globalBatchSize;
+    }
+
+    private boolean isIgnorableFailure(UnexpectedLiquibaseException ule) {
+        if ((getChangeSet() != null) && (getChangeSet().getFailOnError() != null) && !getChangeSet()
+                .getFailOnError()) {
+            Logger log = Scope.getCurrentScope().getLog(LoadDataChange.class);
+            log.info("Changeset " + getChangeSet().toString(false) +
+                     " failed, but failOnError was false.  Error: " + ule.getMessage());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads the CSV file line by line and passes each converted row to the given handler.
+     * Rows are not retained by this method, so the memory used depends on what the handler keeps.
+     */
+    private void readRows(Database database, RowHandler rowHandler) throws Exception {
         try (CSVReader reader = getCSVReader()) {
 
             if (reader == null) {
@@ -264,7 +454,6 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
 
             boolean isCommentingEnabled = StringUtils.isNotEmpty(commentLineStartsWith);
 
-            List<LoadDataRowConfig> rows = new ArrayList<>();
             while ((line = reader.readNext()) != null) {
                 lineNumber++;
                 if
@@ -285,211 +474,202 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
                     );
                 }
 
-                boolean needsPreparedStatement = false;
+                rowHandler.handle(createRowConfig(database, headers, line));
+            }
+        }
+    }
 
-                List<LoadDataColumnConfig> columnsFromCsv = new ArrayList<>();
-                for (int i = 0; i < headers.length; i++) {
-                    String value = line[i];
-                    String columnName = headers[i].trim();
+    /**
+     * Converts a single CSV line into the column values to insert, applying the configured column mappings.
+     */
+    private LoadDataRowConfig createRowConfig(Database database, String[] headers, String[] line) throws IOException {
+        boolean needsPreparedStatement = false;
 
-                    LoadDataColumnConfig valueConfig = new LoadDataColumnConfig();
+        List<LoadDataColumnConfig> columnsFromCsv = new ArrayList<>();
+        for (int i = 0; i < headers.length; i++) {
+            String value = line[i];
+            String columnName = headers[i].trim();
 
-                    LoadDataColumnConfig columnConfig = getColumnConfig(i, columnName);
-                    if (columnConfig != null) {
-                        if ("skip".equalsIgnoreCase(columnConfig.getType())) {
-                            continue;
-                        }
+            LoadDataColumnConfig valueConfig = new LoadDataColumnConfig();
 
-                        // don't overwrite header name unless there is actually a value to override it with
-                        if (columnConfig.getName() != null) {
-                            columnName = columnConfig.getName();
-                        }
-                        final boolean isNull = isNullValue(value, columnConfig);
-                        //
-                        // Always set the type for the valueConfig if the value is NULL
-                        //
-                        if (isNull) {
-                            valueConfig.setType(columnConfig.getType());
-                        }
-                        valueConfig.setName(columnName);
-                        valueConfig.setAllowUpdate(columnConfig.getAllowUpdate());
+            LoadDataColumnConfig columnConfig = getColumnConfig(i, columnName);
+            if (columnConfig != null) {
+                if ("skip".equalsIgnoreCase(columnConfig.getType())) {
+                    continue;
+                }
 
-                        if (StringUtils.isEmpty(value)) {
-                            value = columnConfig.getDefaultValue();
-                        }
-                        if (isNull) {
-                            valueConfig.setValue(null);
-                        } else if (columnConfig.getType() == null) {
-                            // columnConfig did not specify a type
-                            valueConfig.setValue(value);
-                        } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.BOOLEAN) {
-                            if (value == null) { // TODO getDefaultValueBoolean should use BooleanUtil.parseBoolean also for consistent behaviour
-                                valueConfig.setValueBoolean(columnConfig.getDefaultValueBoolean());
-                            } else {
-                                valueConfig.setValueBoolean(BooleanUtil.parseBoolean(value));
-                            }
-                        } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.NUMERIC) {
-                            if (value != null) {
-                                valueConfig.setValueNumeric(value);
-                            } else {
-                                valueConfig.setValueNumeric(columnConfig.getDefaultValueNumeric());
-                            }
-                        } else if (columnConfig.getType().equalsIgnoreCase("date")
-                                   || columnConfig.getType().equalsIgnoreCase("datetime")
-                                   || columnConfig.getType().equalsIgnoreCase("time")) {
-                            try {
-                                // Need the column type for handling 'NOW' or 'TODAY' type column value
-                                valueConfig.setType(columnConfig.getType());
-                                if (StringUtil.equalsWordNull(value) || StringUtils.isEmpty(value)) {
-                                    valueConfig.setValue(null);
-                                    valueConfig.setValueDate(columnConfig.getDefaultValueDate());
-                                } else {
-                                    valueConfig.setValueDate(value);
-                                }
-                            } catch (DateParseException e) {
-                                throw new UnexpectedLiquibaseException(e);
-                            }
-                        } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.STRING) {
-                            valueConfig.setType(columnConfig.getType());
-                            valueConfig.setValue(value == null ? "" : value);
-                        } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.COMPUTED) {
-                            if (null != value) {
-                                liquibase.statement.DatabaseFunction function =
-                                        new liquibase.statement.DatabaseFunction(value);
-                                valueConfig.setValueComputed(function);
-                            } else {
-                                valueConfig.setValueComputed(columnConfig.getDefaultValueComputed());
-                            }
-                        } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.SEQUENCE) {
-                            if (value == null) {
-                                throw new UnexpectedLiquibaseException(
-                                        "Must set a sequence name in the loadData column defaultValue attribute"
-                                );
-                            }
-                            liquibase.statement.SequenceNextValueFunction function =
-                                    new liquibase.statement.SequenceNextValueFunction(getSchemaName(), value);
-                            valueConfig.setValueComputed(function);
-
-                        } else if (columnConfig.getType().equalsIgnoreCase(LOAD_DATA_TYPE.BLOB.toString())) {
-                            if (StringUtil.equalsWordNull(value)) {
-                                valueConfig.setValue(null);
-                            } else if (BASE64_PATTERN.matcher(value).matches()) {
-                                valueConfig.setType(columnConfig.getType());
-                                valueConfig.setValue(value);
-                                needsPreparedStatement = true;
-                            } else {
-                                // If the value is not base64 encoded we are expecting the value to be a
-                                // valid path to another file which holds the entire value we are expecting
-                                // to load into the db.
-                                valueConfig.setValueBlobFile(value);
-                                needsPreparedStatement = true;
-                            }
-                        } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.CLOB) {
-                            // Previously, we expected all clobs found using loadData to be a valid path to a file.
-                            // To maintain backwards compatibility, we will first try to find the file.
-                            // If found, we then load the entire file into the value when executing the statement.
-                            // If not found, we load the value as a string.
-
-                            boolean resourceExists = false;
-                            // If the value is null we set the value directly to avoid Exceptions while loading
-                            // resources e.g. with SpringResourceAccessor.
-                            if (value != null) {
-                                Resource r = null;
-                                try {
-                                    if (getRelativeTo() != null) {
-                                            r = Scope.getCurrentScope().getResourceAccessor().get(getRelativeTo()).resolveSibling(value);
-                                    } else {
-                                        r = Scope.getCurrentScope().getResourceAccessor().get(value);
-                                    }
-                                } catch (InvalidPathException e) {
-                                    Scope.getCurrentScope().getLog(LoadDataChange.class).fine(String.format("Could not find file [%s] in [%s]: %s", value, getRelativeTo(), e.getMessage()));
-                                }
-                                resourceExists = r != null && r.exists();
-                            }
+                // don't overwrite header name unless there is actually a value to override it with
+                if (columnConfig.getName() != null) {
+                    columnName = columnConfig.getName();
+                }
+                final boolean isNull = isNullValue(value, columnConfig);
+                //
+                // Always set the type for the valueConfig if the value is NULL
+                //
+                if (isNull) {
+                    valueConfig.setType(columnConfig.getType());
+                }
+                valueConfig.setName(columnName);
+                valueConfig.setAllowUpdate(columnConfig.getAllowUpdate());
 
-                            if (resourceExists) {
-                                valueConfig.setValueClobFile(value);
-                            } else {
-                                Logger log = Scope.getCurrentScope().getLog(LoadDataChange.class);
-                                log.fine(String.format("File %s not found. Inserting the value as a string. See https://docs.liquibase.com for more information.", value));
-                                valueConfig.setValue(value);
-                            }
-                            needsPreparedStatement = true;
-                        } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.UUID) {
-                            valueConfig.setType(columnConfig.getType());
-                            if (StringUtil.equalsWordNull(value)) {
-                                valueConfig.setValue(null);
-                            } else {
-                                valueConfig.setValue(value);
-                            }
-                        } else if (columnConfig.getType().equalsIgnoreCase(LOAD_DATA_TYPE.OTHER.toString())) {
-                            valueConfig.setType(columnConfig.getType());
-                            if (StringUtil.equalsWordNull(value)) {
-                                valueConfig.setValue(null);
-                            } else {
-                                valueConfig.setValue(value);
-                            }
-                        } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.UNKNOWN) {
-                            // columnConfig did not match a specific type
-                            valueConfig.setValue(value);
+                if (StringUtils.isEmpty(value)) {
+                    value = columnConfig.getDefaultValue();
+                }
+                if (isNull) {
+                    valueConfig.setValue(null);
+                } else if (columnConfig.getType() == null) {
+                    // columnConfig did not specify a type
+                    valueConfig.setValue(value);
+                } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.BOOLEAN) {
+                    if (value == null) { // TODO getDefaultValueBoolean should use BooleanUtil.parseBoolean also for consistent behaviour
+                        valueConfig.setValueBoolean(columnConfig.getDefaultValueBoolean());
+                    } else {
+                        valueConfig.setValueBoolean(BooleanUtil.parseBoolean(value));
+                    }
+                } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.NUMERIC) {
+                    if (value != null) {
+                        valueConfig.setValueNumeric(value);
+                    } else {
+                        valueConfig.setValueNumeric(columnConfig.getDefaultValueNumeric());
+                    }
+                } else if (columnConfig.getType().equalsIgnoreCase("date")
+                           || columnConfig.getType().equalsIgnoreCase("datetime")
+                           || columnConfig.getType().equalsIgnoreCase("time")) {
+                    try {
+                        // Need the column type for handling 'NOW' or 'TODAY' type column value
+                        valueConfig.setType(columnConfig.getType());
+                        if (StringUtil.equalsWordNull(value) || StringUtils.isEmpty(value)) {
+                            valueConfig.setValue(null);
+                            valueConfig.setValueDate(columnConfig.getDefaultValueDate());
                         } else {
-                            throw new UnexpectedLiquibaseException(
-                                    String.format(coreBundle.getString("loaddata.type.is.not.supported"),
-                                            columnConfig.getType()
-                                    )
-                            );
+                            valueConfig.setValueDate(value);
                         }
+                    } catch (DateParseException e) {
+                        throw new UnexpectedLiquibaseException(e);
+                    }
+                } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.STRING) {
+                    valueConfig.setType(columnConfig.getType());
+                    valueConfig.setValue(value == null ? "" : value);
+                } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.COMPUTED) {
+                    if (null != value) {
+                        liquibase.statement.DatabaseFunction function =
+                                new liquibase.statement.DatabaseFunction(value);
+                        valueConfig.setValueComputed(function);
+                    } else {
+                        valueConfig.setValueComputed(columnConfig.getDefaultValueComputed());
+                    }
+                } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.SEQUENCE) {
+                    if (value == null) {
+                        throw new UnexpectedLiquibaseException(
+                                "Must set a sequence name in the loadData column defaultValue attribute"
+                        );
+                    }
+                    liquibase.statement.SequenceNextValueFunction function =
+                            new liquibase.statement.SequenceNextValueFunction(getSchemaName(), value);
+                    valueConfig.setValueComputed(function);
+
+                } else if (columnConfig.getType().equalsIgnoreCase(LOAD_DATA_TYPE.BLOB.toString())) {
+                    if (StringUtil.equalsWordNull(value)) {
+                        valueConfig.setValue(null);
+                    } else if (BASE64_PATTERN.matcher(value).matches()) {
+                        valueConfig.setType(columnConfig.getType());
+                        valueConfig.setValue(value);
+                        needsPreparedStatement = true;
                     } else {
-                        // No columnConfig found. Assume header column name to be the table column name.
-                        if (columnName.contains("(") || (columnName.contains(")") && (database instanceof
-                                AbstractJdbcDatabase))) {
-                            columnName = ((AbstractJdbcDatabase) database).quoteObject(columnName, Column.class);
+                        // If the value is not base64 encoded we are expecting the value to be a
+                        // valid path to another file which holds the entire value we are expecting
+                        // to load into the db.
+                        valueConfig.setValueBlobFile(value);
+                        needsPreparedStatement = true;
+                    }
+                } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.CLOB) {
+                    // Previously, we expected all clobs found using loadData to be a valid path to a file.
+                    // To maintain backwards compatibility, we will first try to find the file.
+                    // If found, we then load the entire file into the value when executing the statement.
+                    // If not found, we load the value as a string.
+
+                    boolean resourceExists = false;
+                    // If the value is null we set the value directly to avoid Exceptions while loading
+                    // resources e.g. with SpringResourceAccessor.
+                    if (value != null) {
+                        Resource r = null;
+                        try {
+                            if (getRelativeTo() != null) {
+                                    r = Scope.getCurrentScope().getResourceAccessor().get(getRelativeTo()).resolveSibling(value);
+                            } else {
+                                r = Scope.getCurrentScope().getResourceAccessor().get(value);
+                            }
+                        } catch (InvalidPathException e) {
+                            Scope.getCurrentScope().getLog(LoadDataChange.class).fine(String.format("Could not find file [%s] in [%s]: %s", value, getRelativeTo(), e.getMessage()));
                         }
+                        resourceExists = r != null && r.exists();
+                    }
 
-                        valueConfig.setName(columnName);
-
-                        valueConfig.setValue(getValueToWrite(value));
+                    if (resourceExists) {
+                        valueConfig.setValueClobFile(value);
+                    } else {
+                        Logger log = Scope.getCurrentScope().getLog(LoadDataChange.class);
+                        log.fine(String.format("File %s not found. Inserting the value as a string. See https://docs.liquibase.com for more information.", value));
+                        valueConfig.setValue(value);
                     }
-                    columnsFromCsv.add(valueConfig);
-                }
-                // end of: iterate through all the columns of a CSV line
-
-                // Try to use prepared statements if any of the following conditions apply:
-                // 1. There is no other option than using a prepared statement (e.g. in cases of LOBs) regardless
-                //     of whether the 'usePreparedStatement' is set to false
-                // 2. The database supports batched statements (for improved performance) AND we are not in an
-                //    "SQL" mode (i.e. we generate an SQL file instead of actually modifying the database).
-                // BUT: if the user specifically requests usePreparedStatement=false, then respect that
-                boolean actuallyUsePreparedStatements = false;
-                if (hasPreparedStatementsImplemented()) {
-                    if (usePreparedStatements != null) {
-                        if (!usePreparedStatements && needsPreparedStatement) {
-                            throw new UnexpectedLiquibaseException("loadData is requesting usePreparedStatements=false but prepared statements are required");
-                        }
-                        actuallyUsePreparedStatements = usePreparedStatements;
+                    needsPreparedStatement = true;
+                } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.UUID) {
+                    valueConfig.setType(columnConfig.getType());
+                    if (StringUtil.equalsWordNull(value)) {
+                        valueConfig.setValue(null);
+                    } else {
+                        valueConfig.setValue(value);
+                    }
+                } else if (columnConfig.getType().equalsIgnoreCase(LOAD_DATA_TYPE.OTHER.toString())) {
+                    valueConfig.setType(columnConfig.getType());
+                    if (StringUtil.equalsWordNull(value)) {
+                        valueConfig.setValue(null);
                     } else {
-                        actuallyUsePreparedStatements = needsPreparedStatement || (!isLoggingExecutor(database) && preferPreparedStatements(database));
+                        valueConfig.setValue(value);
                     }
+                } else if (columnConfig.getTypeEnum() == LOAD_DATA_TYPE.UNKNOWN) {
+                    // columnConfig did not match a specific type
+                    valueConfig.setValue(value);
+                } else {
+                    throw new UnexpectedLiquibaseException(
+                            String.format(coreBundle.getString("loaddata.type.is.not.supported"),
+                                    columnConfig.getType()
+                            )
+                    );
+                }
+            } else {
+                // No columnConfig found. Assume header column name to be the table column name.
+                if (columnName.contains("(") || (columnName.contains(")") && (database instanceof
+                        AbstractJdbcDatabase))) {
+                    columnName = ((AbstractJdbcDatabase) database).quoteObject(columnName, Column.class);
                 }
-                rows.add(new LoadDataRowConfig(actuallyUsePreparedStatements, columnsFromCsv));
+
+                valueConfig.setName(columnName);
+
+                valueConfig.setValue(getValueToWrite(value));
             }
-            return generateStatementsFromRows(database, rows);
-        } catch (IOException | LiquibaseException e) {
-            throw new RuntimeException(e);
-        } catch (UnexpectedLiquibaseException ule) {
-            if ((getChangeSet() != null) && (getChangeSet().getFailOnError() != null) && !getChangeSet()
-                    .getFailOnError()) {
-                Logger log = Scope.getCurrentScope().getLog(LoadDataChange.class);
-                log.info("Changeset " + getChangeSet().toString(false) +
-                         " failed, but failOnError was false.  Error: " + ule.getMessage());
-                return SqlStatement.EMPTY_SQL_STATEMENT;
+            columnsFromCsv.add(valueConfig);
+        }
+        // end of: iterate through all the columns of a CSV line
+
+        // Try to use prepared statements if any of the following conditions apply:
+        // 1. There is no other option than using a prepared statement (e.g. in cases of LOBs) regardless
+        //     of whether the 'usePreparedStatement' is set to false
+        // 2. The database supports batched statements (for improved performance) AND we are not in an
+        //    "SQL" mode (i.e. we generate an SQL file instead of actually modifying the database).
+        // BUT: if the user specifically requests usePreparedStatement=false, then respect that
+        boolean actuallyUsePreparedStatements = false;
+        if (hasPreparedStatementsImplemented()) {
+            if (usePreparedStatements != null) {
+                if (!usePreparedStatements && needsPreparedStatement) {
+                    throw new UnexpectedLiquibaseException("loadData is requesting usePreparedStatements=false but prepared statements are required");
+                }
+                actuallyUsePreparedStatements = usePreparedStatements;
             } else {
-                throw ule;
+                actuallyUsePreparedStatements = needsPreparedStatement || (!isLoggingExecutor(database) && preferPreparedStatements(database));
             }
-        } catch (Exception e) {
-            throw new RuntimeException(e);
         }
-        // Do nothing
+        return new LoadDataRowConfig(actuallyUsePreparedStatements, columnsFromCsv);
     }
 
     /**
@@ -646,6 +826,14 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
     public ValidationErrors validate(Database database) {
         ValidationErrors validationErrors = new ValidationErrors(this);
         validationErrors.addAll(super.validate(database));
+        if (StringUtils.isNotBlank(loadMode)
+                && Arrays.stream(LoadMode.values()).noneMatch(mode -> mode.name().equalsIgnoreCase(loadMode.trim()))) {
+            validationErrors.addError("Invalid loadMode '" + loadMode + "'. Valid options are " +
+                    StringUtils.join(LoadMode.values(), ", ").toLowerCase(Locale.US));
+        }
+        if ((batchSize != null) && (batchSize < 1)) {
+            validationErrors.addError("batchSize must be greater than zero, but was " + batchSize);
+        }
         return validateColumns(validationErrors);
     }
 
@@ -875,17 +1063,14 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
             // If we have only prepared statements and the database supports batching, let's roll
             if (supportsBatchUpdates(database) && !preparedStatements.isEmpty()) {
                 if (database instanceof PostgresDatabase || database instanceof MySQLDatabase) {
-                    // we don't do batch updates for Postgres but we still send as a prepared statement, see LB-744
-                    // mysql supports batch updates, but the performance vs. the big insert is worse
+                    // we don't do batch updates for Postgres, see LB-744, and for mysql the performance of batch
+                    // updates vs. the big insert is worse, so send multi-row INSERTs where we can
+                    if (InsertMultiRowExecutablePreparedStatement.canCombine(preparedStatements)) {
+                        return createMultiRowStatements(database, preparedStatements);
+                    }
                     return preparedStatements.toArray(SqlStatement.EMPTY_SQL_STATEMENT);
                 } else {
-                    return new SqlStatement[]{
-                            new BatchDmlExecutablePreparedStatement(
-                                    database, getCatalogName(), getSchemaName(),
-                                    getTableName(), columns,
-                                    getChangeSet(), Scope.getCurrentScope().getResourceAccessor(),
-                                    preparedStatements)
-                    };
+                    return createBatchStatements(database, preparedStatements);
                 }
             } else {
                 return statements.toArray(SqlStatement.EMPTY_SQL_STATEMENT);
@@ -920,6 +1105,43 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
         }
     }
 
+    /**
+     * Groups the given single-row statements into JDBC batches of at most {@link #getEffectiveBatchSize()} rows.
+     */
+    protected SqlStatement[] createBatchStatements(Database database, List<ExecutablePreparedStatementBase> preparedStatements) {
+        List<SqlStatement> batches = new ArrayList<>();
+        int batchSize = getEffectiveBatchSize();
+        for (int start = 0; start < preparedStatements.size(); start += batchSize) {
+            List<ExecutablePreparedStatementBase> batch =
+                    preparedStatements.subList(start, Math.min(start + batchSize, preparedStatements.size()));
+            batches.add(new BatchDmlExecutablePreparedStatement(
+                    database, getCatalogName(), getSchemaName(),
+                    getTableName(), columns,
+                    getChangeSet(), Scope.getCurrentScope().getResourceAccessor(),
+                    batch));
+        }
+        return batches.toArray(SqlStatement.EMPTY_SQL_STATEMENT);
+    }
+
+    /**
+     * Combines the given single-row INSERTs into multi-row INSERTs of at most {@link #getEffectiveBatchSize()} rows,
+     * further limited so no statement exceeds the bind parameter limit of the database.
+     */
+    protected SqlStatement[] createMultiRowStatements(Database database, List<ExecutablePreparedStatementBase> preparedStatements) {
+        List<SqlStatement> multiRowStatements = new ArrayList<>();
+        int rowsPerStatement = InsertMultiRowExecutablePreparedStatement.getMaxRowsPerStatement(
+                database, preparedStatements, getEffectiveBatchSize());
+        for (int start = 0; start < preparedStatements.size(); start += rowsPerStatement) {
+            List<ExecutablePreparedStatementBase> statementRows =
+                    preparedStatements.subList(start, Math.min(start + rowsPerStatement, preparedStatements.size()));
+            multiRowStatements.add(new InsertMultiRowExecutablePreparedStatement(
+                    database, getCatalogName(), getSchemaName(), getTableName(),
+                    getChangeSet(), Scope.getCurrentScope().getResourceAccessor(),
+                    statementRows));
+        }
+        return multiRowStatements.toArray(SqlStatement.EMPTY_SQL_STATEMENT);
+    }
+
     protected boolean isNullValue(final String value, final LoadDataColumnConfig column) {
         final String nullPlaceholder = column.getNullPlaceholder();
         final boolean retValue;
@@ -931,6 +1153,56 @@ public class LoadDataChange extends AbstractTableChange implements ChangeWithCol
         return retValue;
     }
 
+    /**
+     * How the CSV file of a loadData change is read and executed.
+     */
+    public enum LoadMode {
+        /**
+         * Read the whole file and generate all statements before executing them.
+         */
+        DEFAULT,
+        /**
+         * Read the file in bounded chunks and execute each chunk before reading the next one.
+         */
+        STREAMING,
+        /**
+         * Stream the file into the table with the PostgreSQL {@code COPY ... FROM STDIN} command.
+         * Falls back to {@link #DEFAULT} when the database is not PostgreSQL, the connection is not a PgJDBC connection
+         * or the change uses features COPY cannot express, such as computed values, sequences or LOB files.
+         */
+        COPY
+    }
+
+    /**
+     * Receives the statements generated for one chunk of CSV rows.
+     *
+     * @see #generateStatementsInChunks(Database, int, StatementChunkHandler)
+     */
+    @FunctionalInterface
+    public interface StatementChunkHandler {
+        void handle(SqlStatement[] statements) throws DatabaseException;
+    }
+
+    /**
+     * Receives the converted column values of one CSV row.
+     *
+     * @see #processRows(Database, RowValuesHandler)
+     */
+    @FunctionalInterface
+    public interface RowValuesHandler {
+        void handle(List<LoadDataColumnConfig> columns) throws DatabaseException;
+    }
+
+    @FunctionalInterface
+    private interface RowHandler {
+        void handle(LoadDataRowConfig row) throws DatabaseException;
+    }
+
+    @FunctionalInterface
+    private interface RowsCompletedHandler {
+        void completed() throws DatabaseException;
+    }
+
     @SuppressWarnings("HardCodedStringLiteral")
     public enum LOAD_DATA_TYPE {
         BOOLEAN, NUMERIC, DATE, STRING, COMPUTED, SEQUENCE, BLOB, CLOB, SKIP, UUID, OTHER, UNKNOWN
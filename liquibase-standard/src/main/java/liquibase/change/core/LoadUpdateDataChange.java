@@ -90,7 +90,7 @@ public class LoadUpdateDataChange extends LoadDataChange {
         List<SqlStatement> finalForwardList = new ArrayList<>();
 
         // If we are dealing with a batched UPDATE, "unroll" the individual statements first.
-        for (SqlStatement thisForward : this.generateStatements(database)) {
+        for (SqlStatement thisForward : this.generateStatementsInMemory(database)) {
             if (thisForward instanceof BatchDmlExecutablePreparedStatement) {
                 finalForwardList.addAll(
                         ((BatchDmlExecutablePreparedStatement)thisForward).getIndividualStatements()
@@ -5,6 +5,7 @@ import liquibase.GlobalConfiguration;
 import liquibase.Scope;
 import liquibase.change.*;
 import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.PropertyExpandingReader;
 import liquibase.database.Database;
 import liquibase.database.DatabaseList;
 import liquibase.exception.SetupException;
@@ -13,15 +14,23 @@ import liquibase.exception.ValidationErrors;
 import liquibase.parser.ChangeLogParserConfiguration;
 import liquibase.resource.Resource;
 import liquibase.resource.ResourceAccessor;
+import liquibase.statement.SqlStatement;
 import liquibase.util.FileUtil;
 import liquibase.util.ObjectUtil;
+import liquibase.util.SqlStatementSplitter;
 import liquibase.util.StreamUtil;
 import liquibase.util.StringUtil;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static liquibase.statement.SqlStatement.EMPTY_SQL_STATEMENT;
 
 /**
  * Represents a Change for custom SQL stored in a File.
@@ -181,6 +190,35 @@ public class SQLFileChange extends AbstractSQLChange {
         }
     }
 
+    /**
+     * Splits the file into statements while it is read, with the same result as splitting {@link #getSql()}, so the
+     * whole file content is never held in memory as a single string.
+     */
+    @Override
+    public SqlStatement[] generateStatements(Database database) {
+        if ((super.getSql() != null) || (path == null)) {
+            return super.generateStatements(database);
+        }
+
+        List<SqlStatement> returnStatements = new ArrayList<>();
+        try (InputStream sqlStream = openSqlStream()) {
+            if (sqlStream == null) {
+                return EMPTY_SQL_STATEMENT;
+            }
+            SqlReader reader = new SqlReader(new PropertyExpandingReader(getChangeSet(), StreamUtil.readStreamWithReader(sqlStream, getEncoding())));
+            SqlStatementSplitter splitter = SqlStatementSplitter.split(reader, isStripComments(), isSplitStatements(), getEndDelimiter(), getChangeSet());
+            while (splitter.hasNext()) {
+                returnStatements.add(toSqlStatement(splitter.next(), database));
+            }
+            if (reader.failure != null) {
+                throw reader.failure;
+            }
+        } catch (IOException e) {
+            throw new UnexpectedLiquibaseException(e);
+        }
+        return returnStatements.toArray(EMPTY_SQL_STATEMENT);
+    }
+
     @Override
     public void setSql(String sql) {
         if ((getChangeSet() != null) && (getChangeSet().getChangeLogParameters() != null)) {
@@ -225,4 +263,58 @@ public class SQLFileChange extends AbstractSQLChange {
             }
         }
     }
+
+    /**
+     * Skips the leading whitespace and the carriage returns of the SQL read, as {@link #generateStatements(Database)}
+     * trims the SQL and normalizes its line endings. The SQL parser ends the SQL at a read failure, so the failure is
+     * kept to be thrown once the SQL is split.
+     */
+    private static class SqlReader extends FilterReader {
+
+        private boolean leadingWhitespace = true;
+        private IOException failure;
+
+        SqlReader(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        public int read() throws IOException {
+            char[] buffer = new char[1];
+            int count;
+            do {
+                count = read(buffer, 0, 1);
+            } while (count == 0);
+            return (count < 0) ? -1 : buffer[0];
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            try {
+                while (true) {
+                    int count = super.read(buffer, offset, length);
+                    if (count <= 0) {
+                        return count;
+                    }
+                    int kept = 0;
+                    for (int i = offset; i < (offset + count); i++) {
+                        char c = buffer[i];
+                        if (leadingWhitespace && (c <= ' ')) {
+                            continue;
+                        }
+                        leadingWhitespace = false;
+                        if (c != '\r') {
+                            buffer[offset + kept++] = c;
+                        }
+                    }
+                    if (kept > 0) {
+                        return kept;
+                    }
+                }
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+    }
 }
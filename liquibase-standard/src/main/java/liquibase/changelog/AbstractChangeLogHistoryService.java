@@ -14,6 +14,7 @@ import liquibase.statement.core.UpdateChangeSetChecksumStatement;
 import liquibase.statement.core.UpdateChangeSetFilenameStatement;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -66,6 +67,7 @@ public abstract class AbstractChangeLogHistoryService implements ChangeLogHistor
     @Override
     public void upgradeChecksums(final DatabaseChangeLog databaseChangeLog, final Contexts contexts,
                                  LabelExpression labels) throws DatabaseException {
+        List<ChangeSet> changeSetsToUpdate = new ArrayList<>();
         for (RanChangeSet ranChangeSet : this.getRanChangeSets()) {
             if (ranChangeSet.getLastCheckSum() == null) {
                 List<ChangeSet> changeSets = databaseChangeLog.getChangeSets(ranChangeSet);
@@ -75,21 +77,26 @@ public abstract class AbstractChangeLogHistoryService implements ChangeLogHistor
                         Scope.getCurrentScope().getLog(getClass()).fine(
                                 "Updating null or out of date checksum on changeSet " + changeSet + " to correct value"
                         );
-                        replaceChecksum(changeSet);
+                        changeSetsToUpdate.add(changeSet);
                     }
                 }
             }
         }
+        replaceChecksums(changeSetsToUpdate);
     }
 
     @Override
     public RanChangeSet getRanChangeSet(final ChangeSet changeSet) throws DatabaseException, DatabaseHistoryException {
-        for (RanChangeSet ranChange : getRanChangeSets()) {
-            if (ranChange.isSameAs(changeSet)) {
-                return ranChange;
-            }
-        }
-        return null;
+        return getRanChangeSetIndex().get(changeSet);
+    }
+
+    /**
+     * Returns a {@link RanChangeSetIndex} over {@link #getRanChangeSets()}.
+     * The default implementation builds a new index on every call; implementations that cache the ran changesets
+     * should override this to cache the index alongside them.
+     */
+    protected RanChangeSetIndex getRanChangeSetIndex() throws DatabaseException {
+        return new RanChangeSetIndex(getRanChangeSets());
     }
 
     @Override
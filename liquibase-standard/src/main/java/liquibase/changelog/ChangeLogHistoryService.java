@@ -103,6 +103,16 @@ public interface ChangeLogHistoryService extends Plugin {
     default void replaceChecksum(ChangeSet changeSet) throws DatabaseException {
     }
 
+    /**
+     * Replaces the checksums of all the given changesets. By default calls {@link #replaceChecksum(ChangeSet)} for
+     * each of them, but subclasses may like to implement this method to update them in bulk.
+     */
+    default void replaceChecksums(List<ChangeSet> changeSets) throws DatabaseException {
+        for (ChangeSet changeSet : changeSets) {
+            replaceChecksum(changeSet);
+        }
+    }
+
     /**
      * By default does nothing to keep compatibility with older versions, but subclasses may like to implement
      * this method to support eventual minor file path fixes.
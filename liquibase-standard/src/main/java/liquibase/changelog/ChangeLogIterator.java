@@ -155,6 +155,10 @@ public class ChangeLogIterator {
             throw new LiquibaseException(e);
         } finally {
             databaseChangeLog.setRuntimeEnvironment(null);
+            ChecksumCache checksumCache = ChecksumCache.fromConfiguration();
+            if (checksumCache != null) {
+                checksumCache.save();
+            }
         }
     }
 
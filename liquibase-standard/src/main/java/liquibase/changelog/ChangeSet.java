@@ -60,6 +60,12 @@ public class ChangeSet implements Conditional, ChangeLogChild {
      */
     private CheckSum storedCheckSum;
 
+    /**
+     * Digest of the parsed content this changeSet was loaded from, used as the {@link ChecksumCache} key.
+     * Only set when a checksum cache is configured.
+     */
+    private String parsedContentDigest;
+
     private static final String AND = " AND ";
     private static final String COMMA = ",";
     private static final String WHITESPACE = " ";
@@ -139,6 +145,11 @@ public class ChangeSet implements Conditional, ChangeLogChild {
      */
     private String storedFilePath;
 
+    /**
+     * The file path {@link #getNormalizedFilePath()} was last computed for, and its normalized form.
+     */
+    private Map.Entry<String, String> normalizedFilePath;
+
     /**
      * If set to true, the changeSet will be executed on every update. Defaults to false
      */
@@ -394,9 +405,21 @@ public class ChangeSet implements Conditional, ChangeLogChild {
     }
 
     public CheckSum generateCheckSum(ChecksumVersion version) {
+        if (checkSum != null) {
+            return checkSum;
+        }
         try {
             return Scope.child(Collections.singletonMap(Scope.Attr.checksumVersion.name(), version), () -> {
                 if (checkSum == null) {
+                    ChecksumCache checksumCache = (parsedContentDigest == null) ? null : ChecksumCache.fromConfiguration();
+                    String checksumCacheKey = (checksumCache == null) ? null : ChecksumCache.getKey(this, parsedContentDigest);
+                    if (checksumCacheKey != null) {
+                        checkSum = checksumCache.get(checksumCacheKey);
+                        if (checkSum != null) {
+                            return checkSum;
+                        }
+                    }
+
                     StringBuilder stringToMD5 = new StringBuilder();
                     for (Change change : this.getChanges()) {
                         // checksum v8 requires changes that are applied even to other databases to be calculated
@@ -412,6 +435,9 @@ public class ChangeSet implements Conditional, ChangeLogChild {
                         stringToMD5.append(visitor.generateCheckSum()).append(";");
                     }
                     checkSum = CheckSum.compute(stringToMD5.toString());
+                    if (checksumCacheKey != null) {
+                        checksumCache.put(checksumCacheKey, checkSum);
+                    }
                 }
 
                 return checkSum;
@@ -480,6 +506,10 @@ public class ChangeSet implements Conditional, ChangeLogChild {
         for (ParsedNode child : node.getChildren()) {
             handleChildNode(child, resourceAccessor);
         }
+
+        if (ChecksumCache.fromConfiguration() != null) {
+            this.parsedContentDigest = ChecksumCache.digest(node);
+        }
     }
 
     protected void handleChildNode(ParsedNode child, ResourceAccessor resourceAccessor) throws ParsedNodeException {
@@ -1129,6 +1159,7 @@ public class ChangeSet implements Conditional, ChangeLogChild {
      */
     public void removeAllChanges(Collection<?> collection) {
         this.changes.removeAll(collection);
+        parsedContentDigest = null;
     }
 
     public void addChange(Change change) {
@@ -1137,6 +1168,8 @@ public class ChangeSet implements Conditional, ChangeLogChild {
         }
         changes.add(change);
         change.setChangeSet(this);
+        //the changes no longer match the parsed content
+        parsedContentDigest = null;
     }
 
     public String getId() {
@@ -1300,6 +1333,20 @@ public class ChangeSet implements Conditional, ChangeLogChild {
                 (includeMD5Sum ? ("::(Checksum: " + generateCheckSum(checksumVersion) + ")") : "");
     }
 
+    /**
+     * Returns {@link DatabaseChangeLog#normalizePath(String)} of {@link #getFilePath()}.
+     * The result is kept until the file path changes, so repeated lookups do not normalize it again.
+     */
+    String getNormalizedFilePath() {
+        String filePath = getFilePath();
+        Map.Entry<String, String> normalized = this.normalizedFilePath;
+        if ((normalized == null) || !Objects.equals(normalized.getKey(), filePath)) {
+            normalized = new AbstractMap.SimpleImmutableEntry<>(filePath, DatabaseChangeLog.normalizePath(filePath));
+            this.normalizedFilePath = normalized;
+        }
+        return normalized.getValue();
+    }
+
     public String toNormalizedString() {
         return DatabaseChangeLog.normalizePath(filePath) + "::" + getId() + "::" + getAuthor();
     }
@@ -1450,6 +1497,7 @@ public class ChangeSet implements Conditional, ChangeLogChild {
 
     public void addSqlVisitor(SqlVisitor sqlVisitor) {
         sqlVisitors.add(sqlVisitor);
+        parsedContentDigest = null;
     }
 
     public List<SqlVisitor> getSqlVisitors() {
@@ -0,0 +1,210 @@
+package liquibase.changelog;
+
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import liquibase.change.AbstractChange;
+import liquibase.change.AbstractSQLChange;
+import liquibase.change.Change;
+import liquibase.change.CheckSum;
+import liquibase.change.core.InsertDataChange;
+import liquibase.database.Database;
+import liquibase.parser.core.ParsedNode;
+import liquibase.util.LiquibaseUtil;
+import liquibase.util.MD5Util;
+import liquibase.util.StringUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores changeset checksums in a file, keyed by a digest of the changeset's parsed content, so that unchanged
+ * changesets do not need to serialize their changes again on later runs.
+ * <p>
+ * Only changesets whose checksum depends on nothing but their parsed content are cached. Changesets with changes that
+ * read other files or compute their own checksum, such as sqlFile, loadData or customChange, are always computed.
+ * The key also includes everything else the computed checksum depends on: the checksum version, the database type,
+ * the file encodings, runWith and the classes the changes were loaded as.
+ */
+public class ChecksumCache {
+
+    private static final Map<Path, ChecksumCache> INSTANCES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Boolean> CACHEABLE_CHANGE_TYPES = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Map<String, String> checksums = new ConcurrentHashMap<>();
+    private volatile boolean changed;
+
+    public ChecksumCache(Path file) {
+        this.file = file;
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (InputStream stream = Files.newInputStream(file)) {
+                properties.load(stream);
+            } catch (IOException | IllegalArgumentException e) {
+                Scope.getCurrentScope().getLog(getClass()).fine("Cannot read checksum cache " + file + ", checksums will be computed again: " + e.getMessage(), e);
+            }
+            for (String key : properties.stringPropertyNames()) {
+                checksums.put(key, properties.getProperty(key));
+            }
+        }
+    }
+
+    /**
+     * Returns the cache stored in the file set by {@link GlobalConfiguration#CHECKSUM_CACHE_FILE}, or null if it is not set.
+     * The same instance is returned for the same file.
+     */
+    public static ChecksumCache fromConfiguration() {
+        String file = StringUtil.trimToNull(GlobalConfiguration.CHECKSUM_CACHE_FILE.getCurrentValue());
+        if (file == null) {
+            return null;
+        }
+        return INSTANCES.computeIfAbsent(Paths.get(file).toAbsolutePath().normalize(), ChecksumCache::new);
+    }
+
+    public CheckSum get(String key) {
+        String checksum = checksums.get(key);
+        return (checksum == null) ? null : CheckSum.parse(checksum);
+    }
+
+    public void put(String key, CheckSum checkSum) {
+        if (!checkSum.toString().equals(checksums.put(key, checkSum.toString()))) {
+            changed = true;
+        }
+    }
+
+    /**
+     * Writes the cache to its file if checksums were added since it was read or last saved.
+     */
+    public synchronized void save() {
+        if (!changed) {
+            return;
+        }
+        changed = false;
+
+        Properties properties = new Properties();
+        properties.putAll(checksums);
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream stream = Files.newOutputStream(tempFile)) {
+                    properties.store(stream, "Liquibase changeset checksum cache");
+                }
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            Scope.getCurrentScope().getLog(getClass()).warning("Cannot save checksum cache " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns a digest of the given parsed changeset content, to be passed to {@link #getKey(ChangeSet, String)}.
+     */
+    public static String digest(ParsedNode node) {
+        StringBuilder content = new StringBuilder();
+        appendNode(node, content);
+        return MD5Util.computeMD5(content.toString());
+    }
+
+    /**
+     * Returns the key to cache the checksum of the given changeset under for the current checksum version and database,
+     * or null if its checksum cannot be cached.
+     *
+     * @param contentDigest the {@link #digest(ParsedNode)} of the node the changeset was loaded from
+     */
+    public static String getKey(ChangeSet changeSet, String contentDigest) {
+        if (contentDigest == null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(contentDigest);
+        for (Change change : changeSet.getChanges()) {
+            if (!CACHEABLE_CHANGE_TYPES.computeIfAbsent(change.getClass(), ChecksumCache::isCacheable)) {
+                return null;
+            }
+            key.append("\n").append(change.getClass().getName());
+        }
+        Database database = Scope.getCurrentScope().getDatabase();
+        key.append("\n").append(Scope.getCurrentScope().getChecksumVersion().getVersion())
+                .append("\n").append((database == null) ? null : database.getShortName())
+                .append("\n").append(changeSet.getRunWith())
+                .append("\n").append(GlobalConfiguration.FILE_ENCODING.getCurrentValue())
+                .append("\n").append(GlobalConfiguration.OUTPUT_FILE_ENCODING.getCurrentValue())
+                .append("\n").append(LiquibaseUtil.getBuildVersion());
+        return MD5Util.computeMD5(key.toString());
+    }
+
+    /**
+     * Returns true if the checksum of the given change type only depends on its fields, i.e. it uses the
+     * serializer-based checksum of {@link AbstractChange} or the inline-SQL checksum of {@link AbstractSQLChange}.
+     */
+    private static boolean isCacheable(Class<?> changeType) {
+        try {
+            Class<?> checksumImplementation = changeType.getMethod("generateCheckSum").getDeclaringClass();
+            if (checksumImplementation.equals(AbstractChange.class) || checksumImplementation.equals(InsertDataChange.class)) {
+                return true;
+            }
+            if (checksumImplementation.equals(AbstractSQLChange.class)) {
+                return changeType.getMethod("openSqlStream").getDeclaringClass().equals(AbstractSQLChange.class);
+            }
+            return false;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static void appendNode(ParsedNode node, StringBuilder content) {
+        appendToken(node.getNamespace(), content);
+        appendToken(node.getName(), content);
+        appendValue(node.getValue(), content);
+        content.append(node.getChildren().size()).append('{');
+        for (ParsedNode child : node.getChildren()) {
+            appendNode(child, content);
+        }
+        content.append('}');
+    }
+
+    private static void appendValue(Object value, StringBuilder content) {
+        if (value instanceof Collection) {
+            content.append(((Collection<?>) value).size()).append('(');
+            for (Object item : (Collection<?>) value) {
+                appendValue(item, content);
+            }
+            content.append(')');
+        } else if (value instanceof Map) {
+            content.append(((Map<?, ?>) value).size()).append('<');
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                appendValue(entry.getKey(), content);
+                appendValue(entry.getValue(), content);
+            }
+            content.append('>');
+        } else if (value instanceof ParsedNode) {
+            appendNode((ParsedNode) value, content);
+        } else {
+            appendToken((value == null) ? null : value.getClass().getName(), content);
+            appendToken((value == null) ? null : value.toString(), content);
+        }
+    }
+
+    /**
+     * Appends the token prefixed with its length, so that no two different sequences of tokens produce the same content.
+     */
+    private static void appendToken(String token, StringBuilder content) {
+        if (token == null) {
+            content.append("-;");
+        } else {
+            content.append(token.length()).append(';').append(token);
+        }
+    }
+}
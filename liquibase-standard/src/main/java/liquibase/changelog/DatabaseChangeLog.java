@@ -23,6 +23,7 @@ import liquibase.logging.mdc.customobjects.MdcChangeset;
 import liquibase.parser.ChangeLogParser;
 import liquibase.parser.ChangeLogParserConfiguration;
 import liquibase.parser.ChangeLogParserFactory;
+import liquibase.parser.PreParsedChangeLogCache;
 import liquibase.parser.core.ParsedNode;
 import liquibase.parser.core.ParsedNodeException;
 import liquibase.parser.core.ParserSupportedFileExtension;
@@ -105,10 +106,16 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
     @Getter
     private final List<ChangeVisitor> changeVisitors = new ArrayList<>();
 
-    @Getter
-    private final List<ChangeSet> changeSets = new ArrayList<>();
+    private final ChangeSetList changeSets = new ChangeSetList();
     @Getter
     private final List<ChangeSet> skippedChangeSets = new ArrayList<>();
+    /**
+     * Index of {@link #changeSets} by case-folded author and id, built on the first lookup and kept up to date by
+     * {@link #addChangeSet(ChangeSet)}. File paths are not part of the key since they can change after a changeset
+     * is added, so they are compared when looking up.
+     */
+    private Map<String, List<ChangeSet>> changeSetIndex;
+    private int indexedChangeSetsVersion;
     @Getter
     private final List<ChangeSet> skippedBecauseOfChangeDbmsChangeSets = new ArrayList<>();
     @Getter
@@ -141,6 +148,11 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
     @Getter
     private boolean includeIgnore;
 
+    /**
+     * Pre-parses the files included by the include or includeAll currently loaded, if enabled
+     */
+    private IncludedChangeLogPreParser includePreParser;
+
     @Getter
     private ParsedNode currentlyLoadedChangeSetNode;
 
@@ -289,10 +301,10 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
     public List<ChangeSet> getChangeSets(String path, String author, String id) {
         final ArrayList<ChangeSet> changeSetsToReturn = new ArrayList<>();
         final String normalizedPath = normalizePath(path);
-        if (normalizedPath != null) {
-            for (ChangeSet changeSet : this.changeSets) {
+        if ((normalizedPath != null) && (author != null) && (id != null)) {
+            for (ChangeSet changeSet : getChangeSetIndex().getOrDefault(getChangeSetIndexKey(author, id), Collections.emptyList())) {
                 if (changeSet.getAuthor().equalsIgnoreCase(author) && changeSet.getId().equalsIgnoreCase(id) && isDbmsMatch(changeSet.getDbmsSet())) {
-                    final String changesetNormalizedPath = normalizePath(changeSet.getFilePath());
+                    final String changesetNormalizedPath = changeSet.getNormalizedFilePath();
                     if (changesetNormalizedPath != null && changesetNormalizedPath.equalsIgnoreCase(normalizedPath)) {
                         changeSetsToReturn.add(changeSet);
                     }
@@ -302,7 +314,47 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
         return changeSetsToReturn;
     }
 
+    public List<ChangeSet> getChangeSets() {
+        return changeSets;
+    }
+
+    private Map<String, List<ChangeSet>> getChangeSetIndex() {
+        // changeSets is exposed through getChangeSets(), so rebuild if it was modified other than through addChangeSet
+        if ((changeSetIndex == null) || (indexedChangeSetsVersion != this.changeSets.getVersion())) {
+            Map<String, List<ChangeSet>> index = new HashMap<>();
+            for (ChangeSet changeSet : this.changeSets) {
+                addToChangeSetIndex(index, changeSet);
+            }
+            changeSetIndex = index;
+            indexedChangeSetsVersion = this.changeSets.getVersion();
+        }
+        return changeSetIndex;
+    }
+
+    private static void addToChangeSetIndex(Map<String, List<ChangeSet>> index, ChangeSet changeSet) {
+        if ((changeSet.getAuthor() != null) && (changeSet.getId() != null)) {
+            index.computeIfAbsent(getChangeSetIndexKey(changeSet.getAuthor(), changeSet.getId()), key -> new ArrayList<>(1)).add(changeSet);
+        }
+    }
+
+    /**
+     * Returns a key that is equal for two author and id pairs exactly when both compare equal with {@link String#equalsIgnoreCase(String)}.
+     */
+    private static String getChangeSetIndexKey(String author, String id) {
+        StringBuilder key = new StringBuilder(author.length() + id.length() + 8).append(author.length()).append(':');
+        appendFoldedCase(author, key);
+        appendFoldedCase(id, key);
+        return key.toString();
+    }
+
+    private static void appendFoldedCase(String value, StringBuilder key) {
+        for (int i = 0; i < value.length(); i++) {
+            key.append(Character.toLowerCase(Character.toUpperCase(value.charAt(i))));
+        }
+    }
+
     public void addChangeSet(ChangeSet changeSet) {
+        boolean indexCurrent = (changeSetIndex != null) && (indexedChangeSetsVersion == this.changeSets.getVersion());
         if (changeSet.getRunOrder() == null) {
             ListIterator<ChangeSet> it = this.changeSets.listIterator(this.changeSets.size());
             boolean added = false;
@@ -335,6 +387,14 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
         } else {
             throw new UnexpectedLiquibaseException("Unknown runOrder: " + changeSet.getRunOrder());
         }
+
+        // the lookup returns matches in changelog order, so only appending keeps the index ordered
+        if (indexCurrent && (this.changeSets.get(this.changeSets.size() - 1) == changeSet)) {
+            addToChangeSetIndex(changeSetIndex, changeSet);
+            indexedChangeSetsVersion = this.changeSets.getVersion();
+        } else {
+            changeSetIndex = null;
+        }
     }
 
     @Override
@@ -430,11 +490,22 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
         if (nodeObjectQuotingStrategy != null) {
             setObjectQuotingStrategy(ObjectQuotingStrategy.valueOf(nodeObjectQuotingStrategy));
         }
-        for (ParsedNode childNode : parsedNode.getChildren()) {
-            if (childNode.getName().equals((new ChangeSet(null)).getSerializedObjectName())) {
-                this.currentlyLoadedChangeSetNode = childNode;
+        IncludedChangeLogPreParser parentPreParser = includePreParser;
+        if (IncludedChangeLogPreParser.isEnabled()) {
+            includePreParser = IncludedChangeLogPreParser.start(getIncludedFilePaths(parsedNode, resourceAccessor), resourceAccessor);
+        }
+        try {
+            for (ParsedNode childNode : parsedNode.getChildren()) {
+                if (childNode.getName().equals((new ChangeSet(null)).getSerializedObjectName())) {
+                    this.currentlyLoadedChangeSetNode = childNode;
+                }
+                handleChildNode(childNode, resourceAccessor, new HashMap<>());
+            }
+        } finally {
+            if ((includePreParser != null) && (includePreParser != parentPreParser)) {
+                includePreParser.close();
             }
-            handleChildNode(childNode, resourceAccessor, new HashMap<>());
+            includePreParser = parentPreParser;
         }
         this.currentlyLoadedChangeSetNode = null;
     }
@@ -878,10 +949,19 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
         try {
             Set<String> seenChangelogPaths = Scope.getCurrentScope().get(SEEN_CHANGELOGS_PATHS_SCOPE_KEY, new HashSet<>());
             Scope.child(Collections.singletonMap(SEEN_CHANGELOGS_PATHS_SCOPE_KEY, seenChangelogPaths), () -> {
-                for (Resource resource : resources) {
-                    Scope.getCurrentScope().getLog(getClass()).info("Reading resource: " + resource);
-                    include(resource.getPath(), false, errorIfMissingOrEmpty, resourceAccessor, includeContextFilter,
-                            labels, ignore, logicalFilePath, OnUnknownFileFormat.WARN, modifyChangeSets);
+                IncludedChangeLogPreParser parentPreParser = includePreParser;
+                includePreParser = IncludedChangeLogPreParser.start(resources.stream().map(Resource::getPath).collect(Collectors.toList()), resourceAccessor);
+                try {
+                    for (Resource resource : resources) {
+                        Scope.getCurrentScope().getLog(getClass()).info("Reading resource: " + resource);
+                        include(resource.getPath(), false, errorIfMissingOrEmpty, resourceAccessor, includeContextFilter,
+                                labels, ignore, logicalFilePath, OnUnknownFileFormat.WARN, modifyChangeSets);
+                    }
+                } finally {
+                    if (includePreParser != null) {
+                        includePreParser.close();
+                    }
+                    includePreParser = parentPreParser;
                 }
             });
         } catch (Exception e) {
@@ -1100,15 +1180,7 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
             return false;
         }
 
-        if (isRelativePath) {
-            try {
-                fileName = resourceAccessor.get(this.getPhysicalFilePath()).resolveSibling(fileName).getPath();
-                fileName = normalizePath(normalizePathViaPaths(fileName, false));
-            } catch (IOException e) {
-                throw new UnexpectedLiquibaseException(e);
-            }
-        }
-        final String normalizedFilePath = fileName;
+        final String normalizedFilePath = resolveIncludePath(fileName, isRelativePath, resourceAccessor);
 
         ChangeLogParser parser = null;
         DatabaseChangeLog changeLog;
@@ -1135,9 +1207,9 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
                     // Some parser need to know it's not a top level changelog, in modifyChangeSets flow 'runWith' attributes are added later on
                     ChangeLogParser finalParser = parser;
                     changeLog = Scope.child(Collections.singletonMap(MODIFY_CHANGE_SETS, true),
-                            () -> finalParser.parse(normalizedFilePath, changeLogParameters, resourceAccessor));
+                            () -> parseIncludedFile(finalParser, normalizedFilePath, resourceAccessor));
                 } else {
-                    changeLog = parser.parse(normalizedFilePath, changeLogParameters, resourceAccessor);
+                    changeLog = parseIncludedFile(parser, normalizedFilePath, resourceAccessor);
                 }
                 changeLog.setIncludeContextFilter(includeContextFilter);
                 changeLog.setIncludeLabels(labels);
@@ -1214,6 +1286,51 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
         return true;
     }
 
+    private String resolveIncludePath(String fileName, boolean isRelativePath, ResourceAccessor resourceAccessor) {
+        if (isRelativePath) {
+            try {
+                fileName = resourceAccessor.get(this.getPhysicalFilePath()).resolveSibling(fileName).getPath();
+                fileName = normalizePath(normalizePathViaPaths(fileName, false));
+            } catch (IOException e) {
+                throw new UnexpectedLiquibaseException(e);
+            }
+        }
+        return fileName;
+    }
+
+    private DatabaseChangeLog parseIncludedFile(ChangeLogParser parser, String path, ResourceAccessor resourceAccessor) throws LiquibaseException {
+        if (includePreParser != null) {
+            DatabaseChangeLog changeLog = includePreParser.parse(path, parser, changeLogParameters, resourceAccessor);
+            if (changeLog != null) {
+                return changeLog;
+            }
+        }
+        return PreParsedChangeLogCache.parse(parser, path, changeLogParameters, resourceAccessor);
+    }
+
+    /**
+     * Returns the paths of the files included by the include nodes of the given changelog node, except the ones
+     * depending on changelog parameters, which are only known once the preceding nodes are loaded.
+     */
+    private List<String> getIncludedFilePaths(ParsedNode parsedNode, ResourceAccessor resourceAccessor) {
+        List<String> paths = new ArrayList<>();
+        for (ParsedNode childNode : parsedNode.getChildren()) {
+            if (!INCLUDE_CHANGELOG.equals(childNode.getName())) {
+                continue;
+            }
+            try {
+                String path = childNode.getChildValue(null, FILE, String.class);
+                if ((path == null) || path.contains("${")) {
+                    continue;
+                }
+                paths.add(resolveIncludePath(path.replace('\\', '/'), childNode.getChildValue(null, RELATIVE_TO_CHANGELOG_FILE, false), resourceAccessor));
+            } catch (ParsedNodeException | UnexpectedLiquibaseException e) {
+                //the file is parsed when the node is loaded
+            }
+        }
+        return paths;
+    }
+
     /**
      * Search for the closest logicalfilePath for this changelog
      */
@@ -1379,6 +1496,58 @@ public class DatabaseChangeLog implements Comparable<DatabaseChangeLog>, Conditi
         }
     }
 
+    /**
+     * List of the changesets which counts its modifications, including replaced elements, so the changeset index can
+     * tell when the list returned by {@link #getChangeSets()} was changed directly.
+     */
+    private static final class ChangeSetList extends AbstractList<ChangeSet> implements RandomAccess {
+
+        private final ArrayList<ChangeSet> list = new ArrayList<>();
+        private int version;
+
+        private int getVersion() {
+            return version;
+        }
+
+        @Override
+        public ChangeSet get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public ChangeSet set(int index, ChangeSet element) {
+            version++;
+            return list.set(index, element);
+        }
+
+        @Override
+        public void add(int index, ChangeSet element) {
+            list.add(index, element);
+            version++;
+            modCount++;
+        }
+
+        @Override
+        public ChangeSet remove(int index) {
+            ChangeSet removed = list.remove(index);
+            version++;
+            modCount++;
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+            version++;
+            modCount++;
+        }
+    }
+
     /**
      * Controls what to do when including a file with a format that isn't recognized by a changelog parser.
      */
@@ -0,0 +1,141 @@
+package liquibase.changelog;
+
+import liquibase.Scope;
+import liquibase.exception.LiquibaseException;
+import liquibase.parser.ChangeLogParser;
+import liquibase.parser.ChangeLogParserConfiguration;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.parser.PreParsedChangeLogCache;
+import liquibase.parser.PreParsingChangeLogParser;
+import liquibase.resource.ResourceAccessor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Runs {@link PreParsingChangeLogParser#preParse(String, ResourceAccessor)} concurrently for the files included by a
+ * changelog, on up to {@link ChangeLogParserConfiguration#INCLUDE_PARSER_THREADS} threads.
+ * <p>
+ * The included files are still loaded one by one in order by {@link DatabaseChangeLog#include}, which only takes the
+ * pre-parsed result instead of reading and parsing the file itself. A file that is not pre-parsed yet when it is
+ * needed is pre-parsed on the calling thread, and a file that could not be pre-parsed is parsed as usual, so errors
+ * are reported the same way and in the same order as without pre-parsing.
+ * <p>
+ * All the pre-parsers nested in the first one created on a thread share its thread pool. The pool threads are created
+ * by the calling thread, so they inherit its {@link Scope}.
+ */
+class IncludedChangeLogPreParser {
+
+    private static final ThreadLocal<ExecutorService> THREAD_POOL = new ThreadLocal<>();
+
+    private final Map<String, PreParseTask> tasks = new HashMap<>();
+    private final ExecutorService threadPool;
+    private final boolean ownsThreadPool;
+
+    private IncludedChangeLogPreParser(ExecutorService threadPool, boolean ownsThreadPool) {
+        this.threadPool = threadPool;
+        this.ownsThreadPool = ownsThreadPool;
+    }
+
+    /**
+     * Returns true if {@link ChangeLogParserConfiguration#INCLUDE_PARSER_THREADS} is set to pre-parse files concurrently.
+     */
+    static boolean isEnabled() {
+        Integer threads = ChangeLogParserConfiguration.INCLUDE_PARSER_THREADS.getCurrentValue();
+        return (threads != null) && (threads > 1);
+    }
+
+    /**
+     * Starts pre-parsing the given files, in order.
+     *
+     * @return the pre-parser to get the results from and to close once the files are loaded, or null if
+     * {@link ChangeLogParserConfiguration#INCLUDE_PARSER_THREADS} is not set or there is nothing to pre-parse
+     */
+    static IncludedChangeLogPreParser start(Collection<String> paths, ResourceAccessor resourceAccessor) {
+        if (!isEnabled() || (paths.size() < 2)) {
+            return null;
+        }
+
+        ExecutorService threadPool = THREAD_POOL.get();
+        boolean ownsThreadPool = (threadPool == null);
+        if (ownsThreadPool) {
+            threadPool = Executors.newFixedThreadPool(ChangeLogParserConfiguration.INCLUDE_PARSER_THREADS.getCurrentValue());
+            THREAD_POOL.set(threadPool);
+        }
+        IncludedChangeLogPreParser preParser = new IncludedChangeLogPreParser(threadPool, ownsThreadPool);
+        for (String path : paths) {
+            preParser.submit(path, resourceAccessor);
+        }
+        return preParser;
+    }
+
+    private void submit(String path, ResourceAccessor resourceAccessor) {
+        if (tasks.containsKey(path)) {
+            return;
+        }
+        ChangeLogParser parser;
+        try {
+            parser = ChangeLogParserFactory.getInstance().getParser(path, resourceAccessor);
+        } catch (LiquibaseException e) {
+            return;
+        }
+        if (!PreParsedChangeLogCache.supportsPreParsing(parser)) {
+            return;
+        }
+        PreParsingChangeLogParser<?> preParsingParser = (PreParsingChangeLogParser<?>) parser;
+        PreParseTask task = new PreParseTask(preParsingParser, () -> PreParsedChangeLogCache.preParse(preParsingParser, path, resourceAccessor));
+        tasks.put(path, task);
+        threadPool.execute(task);
+    }
+
+    /**
+     * Parses the given file with the given parser, from its pre-parsed result if there is one.
+     *
+     * @return the parsed changelog, or null if the file was not pre-parsed by that parser or could not be
+     */
+    @SuppressWarnings("unchecked")
+    DatabaseChangeLog parse(String path, ChangeLogParser parser, ChangeLogParameters changeLogParameters, ResourceAccessor resourceAccessor) throws LiquibaseException {
+        PreParseTask task = tasks.remove(path);
+        if ((task == null) || (task.parser != parser)) {
+            return null;
+        }
+        task.run(); //pre-parses on this thread if no pool thread started it yet
+        Object preParsed;
+        try {
+            preParsed = task.get();
+        } catch (ExecutionException e) {
+            Scope.getCurrentScope().getLog(getClass()).fine("Cannot pre-parse " + path + ", it will be parsed again: " + e.getCause().getMessage(), e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LiquibaseException(e);
+        }
+        return ((PreParsingChangeLogParser<Object>) parser).parse(preParsed, path, changeLogParameters, resourceAccessor);
+    }
+
+    /**
+     * Cancels the files that were not loaded, and shuts the thread pool down if this pre-parser created it.
+     */
+    void close() {
+        for (PreParseTask task : tasks.values()) {
+            task.cancel(false);
+        }
+        tasks.clear();
+        if (ownsThreadPool) {
+            THREAD_POOL.remove();
+            threadPool.shutdownNow();
+        }
+    }
+
+    private static class PreParseTask extends FutureTask<Object> {
+
+        private final ChangeLogParser parser;
+
+        private PreParseTask(ChangeLogParser parser, Callable<Object> callable) {
+            super(callable);
+            this.parser = parser;
+        }
+    }
+}
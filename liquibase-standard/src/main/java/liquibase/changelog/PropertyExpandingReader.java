@@ -0,0 +1,99 @@
+package liquibase.changelog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader expanding the changelog parameters in the text read from another reader, as
+ * {@link ChangeLogParameters#expandExpressions(String, DatabaseChangeLog)} expands them in the whole text.
+ * <p>
+ * The text is expanded one line at a time, so only the current line is held in memory. A line with an expression
+ * that is not closed yet is expanded together with the following lines up to the end of the expression.
+ */
+public class PropertyExpandingReader extends Reader {
+
+    private final Reader reader;
+    private final ChangeLogParameters parameters;
+    private final DatabaseChangeLog changeLog;
+
+    private final StringBuilder pendingText = new StringBuilder();
+    private String expandedText = "";
+    private int expandedTextPosition;
+    private boolean endOfInput;
+
+    /**
+     * Expands the parameters of the given changeset, or does not expand anything if it has no parameters.
+     */
+    public PropertyExpandingReader(ChangeSet changeSet, Reader reader) {
+        this(changeSet == null ? null : changeSet.getChangeLogParameters(), changeSet == null ? null : changeSet.getChangeLog(), reader);
+    }
+
+    public PropertyExpandingReader(ChangeLogParameters parameters, DatabaseChangeLog changeLog, Reader reader) {
+        this.reader = (reader instanceof BufferedReader) ? reader : new BufferedReader(reader);
+        this.parameters = parameters;
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (parameters == null) {
+            return reader.read(buffer, offset, length);
+        }
+        if (expandedTextPosition >= expandedText.length()) {
+            String chunk = readExpandedChunk();
+            if (chunk == null) {
+                return -1;
+            }
+            expandedText = chunk;
+            expandedTextPosition = 0;
+        }
+        int count = Math.min(length, expandedText.length() - expandedTextPosition);
+        expandedText.getChars(expandedTextPosition, expandedTextPosition + count, buffer, offset);
+        expandedTextPosition += count;
+        return count;
+    }
+
+    /**
+     * Returns the next chunk of expanded text, ending with a line break unless it is the end of the text, or null at
+     * the end of the text. Chunks are only split where no expression is open, so expanding them one by one gives the
+     * same text as expanding the whole text at once.
+     */
+    String readExpandedChunk() throws IOException {
+        int openExpressions = 0;
+        int previousChar = -1;
+        while (!endOfInput) {
+            int nextChar = reader.read();
+            if (nextChar == -1) {
+                endOfInput = true;
+                break;
+            }
+            pendingText.append((char) nextChar);
+            if (nextChar == '{' && previousChar == '$') {
+                openExpressions++;
+            } else if (nextChar == '}' && openExpressions > 0) {
+                openExpressions--;
+            } else if (nextChar == '\n' && openExpressions == 0) {
+                break;
+            }
+            previousChar = nextChar;
+        }
+        if (pendingText.length() == 0) {
+            return null;
+        }
+        String chunk = pendingText.toString();
+        pendingText.setLength(0);
+        if (parameters == null) {
+            return chunk;
+        }
+        return parameters.expandExpressions(chunk, changeLog);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -4,7 +4,6 @@ import liquibase.GlobalConfiguration;
 import liquibase.exception.UnexpectedLiquibaseException;
 import liquibase.util.StreamUtil;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
@@ -13,9 +12,15 @@ public class PropertyExpandingStream extends InputStream {
 
     private InputStream stream;
 
+    private PropertyExpandingReader reader;
+    private Charset encoding;
+    private byte[] expandedBytes = new byte[0];
+    private int expandedBytesPosition;
+
     /**
      * This method will read the content of the given stream and make any parameter update on the content. For example,
      * making a property replacement into procedure text read from the sql file.
+     * The content is read and expanded one line at a time as this stream is read, instead of all at once.
      * @param stream
      * @return an updated {@link InputStream} if any replacement has been performed in the content of the original stream.
      */
@@ -25,13 +30,8 @@ public class PropertyExpandingStream extends InputStream {
                 this.stream = stream;
             }
             else {
-                Charset encoding = GlobalConfiguration.FILE_ENCODING.getCurrentValue();
-                String streamContent = StreamUtil.readStreamAsString(stream, encoding.toString());
-                ChangeLogParameters parameters = changeSet.getChangeLogParameters();
-                if (parameters != null) {
-                    streamContent = parameters.expandExpressions(streamContent, changeSet.getChangeLog());
-                }
-                this.stream = new ByteArrayInputStream(streamContent.getBytes(encoding));
+                this.encoding = GlobalConfiguration.FILE_ENCODING.getCurrentValue();
+                this.reader = new PropertyExpandingReader(changeSet, StreamUtil.readStreamWithReader(stream, encoding.toString()));
             }
         }
         catch (IOException e) {
@@ -41,31 +41,83 @@ public class PropertyExpandingStream extends InputStream {
 
     @Override
     public int read() throws IOException {
-        return this.stream.read();
+        if (reader == null) {
+            return this.stream.read();
+        }
+        if (!fillExpandedBytes()) {
+            return -1;
+        }
+        return expandedBytes[expandedBytesPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (reader == null) {
+            return this.stream.read(buffer, offset, length);
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (!fillExpandedBytes()) {
+            return -1;
+        }
+        int count = Math.min(length, expandedBytes.length - expandedBytesPosition);
+        System.arraycopy(expandedBytes, expandedBytesPosition, buffer, offset, count);
+        expandedBytesPosition += count;
+        return count;
+    }
+
+    /**
+     * Expands the next chunk of the content if all the bytes of the current one have been read.
+     *
+     * @return false at the end of the content
+     */
+    private boolean fillExpandedBytes() throws IOException {
+        while (expandedBytesPosition >= expandedBytes.length) {
+            String chunk = reader.readExpandedChunk();
+            if (chunk == null) {
+                return false;
+            }
+            expandedBytes = chunk.getBytes(encoding);
+            expandedBytesPosition = 0;
+        }
+        return true;
     }
 
     @Override
     public int available() throws IOException {
-        return stream.available();
+        if (reader == null) {
+            return stream.available();
+        }
+        return expandedBytes.length - expandedBytesPosition;
     }
 
     @Override
     public boolean markSupported() {
-        return stream.markSupported();
+        return (reader == null) && stream.markSupported();
     }
 
     @Override
     public synchronized void mark(int readLimit) {
-        stream.mark(readLimit);
+        if (reader == null) {
+            stream.mark(readLimit);
+        }
     }
 
     @Override
     public synchronized void reset() throws IOException {
+        if (reader != null) {
+            throw new IOException("mark/reset not supported");
+        }
         stream.reset();
     }
 
     @Override
     public void close() throws IOException {
-        stream.close();
+        if (reader == null) {
+            stream.close();
+        } else {
+            reader.close();
+        }
     }
 }
@@ -0,0 +1,96 @@
+package liquibase.changelog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash index over a list of {@link RanChangeSet}s, keyed on the normalized path, id and author.
+ * Lookups return the same {@link RanChangeSet} a linear scan using {@link RanChangeSet#isSameAs(ChangeSet)} would:
+ * the first matching entry in the order the entries were added.
+ */
+public class RanChangeSetIndex {
+
+    private final Map<String, List<RanChangeSet>> ranChangeSets = new HashMap<>();
+
+    public RanChangeSetIndex(Collection<RanChangeSet> ranChangeSets) {
+        if (ranChangeSets != null) {
+            for (RanChangeSet ranChangeSet : ranChangeSets) {
+                add(ranChangeSet);
+            }
+        }
+    }
+
+    /**
+     * Returns the first indexed {@link RanChangeSet} that {@link RanChangeSet#isSameAs(ChangeSet) is the same as} the given changeSet,
+     * or null if there is none.
+     */
+    public RanChangeSet get(ChangeSet changeSet) {
+        List<RanChangeSet> candidates = ranChangeSets.get(createKey(changeSet.getFilePath(), changeSet.getId(), changeSet.getAuthor()));
+        if (candidates == null) {
+            return null;
+        }
+        for (RanChangeSet candidate : candidates) {
+            if (candidate.isSameAs(changeSet)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public boolean contains(ChangeSet changeSet) {
+        return get(changeSet) != null;
+    }
+
+    public void add(RanChangeSet ranChangeSet) {
+        ranChangeSets.computeIfAbsent(createKey(ranChangeSet), key -> new ArrayList<>(1)).add(ranChangeSet);
+    }
+
+    /**
+     * Removes the first indexed entry that {@link RanChangeSet#equals(Object) equals} the given ranChangeSet,
+     * mirroring {@link List#remove(Object)}.
+     */
+    public void remove(RanChangeSet ranChangeSet) {
+        String key = createKey(ranChangeSet);
+        List<RanChangeSet> candidates = ranChangeSets.get(key);
+        if (candidates == null) {
+            return;
+        }
+        Iterator<RanChangeSet> iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().equals(ranChangeSet)) {
+                iterator.remove();
+                break;
+            }
+        }
+        if (candidates.isEmpty()) {
+            ranChangeSets.remove(key);
+        }
+    }
+
+    private static String createKey(RanChangeSet ranChangeSet) {
+        return createKey(ranChangeSet.getChangeLog(), ranChangeSet.getId(), ranChangeSet.getAuthor());
+    }
+
+    private static String createKey(String filePath, String id, String author) {
+        return foldCase(DatabaseChangeLog.normalizePath(filePath)) + "::" + foldCase(id) + "::" + foldCase(author);
+    }
+
+    /**
+     * Folds the case of the given value the same way {@link String#equalsIgnoreCase(String)} compares characters,
+     * so that two values that are equal ignoring case always produce the same key.
+     */
+    private static String foldCase(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder folded = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(value.charAt(i))));
+        }
+        return folded.toString();
+    }
+}
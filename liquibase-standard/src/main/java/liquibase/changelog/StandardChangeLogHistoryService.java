@@ -9,6 +9,7 @@ import liquibase.database.Database;
 import liquibase.database.core.DB2Database;
 import liquibase.database.core.MSSQLDatabase;
 import liquibase.database.core.SQLiteDatabase;
+import liquibase.database.jvm.JdbcConnection;
 import liquibase.diff.output.DiffOutputControl;
 import liquibase.diff.output.changelog.ChangeGeneratorFactory;
 import liquibase.exception.DatabaseException;
@@ -18,6 +19,7 @@ import liquibase.exception.UnexpectedLiquibaseException;
 import liquibase.executor.Executor;
 import liquibase.executor.ExecutorService;
 import liquibase.executor.jvm.ChangelogJdbcMdcListener;
+import liquibase.executor.jvm.JdbcExecutor;
 import liquibase.snapshot.InvalidExampleException;
 import liquibase.snapshot.SnapshotControl;
 import liquibase.snapshot.SnapshotGeneratorFactory;
@@ -41,6 +43,7 @@ import static liquibase.executor.jvm.JdbcExecutor.SHOULD_UPDATE_ROWS_AFFECTED_SC
 public class StandardChangeLogHistoryService extends AbstractChangeLogHistoryService {
 
     private List<RanChangeSet> ranChangeSetList;
+    private RanChangeSetIndex ranChangeSetIndex;
     private boolean serviceInitialized;
     private Boolean hasDatabaseChangeLogTable;
     private boolean databaseChecksumsCompatible = true;
@@ -78,6 +81,7 @@ public class StandardChangeLogHistoryService extends AbstractChangeLogHistorySer
     @Override
     public void reset() {
         this.ranChangeSetList = null;
+        this.ranChangeSetIndex = null;
         this.serviceInitialized = false;
         this.hasDatabaseChangeLogTable = null;
     }
@@ -291,6 +295,7 @@ public class StandardChangeLogHistoryService extends AbstractChangeLogHistorySer
             //reset the cache if there was a change to the table. Especially catches things like md5 changes
             // which might have been updated but would still be wrong in the cache
             this.ranChangeSetList = null;
+            this.ranChangeSetIndex = null;
             Scope.getCurrentScope().getSingleton(FastCheckService.class).clearCache();
         }
         serviceInitialized = true;
@@ -303,6 +308,48 @@ public class StandardChangeLogHistoryService extends AbstractChangeLogHistorySer
         getDatabase().commit();
     }
 
+    /**
+     * Updates the checksums in the history table and in the ran changesets already read from it,
+     * so they do not need to be read again.
+     */
+    @Override
+    public void replaceChecksums(List<ChangeSet> changeSets) throws DatabaseException {
+        updateChecksums(changeSets);
+        if (this.ranChangeSetList != null) {
+            RanChangeSetIndex index = getRanChangeSetIndex();
+            for (ChangeSet changeSet : changeSets) {
+                RanChangeSet ranChangeSet = index.get(changeSet);
+                if (ranChangeSet != null) {
+                    ranChangeSet.setLastCheckSum(changeSet.generateCheckSum(ChecksumVersion.latest()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the current checksums of the given changesets to the history with a single commit.
+     * All checksums are computed before anything is written. With a JDBC connection the rows are updated with one
+     * batched statement, otherwise an {@link UpdateChangeSetChecksumStatement} is executed for each changeset.
+     */
+    protected void updateChecksums(List<ChangeSet> changeSets) throws DatabaseException {
+        if (changeSets.isEmpty()) {
+            return;
+        }
+        for (ChangeSet changeSet : changeSets) {
+            changeSet.generateCheckSum(ChecksumVersion.latest());
+        }
+
+        Executor executor = Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", getDatabase());
+        if ((executor instanceof JdbcExecutor) && (getDatabase().getConnection() instanceof JdbcConnection)) {
+            executor.execute(new UpdateChangeSetChecksumsStatement(getDatabase(), changeSets));
+        } else {
+            for (ChangeSet changeSet : changeSets) {
+                executor.execute(new UpdateChangeSetChecksumStatement(changeSet));
+            }
+        }
+        getDatabase().commit();
+    }
+
     /**
      * Returns the ChangeSets that have been run against the current getDatabase().
      */
@@ -391,6 +438,15 @@ public class StandardChangeLogHistoryService extends AbstractChangeLogHistorySer
         return super.getRanChangeSet(changeSet);
     }
 
+    @Override
+    protected RanChangeSetIndex getRanChangeSetIndex() throws DatabaseException {
+        List<RanChangeSet> ranChangeSets = getRanChangeSets();
+        if (this.ranChangeSetIndex == null) {
+            this.ranChangeSetIndex = new RanChangeSetIndex(ranChangeSets);
+        }
+        return this.ranChangeSetIndex;
+    }
+
     @Override
     public void setExecType(ChangeSet changeSet, ChangeSet.ExecType execType) throws DatabaseException {
         SqlStatement markChangeSetRanStatement = new MarkChangeSetRanStatement(changeSet, execType);
@@ -403,7 +459,11 @@ public class StandardChangeLogHistoryService extends AbstractChangeLogHistorySer
             throw new DatabaseException(e);
         }
         if (this.ranChangeSetList != null) {
-            this.ranChangeSetList.add(new RanChangeSet(changeSet, execType, null, null));
+            RanChangeSet ranChangeSet = new RanChangeSet(changeSet, execType, null, null);
+            this.ranChangeSetList.add(ranChangeSet);
+            if (this.ranChangeSetIndex != null) {
+                this.ranChangeSetIndex.add(ranChangeSet);
+            }
         }
 
     }
@@ -415,7 +475,11 @@ public class StandardChangeLogHistoryService extends AbstractChangeLogHistorySer
         getDatabase().commit();
 
         if (this.ranChangeSetList != null) {
-            this.ranChangeSetList.remove(new RanChangeSet(changeSet));
+            RanChangeSet ranChangeSet = new RanChangeSet(changeSet);
+            this.ranChangeSetList.remove(ranChangeSet);
+            if (this.ranChangeSetIndex != null) {
+                this.ranChangeSetIndex.remove(ranChangeSet);
+            }
         }
     }
 
@@ -472,6 +536,7 @@ public class StandardChangeLogHistoryService extends AbstractChangeLogHistorySer
 
         // Clear the in-memory cache and FastCheck cache to ensure checksums are re-evaluated
         this.ranChangeSetList = null;
+        this.ranChangeSetIndex = null;
         Scope.getCurrentScope().getSingleton(FastCheckService.class).clearCache();
     }
 
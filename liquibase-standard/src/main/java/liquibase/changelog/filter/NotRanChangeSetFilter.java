@@ -2,24 +2,25 @@ package liquibase.changelog.filter;
 
 import liquibase.changelog.ChangeSet;
 import liquibase.changelog.RanChangeSet;
+import liquibase.changelog.RanChangeSetIndex;
 
 import java.util.List;
 
 public class NotRanChangeSetFilter implements ChangeSetFilter {
 
     public List<RanChangeSet> ranChangeSets;
+    private final RanChangeSetIndex ranChangeSetIndex;
 
     public NotRanChangeSetFilter(List<RanChangeSet> ranChangeSets) {
         this.ranChangeSets = ranChangeSets;
+        this.ranChangeSetIndex = new RanChangeSetIndex(ranChangeSets);
     }
 
     @Override
     @SuppressWarnings({"RedundantIfStatement"})
     public ChangeSetFilterResult accepts(ChangeSet changeSet) {
-        for (RanChangeSet ranChangeSet : ranChangeSets) {
-            if (ranChangeSet.isSameAs(changeSet)) {
-                return new ChangeSetFilterResult(false, "Changeset already ran", this.getClass(), getMdcName(), getDisplayName());
-            }
+        if (ranChangeSetIndex.contains(changeSet)) {
+            return new ChangeSetFilterResult(false, "Changeset already ran", this.getClass(), getMdcName(), getDisplayName());
         }
         return new ChangeSetFilterResult(true, "Changeset not yet ran", this.getClass(), getMdcName(), getDisplayName());
     }
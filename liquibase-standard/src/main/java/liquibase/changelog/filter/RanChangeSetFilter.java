@@ -2,23 +2,20 @@ package liquibase.changelog.filter;
 
 import liquibase.changelog.ChangeSet;
 import liquibase.changelog.RanChangeSet;
+import liquibase.changelog.RanChangeSetIndex;
 
 import java.util.List;
 
 public abstract class RanChangeSetFilter implements ChangeSetFilter {
     public List<RanChangeSet> ranChangeSets;
+    private final RanChangeSetIndex ranChangeSetIndex;
 
     public RanChangeSetFilter(List<RanChangeSet> ranChangeSets) {
         this.ranChangeSets = ranChangeSets;
+        this.ranChangeSetIndex = new RanChangeSetIndex(ranChangeSets);
     }
 
     public RanChangeSet getRanChangeSet(ChangeSet changeSet) {
-        for (RanChangeSet ranChangeSet : ranChangeSets) {
-            if (ranChangeSet.isSameAs(changeSet)) {
-                return ranChangeSet;
-            }
-        }
-        return null;
-
+        return ranChangeSetIndex.get(changeSet);
     }
 }
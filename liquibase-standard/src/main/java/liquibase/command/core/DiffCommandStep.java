@@ -207,6 +207,9 @@ public class DiffCommandStep extends AbstractCommandStep {
         if (snapshotListener != null) {
             snapshotControl.setSnapshotListener(snapshotListener);
         }
+        if (snapshotControl.getSnapshotCache() == null) {
+            snapshotControl.setSnapshotCache(SnapshotCache.fromConfiguration());
+        }
 
         ObjectQuotingStrategy originalStrategy = database.getObjectQuotingStrategy();
         try {
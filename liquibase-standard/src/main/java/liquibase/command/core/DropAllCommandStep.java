@@ -32,6 +32,8 @@ public class DropAllCommandStep extends AbstractCommandStep {
 
     public static final CommandArgumentDefinition<Boolean> FORCE_ARG;
 
+    public static final CommandArgumentDefinition<Boolean> NATIVE_DROP_ARG;
+
     static {
         CommandBuilder builder = new CommandBuilder(COMMAND_NAME);
         SCHEMAS_ARG = builder.argument("schemas", String.class).description("Schemas to include in drop").build();
@@ -46,6 +48,10 @@ public class DropAllCommandStep extends AbstractCommandStep {
                 .description("Argument to allow use of dropAll with values of 'true' or 'false'. The default is 'false'.")
                 .defaultValue(false)
                 .build();
+        NATIVE_DROP_ARG = builder.argument("nativeDrop", Boolean.class)
+                .description("Drop the objects with statements specific to the database instead of snapshotting the schema first, on databases which support it (H2, PostgreSQL and Oracle). Not used for the schema holding the Liquibase tables. The default is 'false'.")
+                .defaultValue(false)
+                .build();
     }
 
     @Override
@@ -88,11 +94,16 @@ public class DropAllCommandStep extends AbstractCommandStep {
         lockService.waitForLock();
 
         List<CatalogAndSchema> catalogAndSchemas = getCatalogAndSchemas(database, commandScope);
+        boolean nativeDrop = Boolean.TRUE.equals(commandScope.getArgumentValue(NATIVE_DROP_ARG));
         boolean dropSuccess = false;
 
         try {
             for (CatalogAndSchema catalogAndSchema : catalogAndSchemas) {
                 log.info("Dropping Database Objects in schema: " + catalogAndSchema);
+                if (nativeDrop && canDropNatively(database, catalogAndSchema)) {
+                    database.dropDatabaseObjectsNatively(catalogAndSchema);
+                    continue;
+                }
                 SnapshotControl snapshotControl = getSnapshotControl(commandScope, database);
                 if (snapshotControl != null) {
                     database.dropDatabaseObjects(catalogAndSchema, snapshotControl);
@@ -130,6 +141,23 @@ public class DropAllCommandStep extends AbstractCommandStep {
         return null;
     }
 
+    /**
+     * Returns true if the objects in the given schema can be dropped with {@link Database#dropDatabaseObjectsNatively(CatalogAndSchema)}.
+     * The schema holding the Liquibase tables is never dropped natively, because the lock held while dropping is in it.
+     */
+    private boolean canDropNatively(Database database, CatalogAndSchema catalogAndSchema) {
+        CatalogAndSchema liquibaseSchema = new CatalogAndSchema(database.getLiquibaseCatalogName(), database.getLiquibaseSchemaName());
+        if (catalogAndSchema.equals(liquibaseSchema, database)) {
+            log.info("Not dropping the objects natively in schema " + catalogAndSchema + " because it holds the Liquibase tables");
+            return false;
+        }
+        if (!database.supportsNativeDropDatabaseObjects(catalogAndSchema)) {
+            log.info(database.getShortName() + " cannot natively drop the objects in schema " + catalogAndSchema + ", they will be dropped after a snapshot");
+            return false;
+        }
+        return true;
+    }
+
     private List<CatalogAndSchema> getCatalogAndSchemas(Database database, CommandScope commandScope) {
         String schemas = commandScope.getArgumentValue(SCHEMAS_ARG);
         CatalogAndSchema[] catalogAndSchemas = commandScope.getArgumentValue(CATALOG_AND_SCHEMAS_ARG);
@@ -15,6 +15,7 @@ import liquibase.lockservice.LockServiceFactory;
 import liquibase.logging.mdc.MdcKey;
 import liquibase.parser.ChangeLogParser;
 import liquibase.parser.ChangeLogParserFactory;
+import liquibase.parser.PreParsedChangeLogCache;
 import liquibase.parser.core.xml.XMLChangeLogSAXParser;
 import liquibase.resource.ResourceAccessor;
 import org.apache.commons.lang3.StringUtils;
@@ -140,7 +141,7 @@ public class DatabaseChangelogCommandStep extends AbstractHelperCommandStep impl
             if (parser instanceof XMLChangeLogSAXParser) {
                 ((XMLChangeLogSAXParser) parser).setShouldWarnOnMismatchedXsdVersion(false);
             }
-            changelog.set(parser.parse(changeLogFile, changeLogParameters, resourceAccessor));
+            changelog.set(PreParsedChangeLogCache.parse(parser, changeLogFile, changeLogParameters, resourceAccessor));
         });
         if (StringUtils.isNotEmpty(changelog.get().getLogicalFilePath())) {
             Scope.getCurrentScope().addMdcValue(MdcKey.CHANGELOG_FILE, changelog.get().getLogicalFilePath());
@@ -64,6 +64,14 @@ public abstract class AbstractMapConfigurationValueProvider extends AbstractConf
         return providedValue;
     }
 
+    /**
+     * Returns the {@link #getMapHash()}, which already determines when the cached values in this provider are used.
+     */
+    @Override
+    public Object getValuesVersion() {
+        return getMapHash();
+    }
+
     /**
      * Used by {@link #getProvidedValue(String...)} to determine if the underlying data has changed vs. the cached results.
      */
@@ -37,6 +37,15 @@ public interface ConfigurationValueProvider {
      */
     ProvidedValue getProvidedValue(String... keyAndAliases);
 
+    /**
+     * Returns an object which stays equal to the one returned before as long as {@link #getProvidedValue(String...)} returns the same values,
+     * so {@link LiquibaseConfiguration} can reuse the values it already looked up in this provider.
+     * Default implementation returns null, which means values are looked up again every time.
+     */
+    default Object getValuesVersion() {
+        return null;
+    }
+
     /**
      * Perform any validation of keys/values stored in this provider for the given commandScope.
      * For example, check for keys that do not match anything expected.
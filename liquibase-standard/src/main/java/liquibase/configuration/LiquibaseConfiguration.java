@@ -7,6 +7,7 @@ import liquibase.servicelocator.ServiceLocator;
 import liquibase.util.StringUtil;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides unified management of configuration properties within Liquibase core and in extensions.
@@ -30,7 +31,19 @@ public class LiquibaseConfiguration implements SingletonObject {
      * and to limit logged messages.
      * Only re-log when values changed from the last time they were logged.
      */
-    private final Map<String, String> lastLoggedKeyValues = new HashMap<>();
+    private final Map<String, String> lastLoggedKeyValues = new ConcurrentHashMap<>();
+
+    /**
+     * The registered providers, in precedence order, replaced whenever a provider is registered or removed.
+     */
+    private volatile ConfigurationValueProvider[] registeredProviders = new ConfigurationValueProvider[0];
+
+    /**
+     * The values found in the registered providers for each key and aliases. A provider is only asked again for the value
+     * when its {@link ConfigurationValueProvider#getValuesVersion()} changed, and all values are looked up again once the
+     * registered providers change.
+     */
+    private final Map<List<String>, ProvidedValues> providedValuesCache = new ConcurrentHashMap<>();
 
     protected LiquibaseConfiguration() {
         configurationValueProviders = new TreeSet<>((o1, o2) -> {
@@ -64,6 +77,7 @@ public class LiquibaseConfiguration implements SingletonObject {
         }
 
         configurationValueProviders.addAll(serviceLocator.findInstances(ConfigurationValueProvider.class));
+        providersChanged();
     }
 
     /**
@@ -71,6 +85,7 @@ public class LiquibaseConfiguration implements SingletonObject {
      */
     public void registerProvider(ConfigurationValueProvider valueProvider) {
         this.configurationValueProviders.add(valueProvider);
+        providersChanged();
     }
 
     /**
@@ -79,7 +94,7 @@ public class LiquibaseConfiguration implements SingletonObject {
      * @return true if the given provider was previously registered.
      */
     public boolean unregisterProvider(ConfigurationValueProvider valueProvider) {
-        return this.configurationValueProviders.remove(valueProvider);
+        return removeProvider(valueProvider);
     }
 
     /**
@@ -88,7 +103,14 @@ public class LiquibaseConfiguration implements SingletonObject {
      * @return true if the provider was removed.
      */
     public boolean removeProvider(ConfigurationValueProvider provider) {
-        return this.configurationValueProviders.remove(provider);
+        final boolean removed = this.configurationValueProviders.remove(provider);
+        providersChanged();
+        return removed;
+    }
+
+    private void providersChanged() {
+        registeredProviders = configurationValueProviders.toArray(new ConfigurationValueProvider[0]);
+        providedValuesCache.clear();
     }
 
     /**
@@ -135,18 +157,20 @@ public class LiquibaseConfiguration implements SingletonObject {
 
         ConfiguredValue<DataType> details = new ConfiguredValue<>(keyAndAliases[0], converter, obfuscator);
 
-        List<ConfigurationValueProvider> finalValueProviders = new ArrayList<>(configurationValueProviders);
-        if (additionalValueProviders != null) {
-            finalValueProviders.addAll(Arrays.asList(additionalValueProviders));
-        }
-
-        for (ConfigurationValueProvider provider : finalValueProviders) {
-            final ProvidedValue providerValue = provider.getProvidedValue(keyAndAliases);
-
+        for (ProvidedValue providerValue : getRegisteredProvidedValues(keyAndAliases)) {
             if (providerValue != null) {
                 details.override(providerValue);
             }
         }
+        if (additionalValueProviders != null) {
+            for (ConfigurationValueProvider provider : additionalValueProviders) {
+                final ProvidedValue providerValue = provider.getProvidedValue(keyAndAliases);
+
+                if (providerValue != null) {
+                    details.override(providerValue);
+                }
+            }
+        }
 
         Scope.getCurrentScope().getSingleton(ConfiguredValueModifierFactory.class).override(details);
 
@@ -196,6 +220,36 @@ public class LiquibaseConfiguration implements SingletonObject {
         return details;
     }
 
+    /**
+     * Returns the value each registered provider has for the given keys, in precedence order, reusing the values found
+     * before for the providers whose {@link ConfigurationValueProvider#getValuesVersion()} did not change.
+     */
+    private ProvidedValue[] getRegisteredProvidedValues(String[] keyAndAliases) {
+        final ConfigurationValueProvider[] providers = this.registeredProviders;
+        ProvidedValues cached = providedValuesCache.get(Arrays.asList(keyAndAliases));
+        if (cached != null && cached.providers != providers) {
+            cached = null;
+        }
+
+        final Object[] versions = new Object[providers.length];
+        final ProvidedValue[] values = new ProvidedValue[providers.length];
+        boolean cacheChanged = (cached == null);
+        for (int i = 0; i < providers.length; i++) {
+            versions[i] = providers[i].getValuesVersion();
+            if (cached != null && versions[i] != null && versions[i].equals(cached.versions[i])) {
+                values[i] = cached.values[i];
+            } else {
+                values[i] = providers[i].getProvidedValue(keyAndAliases);
+                cacheChanged |= (versions[i] != null);
+            }
+        }
+
+        if (cacheChanged) {
+            providedValuesCache.put(Collections.unmodifiableList(new ArrayList<>(Arrays.asList(keyAndAliases))), new ProvidedValues(providers, versions, values));
+        }
+        return values;
+    }
+
     /**
      * Registers a {@link ConfigurationDefinition} so it will be returned by {@link #getRegisteredDefinitions(boolean)}
      */
@@ -239,4 +293,16 @@ public class LiquibaseConfiguration implements SingletonObject {
         }
         return null;
     }
+
+    private static final class ProvidedValues {
+        private final ConfigurationValueProvider[] providers;
+        private final Object[] versions;
+        private final ProvidedValue[] values;
+
+        private ProvidedValues(ConfigurationValueProvider[] providers, Object[] versions, ProvidedValue[] values) {
+            this.providers = providers;
+            this.versions = versions;
+            this.values = values;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import liquibase.Scope;
 import liquibase.configuration.AbstractConfigurationValueProvider;
 import liquibase.configuration.ProvidedValue;
 
+import java.lang.ref.WeakReference;
 import java.util.Properties;
 
 /**
@@ -17,6 +18,16 @@ public class ScopeValueProvider extends AbstractConfigurationValueProvider {
         return 400;
     }
 
+    /**
+     * The values can be reused until the current scope changes or a value is set in it or in the root scope, which
+     * {@link Scope#getValuesVersion()} tracks. Scopes are compared by identity, since scope ids are not unique: every
+     * thread has its own "root" scope.
+     */
+    @Override
+    public Object getValuesVersion() {
+        return new ScopeVersion(Scope.getCurrentScope());
+    }
+
     @Override
     public ProvidedValue getProvidedValue(String... keyAndAliases) {
         if (keyAndAliases == null || keyAndAliases.length == 0) {
@@ -34,4 +45,38 @@ public class ScopeValueProvider extends AbstractConfigurationValueProvider {
         return null;
     }
 
+    /**
+     * Equal only for the same scope instance with the same values version. The scope is referenced weakly, so cached
+     * versions do not keep it alive.
+     */
+    private static final class ScopeVersion {
+
+        private final WeakReference<Scope> scope;
+        private final long valuesVersion;
+        private final int hashCode;
+
+        private ScopeVersion(Scope scope) {
+            this.scope = new WeakReference<>(scope);
+            this.valuesVersion = scope.getValuesVersion();
+            this.hashCode = System.identityHashCode(scope);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ScopeVersion)) {
+                return false;
+            }
+            ScopeVersion other = (ScopeVersion) o;
+            Scope thisScope = scope.get();
+            return (thisScope != null) && (thisScope == other.scope.get()) && (valuesVersion == other.valuesVersion);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
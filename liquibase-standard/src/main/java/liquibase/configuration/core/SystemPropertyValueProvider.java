@@ -22,6 +22,14 @@ public class SystemPropertyValueProvider extends AbstractMapConfigurationValuePr
         return "System property";
     }
 
+    /**
+     * Hashes the system properties without copying them first like {@link #getMap()} does.
+     */
+    @Override
+    protected int getMapHash() {
+        return System.getProperties().hashCode();
+    }
+
     @Override
     protected Map<?, ?> getMap() {
         return (Properties) System.getProperties().clone();
@@ -10,6 +10,7 @@ import liquibase.database.core.*;
 import liquibase.database.jvm.JdbcConnection;
 import liquibase.diff.compare.DatabaseObjectComparatorFactory;
 import liquibase.exception.*;
+import liquibase.executor.Executor;
 import liquibase.executor.ExecutorService;
 import liquibase.lockservice.LockServiceFactory;
 import liquibase.sql.Sql;
@@ -21,6 +22,8 @@ import liquibase.statement.SequenceNextValueFunction;
 import liquibase.statement.SqlStatement;
 import liquibase.statement.core.GetViewDefinitionStatement;
 import liquibase.statement.core.RawCallStatement;
+import liquibase.statement.core.RawParameterizedSqlStatement;
+import liquibase.statement.core.RawSqlStatement;
 import liquibase.structure.DatabaseObject;
 import liquibase.structure.core.*;
 import liquibase.util.ISODateFormat;
@@ -767,6 +770,67 @@ public abstract class AbstractJdbcDatabase implements Database {
         dropDatabaseObjects(schemaToDrop, null);
     }
 
+    /**
+     * Returns true if {@link #dropAndCreateSchema(CatalogAndSchema)} can be used for the given schema, which must not be
+     * the default schema the connection works in nor one of the given schemas the database cannot drop.
+     */
+    protected boolean canDropAndCreateSchema(final CatalogAndSchema schema, final String... undroppableSchemas) {
+        String schemaName = getJdbcSchemaName(schema.customize(this));
+        if ((schemaName == null) || schemaName.equalsIgnoreCase(getDefaultSchemaName())) {
+            return false;
+        }
+        for (String undroppableSchema : undroppableSchemas) {
+            if (schemaName.equalsIgnoreCase(undroppableSchema)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Implements {@link #dropDatabaseObjectsNatively(CatalogAndSchema)} by dropping the schema with everything in it
+     * and creating it again with the same owner. Privileges granted on the schema itself are not kept.
+     */
+    protected void dropAndCreateSchema(final CatalogAndSchema schemaToDrop) throws LiquibaseException {
+        String schemaName = getJdbcSchemaName(schemaToDrop.customize(this));
+        List<String> owners = Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", this).queryForList(
+                new RawParameterizedSqlStatement("SELECT SCHEMA_OWNER FROM INFORMATION_SCHEMA.SCHEMATA WHERE SCHEMA_NAME = ?", schemaName), String.class);
+        if (owners.isEmpty()) {
+            throw new DatabaseException("Schema " + schemaName + " does not exist");
+        }
+
+        try (TempObjectQuotingStrategy ignored = temporarilySetObjectQuotingStrategy(ObjectQuotingStrategy.QUOTE_ALL_OBJECTS)) {
+            String escapedSchemaName = escapeObjectName(schemaName, Schema.class);
+            //the owner is a user name, which is quoted the same way as a schema name
+            executeNativeDrop(schemaToDrop,
+                    "DROP SCHEMA " + escapedSchemaName + " CASCADE",
+                    "CREATE SCHEMA " + escapedSchemaName + " AUTHORIZATION " + escapeObjectName(owners.get(0), Schema.class));
+        }
+    }
+
+    /**
+     * Runs the given statements for {@link #dropDatabaseObjectsNatively(CatalogAndSchema)} in one transaction, and
+     * cleans up after them like {@link #dropDatabaseObjects(CatalogAndSchema)} does.
+     */
+    protected void executeNativeDrop(final CatalogAndSchema schemaToDrop, final String... sql) throws LiquibaseException {
+        Executor executor = Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", this);
+        boolean previousAutoCommit = getAutoCommitMode();
+        commit(); //clear out currently executed statements
+        setAutoCommit(false);
+        try {
+            for (String oneSql : sql) {
+                executor.execute(new RawSqlStatement(oneSql));
+            }
+            commit();
+        } finally {
+            setAutoCommit(previousAutoCommit);
+        }
+
+        Scope.getCurrentScope().getSingleton(LiquibaseTableNamesFactory.class).destroy(this);
+        Scope.getCurrentScope().getLog(getClass()).info(String.format("Successfully dropped all objects in schema %s natively.", schemaToDrop));
+        addCompleteSqlToScope(String.join("; ", sql));
+    }
+
     @Override
     public boolean supportsDropTableCascadeConstraints() {
         return ((this instanceof SQLiteDatabase) || (this instanceof SybaseDatabase) || (this instanceof
@@ -301,6 +301,26 @@ public interface Database extends PrioritizedService, AutoCloseable {
         }
     }
 
+    /**
+     * Returns true if {@link #dropDatabaseObjectsNatively(CatalogAndSchema)} can drop all objects in the given schema.
+     */
+    default boolean supportsNativeDropDatabaseObjects(CatalogAndSchema schema) {
+        return false;
+    }
+
+    /**
+     * Drops all objects in a specified schema with statements specific to this database, instead of the snapshot and
+     * diff {@link #dropDatabaseObjects(CatalogAndSchema)} uses to find them, which can take minutes on large schemas.
+     * It may also drop objects Liquibase does not snapshot, and may drop and recreate the schema itself.
+     * Only called when {@link #supportsNativeDropDatabaseObjects(CatalogAndSchema)} returns true for the schema.
+     *
+     * @param schema (catalog+)schema to drop
+     * @throws LiquibaseException if any problem occurs
+     */
+    default void dropDatabaseObjectsNatively(CatalogAndSchema schema) throws LiquibaseException {
+        throw new DatabaseException(getShortName() + " cannot natively drop the objects in schema " + schema);
+    }
+
     /**
      * Tags the database changelog with the given string.
      *
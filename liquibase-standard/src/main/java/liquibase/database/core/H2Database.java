@@ -11,6 +11,7 @@ import liquibase.database.OfflineConnection;
 import liquibase.database.jvm.JdbcConnection;
 import liquibase.exception.DatabaseException;
 import liquibase.exception.DateParseException;
+import liquibase.exception.LiquibaseException;
 import liquibase.exception.UnexpectedLiquibaseException;
 import liquibase.statement.DatabaseFunction;
 import liquibase.structure.DatabaseObject;
@@ -585,4 +586,14 @@ public class H2Database extends AbstractJdbcDatabase {
     public boolean supportsDatabaseChangeLogHistory() {
         return true;
     }
+
+    @Override
+    public boolean supportsNativeDropDatabaseObjects(CatalogAndSchema schema) {
+        return canDropAndCreateSchema(schema, "PUBLIC", "INFORMATION_SCHEMA");
+    }
+
+    @Override
+    public void dropDatabaseObjectsNatively(CatalogAndSchema schema) throws LiquibaseException {
+        dropAndCreateSchema(schema);
+    }
 }
@@ -8,6 +8,7 @@ import liquibase.database.DatabaseConnection;
 import liquibase.database.OfflineConnection;
 import liquibase.database.jvm.JdbcConnection;
 import liquibase.exception.DatabaseException;
+import liquibase.exception.LiquibaseException;
 import liquibase.exception.UnexpectedLiquibaseException;
 import liquibase.exception.ValidationErrors;
 import liquibase.executor.ExecutorService;
@@ -691,4 +692,40 @@ public class OracleDatabase extends AbstractJdbcDatabase {
         }
         return super.correctObjectName(objectName, objectType);
     }
+
+    /**
+     * Oracle schemas are users, which cannot be dropped and recreated without more privileges than dropping their
+     * objects needs, so the objects are dropped one by one, but by a single PL/SQL block reading them from the catalog.
+     */
+    @Override
+    public boolean supportsNativeDropDatabaseObjects(CatalogAndSchema schema) {
+        return getJdbcSchemaName(schema.customize(this)) != null;
+    }
+
+    @Override
+    public void dropDatabaseObjectsNatively(CatalogAndSchema schema) throws LiquibaseException {
+        String owner = getJdbcSchemaName(schema.customize(this));
+        executeNativeDrop(schema, "DECLARE\n" +
+                "    v_owner VARCHAR2(128) := '" + owner.replace("'", "''") + "';\n" +
+                "BEGIN\n" +
+                "    FOR o IN (SELECT object_name, object_type FROM all_objects\n" +
+                "              WHERE owner = v_owner\n" +
+                "                AND object_type IN ('MATERIALIZED VIEW', 'VIEW', 'TABLE', 'SEQUENCE', 'SYNONYM', 'TRIGGER', 'PROCEDURE', 'FUNCTION', 'PACKAGE', 'TYPE')\n" +
+                "                AND generated = 'N' AND secondary = 'N'\n" +
+                "                AND object_name NOT LIKE 'BIN$%' AND object_name NOT LIKE 'ISEQ$$%'\n" +
+                "                AND NOT (object_type = 'TABLE' AND object_name IN (SELECT mview_name FROM all_mviews WHERE owner = v_owner))\n" +
+                "              ORDER BY DECODE(object_type, 'MATERIALIZED VIEW', 1, 'VIEW', 2, 'TABLE', 3, 4)) LOOP\n" +
+                "        BEGIN\n" +
+                "            EXECUTE IMMEDIATE 'DROP ' || o.object_type || ' \"' || v_owner || '\".\"' || o.object_name || '\"'\n" +
+                "                || CASE o.object_type WHEN 'TABLE' THEN ' CASCADE CONSTRAINTS PURGE' WHEN 'TYPE' THEN ' FORCE' END;\n" +
+                "        EXCEPTION\n" +
+                "            WHEN OTHERS THEN\n" +
+                "                -- triggers, sequences and synonyms may already be dropped with the objects they belong to\n" +
+                "                IF SQLCODE NOT IN (-942, -1434, -2289, -4043, -4080) THEN\n" +
+                "                    RAISE;\n" +
+                "                END IF;\n" +
+                "        END;\n" +
+                "    END LOOP;\n" +
+                "END;");
+    }
 }
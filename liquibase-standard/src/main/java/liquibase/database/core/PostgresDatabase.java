@@ -9,6 +9,7 @@ import liquibase.database.DatabaseConnection;
 import liquibase.database.ObjectQuotingStrategy;
 import liquibase.database.jvm.JdbcConnection;
 import liquibase.exception.DatabaseException;
+import liquibase.exception.LiquibaseException;
 import liquibase.executor.Executor;
 import liquibase.executor.ExecutorService;
 import liquibase.logging.Logger;
@@ -437,4 +438,14 @@ public class PostgresDatabase extends AbstractJdbcDatabase {
     public boolean supportsDatabaseChangeLogHistory() {
         return true;
     }
+
+    @Override
+    public boolean supportsNativeDropDatabaseObjects(CatalogAndSchema schema) {
+        return canDropAndCreateSchema(schema, "public", "information_schema", "pg_catalog", "pg_toast");
+    }
+
+    @Override
+    public void dropDatabaseObjectsNatively(CatalogAndSchema schema) throws LiquibaseException {
+        dropAndCreateSchema(schema);
+    }
 }
@@ -14,6 +14,7 @@ import liquibase.structure.core.DataType;
 import liquibase.util.ObjectUtil;
 import liquibase.util.StringUtil;
 
+import java.lang.reflect.Constructor;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -21,7 +22,15 @@ public class DataTypeFactory {
 
     private static DataTypeFactory instance;
 
+    /**
+     * The maximum number of parsed data type definitions to keep. Once reached, the cache is cleared and filled again.
+     */
+    private static final int MAX_PARSED_DESCRIPTIONS = 1000;
+
     private final Map<String, List<Class<? extends LiquibaseDataType>>> registry = new ConcurrentHashMap<>();
+    private final Map<Class<? extends LiquibaseDataType>, LiquibaseDataType> registeredTypes = new ConcurrentHashMap<>();
+    private final Map<Class<? extends LiquibaseDataType>, Constructor<? extends LiquibaseDataType>> constructors = new ConcurrentHashMap<>();
+    private final Map<String, ParsedDescription> parsedDescriptions = new ConcurrentHashMap<>();
 
     /**
      * Build the factory registry from all classes in the classpath that implement
@@ -70,13 +79,9 @@ public class DataTypeFactory {
             names.add(type.getName());
             names.addAll(Arrays.asList(type.getAliases()));
 
-            Comparator<Class<? extends LiquibaseDataType>> comparator = (o1, o2) -> {
-                try {
-                    return -1 * Integer.compare(o1.getConstructor().newInstance().getPriority(), o2.getConstructor().newInstance().getPriority());
-                } catch (Exception e) {
-                    throw new UnexpectedLiquibaseException(e);
-                }
-            };
+            registeredTypes.put(type.getClass(), type);
+            Comparator<Class<? extends LiquibaseDataType>> comparator = (o1, o2) ->
+                    -1 * Integer.compare(registeredTypes.get(o1).getPriority(), registeredTypes.get(o2).getPriority());
 
             for (String name : names) {
                 name = name.toLowerCase(Locale.US);
@@ -103,6 +108,9 @@ public class DataTypeFactory {
      * VARCHAR2(255 BYTE)... ) into a normalized data type in object form. Note that, due to variety of allowed ways
      * to specify a data type (SQL-Standard, Java type, native RDBMS type...), the dataTypeDefinition we receive for
      * processing may already be the native type for the target RDBMS.
+     * <p>
+     * Each definition is only parsed the first time it is seen, but a new data type object is returned every time, so
+     * callers are free to modify it.
      * @param dataTypeDefinition the definition from the changeSet
      * @param database the {@link Database} object from for which the native definition is to be generated
      * @return the corresponding Liquibase data type in object form.
@@ -111,151 +119,67 @@ public class DataTypeFactory {
         if (dataTypeDefinition == null) {
             return null;
         }
-        if (dataTypeDefinition.matches("^\\$\\{.*}$")) {
+        if (dataTypeDefinition.startsWith("${") && dataTypeDefinition.endsWith("}") && isSingleLine(dataTypeDefinition)) {
             return new UnknownType(dataTypeDefinition);
         }
 
-        String dataTypeName = dataTypeDefinition;
-
-        // Remove the first occurrence of (anything within parentheses). This will remove the size information from
-        // most data types, e.g. VARCHAR2(255 CHAR) -> VARCHAR2. We will retrieve that length information again later,
-        // but for the moment, we are only interested in the "naked" data type name.
-        if (dataTypeName.matches(".+\\(.*\\).*")) {
-            dataTypeName = dataTypeName.replaceFirst("\\s*\\(.*\\)", "");
-        }
-
-        // Remove everything { after the first opening curly bracket
-        // e.g. int{autoIncrement:true}" -> "int"
-        if (dataTypeName.matches(".+\\{.*")) {
-            dataTypeName = dataTypeName.replaceFirst("\\s*\\{.*", "");
-        }
-
-        // If the remaining string ends with " identity", then remove the " identity" and remember than we want
-        // to set the autoIncrement property later.
-        boolean autoIncrement = false;
-        if (dataTypeName.toLowerCase(Locale.US).endsWith(" identity")) {
-            dataTypeName = dataTypeName.toLowerCase(Locale.US).replaceFirst(" identity$", "");
-            autoIncrement = true;
-        }
-
-        // unquote delimited identifiers
-        final String[][] quotePairs = new String[][] {
-            { "\"", "\"" }, // double quotes
-            { "[",  "]"  }, // square brackets (a la mssql)
-            { "`",  "`"  }, // backticks (a la mysql)
-            { "'",  "'"  }  // single quotes
-        };
-
-        for (String[] quotePair : quotePairs) {
-            String openQuote = quotePair[0];
-            String closeQuote = quotePair[1];
-            if (dataTypeName.startsWith(openQuote)) {
-                int indexOfCloseQuote = dataTypeName.indexOf(closeQuote, openQuote.length());
-                if ((indexOfCloseQuote != -1) && (dataTypeName.indexOf(closeQuote, indexOfCloseQuote + closeQuote
-                    .length()) == -1)) {
-                    dataTypeName = dataTypeName.substring(openQuote.length(), indexOfCloseQuote) +
-                            dataTypeName.substring(indexOfCloseQuote + closeQuote.length(), dataTypeName.length());
-                    break;
-                }
-            }
-        }
-
-        // record additional information that is still attached to the data type name
-        String additionalInfo = null;
-        if (dataTypeName.toLowerCase(Locale.US).startsWith("bit varying")
-            || dataTypeName.toLowerCase(Locale.US).startsWith("character varying")
-            || dataTypeName.toLowerCase(Locale.US).startsWith("long varchar")
-            || dataTypeName.toLowerCase(Locale.US).startsWith("long nvarchar")
-            || dataTypeName.toLowerCase(Locale.US).startsWith("long binary")
-            || dataTypeName.toLowerCase(Locale.US).startsWith("long varbinary")) {
-            // not going to do anything. Special case for postgres and asany,
-            // need to better support handling these types of differences
-        } else {
-            // Heuristic: from what we now have left of the data type name, everything after the first space
-            // is counted as additional information.
-            String[] splitTypeName = dataTypeName.trim().split("\\s+", 2);
-            dataTypeName = splitTypeName[0];
-            if (splitTypeName.length > 1) {
-                additionalInfo = splitTypeName[1];
+        ParsedDescription description = parsedDescriptions.get(dataTypeDefinition);
+        if (description == null) {
+            description = new ParsedDescription(dataTypeDefinition);
+            if (parsedDescriptions.size() >= MAX_PARSED_DESCRIPTIONS) {
+                parsedDescriptions.clear();
             }
+            parsedDescriptions.put(dataTypeDefinition, description);
         }
 
         // try to find matching classes for the data type name in our registry
-        Collection<Class<? extends LiquibaseDataType>> classes = registry.get(dataTypeName.toLowerCase(Locale.US));
+        List<Class<? extends LiquibaseDataType>> classes = registry.get(description.lookupName);
 
         LiquibaseDataType liquibaseDataType = null;
         if (classes == null) {
             // Map (date/time) INTERVAL types to the UnknownType
-            if (dataTypeName.toUpperCase(Locale.US).startsWith("INTERVAL")) {
+            if (description.interval) {
                 liquibaseDataType = new UnknownType(dataTypeDefinition);
             } else {
-                liquibaseDataType = new UnknownType(dataTypeName);
+                liquibaseDataType = new UnknownType(description.dataTypeName);
             }
         } else {
-            // Iterate through the list (which is already sorted by priority) until we find a class
+            // Go through the list (which is already sorted by priority) until we find a class
             // for this dataTypeName that supports the given database.
-            Iterator<Class<? extends LiquibaseDataType>> iterator = classes.iterator();
-            do {
-                try {
-                    liquibaseDataType = iterator.next().getConstructor().newInstance();
-                } catch (Exception e) {
-                    throw new UnexpectedLiquibaseException(e);
-                }
-            } while ((database != null) && !liquibaseDataType.supports(database) && iterator.hasNext());
-        }
-        //
-        // We can assert that liquibaseDataType will be non-null at this point
-        //
-        if ((database != null) && !liquibaseDataType.supports(database)) {
-            liquibaseDataType = new UnknownType(dataTypeName);
-        }
-        liquibaseDataType.setAdditionalInformation(additionalInfo);
-
-        // Does the type string have the form "some_data_type(additional,info,separated,by,commas)"?
-        // If so, process these as additional data type parameters.
-        if (dataTypeDefinition.matches(".+\\s*\\(.*\\).*")) {
-            // Cut out the part between the first ()
-            String paramStrings = dataTypeDefinition.replaceFirst(".*?\\(", "").replaceFirst("\\).*", "");
-            String[] params = paramStrings.split(",");
-
-            for (String param : params) {
-                param = StringUtil.trimToNull(param);
-                if (param != null) {
-                    if ((liquibaseDataType instanceof CharType) && !(database instanceof OracleDatabase)) {
-                        // TODO this might lead to wrong snapshot results in Oracle Database, because it assumes
-                        // NLS_LENGTH_SEMANTICS=BYTE. If NLS_LENGTH_SEMANTICS=CHAR, we need to trim " CHAR" instead.
-    
-                        // not sure what else supports it:
-                        param = param.replaceFirst(" BYTE", ""); //only use byte types on oracle,
-                        
-                    }
-                    liquibaseDataType.addParameter(param);
+            for (Class<? extends LiquibaseDataType> typeClass : classes) {
+                if ((database == null) || registeredTypes.get(typeClass).supports(database)) {
+                    liquibaseDataType = newInstance(typeClass);
+                    break;
                 }
             }
+            if (liquibaseDataType == null) {
+                liquibaseDataType = new UnknownType(description.dataTypeName);
+            }
         }
+        liquibaseDataType.setAdditionalInformation(description.additionalInformation);
 
-        // Did the original definition have embedded information in curly braces, e.g.
-        // "int{autoIncrement:true}"? If so, we will extract and process it now.
-        if (dataTypeDefinition.matches(".*\\{.*")) {
-            String paramStrings = dataTypeDefinition.replaceFirst(".*?\\{", "")
-                .replaceFirst("\\}.*", "");
-            String[] params = paramStrings.split(",");
-            for (String param : params) {
-                param = StringUtil.trimToNull(param);
-                if (param != null) {
-                    String[] paramAndValue = param.split(":", 2);
-                    if (paramAndValue.length < 2) {
-                        throw new UnexpectedLiquibaseException("Data type definition contains unparseable embedded information: `" + dataTypeDefinition + "`");
-                    }
-                    ObjectUtil.setProperty(liquibaseDataType, paramAndValue[0], paramAndValue[1]);
+        for (String param : description.parameters) {
+            if ((liquibaseDataType instanceof CharType) && !(database instanceof OracleDatabase)) {
+                // TODO this might lead to wrong snapshot results in Oracle Database, because it assumes
+                // NLS_LENGTH_SEMANTICS=BYTE. If NLS_LENGTH_SEMANTICS=CHAR, we need to trim " CHAR" instead.
+
+                // not sure what else supports it:
+                int byteIndex = param.indexOf(" BYTE"); //only use byte types on oracle,
+                if (byteIndex != -1) {
+                    param = param.substring(0, byteIndex) + param.substring(byteIndex + " BYTE".length());
                 }
             }
+            liquibaseDataType.addParameter(param);
+        }
+
+        for (String[] paramAndValue : description.embeddedInformation) {
+            ObjectUtil.setProperty(liquibaseDataType, paramAndValue[0], paramAndValue[1]);
         }
 
-        if (autoIncrement && (liquibaseDataType instanceof IntType)) {
+        if (description.autoIncrement && (liquibaseDataType instanceof IntType)) {
             ((IntType) liquibaseDataType).setAutoIncrement(true);
         }
-        if (autoIncrement && (liquibaseDataType instanceof BigIntType)) {
+        if (description.autoIncrement && (liquibaseDataType instanceof BigIntType)) {
             ((BigIntType) liquibaseDataType).setAutoIncrement(true);
         }
 
@@ -265,6 +189,194 @@ public class DataTypeFactory {
 
     }
 
+    private LiquibaseDataType newInstance(Class<? extends LiquibaseDataType> typeClass) {
+        try {
+            return constructors.computeIfAbsent(typeClass, key -> {
+                try {
+                    return key.getConstructor();
+                } catch (NoSuchMethodException e) {
+                    throw new UnexpectedLiquibaseException(e);
+                }
+            }).newInstance();
+        } catch (UnexpectedLiquibaseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new UnexpectedLiquibaseException(e);
+        }
+    }
+
+    /**
+     * Returns true if the string contains no line terminator, which the "." of a regular expression does not match.
+     */
+    private static boolean isSingleLine(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if ((c == '\n') || (c == '\r') || (c == '\u0085') || (c == '\u2028') || (c == '\u2029')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true for the characters matched by "\\s" in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return (c == ' ') || (c == '\t') || (c == '\n') || (c == '\u000B') || (c == '\f') || (c == '\r');
+    }
+
+    /**
+     * Returns true if the string has the given opening character after its first character, and the closing character
+     * after that.
+     */
+    private static boolean hasEnclosed(String string, char open, char close) {
+        int openIndex = string.indexOf(open, 1);
+        return (openIndex != -1) && (string.lastIndexOf(close) > openIndex);
+    }
+
+    /**
+     * Returns the index of the first of the whitespace characters right before the given index.
+     */
+    private static int skipWhitespaceBefore(String string, int index) {
+        while ((index > 0) && isWhitespace(string.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * The parts of a data type definition which do not depend on the database, parsed once per definition.
+     */
+    private static final class ParsedDescription {
+
+        private final String dataTypeName;
+        private final String lookupName;
+        private final boolean interval;
+        private final String additionalInformation;
+        private final boolean autoIncrement;
+        private final List<String> parameters = new ArrayList<>();
+        private final List<String[]> embeddedInformation = new ArrayList<>();
+
+        private ParsedDescription(String dataTypeDefinition) {
+            boolean singleLine = isSingleLine(dataTypeDefinition);
+            String dataTypeName = dataTypeDefinition;
+
+            // Remove the first occurrence of (anything within parentheses). This will remove the size information from
+            // most data types, e.g. VARCHAR2(255 CHAR) -> VARCHAR2. We will retrieve that length information again later,
+            // but for the moment, we are only interested in the "naked" data type name.
+            if (singleLine && hasEnclosed(dataTypeName, '(', ')')) {
+                dataTypeName = dataTypeName.substring(0, skipWhitespaceBefore(dataTypeName, dataTypeName.indexOf('(')))
+                        + dataTypeName.substring(dataTypeName.lastIndexOf(')') + 1);
+            }
+
+            // Remove everything { after the first opening curly bracket
+            // e.g. int{autoIncrement:true}" -> "int"
+            if (singleLine && (dataTypeName.indexOf('{', 1) != -1)) {
+                dataTypeName = dataTypeName.substring(0, skipWhitespaceBefore(dataTypeName, dataTypeName.indexOf('{')));
+            }
+
+            // If the remaining string ends with " identity", then remove the " identity" and remember than we want
+            // to set the autoIncrement property later.
+            String lowerCaseName = dataTypeName.toLowerCase(Locale.US);
+            if (lowerCaseName.endsWith(" identity")) {
+                dataTypeName = lowerCaseName.substring(0, lowerCaseName.length() - " identity".length());
+                autoIncrement = true;
+            } else {
+                autoIncrement = false;
+            }
+
+            // unquote delimited identifiers
+            final String[][] quotePairs = new String[][] {
+                { "\"", "\"" }, // double quotes
+                { "[",  "]"  }, // square brackets (a la mssql)
+                { "`",  "`"  }, // backticks (a la mysql)
+                { "'",  "'"  }  // single quotes
+            };
+
+            for (String[] quotePair : quotePairs) {
+                String openQuote = quotePair[0];
+                String closeQuote = quotePair[1];
+                if (dataTypeName.startsWith(openQuote)) {
+                    int indexOfCloseQuote = dataTypeName.indexOf(closeQuote, openQuote.length());
+                    if ((indexOfCloseQuote != -1) && (dataTypeName.indexOf(closeQuote, indexOfCloseQuote + closeQuote
+                        .length()) == -1)) {
+                        dataTypeName = dataTypeName.substring(openQuote.length(), indexOfCloseQuote) +
+                                dataTypeName.substring(indexOfCloseQuote + closeQuote.length());
+                        break;
+                    }
+                }
+            }
+
+            // record additional information that is still attached to the data type name
+            String additionalInformation = null;
+            lowerCaseName = dataTypeName.toLowerCase(Locale.US);
+            if (lowerCaseName.startsWith("bit varying")
+                || lowerCaseName.startsWith("character varying")
+                || lowerCaseName.startsWith("long varchar")
+                || lowerCaseName.startsWith("long nvarchar")
+                || lowerCaseName.startsWith("long binary")
+                || lowerCaseName.startsWith("long varbinary")) {
+                // not going to do anything. Special case for postgres and asany,
+                // need to better support handling these types of differences
+            } else {
+                // Heuristic: from what we now have left of the data type name, everything after the first space
+                // is counted as additional information.
+                dataTypeName = dataTypeName.trim();
+                int nameEnd = 0;
+                while ((nameEnd < dataTypeName.length()) && !isWhitespace(dataTypeName.charAt(nameEnd))) {
+                    nameEnd++;
+                }
+                if (nameEnd < dataTypeName.length()) {
+                    int additionalInformationStart = nameEnd;
+                    while (isWhitespace(dataTypeName.charAt(additionalInformationStart))) {
+                        additionalInformationStart++;
+                    }
+                    additionalInformation = dataTypeName.substring(additionalInformationStart);
+                    dataTypeName = dataTypeName.substring(0, nameEnd);
+                }
+            }
+            this.dataTypeName = dataTypeName;
+            this.lookupName = dataTypeName.toLowerCase(Locale.US);
+            this.interval = dataTypeName.toUpperCase(Locale.US).startsWith("INTERVAL");
+            this.additionalInformation = additionalInformation;
+
+            // Does the type string have the form "some_data_type(additional,info,separated,by,commas)"?
+            // If so, process these as additional data type parameters.
+            if (singleLine && hasEnclosed(dataTypeDefinition, '(', ')')) {
+                // Cut out the part between the first ()
+                int paramsStart = dataTypeDefinition.indexOf('(') + 1;
+                String paramStrings = dataTypeDefinition.substring(paramsStart, dataTypeDefinition.indexOf(')', paramsStart));
+                for (String param : paramStrings.split(",")) {
+                    param = StringUtil.trimToNull(param);
+                    if (param != null) {
+                        parameters.add(param);
+                    }
+                }
+            }
+
+            // Did the original definition have embedded information in curly braces, e.g.
+            // "int{autoIncrement:true}"? If so, we will extract and process it now.
+            int embeddedStart = singleLine ? dataTypeDefinition.indexOf('{') : -1;
+            if (embeddedStart != -1) {
+                String paramStrings = dataTypeDefinition.substring(embeddedStart + 1);
+                int embeddedEnd = paramStrings.indexOf('}');
+                if (embeddedEnd != -1) {
+                    paramStrings = paramStrings.substring(0, embeddedEnd);
+                }
+                for (String param : paramStrings.split(",")) {
+                    param = StringUtil.trimToNull(param);
+                    if (param != null) {
+                        String[] paramAndValue = param.split(":", 2);
+                        if (paramAndValue.length < 2) {
+                            throw new UnexpectedLiquibaseException("Data type definition contains unparseable embedded information: `" + dataTypeDefinition + "`");
+                        }
+                        embeddedInformation.add(paramAndValue);
+                    }
+                }
+            }
+        }
+    }
+
 
     public LiquibaseDataType fromObject(Object object, Database database) {
         if (object instanceof ColumnConfig.ValueNumeric) {
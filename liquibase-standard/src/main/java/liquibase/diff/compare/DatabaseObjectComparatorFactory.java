@@ -10,6 +10,7 @@ import liquibase.structure.core.Schema;
 import liquibase.util.StringUtil;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DatabaseObjectComparatorFactory {
 
@@ -17,8 +18,8 @@ public class DatabaseObjectComparatorFactory {
 
     private final List<DatabaseObjectComparator> comparators = new ArrayList<>();
 
-    private final Map<String, List<DatabaseObjectComparator>> validComparatorsByClassAndDatabase = new HashMap<>();
-    private final Map<String, DatabaseObjectComparatorChain> comparatorChainsByClassAndDatabase = new HashMap<>();
+    private final Map<String, List<DatabaseObjectComparator>> validComparatorsByClassAndDatabase = new ConcurrentHashMap<>();
+    private final Map<String, DatabaseObjectComparatorChain> comparatorChainsByClassAndDatabase = new ConcurrentHashMap<>();
 
     private DatabaseObjectComparatorFactory() {
         try {
@@ -132,12 +133,14 @@ public class DatabaseObjectComparatorFactory {
 
         boolean aHashMatches = false;
 
-        List<String> hash1 = Arrays.asList(hash(object1, schemaComparisons, accordingTo));
-        List<String> hash2 = Arrays.asList(hash(object2, schemaComparisons, accordingTo));
-        for (String hash : hash1) {
-            if (hash2.contains(hash)) {
-                aHashMatches = true;
-                break;
+        String[] hash1 = hash(object1, schemaComparisons, accordingTo);
+        String[] hash2 = hash(object2, schemaComparisons, accordingTo);
+        for (int i = 0; (i < hash1.length) && !aHashMatches; i++) {
+            for (String hash : hash2) {
+                if (hash1[i].equals(hash)) {
+                    aHashMatches = true;
+                    break;
+                }
             }
         }
 
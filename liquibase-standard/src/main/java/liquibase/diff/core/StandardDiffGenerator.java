@@ -1,5 +1,6 @@
 package liquibase.diff.core;
 
+import liquibase.GlobalConfiguration;
 import liquibase.database.Database;
 import liquibase.diff.DiffGenerator;
 import liquibase.diff.DiffResult;
@@ -16,7 +17,11 @@ import liquibase.structure.DatabaseObject;
 import liquibase.structure.core.Schema;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class StandardDiffGenerator implements DiffGenerator {
 
@@ -48,13 +53,74 @@ public class StandardDiffGenerator implements DiffGenerator {
         typesToCompare.retainAll(referenceSnapshot.getSnapshotControl().getTypesToInclude());
         typesToCompare.retainAll(comparisonSnapshot.getSnapshotControl().getTypesToInclude());
 
-        for (Class<? extends DatabaseObject> typeToCompare : typesToCompare) {
-            compareObjectType(typeToCompare, referenceSnapshot, comparisonSnapshot, diffResult);
+        Integer threads = GlobalConfiguration.DIFF_THREADS.getCurrentValue();
+        if ((threads != null) && (threads > 1) && (typesToCompare.size() > 1)) {
+            compareObjectTypesConcurrently(typesToCompare, referenceSnapshot, comparisonSnapshot, diffResult, threads);
+        } else {
+            for (Class<? extends DatabaseObject> typeToCompare : typesToCompare) {
+                compareObjectType(typeToCompare, referenceSnapshot, comparisonSnapshot, diffResult);
+            }
         }
 
         return diffResult;
     }
 
+    /**
+     * Runs {@link #compareObjectType(Class, DatabaseSnapshot, DatabaseSnapshot, DiffResult)} for each type on up to the
+     * given number of threads. Each type is compared into its own {@link DiffResult}, which are then added to the given
+     * one in the order of the types, so the result is the same as when comparing the types one after the other.
+     */
+    protected void compareObjectTypesConcurrently(Set<Class<? extends DatabaseObject>> typesToCompare, DatabaseSnapshot referenceSnapshot, DatabaseSnapshot comparisonSnapshot, DiffResult diffResult, int threads) {
+        //the comparators use values of the databases which are read from the shared connection the first time they are
+        //needed, so they are read here on the calling thread rather than concurrently from the comparing threads
+        for (Database database : Arrays.asList(referenceSnapshot.getDatabase(), comparisonSnapshot.getDatabase())) {
+            if (database != null) {
+                database.isCaseSensitive();
+                database.getDefaultCatalogName();
+                database.getDefaultSchemaName();
+            }
+        }
+
+        ExecutorService threadPool = Executors.newFixedThreadPool(Math.min(threads, typesToCompare.size()));
+        try {
+            List<Future<DiffResult>> typeDiffResults = new ArrayList<>();
+            for (Class<? extends DatabaseObject> typeToCompare : typesToCompare) {
+                typeDiffResults.add(threadPool.submit(() -> {
+                    DiffResult typeDiffResult = new DiffResult(referenceSnapshot, comparisonSnapshot, diffResult.getCompareControl());
+                    compareObjectType(typeToCompare, referenceSnapshot, comparisonSnapshot, typeDiffResult);
+                    return typeDiffResult;
+                }));
+            }
+
+            for (Future<DiffResult> future : typeDiffResults) {
+                DiffResult typeDiffResult;
+                try {
+                    typeDiffResult = future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UnexpectedLiquibaseException(e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new UnexpectedLiquibaseException(e.getCause());
+                }
+
+                for (DatabaseObject missingObject : typeDiffResult.getMissingObjects()) {
+                    diffResult.addMissingObject(missingObject);
+                }
+                for (Map.Entry<DatabaseObject, ObjectDifferences> changedObject : typeDiffResult.getChangedObjects().entrySet()) {
+                    diffResult.addChangedObject(changedObject.getKey(), changedObject.getValue());
+                }
+                for (DatabaseObject unexpectedObject : typeDiffResult.getUnexpectedObjects()) {
+                    diffResult.addUnexpectedObject(unexpectedObject);
+                }
+            }
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
+
     protected void checkVersionInfo(DatabaseSnapshot referenceSnapshot, DatabaseSnapshot comparisonSnapshot, DiffResult diffResult) throws DatabaseException {
 
         if ((comparisonSnapshot != null) && (comparisonSnapshot.getDatabase() != null)) {
@@ -71,15 +137,22 @@ public class StandardDiffGenerator implements DiffGenerator {
 
         CompareControl.SchemaComparison[] schemaComparisons = diffResult.getCompareControl().getSchemaComparisons();
         if (schemaComparisons != null) {
+            Set<T> referenceObjects = referenceSnapshot.get(type);
+            Set<T> comparisonObjects = comparisonSnapshot.get(type);
+
+            //the objects of a snapshot share their schema objects, so each schema name is only standardized once
+            Map<Schema, String> referenceSchemaNames = new IdentityHashMap<>();
+            Map<Schema, String> comparisonSchemaNames = new IdentityHashMap<>();
+
             for (CompareControl.SchemaComparison schemaComparison : schemaComparisons) {
-                for (T referenceObject : referenceSnapshot.get(type)) {
+                String referenceSchemaName = null;
+                for (T referenceObject : referenceObjects) {
                     Schema referenceObjectSchema = referenceObject.getSchema();
                     if ((referenceObjectSchema != null) && (referenceObjectSchema.getName() != null)) { //don't filter out null-named schemas. May actually be catalog-level objects that should be included
-                        if (!StringUtils.trimToEmpty(
-                            referenceObjectSchema.toCatalogAndSchema().standardize(referenceDatabase).getSchemaName())
-                            .equalsIgnoreCase(
-                                StringUtils.trimToEmpty(schemaComparison.getReferenceSchema()
-                                .standardize(referenceDatabase).getSchemaName()))) {
+                        if (referenceSchemaName == null) {
+                            referenceSchemaName = StringUtils.trimToEmpty(schemaComparison.getReferenceSchema().standardize(referenceDatabase).getSchemaName());
+                        }
+                        if (!getStandardizedSchemaName(referenceObjectSchema, referenceDatabase, referenceSchemaNames).equalsIgnoreCase(referenceSchemaName)) {
                             continue;
                         }
                     }
@@ -94,12 +167,16 @@ public class StandardDiffGenerator implements DiffGenerator {
                     }
                 }
                 //
-                for (T comparisonObject : comparisonSnapshot.get(type)) {
+                String schemaComparisonName1 = null;
+                String schemaComparisonName2 = null;
+                for (T comparisonObject : comparisonObjects) {
                     Schema comparisonObjectSchema = comparisonObject.getSchema();
                     if (comparisonObjectSchema != null) {
-                        String comparisonObjectSchemaName = StringUtils.trimToEmpty(comparisonObjectSchema.toCatalogAndSchema().standardize(comparisonDatabase).getSchemaName());
-                        String schemaComparisonName1 = StringUtils.trimToEmpty(schemaComparison.getComparisonSchema().standardize(comparisonDatabase).getSchemaName());
-                        String schemaComparisonName2 = StringUtils.trimToEmpty(schemaComparison.getReferenceSchema().standardize(comparisonDatabase).getSchemaName());
+                        if (schemaComparisonName1 == null) {
+                            schemaComparisonName1 = StringUtils.trimToEmpty(schemaComparison.getComparisonSchema().standardize(comparisonDatabase).getSchemaName());
+                            schemaComparisonName2 = StringUtils.trimToEmpty(schemaComparison.getReferenceSchema().standardize(comparisonDatabase).getSchemaName());
+                        }
+                        String comparisonObjectSchemaName = getStandardizedSchemaName(comparisonObjectSchema, comparisonDatabase, comparisonSchemaNames);
 
                         if (comparisonObjectSchemaName.isEmpty() && !schemaComparisonName1.isEmpty() && !schemaComparisonName2.isEmpty()) {
                             comparisonObjectSchemaName = StringUtils.trimToEmpty(comparisonObjectSchema.getName());
@@ -119,4 +196,8 @@ public class StandardDiffGenerator implements DiffGenerator {
         }
 
     }
+
+    private static String getStandardizedSchemaName(Schema schema, Database database, Map<Schema, String> standardizedSchemaNames) {
+        return standardizedSchemaNames.computeIfAbsent(schema, key -> StringUtils.trimToEmpty(key.toCatalogAndSchema().standardize(database).getSchemaName()));
+    }
 }
@@ -6,6 +6,7 @@ package liquibase.integration.spring;
 import liquibase.Scope;
 import liquibase.exception.LiquibaseException;
 import liquibase.logging.Logger;
+import liquibase.parser.PreParsedChangeLogCache;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.beans.factory.InitializingBean;
@@ -18,6 +19,10 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * A wrapper of Liquibase suitable in multi-tenant environments where multiple
@@ -37,6 +42,9 @@ import java.util.Map;
  * 	&lt;property name="changeLog" value="classpath:db/migration/db-changelog.xml" /&gt;
  * &lt;/bean&gt;
  * </pre>
+ * <br/>
+ * The tenants are migrated one after the other, unless {@link #parallelism} is set to migrate several of them at the
+ * same time. The changelog files are parsed once for all the tenants.
  *
  * @author ladislav.gazo
  * @see SpringLiquibase
@@ -124,6 +132,13 @@ public class MultiTenantSpringLiquibase implements InitializingBean, ResourceLoa
     @Setter
     private File rollbackFile;
 
+    /**
+     * Number of tenants migrated at the same time. With 1, the tenants are migrated one after the other and the first
+     * failure stops the migration. With more, every tenant is migrated and the failures are reported together at the end.
+     */
+    @Getter
+    @Setter
+    private int parallelism = 1;
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -178,28 +193,90 @@ public class MultiTenantSpringLiquibase implements InitializingBean, ResourceLoa
     }
 
     private void runOnAllDataSources() throws LiquibaseException {
-        Logger log = Scope.getCurrentScope().getLog(getClass());
-
+        List<Tenant> tenants = new ArrayList<>();
         for (DataSource aDataSource : dataSources) {
-            log.info("Initializing Liquibase for data source " + aDataSource);
-            SpringLiquibase liquibase = getSpringLiquibase(aDataSource);
-            liquibase.afterPropertiesSet();
-            log.info("Liquibase ran for data source " + aDataSource);
+            tenants.add(new Tenant("data source " + aDataSource, getSpringLiquibase(aDataSource)));
         }
+        runOnAllTenants(tenants);
     }
 
     private void runOnAllSchemas() throws LiquibaseException {
-        Logger log = Scope.getCurrentScope().getLog(getClass());
-
+        List<Tenant> tenants = new ArrayList<>();
         for (String schema : schemas) {
             if ("default".equals(schema)) {
                 schema = null;
             }
-            log.info("Initializing Liquibase for schema " + schema);
             SpringLiquibase liquibase = getSpringLiquibase(dataSource);
             liquibase.setDefaultSchema(schema);
-            liquibase.afterPropertiesSet();
-            log.info("Liquibase ran for schema " + schema);
+            tenants.add(new Tenant("schema " + schema, liquibase));
+        }
+        runOnAllTenants(tenants);
+    }
+
+    /**
+     * Migrates the given tenants with a {@link PreParsedChangeLogCache}, so the changelog files are read and parsed once
+     * and each tenant loads its changelog from a copy of the parsed files.
+     */
+    private void runOnAllTenants(List<Tenant> tenants) throws LiquibaseException {
+        try {
+            Scope.child(PreParsedChangeLogCache.SCOPE_KEY, new PreParsedChangeLogCache(), () -> migrateTenants(tenants));
+        } catch (LiquibaseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new LiquibaseException(e);
+        }
+    }
+
+    /**
+     * Migrates the given tenants on up to {@link #parallelism} threads. The threads are created by the calling thread,
+     * so they inherit its {@link Scope}.
+     */
+    private void migrateTenants(List<Tenant> tenants) throws LiquibaseException {
+        if ((parallelism <= 1) || (tenants.size() < 2)) {
+            for (Tenant tenant : tenants) {
+                tenant.run();
+            }
+            return;
+        }
+
+        Logger log = Scope.getCurrentScope().getLog(getClass());
+        ExecutorService threadPool = Executors.newFixedThreadPool(Math.min(parallelism, tenants.size()));
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (Tenant tenant : tenants) {
+                results.add(threadPool.submit(() -> {
+                    tenant.run();
+                    return null;
+                }));
+            }
+
+            List<String> failedTenants = new ArrayList<>();
+            List<Throwable> failures = new ArrayList<>();
+            for (int i = 0; i < tenants.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new LiquibaseException(e);
+                } catch (ExecutionException e) {
+                    String name = tenants.get(i).name;
+                    log.severe("Liquibase failed for " + name + ": " + e.getCause().getMessage(), e.getCause());
+                    failedTenants.add(name);
+                    failures.add(e.getCause());
+                }
+            }
+
+            log.info("Liquibase ran for " + (tenants.size() - failedTenants.size()) + " of " + tenants.size() + " tenants");
+            if (!failedTenants.isEmpty()) {
+                LiquibaseException exception = new LiquibaseException("Liquibase failed for " + failedTenants.size() + " of "
+                        + tenants.size() + " tenants: " + String.join(", ", failedTenants), failures.get(0));
+                for (Throwable failure : failures.subList(1, failures.size())) {
+                    exception.addSuppressed(failure);
+                }
+                throw exception;
+            }
+        } finally {
+            threadPool.shutdownNow();
         }
     }
 
@@ -246,4 +323,22 @@ public class MultiTenantSpringLiquibase implements InitializingBean, ResourceLoa
         this.resourceLoader = resourceLoader;
     }
 
+    private static class Tenant {
+
+        private final String name;
+        private final SpringLiquibase liquibase;
+
+        private Tenant(String name, SpringLiquibase liquibase) {
+            this.name = name;
+            this.liquibase = liquibase;
+        }
+
+        private void run() throws LiquibaseException {
+            Logger log = Scope.getCurrentScope().getLog(MultiTenantSpringLiquibase.class);
+            log.info("Initializing Liquibase for " + name);
+            liquibase.afterPropertiesSet();
+            log.info("Liquibase ran for " + name);
+        }
+    }
+
 }
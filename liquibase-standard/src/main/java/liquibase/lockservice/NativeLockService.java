@@ -0,0 +1,213 @@
+package liquibase.lockservice;
+
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.database.core.CockroachDatabase;
+import liquibase.database.core.MSSQLDatabase;
+import liquibase.database.core.MySQLDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.LockException;
+import liquibase.executor.Executor;
+import liquibase.executor.ExecutorService;
+import liquibase.executor.jvm.JdbcExecutor;
+import liquibase.statement.core.RawParameterizedSqlStatement;
+import liquibase.util.MD5Util;
+
+import java.sql.SQLException;
+
+/**
+ * {@link LockService} used when {@link GlobalConfiguration#CHANGELOGLOCK_WAIT_STRATEGY} is
+ * {@link GlobalConfiguration.ChangelogLockWaitStrategy#NATIVE NATIVE} on databases with a session-level lock that
+ * clients can block on: PostgreSQL advisory locks, MySQL and MariaDB GET_LOCK and SQL Server sp_getapplock.
+ * <p>
+ * Waiting clients block on that lock in the database and are granted it as soon as the holder releases it, instead of
+ * polling the lock table. The lock table is still locked as by {@link StandardLockService} once the native lock is
+ * held, so clients using either lock service exclude each other and the table keeps showing who holds the lock.
+ * The native lock is released with the lock table, or by the database when the connection is closed.
+ */
+public class NativeLockService extends StandardLockService {
+
+    /**
+     * SQL state PostgreSQL reports when lock_timeout is reached.
+     */
+    private static final String POSTGRES_LOCK_NOT_AVAILABLE = "55P03";
+
+    protected boolean hasNativeLock;
+
+    @Override
+    public int getPriority() {
+        return PRIORITY_DATABASE;
+    }
+
+    @Override
+    public boolean supports(Database database) {
+        if (GlobalConfiguration.CHANGELOGLOCK_WAIT_STRATEGY.getCurrentValue() != GlobalConfiguration.ChangelogLockWaitStrategy.NATIVE) {
+            return false;
+        }
+        return ((database instanceof PostgresDatabase) && !(database instanceof CockroachDatabase))
+                || (database instanceof MySQLDatabase)
+                || (database instanceof MSSQLDatabase);
+    }
+
+    @Override
+    public void waitForLock() throws LockException {
+        if (!hasNativeLock && canUseNativeLock()) {
+            Scope.getCurrentScope().getLog(getClass()).fine("Waiting for native changelog lock " + getNativeLockName());
+            hasNativeLock = acquireNativeLock(getChangeLogLockWaitTime() * 60 * 1000);
+            if (!hasNativeLock) {
+                throw createLockWaitException();
+            }
+        }
+        try {
+            super.waitForLock();
+        } catch (LockException e) {
+            releaseNativeLock();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean acquireLock() throws LockException {
+        if (hasChangeLogLock) {
+            return true;
+        }
+        if (!hasNativeLock && canUseNativeLock()) {
+            hasNativeLock = acquireNativeLock(0);
+            if (!hasNativeLock) {
+                return false;
+            }
+        }
+        boolean locked = false;
+        try {
+            locked = super.acquireLock();
+        } finally {
+            if (!locked && !hasChangeLogLock) {
+                // the lock table is held by a client not using the native lock, so do not block clients waiting on the native lock meanwhile
+                releaseNativeLock();
+            }
+        }
+        return locked;
+    }
+
+    @Override
+    public void releaseLock() throws LockException {
+        try {
+            super.releaseLock();
+        } finally {
+            releaseNativeLock();
+        }
+    }
+
+    /**
+     * Returns the name of the native lock, derived from the lock table so that changelogs tracked in different
+     * schemas do not wait for each other.
+     */
+    protected String getNativeLockName() {
+        return "liquibase_" + MD5Util.computeMD5(database.getLiquibaseCatalogName() + "." + database.getLiquibaseSchemaName()
+                + "." + database.getDatabaseChangeLogLockTableName());
+    }
+
+    /**
+     * Returns true if the native lock can be used, which is not the case when SQL is only written out.
+     */
+    protected boolean canUseNativeLock() {
+        return Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", database) instanceof JdbcExecutor;
+    }
+
+    /**
+     * Acquires the native lock, waiting up to the given number of milliseconds for it.
+     *
+     * @return true if the lock was acquired, false if it was still held by another session after the timeout
+     */
+    protected boolean acquireNativeLock(long timeoutMillis) throws LockException {
+        Executor executor = Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", database);
+        String lockName = getNativeLockName();
+        try {
+            if (database instanceof PostgresDatabase) {
+                return acquirePostgresLock(executor, lockName, timeoutMillis);
+            } else if (database instanceof MySQLDatabase) {
+                long timeoutSeconds = (timeoutMillis + 999) / 1000;
+                Integer result = executor.queryForObject(new RawParameterizedSqlStatement("SELECT GET_LOCK(?, ?)",
+                        lockName, (int) Math.min(timeoutSeconds, Integer.MAX_VALUE)), Integer.class);
+                return (result != null) && (result == 1);
+            } else {
+                Integer result = executor.queryForObject(new RawParameterizedSqlStatement("SET NOCOUNT ON; DECLARE @result int; " +
+                        "EXEC @result = sp_getapplock @Resource = ?, @LockMode = 'Exclusive', @LockOwner = 'Session', @LockTimeout = ?; " +
+                        "SELECT @result", lockName, (int) Math.min(timeoutMillis, Integer.MAX_VALUE)), Integer.class);
+                return (result != null) && (result >= 0);
+            }
+        } catch (DatabaseException e) {
+            throw new LockException(e);
+        }
+    }
+
+    private boolean acquirePostgresLock(Executor executor, String lockName, long timeoutMillis) throws DatabaseException {
+        if (timeoutMillis <= 0) {
+            return Boolean.TRUE.equals(executor.queryForObject(new RawParameterizedSqlStatement("SELECT pg_try_advisory_lock(?)",
+                    getPostgresLockKey(lockName)), Boolean.class));
+        }
+
+        // pg_advisory_lock waits until lock_timeout, so set it for this call only
+        String previousTimeout = executor.queryForObject(new RawParameterizedSqlStatement("SELECT current_setting('lock_timeout')"), String.class);
+        try {
+            executor.queryForObject(new RawParameterizedSqlStatement("SELECT set_config('lock_timeout', ?, false)", timeoutMillis + "ms"), String.class);
+            executor.execute(new RawParameterizedSqlStatement("SELECT pg_advisory_lock(?)", getPostgresLockKey(lockName)));
+            return true;
+        } catch (DatabaseException e) {
+            // the failed statement aborts an open transaction, which has to be rolled back before lock_timeout can be reset
+            database.rollback();
+            if (!isPostgresLockTimeout(e)) {
+                throw e;
+            }
+            return false;
+        } finally {
+            executor.queryForObject(new RawParameterizedSqlStatement("SELECT set_config('lock_timeout', ?, false)", previousTimeout), String.class);
+        }
+    }
+
+    private static long getPostgresLockKey(String lockName) {
+        return Long.parseLong(MD5Util.computeMD5(lockName).substring(0, 15), 16);
+    }
+
+    private static boolean isPostgresLockTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if ((cause instanceof SQLException) && POSTGRES_LOCK_NOT_AVAILABLE.equals(((SQLException) cause).getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Releases the native lock if this service holds it. Failures are logged, since the database releases the lock
+     * when the connection is closed anyway.
+     */
+    protected void releaseNativeLock() {
+        if (!hasNativeLock) {
+            return;
+        }
+        hasNativeLock = false;
+
+        Executor executor = Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", database);
+        String lockName = getNativeLockName();
+        try {
+            if (database instanceof PostgresDatabase) {
+                executor.queryForObject(new RawParameterizedSqlStatement("SELECT pg_advisory_unlock(?)", getPostgresLockKey(lockName)), Boolean.class);
+            } else if (database instanceof MySQLDatabase) {
+                executor.queryForObject(new RawParameterizedSqlStatement("SELECT RELEASE_LOCK(?)", lockName), Integer.class);
+            } else {
+                executor.execute(new RawParameterizedSqlStatement("EXEC sp_releaseapplock @Resource = ?, @LockOwner = 'Session'", lockName));
+            }
+        } catch (DatabaseException e) {
+            Scope.getCurrentScope().getLog(getClass()).warning("Failed to release native changelog lock " + lockName + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() throws DatabaseException {
+        releaseNativeLock();
+        super.destroy();
+    }
+}
@@ -45,6 +45,7 @@ import static java.util.ResourceBundle.getBundle;
 
 public class StandardLockService implements LockService {
     protected static final ResourceBundle coreBundle = getBundle("liquibase/i18n/liquibase-core");
+    private static final long MIN_RECHECK_DELAY = 100;
 
     protected Database database;
     protected boolean hasChangeLogLock;
@@ -258,23 +259,29 @@ public class StandardLockService implements LockService {
 
         boolean locked = false;
         long timeToGiveUp = new Date().getTime() + (getChangeLogLockWaitTime() * 1000 * 60);
+        long lastWaitMessage = 0;
+        int attempt = 0;
 
         locked = acquireLock();
         do {
             if (!locked) {
-                try {
-                    //
-                    // Use the ConsoleUIService to prevent mirroring of this message to log
-                    //
-                    Scope.child(Scope.Attr.ui.name(), new ConsoleUIService(),  () -> {
-                        Scope.getCurrentScope().getUI().sendMessage("Waiting for changelog lock....");
-                    });
-                } catch (Exception ignore) {
-                    // continue on
+                long now = new Date().getTime();
+                if ((now - lastWaitMessage) >= (getChangeLogLockRecheckTime() * 1000)) {
+                    lastWaitMessage = now;
+                    try {
+                        //
+                        // Use the ConsoleUIService to prevent mirroring of this message to log
+                        //
+                        Scope.child(Scope.Attr.ui.name(), new ConsoleUIService(),  () -> {
+                            Scope.getCurrentScope().getUI().sendMessage("Waiting for changelog lock....");
+                        });
+                    } catch (Exception ignore) {
+                        // continue on
+                    }
+                    Scope.getCurrentScope().getLog(getClass()).info("Waiting for changelog lock....");
                 }
-                Scope.getCurrentScope().getLog(getClass()).info("Waiting for changelog lock....");
                 try {
-                    Thread.sleep(getChangeLogLockRecheckTime() * 1000);
+                    Thread.sleep(getLockRecheckDelay(attempt++));
                 } catch (InterruptedException e) {
                     // Restore thread interrupt status
                     Thread.currentThread().interrupt();
@@ -284,18 +291,41 @@ public class StandardLockService implements LockService {
         } while (!locked && (new Date().getTime() < timeToGiveUp));
 
         if (!locked) {
-            DatabaseChangeLogLock[] locks = listLocks();
-            String lockedBy;
-            if (locks.length > 0) {
-                DatabaseChangeLogLock lock = locks[0];
-                lockedBy = lock.getLockedBy() + " since " +
-                        DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT)
-                                .format(lock.getLockGranted());
-            } else {
-                lockedBy = "UNKNOWN";
-            }
-            throw new LockException("Could not acquire change log lock.  Currently locked by " + lockedBy);
+            throw createLockWaitException();
+        }
+    }
+
+    /**
+     * Returns the number of milliseconds to wait before the given zero-based retry of {@link #acquireLock()} in
+     * {@link #waitForLock()}. With {@link GlobalConfiguration.ChangelogLockWaitStrategy#FIXED} this is always the
+     * recheck time. Otherwise it starts at 100 milliseconds and doubles on every retry up to
+     * the recheck time, and a random part of up to half of it is subtracted so that waiting clients do not all
+     * check again at the same moment.
+     */
+    protected long getLockRecheckDelay(int attempt) {
+        long maxDelay = getChangeLogLockRecheckTime() * 1000;
+        if (GlobalConfiguration.CHANGELOGLOCK_WAIT_STRATEGY.getCurrentValue() == GlobalConfiguration.ChangelogLockWaitStrategy.FIXED) {
+            return maxDelay;
+        }
+        long delay = Math.min(maxDelay, MIN_RECHECK_DELAY << Math.min(attempt, 20));
+        return delay - (long) (random.nextDouble() * (delay / 2));
+    }
+
+    /**
+     * Returns the exception thrown when the lock could not be acquired in the wait time, naming who holds it.
+     */
+    protected LockException createLockWaitException() throws LockException {
+        DatabaseChangeLogLock[] locks = listLocks();
+        String lockedBy;
+        if (locks.length > 0) {
+            DatabaseChangeLogLock lock = locks[0];
+            lockedBy = lock.getLockedBy() + " since " +
+                    DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT)
+                            .format(lock.getLockGranted());
+        } else {
+            lockedBy = "UNKNOWN";
         }
+        return new LockException("Could not acquire change log lock.  Currently locked by " + lockedBy);
     }
 
     @Override
@@ -21,9 +21,12 @@ import org.apache.commons.lang3.NotImplementedException;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -31,7 +34,7 @@ import java.util.regex.Pattern;
 import static java.util.ResourceBundle.getBundle;
 
 @SuppressWarnings("java:S2583")
-public abstract class AbstractFormattedChangeLogParser implements ChangeLogParser {
+public abstract class AbstractFormattedChangeLogParser implements PreParsingChangeLogParser<byte[]> {
 
     private static final ResourceBundle coreBundle = getBundle("liquibase/i18n/liquibase-core");
     protected static final String EXCEPTION_MESSAGE = coreBundle.getString("formatted.changelog.exception.message");
@@ -59,47 +62,53 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
     public static final String INCLUDE_ALL = "includeAll";
     public static final String INCLUDE = "include";
 
+    /**
+     * The patterns built from the comment sequences of a parser only depend on its comment style, so they are compiled
+     * once per regex and shared by all parser instances instead of being compiled for each instance.
+     */
+    private static final Map<String, Pattern> COMMENT_STYLE_PATTERNS = new ConcurrentHashMap<>();
+
     public final String FIRST_LINE_REGEX = String.format("^\\s*%s\\s*liquibase\\s*formatted.*", getSingleLineCommentSequence());
-    public final Pattern FIRST_LINE_PATTERN = Pattern.compile(FIRST_LINE_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern FIRST_LINE_PATTERN = compilePattern(FIRST_LINE_REGEX);
 
     public final String PROPERTY_REGEX = String.format("\\s*%s[\\s]*property\\s+(.*:.*)\\s+(.*:.*).*", getSingleLineCommentSequence());
-    public final Pattern PROPERTY_PATTERN = Pattern.compile(PROPERTY_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern PROPERTY_PATTERN = compilePattern(PROPERTY_REGEX);
 
     public final String ALT_PROPERTY_ONE_CHARACTER_REGEX = String.format("\\s*?[%s]+\\s*property\\s.*", getSingleLineCommentOneCharacter());
 
-    public final Pattern ALT_PROPERTY_ONE_CHARACTER_PATTERN = Pattern.compile(ALT_PROPERTY_ONE_CHARACTER_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_PROPERTY_ONE_CHARACTER_PATTERN = compilePattern(ALT_PROPERTY_ONE_CHARACTER_REGEX);
 
     public final String CHANGE_SET_REGEX = String.format("\\s*%s[\\s]*changeset\\s+(\"[^\"]+\"|[^:]+):\\s*(\"[^\"]+\"|\\S+).*", getSingleLineCommentSequence());
-    public final Pattern CHANGE_SET_PATTERN = Pattern.compile(CHANGE_SET_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern CHANGE_SET_PATTERN = compilePattern(CHANGE_SET_REGEX);
 
     public final String ALT_CHANGE_SET_ONE_CHARACTER_REGEX = String.format("%s[\\s]*changeset\\s.*", getSingleLineCommentOneCharacter());
-    public final Pattern ALT_CHANGE_SET_ONE_CHARACTER_PATTERN = Pattern.compile(ALT_CHANGE_SET_ONE_CHARACTER_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_CHANGE_SET_ONE_CHARACTER_PATTERN = compilePattern(ALT_CHANGE_SET_ONE_CHARACTER_REGEX);
 
     public final String ALT_CHANGE_SET_NO_OTHER_INFO_REGEX = String.format("\\s*%s[\\s]*changeset[\\s]*.*$", getSingleLineCommentSequence());
-    public final Pattern ALT_CHANGE_SET_NO_OTHER_INFO_PATTERN = Pattern.compile(ALT_CHANGE_SET_NO_OTHER_INFO_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_CHANGE_SET_NO_OTHER_INFO_PATTERN = compilePattern(ALT_CHANGE_SET_NO_OTHER_INFO_REGEX);
 
     public final String ROLLBACK_REGEX = String.format("\\s*%s[\\s]*rollback (.*)", getSingleLineCommentSequence());
-    public final Pattern ROLLBACK_PATTERN = Pattern.compile(ROLLBACK_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ROLLBACK_PATTERN = compilePattern(ROLLBACK_REGEX);
 
     public final String ALT_ROLLBACK_ONE_CHARACTER_REGEX = String.format("\\s*%s[\\s]*rollback\\s.*", getSingleLineCommentOneCharacter());
-    public final Pattern ALT_ROLLBACK_ONE_CHARACTER_PATTERN = Pattern.compile(ALT_ROLLBACK_ONE_CHARACTER_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_ROLLBACK_ONE_CHARACTER_PATTERN = compilePattern(ALT_ROLLBACK_ONE_CHARACTER_REGEX);
 
     public final String PRECONDITIONS_REGEX = String.format("\\s*%s[\\s]*preconditions(.*)", getSingleLineCommentSequence());
-    public final Pattern PRECONDITIONS_PATTERN = Pattern.compile(PRECONDITIONS_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern PRECONDITIONS_PATTERN = compilePattern(PRECONDITIONS_REGEX);
 
     public final String ALT_PRECONDITIONS_ONE_CHARACTER_REGEX = String.format("\\s*%s[\\s]*preconditions\\s.*", getSingleLineCommentOneCharacter());
-    public final Pattern ALT_PRECONDITIONS_ONE_CHARACTER_PATTERN = Pattern.compile(ALT_PRECONDITIONS_ONE_CHARACTER_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_PRECONDITIONS_ONE_CHARACTER_PATTERN = compilePattern(ALT_PRECONDITIONS_ONE_CHARACTER_REGEX);
 
     public final String PRECONDITION_REGEX = String.format("\\s*%s[\\s]*precondition\\-([a-zA-Z0-9-]+) (.*)", getSingleLineCommentSequence());
-    public final Pattern PRECONDITION_PATTERN = Pattern.compile(PRECONDITION_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern PRECONDITION_PATTERN = compilePattern(PRECONDITION_REGEX);
 
     public final String
             INVALID_EMPTY_PRECONDITION_REGEX = String.format("\\s*%s[\\s]*precondition\\-([a-zA-Z0-9-]+)", getSingleLineCommentSequence());
 
-    public final Pattern INVALID_EMPTY_PRECONDITION_PATTERN = Pattern.compile(INVALID_EMPTY_PRECONDITION_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern INVALID_EMPTY_PRECONDITION_PATTERN = compilePattern(INVALID_EMPTY_PRECONDITION_REGEX);
 
     public final String ALT_PRECONDITION_ONE_CHARACTER_REGEX = String.format("\\s*%s[\\s]*precondition(.*)", getSingleLineCommentOneCharacter());
-    public final Pattern ALT_PRECONDITION_ONE_CHARACTER_PATTERN = Pattern.compile(ALT_PRECONDITION_ONE_CHARACTER_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_PRECONDITION_ONE_CHARACTER_PATTERN = compilePattern(ALT_PRECONDITION_ONE_CHARACTER_REGEX);
 
     public static final String STRIP_COMMENTS_REGEX = ".*stripComments:(\\w+).*";
     public static final Pattern STRIP_COMMENTS_PATTERN = Pattern.compile(STRIP_COMMENTS_REGEX, Pattern.CASE_INSENSITIVE);
@@ -117,28 +126,28 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
     public static final Pattern ROLLBACK_END_DELIMITER_PATTERN = Pattern.compile(ROLLBACK_END_DELIMITER_REGEX, Pattern.CASE_INSENSITIVE);
 
     public final String COMMENT_REGEX = String.format("%s[\\s]*comment:? (.*)", getSingleLineCommentSequence());
-    public final Pattern COMMENT_PATTERN = Pattern.compile(COMMENT_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern COMMENT_PATTERN = compilePattern(COMMENT_REGEX);
 
     public final String ALT_COMMENT_PLURAL_REGEX = String.format("%s[\\s]*comments:? (.*)", getSingleLineCommentSequence());
-    public final Pattern ALT_COMMENT_PLURAL_PATTERN = Pattern.compile(ALT_COMMENT_PLURAL_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_COMMENT_PLURAL_PATTERN = compilePattern(ALT_COMMENT_PLURAL_REGEX);
 
     public final String ALT_COMMENT_ONE_CHARACTER_REGEX = String.format("%s[\\s]*comment:? (.*)", getSingleLineCommentOneCharacter());
-    public final Pattern ALT_COMMENT_ONE_CHARACTER_PATTERN = Pattern.compile(ALT_COMMENT_ONE_CHARACTER_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_COMMENT_ONE_CHARACTER_PATTERN = compilePattern(ALT_COMMENT_ONE_CHARACTER_REGEX);
 
     public final String VALID_CHECK_SUM_REGEX = String.format("%s[\\s]*validCheckSum:? (.*)", getSingleLineCommentSequence());
-    public final Pattern VALID_CHECK_SUM_PATTERN = Pattern.compile(VALID_CHECK_SUM_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern VALID_CHECK_SUM_PATTERN = compilePattern(VALID_CHECK_SUM_REGEX);
 
     public final String ALT_VALID_CHECK_SUM_ONE_CHARACTER_REGEX = String.format("^%s[\\s]*validCheckSum(.*)$", getSingleLineCommentOneCharacter());
-    public final Pattern ALT_VALID_CHECK_SUM_ONE_CHARACTER_PATTERN = Pattern.compile(ALT_VALID_CHECK_SUM_ONE_CHARACTER_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_VALID_CHECK_SUM_ONE_CHARACTER_PATTERN = compilePattern(ALT_VALID_CHECK_SUM_ONE_CHARACTER_REGEX);
 
     public final String IGNORE_LINES_REGEX = String.format("%s[\\s]*ignoreLines:(\\w+)", getSingleLineCommentSequence());
-    public final Pattern IGNORE_LINES_PATTERN = Pattern.compile(IGNORE_LINES_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern IGNORE_LINES_PATTERN = compilePattern(IGNORE_LINES_REGEX);
 
     public final String ALT_IGNORE_LINES_ONE_CHARACTER_REGEX = String.format("%s[\\s]*?ignoreLines:(\\w+).*$", getSingleLineCommentOneCharacter());
-    public final Pattern ALT_IGNORE_LINES_ONE_CHARACTER_PATTERN = Pattern.compile(ALT_IGNORE_LINES_ONE_CHARACTER_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_IGNORE_LINES_ONE_CHARACTER_PATTERN = compilePattern(ALT_IGNORE_LINES_ONE_CHARACTER_REGEX);
 
     public final String ALT_IGNORE_REGEX = String.format("%s[\\s]*ignore:(\\w+)", getSingleLineCommentSequence());
-    public final Pattern ALT_IGNORE_PATTERN = Pattern.compile(ALT_IGNORE_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ALT_IGNORE_PATTERN = compilePattern(ALT_IGNORE_REGEX);
 
     public static final String RUN_WITH_REGEX = ".*runWith:([\\w\\$\\{\\}]+).*";
     public static final Pattern RUN_WITH_PATTERN = Pattern.compile(RUN_WITH_REGEX, Pattern.CASE_INSENSITIVE);
@@ -192,10 +201,18 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
     public static final Pattern ROLLBACK_CHANGE_SET_PATH_PATTERN = Pattern.compile(ROLLBACK_CHANGE_SET_PATH_REGEX, Pattern.CASE_INSENSITIVE);
 
     public final String ROLLBACK_MULTI_LINE_START_REGEX = String.format("\\s*%s\\s*liquibase\\s*rollback\\s*$", getStartMultiLineCommentSequence());
-    public final Pattern ROLLBACK_MULTI_LINE_START_PATTERN = Pattern.compile(ROLLBACK_MULTI_LINE_START_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ROLLBACK_MULTI_LINE_START_PATTERN = compilePattern(ROLLBACK_MULTI_LINE_START_REGEX);
 
     public final String ROLLBACK_MULTI_LINE_END_REGEX = String.format(".*\\s*%s\\s*$", getEndMultiLineCommentSequence());
-    public final Pattern ROLLBACK_MULTI_LINE_END_PATTERN = Pattern.compile(ROLLBACK_MULTI_LINE_END_REGEX, Pattern.CASE_INSENSITIVE);
+    public final Pattern ROLLBACK_MULTI_LINE_END_PATTERN = compilePattern(ROLLBACK_MULTI_LINE_END_REGEX);
+
+    /**
+     * Matches the start of every line that can hold a formatted changelog instruction: all the instruction patterns
+     * begin with optional whitespace and a single-line comment or the start of a multi-line comment.
+     * Lines that do not match are plain SQL and are not checked against the instruction patterns.
+     */
+    protected final String INSTRUCTION_PREFIX_REGEX = String.format("\\s*+(?:%s|[%s]|%s)", getSingleLineCommentSequence(), getSingleLineCommentOneCharacter(), getStartMultiLineCommentSequence());
+    protected final Pattern INSTRUCTION_PREFIX_PATTERN = compilePattern(INSTRUCTION_PREFIX_REGEX);
 
     public static final String WORD_RESULT_REGEX = "^(?:expectedResult:)?(\\w+) (.*)";
     public static final String SINGLE_QUOTE_RESULT_REGEX = "^(?:expectedResult:)?'([^']+)' (.*)";
@@ -225,6 +242,18 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
     public static final String SCHEMA_NAME_STATEMENT_REGEX = ".*schema:(\\w+).*";
     public static final Pattern SCHEMA_NAME_STATEMENT_PATTERN = Pattern.compile(SCHEMA_NAME_STATEMENT_REGEX, Pattern.CASE_INSENSITIVE);
 
+    private static Pattern compilePattern(String regex) {
+        return COMMENT_STYLE_PATTERNS.computeIfAbsent(regex, key -> Pattern.compile(key, Pattern.CASE_INSENSITIVE));
+    }
+
+    /**
+     * Returns true if the line may hold a formatted changelog instruction such as a changeset, rollback, precondition or
+     * comment, and false if it can only be part of the SQL of the current changeset.
+     */
+    protected boolean isInstructionCandidate(String line) {
+        return INSTRUCTION_PREFIX_PATTERN.matcher(line).lookingAt();
+    }
+
     protected abstract String getSingleLineCommentOneCharacter();
 
     protected abstract String getSingleLineCommentSequence();
@@ -302,6 +331,40 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
 
     @Override
     public DatabaseChangeLog parse(String physicalChangeLogLocation, ChangeLogParameters changeLogParameters, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        try {
+            return parseStream(openChangeLogFile(physicalChangeLogLocation, resourceAccessor), physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+        } catch (IOException e) {
+            throw new ChangeLogParseException(e);
+        }
+    }
+
+    /**
+     * Reads the content of the file. The lines are parsed when the changelog is loaded, since they depend on the
+     * changelog parameters.
+     */
+    @Override
+    public byte[] preParse(String physicalChangeLogLocation, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        try (InputStream stream = openChangeLogFile(physicalChangeLogLocation, resourceAccessor)) {
+            return StreamUtil.readStream(stream);
+        } catch (IOException e) {
+            throw new ChangeLogParseException(e);
+        }
+    }
+
+    /**
+     * Returns the same content, since it is only read when the changelog is loaded.
+     */
+    @Override
+    public byte[] copyPreParsed(byte[] preParsed) {
+        return preParsed;
+    }
+
+    @Override
+    public DatabaseChangeLog parse(byte[] preParsed, String physicalChangeLogLocation, ChangeLogParameters changeLogParameters, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        return parseStream(new ByteArrayInputStream(preParsed), physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+    }
+
+    private DatabaseChangeLog parseStream(InputStream stream, String physicalChangeLogLocation, ChangeLogParameters changeLogParameters, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
 
         DatabaseChangeLog changeLog = new DatabaseChangeLog();
         changeLog.setChangeLogParameters(changeLogParameters);
@@ -311,7 +374,7 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
             Scope.getCurrentScope().getAnalyticsEvent().incrementFormattedSqlChangelogCount();
         });
 
-        try (BufferedReader reader = new BufferedReader(StreamUtil.readStreamWithReader(openChangeLogFile(physicalChangeLogLocation, resourceAccessor), null))) {
+        try (BufferedReader reader = new BufferedReader(StreamUtil.readStreamWithReader(stream, null))) {
             StringBuilder currentSequence = new StringBuilder();
             StringBuilder currentRollbackSequence = new StringBuilder();
 
@@ -328,68 +391,74 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
             String line;
             while ((line = reader.readLine()) != null) {
                 count++;
-                Matcher changeLogPatternMatcher = FIRST_LINE_PATTERN.matcher(line);
-                if (changeLogPatternMatcher.matches()) {
-                    if (! foundHeader) {
-                        foundHeader = true;
-                    } else {
-                        foundAdditionalHeader = true;
-                    }
-                }
+                //
+                // Only lines starting with a comment can hold changelog instructions, all the other lines are SQL
+                //
+                boolean instructionCandidate = isInstructionCandidate(line);
                 Matcher commentMatcher = COMMENT_PATTERN.matcher(line);
-                Matcher propertyPatternMatcher = PROPERTY_PATTERN.matcher(line);
-                Matcher altPropertyPatternMatcher = ALT_PROPERTY_ONE_CHARACTER_PATTERN.matcher(line);
-                if (propertyPatternMatcher.matches()) {
-                    handleProperty(changeLogParameters, changeLog, line);
-                    continue;
-                } else if (altPropertyPatternMatcher.matches()) {
-                    String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--property name=<property name> value=<property value>", getDocumentationLink());
-                    throw new ChangeLogParseException("\n" + message);
-                }
-
-                setLogicalFilePath(changeLog, line, changeLogPatternMatcher);
-
-                Matcher ignoreLinesMatcher = IGNORE_LINES_PATTERN.matcher(line);
-                Matcher altIgnoreMatcher = ALT_IGNORE_PATTERN.matcher(line);
-                Matcher altIgnoreLinesOneDashMatcher = ALT_IGNORE_LINES_ONE_CHARACTER_PATTERN.matcher(line);
-                if (ignoreLinesMatcher.matches()) {
-                    if ("start".equals(ignoreLinesMatcher.group(1))) {
-                        while ((line = reader.readLine()) != null) {
-                            altIgnoreLinesOneDashMatcher = ALT_IGNORE_LINES_ONE_CHARACTER_PATTERN.matcher(line);
-                            count++;
-                            ignoreLinesMatcher = IGNORE_LINES_PATTERN.matcher(line);
-                            if (ignoreLinesMatcher.matches()) {
-                                if ("end".equals(ignoreLinesMatcher.group(1))) {
-                                    break;
-                                }
-                            } else if (altIgnoreLinesOneDashMatcher.matches()) {
-                                String message =
-                                        String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--ignoreLines:end", getDocumentationLink());
-                                throw new ChangeLogParseException("\n" + message);
-                            }
+                if (instructionCandidate) {
+                    Matcher changeLogPatternMatcher = FIRST_LINE_PATTERN.matcher(line);
+                    if (changeLogPatternMatcher.matches()) {
+                        if (! foundHeader) {
+                            foundHeader = true;
+                        } else {
+                            foundAdditionalHeader = true;
                         }
+                    }
+                    Matcher propertyPatternMatcher = PROPERTY_PATTERN.matcher(line);
+                    Matcher altPropertyPatternMatcher = ALT_PROPERTY_ONE_CHARACTER_PATTERN.matcher(line);
+                    if (propertyPatternMatcher.matches()) {
+                        handleProperty(changeLogParameters, changeLog, line);
                         continue;
-                    } else {
-                        String ignoreCountAttribute = ignoreLinesMatcher.group(1);
-                        try {
-                            long ignoreCount = Long.parseLong(ignoreCountAttribute);
-                            while (ignoreCount > 0 && reader.readLine() != null) {
-                                ignoreCount--;
+                    } else if (altPropertyPatternMatcher.matches()) {
+                        String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--property name=<property name> value=<property value>", getDocumentationLink());
+                        throw new ChangeLogParseException("\n" + message);
+                    }
+
+                    setLogicalFilePath(changeLog, line, changeLogPatternMatcher);
+
+                    Matcher ignoreLinesMatcher = IGNORE_LINES_PATTERN.matcher(line);
+                    Matcher altIgnoreMatcher = ALT_IGNORE_PATTERN.matcher(line);
+                    Matcher altIgnoreLinesOneDashMatcher = ALT_IGNORE_LINES_ONE_CHARACTER_PATTERN.matcher(line);
+                    if (ignoreLinesMatcher.matches()) {
+                        if ("start".equals(ignoreLinesMatcher.group(1))) {
+                            while ((line = reader.readLine()) != null) {
+                                altIgnoreLinesOneDashMatcher = ALT_IGNORE_LINES_ONE_CHARACTER_PATTERN.matcher(line);
                                 count++;
+                                ignoreLinesMatcher = IGNORE_LINES_PATTERN.matcher(line);
+                                if (ignoreLinesMatcher.matches()) {
+                                    if ("end".equals(ignoreLinesMatcher.group(1))) {
+                                        break;
+                                    }
+                                } else if (altIgnoreLinesOneDashMatcher.matches()) {
+                                    String message =
+                                            String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--ignoreLines:end", getDocumentationLink());
+                                    throw new ChangeLogParseException("\n" + message);
+                                }
                             }
                             continue;
-                        } catch (NumberFormatException | NullPointerException nfe) {
-                            throw new ChangeLogParseException(String.format("Unknown ignoreLines syntax: \"%s\"", ignoreCountAttribute), nfe);
+                        } else {
+                            String ignoreCountAttribute = ignoreLinesMatcher.group(1);
+                            try {
+                                long ignoreCount = Long.parseLong(ignoreCountAttribute);
+                                while (ignoreCount > 0 && reader.readLine() != null) {
+                                    ignoreCount--;
+                                    count++;
+                                }
+                                continue;
+                            } catch (NumberFormatException | NullPointerException nfe) {
+                                throw new ChangeLogParseException(String.format("Unknown ignoreLines syntax: \"%s\"", ignoreCountAttribute), nfe);
+                            }
                         }
+                    } else if (altIgnoreLinesOneDashMatcher.matches() || altIgnoreMatcher.matches()) {
+                        String message =
+                                String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--ignoreLines:<count|start>", getDocumentationLink());
+                        throw new ChangeLogParseException("\n" + message);
                     }
-                } else if (altIgnoreLinesOneDashMatcher.matches() || altIgnoreMatcher.matches()) {
-                    String message =
-                            String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--ignoreLines:<count|start>", getDocumentationLink());
-                    throw new ChangeLogParseException("\n" + message);
                 }
 
-                Matcher changeSetPatternMatcher = CHANGE_SET_PATTERN.matcher(line);
-                if (changeSetPatternMatcher.matches()) {
+                Matcher changeSetPatternMatcher = instructionCandidate ? CHANGE_SET_PATTERN.matcher(line) : null;
+                if ((changeSetPatternMatcher != null) && changeSetPatternMatcher.matches()) {
                     String finalCurrentSequence = changeLogParameters.expandExpressions(StringUtil.trimToNull(currentSequence.toString()), changeLog);
                     if (changeSet != null) {
                         if (finalCurrentSequence == null) {
@@ -504,11 +573,13 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
 
                     resetSequences(currentSequence, currentRollbackSequence);
                 } else {
-                    Matcher altChangeSetOneDashPatternMatcher = ALT_CHANGE_SET_ONE_CHARACTER_PATTERN.matcher(line);
-                    Matcher altChangeSetNoOtherInfoPatternMatcher = ALT_CHANGE_SET_NO_OTHER_INFO_PATTERN.matcher(line);
-                    if (altChangeSetOneDashPatternMatcher.matches() || altChangeSetNoOtherInfoPatternMatcher.matches()) {
-                        String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--changeset <authorname>:<changesetId>", getDocumentationLink());
-                        throw new ChangeLogParseException("\n" + message);
+                    if (instructionCandidate) {
+                        Matcher altChangeSetOneDashPatternMatcher = ALT_CHANGE_SET_ONE_CHARACTER_PATTERN.matcher(line);
+                        Matcher altChangeSetNoOtherInfoPatternMatcher = ALT_CHANGE_SET_NO_OTHER_INFO_PATTERN.matcher(line);
+                        if (altChangeSetOneDashPatternMatcher.matches() || altChangeSetNoOtherInfoPatternMatcher.matches()) {
+                            String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--changeset <authorname>:<changesetId>", getDocumentationLink());
+                            throw new ChangeLogParseException("\n" + message);
+                        }
                     }
                     if (changeSet != null) {
                         InvalidFormattedSqlPatternsForOssUtil.interruptIfIsProCommandAndNoLicenseIsPresent(line);
@@ -518,7 +589,7 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
                             changeSet = null;
                         }
                     } else {
-                        if (commentMatcher.matches()) {
+                        if (instructionCandidate && commentMatcher.matches()) {
                             String message =
                                     String.format("Unexpected formatting at line %d. Formatted %s changelogs do not allow comment lines outside of changesets. Learn all the options at %s", count, getSequenceName(), getDocumentationLink());
                             throw new ChangeLogParseException("\n" + message);
@@ -658,72 +729,76 @@ public abstract class AbstractFormattedChangeLogParser implements ChangeLogParse
                                       String rollbackEndDelimiter,
                                       AtomicBoolean changeSetFinished)
             throws ChangeLogParseException, IOException {
-        Matcher altCommentOneDashMatcher = ALT_COMMENT_ONE_CHARACTER_PATTERN.matcher(line);
-        Matcher altCommentPluralMatcher = ALT_COMMENT_PLURAL_PATTERN.matcher(line);
-        Matcher rollbackMatcher = ROLLBACK_PATTERN.matcher(line);
-        Matcher altRollbackMatcher = ALT_ROLLBACK_ONE_CHARACTER_PATTERN.matcher(line);
-        Matcher preconditionsMatcher = PRECONDITIONS_PATTERN.matcher(line);
-        Matcher altPreconditionsOneDashMatcher = ALT_PRECONDITIONS_ONE_CHARACTER_PATTERN.matcher(line);
-        Matcher preconditionMatcher = PRECONDITION_PATTERN.matcher(line);
-        Matcher altPreconditionOneDashMatcher = ALT_PRECONDITION_ONE_CHARACTER_PATTERN.matcher(line);
-        Matcher validCheckSumMatcher = VALID_CHECK_SUM_PATTERN.matcher(line);
-        Matcher altValidCheckSumOneDashMatcher = ALT_VALID_CHECK_SUM_ONE_CHARACTER_PATTERN.matcher(line);
-        Matcher rollbackMultiLineStartMatcher = ROLLBACK_MULTI_LINE_START_PATTERN.matcher(line);
-        Matcher invalidEmptyPreconditionMatcher = INVALID_EMPTY_PRECONDITION_PATTERN.matcher(line);
-
-        if (commentMatcher.matches()) {
-            if (commentMatcher.groupCount() == 0) {
+        if (!isInstructionCandidate(line)) {
+            currentSequence.append(line).append(System.lineSeparator());
+        } else {
+            Matcher altCommentOneDashMatcher = ALT_COMMENT_ONE_CHARACTER_PATTERN.matcher(line);
+            Matcher altCommentPluralMatcher = ALT_COMMENT_PLURAL_PATTERN.matcher(line);
+            Matcher rollbackMatcher = ROLLBACK_PATTERN.matcher(line);
+            Matcher altRollbackMatcher = ALT_ROLLBACK_ONE_CHARACTER_PATTERN.matcher(line);
+            Matcher preconditionsMatcher = PRECONDITIONS_PATTERN.matcher(line);
+            Matcher altPreconditionsOneDashMatcher = ALT_PRECONDITIONS_ONE_CHARACTER_PATTERN.matcher(line);
+            Matcher preconditionMatcher = PRECONDITION_PATTERN.matcher(line);
+            Matcher altPreconditionOneDashMatcher = ALT_PRECONDITION_ONE_CHARACTER_PATTERN.matcher(line);
+            Matcher validCheckSumMatcher = VALID_CHECK_SUM_PATTERN.matcher(line);
+            Matcher altValidCheckSumOneDashMatcher = ALT_VALID_CHECK_SUM_ONE_CHARACTER_PATTERN.matcher(line);
+            Matcher rollbackMultiLineStartMatcher = ROLLBACK_MULTI_LINE_START_PATTERN.matcher(line);
+            Matcher invalidEmptyPreconditionMatcher = INVALID_EMPTY_PRECONDITION_PATTERN.matcher(line);
+
+            if (commentMatcher.matches()) {
+                if (commentMatcher.groupCount() == 0) {
+                    String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--comment <comment>", getDocumentationLink());
+                    throw new ChangeLogParseException("\n" + message);
+                }
+                if (commentMatcher.groupCount() == 1) {
+                    changeSet.setComments(commentMatcher.group(1));
+                }
+                Scope.getCurrentScope().getLog(getClass()).fine("Matched comment '" + changeSet.getComments() + "'");
+            } else if (altCommentOneDashMatcher.matches() || altCommentPluralMatcher.matches()) {
                 String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--comment <comment>", getDocumentationLink());
                 throw new ChangeLogParseException("\n" + message);
-            }
-            if (commentMatcher.groupCount() == 1) {
-                changeSet.setComments(commentMatcher.group(1));
-            }
-            Scope.getCurrentScope().getLog(getClass()).fine("Matched comment '" + changeSet.getComments() + "'");
-        } else if (altCommentOneDashMatcher.matches() || altCommentPluralMatcher.matches()) {
-            String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--comment <comment>", getDocumentationLink());
-            throw new ChangeLogParseException("\n" + message);
-        } else if (validCheckSumMatcher.matches()) {
-            if (validCheckSumMatcher.groupCount() == 0) {
-                String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), String.format("--rollback <rollback %s>", getSequenceName()), getDocumentationLink());
+            } else if (validCheckSumMatcher.matches()) {
+                if (validCheckSumMatcher.groupCount() == 0) {
+                    String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), String.format("--rollback <rollback %s>", getSequenceName()), getDocumentationLink());
+                    throw new ChangeLogParseException("\n" + message);
+                } else if (validCheckSumMatcher.groupCount() == 1) {
+                    changeSet.addValidCheckSum(validCheckSumMatcher.group(1));
+                }
+                Scope.getCurrentScope().getLog(getClass()).fine("Matched validChecksum '" + changeSet.getValidCheckSums() + "'");
+            } else if (altValidCheckSumOneDashMatcher.matches()) {
+                String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--validChecksum <checksum>", getDocumentationLink());
                 throw new ChangeLogParseException("\n" + message);
-            } else if (validCheckSumMatcher.groupCount() == 1) {
-                changeSet.addValidCheckSum(validCheckSumMatcher.group(1));
-            }
-            Scope.getCurrentScope().getLog(getClass()).fine("Matched validChecksum '" + changeSet.getValidCheckSums() + "'");
-        } else if (altValidCheckSumOneDashMatcher.matches()) {
-            String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--validChecksum <checksum>", getDocumentationLink());
-            throw new ChangeLogParseException("\n" + message);
-        } else if (rollbackMatcher.matches()) {
-            if (rollbackMatcher.groupCount() == 0) {
+            } else if (rollbackMatcher.matches()) {
+                if (rollbackMatcher.groupCount() == 0) {
+                    String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), String.format("--rollback <rollback %s>", getSequenceName()), getDocumentationLink());
+                    throw new ChangeLogParseException("\n" + message);
+                }
+                Scope.getCurrentScope().getLog(getClass()).fine("Matched rollback");
+                currentRollbackSequence.append(rollbackMatcher.group(1)).append(System.lineSeparator());
+            } else if (altRollbackMatcher.matches()) {
                 String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), String.format("--rollback <rollback %s>", getSequenceName()), getDocumentationLink());
                 throw new ChangeLogParseException("\n" + message);
+            } else if (rollbackMultiLineStartMatcher.matches()) {
+                if (rollbackMultiLineStartMatcher.groupCount() == 0) {
+                    currentRollbackSequence.append(extractMultiLineRollBack(reader));
+                }
+                Scope.getCurrentScope().getLog(getClass()).fine("Matched alternative format rollback");
+            } else if (preconditionsMatcher.matches()) {
+                handlePreconditionsCase(changeSet, count, preconditionsMatcher);
+            } else if (altPreconditionsOneDashMatcher.matches()) {
+                String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--preconditions <onFail>|<onError>|<onUpdate>", getDocumentationLink());
+                throw new ChangeLogParseException("\n" + message);
+            } else if (preconditionMatcher.matches()) {
+                handlePreconditionCase(changeLogParameters, changeSet, preconditionMatcher);
+            } else if (altPreconditionOneDashMatcher.matches()) {
+                String message =
+                        String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--precondition-sql-check", getDocumentationLink());
+                throw new ChangeLogParseException("\n" + message);
+            } else if (invalidEmptyPreconditionMatcher.matches()) {
+                handleInvalidEmptyPreconditionCase(changeLogParameters, changeSet, invalidEmptyPreconditionMatcher);
+            } else {
+                currentSequence.append(line).append(System.lineSeparator());
             }
-            Scope.getCurrentScope().getLog(getClass()).fine("Matched rollback");
-            currentRollbackSequence.append(rollbackMatcher.group(1)).append(System.lineSeparator());
-        } else if (altRollbackMatcher.matches()) {
-            String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), String.format("--rollback <rollback %s>", getSequenceName()), getDocumentationLink());
-            throw new ChangeLogParseException("\n" + message);
-        } else if (rollbackMultiLineStartMatcher.matches()) {
-            if (rollbackMultiLineStartMatcher.groupCount() == 0) {
-                currentRollbackSequence.append(extractMultiLineRollBack(reader));
-            }
-            Scope.getCurrentScope().getLog(getClass()).fine("Matched alternative format rollback");
-        } else if (preconditionsMatcher.matches()) {
-            handlePreconditionsCase(changeSet, count, preconditionsMatcher);
-        } else if (altPreconditionsOneDashMatcher.matches()) {
-            String message = String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--preconditions <onFail>|<onError>|<onUpdate>", getDocumentationLink());
-            throw new ChangeLogParseException("\n" + message);
-        } else if (preconditionMatcher.matches()) {
-            handlePreconditionCase(changeLogParameters, changeSet, preconditionMatcher);
-        } else if (altPreconditionOneDashMatcher.matches()) {
-            String message =
-                    String.format(EXCEPTION_MESSAGE, physicalChangeLogLocation, count, getSequenceName(), "--precondition-sql-check", getDocumentationLink());
-            throw new ChangeLogParseException("\n" + message);
-        } else if (invalidEmptyPreconditionMatcher.matches()) {
-            handleInvalidEmptyPreconditionCase(changeLogParameters, changeSet, invalidEmptyPreconditionMatcher);
-        } else {
-            currentSequence.append(line).append(System.lineSeparator());
         }
         if (change instanceof RawSQLChange && ((RawSQLChange)change).getSqlStartLine() == null && currentSequence.length() > 1) {
             ((RawSQLChange) change).setSqlStartLine(count);
@@ -0,0 +1,166 @@
+package liquibase.parser;
+
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import liquibase.parser.core.ParsedNode;
+import liquibase.parser.core.ParsedNodeException;
+import liquibase.util.LiquibaseUtil;
+import liquibase.util.MD5Util;
+import liquibase.util.StringUtil;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Stores the {@link ParsedNode} trees changelog files are parsed to in a compact binary form, keyed by a digest of the
+ * file content, so unchanged changelog files can be loaded without parsing and validating them again.
+ * <p>
+ * Only XML changelog files are cached, one file at a time. Includes, changelog parameters, checksums and everything
+ * else done when a {@link liquibase.changelog.DatabaseChangeLog} is loaded from the node still run on every load, so
+ * the result is the same as without the cache. Entries are only written when a changelog file is parsed with the
+ * cache directory set, there is no separate step to fill it.
+ */
+public class ChangeLogNodeCache {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final byte NULL_VALUE = 0;
+    private static final byte STRING_VALUE = 1;
+
+    private final Path directory;
+
+    public ChangeLogNodeCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns a cache in the directory set by {@link ChangeLogParserConfiguration#CHANGELOG_CACHE_DIRECTORY}, or null if it is not set.
+     */
+    public static ChangeLogNodeCache fromConfiguration() {
+        String directory = StringUtil.trimToNull(ChangeLogParserConfiguration.CHANGELOG_CACHE_DIRECTORY.getCurrentValue());
+        return (directory == null) ? null : new ChangeLogNodeCache(Paths.get(directory));
+    }
+
+    /**
+     * Returns the cached node tree of a changelog file with the given content, or null if there is none.
+     */
+    public ParsedNode get(byte[] content) {
+        Path file = getFile(content);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            return readNode(in);
+        } catch (IOException | ParsedNodeException e) {
+            Scope.getCurrentScope().getLog(getClass()).fine("Cannot read cached changelog " + file + ", it will be parsed again: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the node tree parsed from a changelog file with the given content.
+     * Files with a DOCTYPE are not stored since their content can depend on other files through external entities.
+     */
+    public void put(byte[] content, ParsedNode node) {
+        if (new String(content, StandardCharsets.ISO_8859_1).contains("<!DOCTYPE") || !isCacheable(node)) {
+            return;
+        }
+        Path file = getFile(content);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    out.writeInt(FORMAT_VERSION);
+                    writeNode(node, out);
+                }
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            Scope.getCurrentScope().getLog(getClass()).warning("Cannot cache parsed changelog in " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The file name also holds the settings changing how a file is parsed, so a node tree parsed without validation or
+     * secure parsing is not used by a later run with them enabled.
+     */
+    private Path getFile(byte[] content) {
+        String version = LiquibaseUtil.getBuildVersion().replaceAll("[^A-Za-z0-9.]", "_");
+        String settings = "v" + (Boolean.TRUE.equals(GlobalConfiguration.VALIDATE_XML_CHANGELOG_FILES.getCurrentValue()) ? 1 : 0)
+                + "s" + (Boolean.TRUE.equals(GlobalConfiguration.SECURE_PARSING.getCurrentValue()) ? 1 : 0);
+        return directory.resolve(version + "-" + settings + "-" + MD5Util.computeMD5(new ByteArrayInputStream(content)) + ".node");
+    }
+
+    private static boolean isCacheable(ParsedNode node) {
+        if ((node.getValue() != null) && !(node.getValue() instanceof String)) {
+            return false;
+        }
+        for (ParsedNode child : node.getChildren()) {
+            if (!isCacheable(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeNode(ParsedNode node, DataOutputStream out) throws IOException {
+        writeString(node.getNamespace(), out);
+        writeString(node.getName(), out);
+        writeString(node.getParsedNamespace(), out);
+        if (node.getValue() == null) {
+            out.writeByte(NULL_VALUE);
+        } else {
+            out.writeByte(STRING_VALUE);
+            writeString((String) node.getValue(), out);
+        }
+        out.writeInt(node.getChildren().size());
+        for (ParsedNode child : node.getChildren()) {
+            writeNode(child, out);
+        }
+    }
+
+    private static ParsedNode readNode(DataInputStream in) throws IOException, ParsedNodeException {
+        ParsedNode node = new ParsedNode(readString(in), readString(in));
+        node.setParsedNamespace(readString(in));
+        byte valueType = in.readByte();
+        if (valueType == STRING_VALUE) {
+            node.setValue(readString(in));
+        } else if (valueType != NULL_VALUE) {
+            throw new IOException("Unknown value type " + valueType);
+        }
+        int childCount = in.readInt();
+        for (int i = 0; i < childCount; i++) {
+            node.addChild(readNode(in));
+        }
+        return node;
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
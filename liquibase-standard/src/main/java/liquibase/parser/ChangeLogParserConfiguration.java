@@ -15,6 +15,8 @@ public class ChangeLogParserConfiguration implements AutoloadedConfigurations {
     public static final ConfigurationDefinition<MissingIncludeConfiguration> ON_MISSING_INCLUDE_CHANGELOG;
     public static final ConfigurationDefinition<Boolean> ERROR_ON_CIRCULAR_INCLUDE_ALL;
     public static final ConfigurationDefinition<MissingIncludeConfiguration> ON_MISSING_SQL_FILE;
+    public static final ConfigurationDefinition<String> CHANGELOG_CACHE_DIRECTORY;
+    public static final ConfigurationDefinition<Integer> INCLUDE_PARSER_THREADS;
 
     static {
         ConfigurationDefinition.Builder builder = new ConfigurationDefinition.Builder("liquibase");
@@ -56,6 +58,15 @@ public class ChangeLogParserConfiguration implements AutoloadedConfigurations {
                 .setDefaultValue(MissingIncludeConfiguration.FAIL)
                 .setHidden(true)
                 .build();
+
+        CHANGELOG_CACHE_DIRECTORY = builder.define("changelogCacheDirectory", String.class)
+                .setDescription("Directory to store parsed XML changelog files in, keyed by a digest of their content, so unchanged files are loaded without parsing and validating them again. Only the parsing of each XML file is cached: includes, changelog parameters and checksums are still processed on every run, and YAML, JSON and SQL changelog files are always parsed. Entries are written by the runs that parse a file with this set. Parsed changelogs are not cached when not set.")
+                .build();
+
+        INCLUDE_PARSER_THREADS = builder.define("includeParserThreads", Integer.class)
+                .setDescription("Number of threads reading and parsing the changelog files of an include or includeAll concurrently. The parsed files are still loaded one by one in order, so the changeset order and the duplicate detection do not change. With 1, files are parsed one after the other on the calling thread.")
+                .setDefaultValue(1)
+                .build();
     }
 
     public enum MissingPropertyMode {
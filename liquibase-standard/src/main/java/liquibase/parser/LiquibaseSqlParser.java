@@ -1,8 +1,15 @@
 package liquibase.parser;
 
 import liquibase.changelog.ChangeSet;
+import liquibase.exception.UnexpectedLiquibaseException;
 import liquibase.plugin.Plugin;
 import liquibase.util.StringClauses;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Iterator;
 
 public interface LiquibaseSqlParser extends Plugin {
 
@@ -18,5 +25,22 @@ public interface LiquibaseSqlParser extends Plugin {
         return parse(sqlBlock, preserveWhitespace, preserveComments);
     }
 
+    /**
+     * Returns the text of the clauses {@link #parse(String, boolean, boolean, ChangeSet)} returns for the SQL read from
+     * the given reader, in order. Implementations should read from the reader as the clauses are requested, so SQL
+     * larger than the available memory can be processed. The default implementation reads all the SQL first.
+     */
+    default Iterator<String> tokenize(Reader reader, boolean preserveWhitespace, boolean preserveComments, ChangeSet changeSet) {
+        String sqlBlock;
+        try {
+            sqlBlock = IOUtils.toString(reader);
+        } catch (IOException e) {
+            throw new UnexpectedLiquibaseException(e);
+        }
+        return Arrays.stream(parse(sqlBlock, preserveWhitespace, preserveComments, changeSet).toArray(true))
+                .map(String::valueOf)
+                .iterator();
+    }
+
     int getPriority();
 }
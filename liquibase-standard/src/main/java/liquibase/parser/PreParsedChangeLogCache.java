@@ -0,0 +1,111 @@
+package liquibase.parser;
+
+import liquibase.Scope;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.exception.ChangeLogParseException;
+import liquibase.resource.ResourceAccessor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Keeps what {@link PreParsingChangeLogParser#preParse(String, ResourceAccessor)} returned for changelog files, so
+ * changelogs loaded several times from the same files, e.g. once for each database of a multi-tenant application,
+ * only read and parse each file once. Loading a changelog changes its pre-parsed result, so each load gets its own
+ * copy from {@link PreParsingChangeLogParser#copyPreParsed(Object)}.
+ * <p>
+ * The parsing done in a scope holding a cache under {@link #SCOPE_KEY} uses it. Files are cached by path and parser,
+ * without checking whether they changed, so a cache should only be shared by loads of the same changelog with the same
+ * resources.
+ */
+public class PreParsedChangeLogCache {
+
+    public static final String SCOPE_KEY = "preParsedChangeLogCache";
+
+    private static final Map<Class<?>, Boolean> SUPPORTED_PARSERS = new ConcurrentHashMap<>();
+
+    private final Map<String, FutureTask<Object>> preParsedFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Parses the given file with the given parser, from a copy of the pre-parsed result in the cache of the current
+     * scope, pre-parsing the file first if it is not in the cache yet. Parses the file as usual if there is no cache in
+     * the scope or the parser cannot pre-parse files.
+     */
+    public static DatabaseChangeLog parse(ChangeLogParser parser, String physicalChangeLogLocation, ChangeLogParameters changeLogParameters,
+                                          ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        if ((Scope.getCurrentScope().get(SCOPE_KEY, PreParsedChangeLogCache.class) == null) || !supportsPreParsing(parser)) {
+            return parser.parse(physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+        }
+        PreParsingChangeLogParser<Object> preParsingParser = (PreParsingChangeLogParser<Object>) parser;
+        Object preParsed = preParse(preParsingParser, physicalChangeLogLocation, resourceAccessor);
+        return preParsingParser.parse(preParsed, physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+    }
+
+    /**
+     * Returns a copy of the pre-parsed result of the given file in the cache of the current scope, pre-parsing the file
+     * first if it is not in the cache yet. Pre-parses the file without caching it if there is no cache in the scope.
+     */
+    public static <T> T preParse(PreParsingChangeLogParser<T> parser, String physicalChangeLogLocation, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        PreParsedChangeLogCache cache = Scope.getCurrentScope().get(SCOPE_KEY, PreParsedChangeLogCache.class);
+        if (cache == null) {
+            return parser.preParse(physicalChangeLogLocation, resourceAccessor);
+        }
+        return parser.copyPreParsed(cache.get(parser, physicalChangeLogLocation, resourceAccessor));
+    }
+
+    /**
+     * Returns true if the parser can pre-parse files. A subclass overriding
+     * {@link ChangeLogParser#parse(String, ChangeLogParameters, ResourceAccessor)} but not
+     * {@link PreParsingChangeLogParser#preParse(String, ResourceAccessor)} expects its own parse method to be called.
+     */
+    public static boolean supportsPreParsing(ChangeLogParser parser) {
+        if (!(parser instanceof PreParsingChangeLogParser)) {
+            return false;
+        }
+        return SUPPORTED_PARSERS.computeIfAbsent(parser.getClass(), parserClass -> {
+            try {
+                Class<?> parseClass = parserClass.getMethod("parse", String.class, ChangeLogParameters.class, ResourceAccessor.class).getDeclaringClass();
+                Class<?> preParseClass = parserClass.getMethod("preParse", String.class, ResourceAccessor.class).getDeclaringClass();
+                return parseClass.isAssignableFrom(preParseClass);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Returns the number of cached files.
+     */
+    public int size() {
+        return preParsedFiles.size();
+    }
+
+    /**
+     * Returns the cached pre-parsed result, pre-parsing the file on this thread if no other thread does it yet.
+     * A file that could not be pre-parsed fails the same way every time.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T get(PreParsingChangeLogParser<T> parser, String physicalChangeLogLocation, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        FutureTask<Object> task = preParsedFiles.computeIfAbsent(parser.getClass().getName() + "|" + physicalChangeLogLocation,
+                key -> new FutureTask<>(() -> parser.preParse(physicalChangeLogLocation, resourceAccessor)));
+        task.run();
+        try {
+            return (T) task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ChangeLogParseException) {
+                throw (ChangeLogParseException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ChangeLogParseException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChangeLogParseException(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package liquibase.parser;
+
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.exception.ChangeLogParseException;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * {@link ChangeLogParser} that can read and parse a changelog file up to the point where changelog parameters or other
+ * changelog files are needed as a separate first step. That step does not share any state with the parsing of other
+ * files, so {@link DatabaseChangeLog} runs it concurrently for the files it includes when
+ * {@link ChangeLogParserConfiguration#INCLUDE_PARSER_THREADS} is set, and still loads them one by one in order.
+ *
+ * @param <T> the result of the first step
+ */
+public interface PreParsingChangeLogParser<T> extends ChangeLogParser {
+
+    /**
+     * Reads and parses the given changelog file without using changelog parameters or anything else shared with the
+     * parsing of other files. Can be called concurrently from several threads.
+     */
+    T preParse(String physicalChangeLogLocation, ResourceAccessor resourceAccessor) throws ChangeLogParseException;
+
+    /**
+     * Returns a copy of what {@link #preParse(String, ResourceAccessor)} returned that
+     * {@link #parse(Object, String, ChangeLogParameters, ResourceAccessor)} can change without changing the original, so
+     * {@link PreParsedChangeLogCache} can load the same pre-parsed file several times.
+     */
+    T copyPreParsed(T preParsed);
+
+    /**
+     * Same as {@link #parse(String, ChangeLogParameters, ResourceAccessor)}, starting from what
+     * {@link #preParse(String, ResourceAccessor)} returned for the file.
+     */
+    DatabaseChangeLog parse(T preParsed, String physicalChangeLogLocation, ChangeLogParameters changeLogParameters,
+                            ResourceAccessor resourceAccessor) throws ChangeLogParseException;
+}
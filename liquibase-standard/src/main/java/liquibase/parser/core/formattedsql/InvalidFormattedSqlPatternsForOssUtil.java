@@ -23,6 +23,8 @@ public class InvalidFormattedSqlPatternsForOssUtil {
     protected static final Pattern INCLUDE_PATTERN = Pattern.compile(INCLUDE_REGEX, Pattern.CASE_INSENSITIVE);
     protected static final String INCLUDE_ALL_REGEX = String.format("\\s*%s[\\s]*includeAll[\\s]+(.*)", SINGLE_LINE_COMMENT_SEQUENCE);
     protected static final Pattern INCLUDE_ALL_PATTERN = Pattern.compile(INCLUDE_ALL_REGEX, Pattern.CASE_INSENSITIVE);
+    // all the patterns above only match lines starting with a single line comment
+    private static final Pattern SINGLE_LINE_COMMENT_START_PATTERN = Pattern.compile(String.format("\\s*+%s", SINGLE_LINE_COMMENT_SEQUENCE));
 
     private InvalidFormattedSqlPatternsForOssUtil() {
     }
@@ -35,6 +37,9 @@ public class InvalidFormattedSqlPatternsForOssUtil {
      * @param line a string representing the command or input line to be checked for Pro-only patterns
      */
     public static void interruptIfIsProCommandAndNoLicenseIsPresent(String line) throws ChangeLogParseException {
+        if (!SINGLE_LINE_COMMENT_START_PATTERN.matcher(line).lookingAt()) {
+            return;
+        }
         if (!LicenseServiceUtils.isProLicenseValid()) {
             if (ROLLBACK_SQL_FILE_PATTERN.matcher(line).matches()) {
                 throw new ChangeLogParseException(String.format(ERROR_MESSAGE, "rollbackSqlFile"));
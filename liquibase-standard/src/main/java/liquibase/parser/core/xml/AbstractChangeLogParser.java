@@ -13,6 +13,15 @@ public abstract class AbstractChangeLogParser implements ChangeLogParser {
     public DatabaseChangeLog parse(String physicalChangeLogLocation, ChangeLogParameters changeLogParameters,
                                    ResourceAccessor resourceAccessor) throws ChangeLogParseException {
         ParsedNode parsedNode = parseToNode(physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+        return loadChangeLog(parsedNode, physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+    }
+
+    /**
+     * Creates the changelog from the node tree {@link #parseToNode(String, ChangeLogParameters, ResourceAccessor)}
+     * returned for the given file.
+     */
+    protected DatabaseChangeLog loadChangeLog(ParsedNode parsedNode, String physicalChangeLogLocation, ChangeLogParameters changeLogParameters,
+                                              ResourceAccessor resourceAccessor) throws ChangeLogParseException {
         if (parsedNode == null) {
             return null;
         }
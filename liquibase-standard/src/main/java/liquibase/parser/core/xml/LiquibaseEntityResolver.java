@@ -47,9 +47,7 @@ public class LiquibaseEntityResolver implements EntityResolver2 {
                 .replace("http://www.liquibase.org/xml/ns/migrator/", "http://www.liquibase.org/xml/ns/dbchangelog/")
                 .replaceFirst("https?://", "");
 
-        if (shouldWarnOnMismatchedXsdVersion && !hasWarnedAboutMismatchedXsdVersion) {
-            warnForMismatchedXsdVersion(systemId);
-        }
+        checkXsdVersion(systemId);
 
         InputStream stream = null;
         URL resourceUri = getSearchClassloader().getResource(path);
@@ -90,6 +88,17 @@ public class LiquibaseEntityResolver implements EntityResolver2 {
         return new CombinedClassLoader();
     }
 
+    /**
+     * Prints a warning if {@link #setShouldWarnOnMismatchedXsdVersion(boolean)} is enabled and the given XSD does not
+     * match the version of Liquibase. Also called for XSD files that are not resolved again because the schema compiled
+     * from them is cached.
+     */
+    void checkXsdVersion(String systemId) {
+        if (shouldWarnOnMismatchedXsdVersion && !hasWarnedAboutMismatchedXsdVersion) {
+            warnForMismatchedXsdVersion(systemId);
+        }
+    }
+
     /**
      * Print a warning message to the logs and UI if the build version does not match the XSD version. This is a best
      * effort check, this method will never throw an exception.
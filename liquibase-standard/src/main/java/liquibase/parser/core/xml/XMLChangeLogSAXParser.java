@@ -4,7 +4,12 @@ import liquibase.GlobalConfiguration;
 import liquibase.Scope;
 import liquibase.changelog.ChangeLogParameters;
 import liquibase.exception.ChangeLogParseException;
+import liquibase.exception.UnexpectedLiquibaseException;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.parser.ChangeLogNodeCache;
+import liquibase.parser.PreParsingChangeLogParser;
 import liquibase.parser.core.ParsedNode;
+import liquibase.parser.core.ParsedNodeException;
 import liquibase.parser.core.ParserSupportedFileExtension;
 import liquibase.resource.Resource;
 import liquibase.resource.ResourceAccessor;
@@ -15,14 +20,21 @@ import liquibase.util.StreamUtil;
 import org.xml.sax.*;
 
 import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import javax.xml.validation.Schema;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.SortedMap;
 import java.util.regex.Pattern;
 
-public class XMLChangeLogSAXParser extends AbstractChangeLogParser {
+public class XMLChangeLogSAXParser extends AbstractChangeLogParser implements PreParsingChangeLogParser<ParsedNode> {
 
     public static final String LIQUIBASE_SCHEMA_VERSION;
     private final SAXParserFactory saxParserFactory;
@@ -38,6 +50,37 @@ public class XMLChangeLogSAXParser extends AbstractChangeLogParser {
 
     private final LiquibaseEntityResolver resolver = new LiquibaseEntityResolver();
 
+    /**
+     * Maximum number of parsers kept in {@link #parserPool}.
+     */
+    private static final int MAX_POOLED_PARSERS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Parsers released by any thread, oldest first, with the schema they validate against. The pool is bounded, so it
+     * keeps at most {@link #MAX_POOLED_PARSERS} parsers and the schemas they use alive.
+     */
+    private final Deque<PooledParser> parserPool = new ArrayDeque<>();
+
+    private final ErrorHandler errorHandler = new ErrorHandler() {
+        @Override
+        public void warning(SAXParseException exception) throws SAXException {
+            Scope.getCurrentScope().getLog(getClass()).warning(exception.getMessage());
+            throw exception;
+        }
+
+        @Override
+        public void error(SAXParseException exception) throws SAXException {
+            Scope.getCurrentScope().getLog(getClass()).severe(exception.getMessage());
+            throw exception;
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) throws SAXException {
+            Scope.getCurrentScope().getLog(getClass()).severe(exception.getMessage());
+            throw exception;
+        }
+    };
+
     public XMLChangeLogSAXParser() {
         saxParserFactory = SAXParserFactory.newInstance();
         saxParserFactory.setValidating(GlobalConfiguration.VALIDATE_XML_CHANGELOG_FILES.getCurrentValue());
@@ -77,41 +120,60 @@ public class XMLChangeLogSAXParser extends AbstractChangeLogParser {
         resolver.setShouldWarnOnMismatchedXsdVersion(shouldWarnOnMismatchedXsdVersion);
     }
 
+    /**
+     * Parses the file to its node tree, which does not depend on changelog parameters.
+     */
     @Override
-    protected ParsedNode parseToNode(String physicalChangeLogLocation, ChangeLogParameters changeLogParameters, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+    public ParsedNode preParse(String physicalChangeLogLocation, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        return parseToNode(physicalChangeLogLocation, null, resourceAccessor);
+    }
+
+    @Override
+    public DatabaseChangeLog parse(ParsedNode preParsed, String physicalChangeLogLocation, ChangeLogParameters changeLogParameters,
+                                   ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        return loadChangeLog(preParsed, physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+    }
+
+    /**
+     * Copies the node tree, since the changelog parameters are expanded in the nodes when the changelog is loaded.
+     */
+    @Override
+    public ParsedNode copyPreParsed(ParsedNode preParsed) {
+        if (preParsed == null) {
+            return null;
+        }
         try {
-            Resource resource = resourceAccessor.get(physicalChangeLogLocation);
-            SAXParser parser = saxParserFactory.newSAXParser();
-            if (GlobalConfiguration.SECURE_PARSING.getCurrentValue()) {
-                try {
-                    parser.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "http,https"); //need to allow external schemas on http/https to support the liquibase.org xsd files
-                } catch (SAXException e) {
-                    Scope.getCurrentScope().getLog(getClass()).fine("Cannot enable ACCESS_EXTERNAL_SCHEMA: " + e.getMessage(), e);
-                }
-            }
-            trySetSchemaLanguageProperty(parser);
+            return copyNode(preParsed);
+        } catch (ParsedNodeException e) {
+            throw new UnexpectedLiquibaseException(e);
+        }
+    }
 
-            XMLReader xmlReader = parser.getXMLReader();
-            xmlReader.setEntityResolver(resolver);
-            xmlReader.setErrorHandler(new ErrorHandler() {
-                @Override
-                public void warning(SAXParseException exception) throws SAXException {
-                    Scope.getCurrentScope().getLog(getClass()).warning(exception.getMessage());
-                    throw exception;
-                }
+    private static ParsedNode copyNode(ParsedNode node) throws ParsedNodeException {
+        ParsedNode copy = new ParsedNode(node.getNamespace(), node.getName());
+        copy.setParsedNamespace(node.getParsedNamespace());
+        copy.setValue(node.getValue());
+        for (ParsedNode child : node.getChildren()) {
+            copy.addChild(copyNode(child));
+        }
+        return copy;
+    }
 
-                @Override
-                public void error(SAXParseException exception) throws SAXException {
-                    Scope.getCurrentScope().getLog(getClass()).severe(exception.getMessage());
-                    throw exception;
+    @Override
+    protected ParsedNode parseToNode(String physicalChangeLogLocation, ChangeLogParameters changeLogParameters, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        try {
+            Resource resource = resourceAccessor.get(physicalChangeLogLocation);
+            ChangeLogNodeCache nodeCache = ChangeLogNodeCache.fromConfiguration();
+            byte[] content = null;
+            if ((nodeCache != null) && resource.exists()) {
+                try (InputStream stream = resource.openInputStream()) {
+                    content = StreamUtil.readStream(stream);
                 }
-
-                @Override
-                public void fatalError(SAXParseException exception) throws SAXException {
-                    Scope.getCurrentScope().getLog(getClass()).severe(exception.getMessage());
-                    throw exception;
+                ParsedNode cachedNode = nodeCache.get(content);
+                if (cachedNode != null) {
+                    return cachedNode;
                 }
-            });
+            }
 
             if (!resource.exists()) {
                 if (physicalChangeLogLocation.startsWith("WEB-INF/classes/")) {
@@ -124,13 +186,24 @@ public class XMLChangeLogSAXParser extends AbstractChangeLogParser {
                 }
             }
 
+            Schema schema = saxParserFactory.isValidating() ? getCachedSchema(resource, content) : null;
+            SAXParser parser = acquireParser(schema);
             XMLChangeLogSAXHandler contentHandler = new XMLChangeLogSAXHandler(physicalChangeLogLocation, resourceAccessor, changeLogParameters);
-            xmlReader.setContentHandler(contentHandler);
-            try (InputStream stream = resource.openInputStream()) {
-                xmlReader.parse(new InputSource(new BomAwareInputStream(stream)));
+            try {
+                XMLReader xmlReader = parser.getXMLReader();
+                xmlReader.setContentHandler(contentHandler);
+                try (InputStream stream = (content == null) ? resource.openInputStream() : new ByteArrayInputStream(content)) {
+                    xmlReader.parse(new InputSource(new BomAwareInputStream(stream)));
+                }
+            } finally {
+                releaseParser(schema, parser);
             }
 
-            return contentHandler.getDatabaseChangeLogTree();
+            ParsedNode node = contentHandler.getDatabaseChangeLogTree();
+            if ((content != null) && (node != null)) {
+                nodeCache.put(content, node);
+            }
+            return node;
         } catch (ChangeLogParseException e) {
             throw e;
         } catch (IOException e) {
@@ -177,6 +250,104 @@ public class XMLChangeLogSAXParser extends AbstractChangeLogParser {
         }
     }
 
+    /**
+     * Returns the cached schema compiled from the XSD files the changelog references, or null if the changelog has to be
+     * validated with the schemas it references while it is parsed, e.g. because it has a DOCTYPE.
+     */
+    private Schema getCachedSchema(Resource resource, byte[] content) {
+        XMLChangeLogSchemaCache schemaCache = Scope.getCurrentScope().getSingleton(XMLChangeLogSchemaCache.class);
+        try (InputStream stream = (content == null) ? resource.openInputStream() : new ByteArrayInputStream(content)) {
+            SortedMap<String, String> schemaLocations = schemaCache.readSchemaLocations(new BomAwareInputStream(stream));
+            if (schemaLocations == null) {
+                return null;
+            }
+            for (String systemId : schemaLocations.values()) {
+                resolver.checkXsdVersion(systemId);
+            }
+            return schemaCache.getSchema(schemaLocations, resolver);
+        } catch (Exception e) {
+            Scope.getCurrentScope().getLog(getClass()).fine("Cannot use a cached schema for " + resource.getPath() + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns a parser validating against the given schema, or against the schemas the document references if it is null.
+     * Parsers released to the pool are reused, a new one is created if there is none for the schema.
+     */
+    private SAXParser acquireParser(Schema schema) throws ParserConfigurationException, SAXException {
+        SAXParser parser = takePooledParser(schema);
+        if (parser == null) {
+            if (schema == null) {
+                synchronized (saxParserFactory) {
+                    parser = saxParserFactory.newSAXParser();
+                }
+            } else {
+                SAXParserFactory schemaParserFactory = SAXParserFactory.newInstance();
+                schemaParserFactory.setNamespaceAware(true);
+                schemaParserFactory.setValidating(false);
+                schemaParserFactory.setSchema(schema);
+                if (GlobalConfiguration.SECURE_PARSING.getCurrentValue()) {
+                    try {
+                        schemaParserFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+                    } catch (Throwable e) {
+                        Scope.getCurrentScope().getLog(getClass()).fine("Cannot enable FEATURE_SECURE_PROCESSING: " + e.getMessage(), e);
+                    }
+                }
+                parser = schemaParserFactory.newSAXParser();
+            }
+        }
+
+        if (GlobalConfiguration.SECURE_PARSING.getCurrentValue()) {
+            try {
+                parser.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "http,https"); //need to allow external schemas on http/https to support the liquibase.org xsd files
+            } catch (SAXException e) {
+                Scope.getCurrentScope().getLog(getClass()).fine("Cannot enable ACCESS_EXTERNAL_SCHEMA: " + e.getMessage(), e);
+            }
+        }
+        if (schema == null) {
+            trySetSchemaLanguageProperty(parser);
+        }
+
+        XMLReader xmlReader = parser.getXMLReader();
+        xmlReader.setEntityResolver(resolver);
+        xmlReader.setErrorHandler(errorHandler);
+        return parser;
+    }
+
+    private SAXParser takePooledParser(Schema schema) {
+        synchronized (parserPool) {
+            Iterator<PooledParser> pooledParsers = parserPool.descendingIterator();
+            while (pooledParsers.hasNext()) {
+                PooledParser pooledParser = pooledParsers.next();
+                if (pooledParser.schema == schema) {
+                    pooledParsers.remove();
+                    return pooledParser.parser;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Resets the given parser and returns it to the pool, dropping the oldest pooled parser if the pool is full.
+     * The reset removes the handlers and the entity resolver set for the parse, so the pool does not keep them alive.
+     * Parsers that do not support being reset are dropped.
+     */
+    private void releaseParser(Schema schema, SAXParser parser) {
+        try {
+            parser.reset();
+        } catch (UnsupportedOperationException e) {
+            return;
+        }
+        synchronized (parserPool) {
+            if (parserPool.size() >= MAX_POOLED_PARSERS) {
+                parserPool.removeFirst();
+            }
+            parserPool.addLast(new PooledParser(schema, parser));
+        }
+    }
+
     /**
      * Attempts to set the "schemaLanguage" property of the given parser, but ignores any errors that may occur if the parser
      * does not recognize this property.
@@ -252,4 +423,15 @@ public class XMLChangeLogSAXParser extends AbstractChangeLogParser {
     protected InputStream openChangeLogFile(String physicalChangeLogLocation, ResourceAccessor resourceAccessor) throws IOException {
         return resourceAccessor.getExisting(physicalChangeLogLocation).openInputStream();
     }
+
+    private static class PooledParser {
+
+        private final Schema schema;
+        private final SAXParser parser;
+
+        private PooledParser(Schema schema, SAXParser parser) {
+            this.schema = schema;
+            this.parser = parser;
+        }
+    }
 }
@@ -0,0 +1,296 @@
+package liquibase.parser.core.xml;
+
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import liquibase.SingletonObject;
+import liquibase.resource.ResourceAccessor;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.EntityResolver2;
+import org.w3c.dom.ls.LSInput;
+import org.w3c.dom.ls.LSResourceResolver;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of the compiled XSD {@link Schema}s XML changelogs are validated against, keyed by the schema
+ * locations declared on their root element. Changelogs declaring schema locations on other elements too are not
+ * validated against a cached schema. Since the XSD files are resolved through the resource accessor of the
+ * current scope, schemas are cached separately for each resource accessor, resolver type and secure parsing setting.
+ * <p>
+ * Changelogs usually all reference the same few XSD files, so compiling them once instead of once per parsed file saves
+ * most of the validation overhead when a changelog includes many files.
+ */
+public class XMLChangeLogSchemaCache implements SingletonObject {
+
+    private final Map<ResourceAccessor, Map<String, Schema>> schemas = new WeakHashMap<>();
+    private final XMLInputFactory inputFactory;
+
+    private XMLChangeLogSchemaCache() {
+        inputFactory = XMLInputFactory.newFactory();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Reads the schema locations declared on the root element of the given XML document.
+     * The rest of the document is only read to check that no other element declares schema locations, since those
+     * would not be part of a schema compiled from the locations of the root element.
+     *
+     * @return the schema locations by namespace, with the no-namespace schema location under an empty namespace,
+     * or null if the root element declares none, declares them in an unexpected way, another element declares some,
+     * or the document has a DOCTYPE
+     */
+    public SortedMap<String, String> readSchemaLocations(InputStream stream) throws XMLStreamException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(stream);
+        try {
+            SortedMap<String, String> schemaLocations = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamReader.DTD) {
+                    return null;
+                }
+                if (event != XMLStreamReader.START_ELEMENT) {
+                    continue;
+                }
+                String schemaLocation = reader.getAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "schemaLocation");
+                String noNamespaceSchemaLocation = reader.getAttributeValue(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "noNamespaceSchemaLocation");
+                if (schemaLocations != null) {
+                    if ((schemaLocation != null) || (noNamespaceSchemaLocation != null)) {
+                        return null;
+                    }
+                    continue;
+                }
+
+                schemaLocations = new TreeMap<>();
+                if (schemaLocation != null && !schemaLocation.trim().isEmpty()) {
+                    String[] parts = schemaLocation.trim().split("\\s+");
+                    if (parts.length % 2 != 0) {
+                        return null;
+                    }
+                    for (int i = 0; i < parts.length; i += 2) {
+                        schemaLocations.put(parts[i], parts[i + 1]);
+                    }
+                }
+                if (noNamespaceSchemaLocation != null && !noNamespaceSchemaLocation.trim().isEmpty()) {
+                    schemaLocations.put("", noNamespaceSchemaLocation.trim());
+                }
+                if (schemaLocations.isEmpty()) {
+                    return null;
+                }
+            }
+            return schemaLocations;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Returns the schema compiled from the given schema locations, compiling it with the given resolver the first time.
+     * Schemas that fail to compile are not cached.
+     *
+     * @param schemaLocations the schema locations by namespace, as returned by {@link #readSchemaLocations(InputStream)}
+     */
+    public Schema getSchema(SortedMap<String, String> schemaLocations, EntityResolver2 resolver) throws SAXException, IOException {
+        Map<String, Schema> accessorSchemas;
+        synchronized (schemas) {
+            accessorSchemas = schemas.computeIfAbsent(Scope.getCurrentScope().getResourceAccessor(), accessor -> new ConcurrentHashMap<>());
+        }
+        String key = resolver.getClass().getName() + "|" + GlobalConfiguration.SECURE_PARSING.getCurrentValue() + "|" + schemaLocations;
+        Schema schema = accessorSchemas.get(key);
+        if (schema == null) {
+            schema = compileSchema(schemaLocations, resolver);
+            Schema existingSchema = accessorSchemas.putIfAbsent(key, schema);
+            if (existingSchema != null) {
+                schema = existingSchema;
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Removes all the cached schemas.
+     */
+    public void clear() {
+        synchronized (schemas) {
+            schemas.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached schemas.
+     */
+    public int size() {
+        synchronized (schemas) {
+            int size = 0;
+            for (Map<String, Schema> accessorSchemas : schemas.values()) {
+                size += accessorSchemas.size();
+            }
+            return size;
+        }
+    }
+
+    private Schema compileSchema(SortedMap<String, String> schemaLocations, EntityResolver2 resolver) throws SAXException, IOException {
+        Scope.getCurrentScope().getLog(getClass()).fine("Compiling XML changelog schema " + schemaLocations.values());
+
+        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        if (GlobalConfiguration.SECURE_PARSING.getCurrentValue()) {
+            try {
+                schemaFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            } catch (SAXException e) {
+                Scope.getCurrentScope().getLog(getClass()).fine("Cannot enable FEATURE_SECURE_PROCESSING: " + e.getMessage(), e);
+            }
+            try {
+                schemaFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "http,https"); //need to allow external schemas on http/https to support the liquibase.org xsd files
+            } catch (SAXException e) {
+                Scope.getCurrentScope().getLog(getClass()).fine("Cannot enable ACCESS_EXTERNAL_SCHEMA: " + e.getMessage(), e);
+            }
+        }
+        schemaFactory.setResourceResolver(new EntityResourceResolver(resolver));
+
+        List<Source> sources = new ArrayList<>();
+        for (String systemId : schemaLocations.values()) {
+            InputSource inputSource = resolver.resolveEntity(null, null, null, systemId);
+            if (inputSource == null) {
+                sources.add(new StreamSource(systemId));
+            } else {
+                inputSource.setSystemId(systemId);
+                sources.add(new SAXSource(inputSource));
+            }
+        }
+        return schemaFactory.newSchema(sources.toArray(new Source[0]));
+    }
+
+    /**
+     * Resolves the files the XSD files import or include with the resolver changelogs are parsed with.
+     */
+    private static class EntityResourceResolver implements LSResourceResolver {
+
+        private final EntityResolver2 resolver;
+
+        private EntityResourceResolver(EntityResolver2 resolver) {
+            this.resolver = resolver;
+        }
+
+        @Override
+        public LSInput resolveResource(String type, String namespaceURI, String publicId, String systemId, String baseURI) {
+            try {
+                InputSource inputSource = resolver.resolveEntity(null, publicId, baseURI, systemId);
+                return (inputSource == null) ? null : new InputSourceInput(inputSource, baseURI);
+            } catch (SAXException | IOException e) {
+                throw new XSDLookUpException("Unable to resolve xml entity " + systemId + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static class InputSourceInput implements LSInput {
+
+        private final InputSource inputSource;
+        private String baseURI;
+        private String stringData;
+        private boolean certifiedText;
+
+        private InputSourceInput(InputSource inputSource, String baseURI) {
+            this.inputSource = inputSource;
+            this.baseURI = baseURI;
+        }
+
+        @Override
+        public Reader getCharacterStream() {
+            return inputSource.getCharacterStream();
+        }
+
+        @Override
+        public void setCharacterStream(Reader characterStream) {
+            inputSource.setCharacterStream(characterStream);
+        }
+
+        @Override
+        public InputStream getByteStream() {
+            return inputSource.getByteStream();
+        }
+
+        @Override
+        public void setByteStream(InputStream byteStream) {
+            inputSource.setByteStream(byteStream);
+        }
+
+        @Override
+        public String getStringData() {
+            return stringData;
+        }
+
+        @Override
+        public void setStringData(String stringData) {
+            this.stringData = stringData;
+        }
+
+        @Override
+        public String getSystemId() {
+            return inputSource.getSystemId();
+        }
+
+        @Override
+        public void setSystemId(String systemId) {
+            inputSource.setSystemId(systemId);
+        }
+
+        @Override
+        public String getPublicId() {
+            return inputSource.getPublicId();
+        }
+
+        @Override
+        public void setPublicId(String publicId) {
+            inputSource.setPublicId(publicId);
+        }
+
+        @Override
+        public String getBaseURI() {
+            return baseURI;
+        }
+
+        @Override
+        public void setBaseURI(String baseURI) {
+            this.baseURI = baseURI;
+        }
+
+        @Override
+        public String getEncoding() {
+            return inputSource.getEncoding();
+        }
+
+        @Override
+        public void setEncoding(String encoding) {
+            inputSource.setEncoding(encoding);
+        }
+
+        @Override
+        public boolean getCertifiedText() {
+            return certifiedText;
+        }
+
+        @Override
+        public void setCertifiedText(boolean certifiedText) {
+            this.certifiedText = certifiedText;
+        }
+    }
+}
@@ -8,7 +8,7 @@ import liquibase.changelog.DatabaseChangeLog;
 import liquibase.exception.ChangeLogParseException;
 import liquibase.exception.LiquibaseException;
 import liquibase.exception.UnexpectedLiquibaseException;
-import liquibase.parser.ChangeLogParser;
+import liquibase.parser.PreParsingChangeLogParser;
 import liquibase.parser.core.ParsedNode;
 import liquibase.resource.Resource;
 import liquibase.resource.ResourceAccessor;
@@ -22,10 +22,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
 
-public class YamlChangeLogParser extends YamlParser implements ChangeLogParser {
+public class YamlChangeLogParser extends YamlParser implements PreParsingChangeLogParser<Map> {
 
     @Override
     public DatabaseChangeLog parse(String physicalChangeLogLocation, ChangeLogParameters changeLogParameters, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        return parse(preParse(physicalChangeLogLocation, resourceAccessor), physicalChangeLogLocation, changeLogParameters, resourceAccessor);
+    }
+
+    /**
+     * Reads the YAML document of the file, before the changelog parameters are replaced in it.
+     */
+    @Override
+    public Map preParse(String physicalChangeLogLocation, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
         Yaml yaml = CustomTimestampSafeConstructor.createYaml();
 
         try {
@@ -34,11 +42,46 @@ public class YamlChangeLogParser extends YamlParser implements ChangeLogParser {
                 throw new ChangeLogParseException(physicalChangeLogLocation + " does not exist");
             }
 
-            Map parsedYaml;
             try (InputStream changeLogStream = changelog.openInputStream()) {
-                parsedYaml = parseYamlStream(physicalChangeLogLocation, yaml, changeLogStream);
+                return parseYamlStream(physicalChangeLogLocation, yaml, changeLogStream);
+            }
+        } catch (ChangeLogParseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ChangeLogParseException("Error parsing " + physicalChangeLogLocation + " : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copies the maps and lists of the document, since the changelog parameters are replaced in them when the changelog
+     * is loaded.
+     */
+    @Override
+    public Map copyPreParsed(Map preParsed) {
+        return (Map) copyYaml(preParsed);
+    }
+
+    private static Object copyYaml(Object yaml) {
+        if (yaml instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) yaml).entrySet()) {
+                copy.put(entry.getKey(), copyYaml(entry.getValue()));
             }
+            return copy;
+        }
+        if (yaml instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object item : (List<?>) yaml) {
+                copy.add(copyYaml(item));
+            }
+            return copy;
+        }
+        return yaml;
+    }
 
+    @Override
+    public DatabaseChangeLog parse(Map parsedYaml, String physicalChangeLogLocation, ChangeLogParameters changeLogParameters, ResourceAccessor resourceAccessor) throws ChangeLogParseException {
+        try {
             if ((parsedYaml == null) || parsedYaml.isEmpty()) {
                 throw new ChangeLogParseException("Empty file " + physicalChangeLogLocation);
             }
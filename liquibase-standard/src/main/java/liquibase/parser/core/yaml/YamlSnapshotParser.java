@@ -7,6 +7,7 @@ import liquibase.database.OfflineConnection;
 import liquibase.exception.LiquibaseParseException;
 import liquibase.parser.SnapshotParser;
 import liquibase.parser.core.ParsedNode;
+import liquibase.parser.core.ParsedNodeException;
 import liquibase.resource.Resource;
 import liquibase.resource.ResourceAccessor;
 import liquibase.snapshot.DatabaseSnapshot;
@@ -43,10 +44,7 @@ public class YamlSnapshotParser extends YamlParser implements SnapshotParser {
                 parsedYaml = getParsedYamlFromInputStream(yaml, stream);
             }
 
-            Map rootList = (Map) parsedYaml.get("snapshot");
-            if (rootList == null) {
-                throw new LiquibaseParseException("Could not find root snapshot node");
-            }
+            Map rootList = getSnapshotNode(parsedYaml);
 
             String shortName = (String) ((Map<?, ?>) rootList.get("database")).get("shortName");
 
@@ -54,15 +52,7 @@ public class YamlSnapshotParser extends YamlParser implements SnapshotParser {
             database.setConnection(new OfflineConnection("offline:" + shortName, null));
 
             DatabaseSnapshot snapshot = new RestoredDatabaseSnapshot(database);
-            ParsedNode snapshotNode = new ParsedNode(null, "snapshot");
-            snapshotNode.setValue(rootList);
-
-            Map metadata = (Map) rootList.get("metadata");
-            if (metadata != null) {
-                snapshot.getMetadata().putAll(metadata);
-            }
-
-            snapshot.load(snapshotNode, resourceAccessor);
+            load(rootList, snapshot, resourceAccessor);
 
             return snapshot;
         } catch (LiquibaseParseException e) {
@@ -73,6 +63,40 @@ public class YamlSnapshotParser extends YamlParser implements SnapshotParser {
         }
     }
 
+    /**
+     * Reads a serialized snapshot from the given stream into the given empty snapshot, rather than into a new snapshot
+     * of an offline database the way {@link #parse(String, ResourceAccessor)} does.
+     */
+    public void load(InputStream stream, DatabaseSnapshot snapshot, ResourceAccessor resourceAccessor) throws LiquibaseParseException {
+        try {
+            load(getSnapshotNode(getParsedYamlFromInputStream(createYaml(), stream)), snapshot, resourceAccessor);
+        } catch (LiquibaseParseException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new LiquibaseParseException(e);
+        }
+    }
+
+    private Map getSnapshotNode(Map parsedYaml) throws LiquibaseParseException {
+        Map rootList = (parsedYaml == null) ? null : (Map) parsedYaml.get("snapshot");
+        if (rootList == null) {
+            throw new LiquibaseParseException("Could not find root snapshot node");
+        }
+        return rootList;
+    }
+
+    private void load(Map rootList, DatabaseSnapshot snapshot, ResourceAccessor resourceAccessor) throws ParsedNodeException {
+        ParsedNode snapshotNode = new ParsedNode(null, "snapshot");
+        snapshotNode.setValue(rootList);
+
+        Map metadata = (Map) rootList.get("metadata");
+        if (metadata != null) {
+            snapshot.getMetadata().putAll(metadata);
+        }
+
+        snapshot.load(snapshotNode, resourceAccessor);
+    }
+
     private Yaml createYaml() {
         LoaderOptions loaderOptions = new LoaderOptions();
         SnakeYamlUtil.setCodePointLimitSafely(loaderOptions, CODE_POINT_LIMIT);
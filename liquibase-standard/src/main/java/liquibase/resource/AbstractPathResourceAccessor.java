@@ -97,6 +97,17 @@ public abstract class AbstractPathResourceAccessor extends AbstractResourceAcces
             throw new IOException("'" + startPath + "' is a file, not a directory");
         }
 
+        if (isSearchIndexed() && ResourcePathIndex.isEnabled()) {
+            String directory = rootPath.relativize(basePath).normalize().toString().replace("\\", "/").replaceFirst("/$", "");
+            for (String pathToAdd : Scope.getCurrentScope().getSingleton(ResourcePathIndex.class).search(rootPath, directory, minDepth, maxDepth)) {
+                Path file = rootPath.resolve(pathToAdd);
+                if (!endsWithFilterIsSet || file.toString().toLowerCase().endsWith(endsWithFilter.toLowerCase())) {
+                    returnSet.add(createResource(file, pathToAdd));
+                }
+            }
+            return returnSet;
+        }
+
         SimpleFileVisitor<Path> fileVisitor = new SimpleFileVisitor<Path>() {
             @Override
             public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
@@ -150,6 +161,15 @@ public abstract class AbstractPathResourceAccessor extends AbstractResourceAcces
         return search(startPath, searchOptions);
     }
 
+    /**
+     * Returns true if {@link #search(String, SearchOptions)} can look the files up in the {@link ResourcePathIndex}
+     * when {@link liquibase.GlobalConfiguration#INDEX_RESOURCE_SEARCH} is set, because the files under the root path
+     * do not change while Liquibase runs. Returns false by default.
+     */
+    protected boolean isSearchIndexed() {
+        return false;
+    }
+
     protected abstract Resource createResource(Path file, String pathToAdd);
 
 }
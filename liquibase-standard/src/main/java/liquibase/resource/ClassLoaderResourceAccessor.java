@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.net.*;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -21,6 +22,12 @@ public class ClassLoaderResourceAccessor extends AbstractResourceAccessor {
     private CompositeResourceAccessor additionalResourceAccessors;
     protected SortedSet<String> description;
 
+    /**
+     * The resource accessors on the classloader roots already searched, reused by later searches when
+     * {@link ResourcePathIndex#isEnabled()} so jar files are not opened again for each search.
+     */
+    private final Map<String, ResourceAccessor> rootResourceAccessors = new ConcurrentHashMap<>();
+
     public ClassLoaderResourceAccessor() {
         this(Thread.currentThread().getContextClassLoader());
     }
@@ -41,6 +48,10 @@ public class ClassLoaderResourceAccessor extends AbstractResourceAccessor {
         if (additionalResourceAccessors != null) {
             additionalResourceAccessors.close();
         }
+        for (ResourceAccessor resourceAccessor : rootResourceAccessors.values()) {
+            resourceAccessor.close();
+        }
+        rootResourceAccessors.clear();
     }
 
     /**
@@ -114,6 +125,11 @@ public class ClassLoaderResourceAccessor extends AbstractResourceAccessor {
             String urlExternalForm = url.toExternalForm();
             urlExternalForm = urlExternalForm.replaceFirst(Pattern.quote(path) + "/?$", "");
 
+            if (ResourcePathIndex.isEnabled()) {
+                returnList.addAll(getRootResourceAccessor(pathHandlerFactory, urlExternalForm).search(path, searchOptions));
+                continue;
+            }
+
             try (ResourceAccessor resourceAccessor = pathHandlerFactory.getResourceAccessor(urlExternalForm)) {
                 returnList.addAll(resourceAccessor.search(path, searchOptions));
             } catch (Exception e) {
@@ -127,6 +143,23 @@ public class ClassLoaderResourceAccessor extends AbstractResourceAccessor {
         return new ArrayList<>(returnList);
     }
 
+    private ResourceAccessor getRootResourceAccessor(PathHandlerFactory pathHandlerFactory, String root) throws IOException {
+        ResourceAccessor resourceAccessor = rootResourceAccessors.get(root);
+        if (resourceAccessor == null) {
+            resourceAccessor = pathHandlerFactory.getResourceAccessor(root);
+            ResourceAccessor existingResourceAccessor = rootResourceAccessors.putIfAbsent(root, resourceAccessor);
+            if (existingResourceAccessor != null) {
+                try {
+                    resourceAccessor.close();
+                } catch (Exception e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+                resourceAccessor = existingResourceAccessor;
+            }
+        }
+        return resourceAccessor;
+    }
+
     @Override
     public List<Resource> search(String path, boolean recursive) throws IOException {
         SearchOptions searchOptions = new SearchOptions();
@@ -0,0 +1,121 @@
+package liquibase.resource;
+
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import liquibase.SingletonObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the files under the roots searched by {@link AbstractPathResourceAccessor}s, used when
+ * {@link GlobalConfiguration#INDEX_RESOURCE_SEARCH} is set.
+ * <p>
+ * The files of a root are listed once, the first time it is searched, and kept sorted by path so every later search in
+ * the root, from any resource accessor on it, is a lookup of the paths starting with the searched directory instead of
+ * a walk of the directory. Files added or removed after the first search are not seen, so only roots which do not
+ * change while Liquibase runs, such as jar and zip files, are indexed.
+ */
+public class ResourcePathIndex implements SingletonObject {
+
+    private final Map<String, NavigableMap<String, Integer>> roots = new ConcurrentHashMap<>();
+
+    private ResourcePathIndex() {
+    }
+
+    /**
+     * Returns true if {@link GlobalConfiguration#INDEX_RESOURCE_SEARCH} is set.
+     */
+    public static boolean isEnabled() {
+        return Boolean.TRUE.equals(GlobalConfiguration.INDEX_RESOURCE_SEARCH.getCurrentValue());
+    }
+
+    /**
+     * Returns the paths of the files under the given directory of the given root, relative to the root and in the order
+     * {@link Files#walkFileTree(Path, Set, int, FileVisitor)} visits them. The root is indexed the first time it is searched.
+     *
+     * @param directory the directory to search in, relative to the root, without leading or trailing "/"
+     * @param minDepth  the minimum depth of the files to return, where the files directly in the directory are at depth 1
+     * @param maxDepth  the maximum depth of the files to return
+     */
+    public List<String> search(Path rootPath, String directory, int minDepth, int maxDepth) throws IOException {
+        NavigableMap<String, Integer> paths = getPaths(rootPath);
+
+        String prefix = directory.isEmpty() ? "" : directory + "/";
+        SortedMap<String, Integer> candidates = prefix.isEmpty() ? paths : paths.subMap(prefix, prefix + Character.MAX_VALUE);
+
+        List<Map.Entry<String, Integer>> matches = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int depth = getDepth(candidate.getKey(), prefix.length());
+            if (depth >= minDepth && depth <= maxDepth) {
+                matches.add(candidate);
+            }
+        }
+        matches.sort(Map.Entry.comparingByValue());
+
+        List<String> returnList = new ArrayList<>(matches.size());
+        for (Map.Entry<String, Integer> match : matches) {
+            returnList.add(match.getKey());
+        }
+        return returnList;
+    }
+
+    /**
+     * Removes all the indexed roots, so they are listed again the next time they are searched.
+     */
+    public void clear() {
+        roots.clear();
+    }
+
+    /**
+     * Returns the number of indexed roots.
+     */
+    public int size() {
+        return roots.size();
+    }
+
+    private NavigableMap<String, Integer> getPaths(Path rootPath) throws IOException {
+        try {
+            return roots.computeIfAbsent(rootPath.toUri().toString(), key -> {
+                try {
+                    return listFiles(rootPath);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private NavigableMap<String, Integer> listFiles(Path rootPath) throws IOException {
+        Scope.getCurrentScope().getLog(getClass()).fine("Indexing files in " + rootPath.toUri());
+
+        NavigableMap<String, Integer> paths = new TreeMap<>();
+        Files.walkFileTree(rootPath, Collections.singleton(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) {
+                    String path = rootPath.relativize(file).normalize().toString().replace("\\", "/");
+                    paths.put(path.replaceFirst("/$", ""), paths.size());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return Collections.unmodifiableNavigableMap(paths);
+    }
+
+    private static int getDepth(String path, int prefixLength) {
+        int depth = 1;
+        for (int i = prefixLength; i < path.length(); i++) {
+            if (path.charAt(i) == '/') {
+                depth++;
+            }
+        }
+        return depth;
+    }
+}
@@ -78,6 +78,14 @@ public class ZipResourceAccessor extends AbstractPathResourceAccessor {
         return this.fileSystem.getPath("/");
     }
 
+    /**
+     * Jar and zip files do not change while Liquibase runs, so their files can be indexed.
+     */
+    @Override
+    protected boolean isSearchIndexed() {
+        return true;
+    }
+
     @Override
     protected Resource createResource(Path file, String pathToAdd) {
         return new PathResource(pathToAdd, file);
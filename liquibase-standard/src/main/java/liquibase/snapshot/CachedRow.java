@@ -1,25 +1,56 @@
 package liquibase.snapshot;
 
+import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * A row of a metadata query result. Rows read by {@link ResultSetCache} share a single {@link Columns} dictionary per
+ * result set and store only their values, which keeps the memory used by large bulk metadata queries low.
+ */
 public class CachedRow {
-    private final Map<String, Object> row;
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private final Columns columns;
+    private final Object[] values;
+    /**
+     * Values of columns that are not in the {@link #columns} dictionary.
+     */
+    private Map<String, Object> otherValues;
 
     public CachedRow(Map<String, Object> row) {
-        this.row = row;
+        this.columns = Columns.EMPTY;
+        this.values = NO_VALUES;
+        this.otherValues = row;
+    }
+
+    CachedRow(Columns columns, Object[] values) {
+        this.columns = columns;
+        this.values = values;
     }
 
     @SuppressWarnings("unchecked")
     public <T> T get(String columnName) {
-        return (T) row.get(columnName);
+        int index = columns.indexOf(columnName);
+        if (index >= 0) {
+            return (T) values[index];
+        }
+        return (otherValues == null) ? null : (T) otherValues.get(columnName);
     }
 
     public void set(String columnName, Object value) {
-        row.put(columnName, value);
+        int index = columns.indexOf(columnName);
+        if (index >= 0) {
+            values[index] = value;
+        } else {
+            if (otherValues == null) {
+                otherValues = new HashMap<>();
+            }
+            otherValues.put(columnName, value);
+        }
     }
 
     public boolean containsColumn(String columnName) {
-        return row.containsKey(columnName);
+        return (columns.indexOf(columnName) >= 0) || ((otherValues != null) && otherValues.containsKey(columnName));
     }
 
     public String getString(String columnName) {
@@ -27,7 +58,7 @@ public class CachedRow {
     }
 
     public Integer getInt(String columnName) {
-        Object o = row.get(columnName);
+        Object o = get(columnName);
         if (o instanceof Number) {
             return ((Number) o).intValue();
         } else if (o instanceof String) {
@@ -44,7 +75,7 @@ public class CachedRow {
     }
 
     public Short getShort(String columnName) {
-        Object o = row.get(columnName);
+        Object o = get(columnName);
         if (o instanceof Number) {
             return ((Number) o).shortValue();
         } else if (o instanceof String) {
@@ -54,7 +85,7 @@ public class CachedRow {
     }
 
     public Boolean getBoolean(String columnName) {
-        Object o = row.get(columnName);
+        Object o = get(columnName);
         if (o instanceof Number) {
             return ((Number) o).longValue() != 0;
         }
@@ -76,10 +107,38 @@ public class CachedRow {
      * @return {@code true} if the column value is 'YES', {@code false} otherwise; or {@code null} if the column value is {@code null}
      */
     public Boolean yesNoToBoolean(String columnName) {
-        Object o = row.get(columnName);
+        Object o = get(columnName);
         if (o instanceof String && "YES".equalsIgnoreCase((String)o)) {
             return Boolean.TRUE;
         }
         return getBoolean(columnName);
     }
+
+    /**
+     * The column names of a result set, mapped to the index of their value in each row.
+     * If a result set has the same column name more than once, the last one is used.
+     */
+    static final class Columns {
+        static final Columns EMPTY = new Columns(new String[0]);
+
+        private final Map<String, Integer> indexes;
+        private final int size;
+
+        Columns(String[] names) {
+            this.size = names.length;
+            this.indexes = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                indexes.put(names[i], i);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int indexOf(String columnName) {
+            Integer index = indexes.get(columnName);
+            return (index == null) ? -1 : index;
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package liquibase.snapshot;
+
+import liquibase.executor.jvm.ColumnMapRowMapper;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps each row of a metadata result set to a {@link CachedRow}. All rows share one {@link CachedRow.Columns} dictionary,
+ * and equal string values such as catalog, schema, table and type names are stored as a single instance.
+ * Column keys and values are the same as {@link ColumnMapRowMapper} returns.
+ */
+class CachedRowMapper extends ColumnMapRowMapper {
+
+    private CachedRow.Columns columns;
+    private final Map<String, String> strings = new HashMap<>();
+
+    CachedRowMapper(boolean caseSensitiveDatabase) {
+        super(caseSensitiveDatabase);
+    }
+
+    @Override
+    public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
+        if (columns == null) {
+            ResultSetMetaData rsmd = rs.getMetaData();
+            String[] names = new String[rsmd.getColumnCount()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = getColumnKey(rsmd.getColumnLabel(i + 1));
+            }
+            columns = new CachedRow.Columns(names);
+        }
+
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = getColumnValue(rs, i + 1);
+            if (value instanceof String) {
+                value = strings.computeIfAbsent((String) value, string -> string);
+            }
+            values[i] = value;
+        }
+        return new CachedRow(columns, values);
+    }
+}
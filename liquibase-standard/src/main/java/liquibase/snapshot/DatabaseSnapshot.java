@@ -281,6 +281,15 @@ public abstract class DatabaseSnapshot implements LiquibaseSerializable {
         return resultSetCaches.get(key);
     }
 
+    /**
+     * Adds the results of the bulk queries cached by the given snapshot to this snapshot's result set caches.
+     */
+    void addBulkResults(DatabaseSnapshot snapshot) {
+        for (Map.Entry<String, ResultSetCache> entry : snapshot.resultSetCaches.entrySet()) {
+            getResultSetCache(entry.getKey()).addBulkResults(entry.getValue());
+        }
+    }
+
     /**
      * Include the object described by the passed example object in this snapshot. Returns the object snapshot or null
      * if the object does not exist in the database. If the same object was returned by an earlier include() call,
@@ -41,6 +41,14 @@ public class JdbcDatabaseSnapshot extends DatabaseSnapshot {
         super(examples, database);
     }
 
+    @Override
+    protected void init(DatabaseObject[] examples) throws DatabaseException, InvalidExampleException {
+        if (ParallelMetaDataPrefetcher.canPrefetch(this, examples)) {
+            new ParallelMetaDataPrefetcher(this).prefetch(examples);
+        }
+        super.init(examples);
+    }
+
     public CachingDatabaseMetaData getMetaDataFromCache() throws SQLException {
         if (cachingDatabaseMetaData == null) {
             DatabaseMetaData databaseMetaData = null;
@@ -452,7 +460,7 @@ public class JdbcDatabaseSnapshot extends DatabaseSnapshot {
             protected boolean shouldBulkSelect(String schemaKey, ResultSetCache resultSetCache) {
                 LiquibaseTableNamesFactory liquibaseTableNamesFactory = Scope.getCurrentScope().getSingleton(LiquibaseTableNamesFactory.class);
                 List<String> liquibaseTableNames = liquibaseTableNamesFactory.getLiquibaseTableNames(database);
-                return liquibaseTableNames.stream().noneMatch(tableName::equalsIgnoreCase);
+                return (tableName == null) || liquibaseTableNames.stream().noneMatch(tableName::equalsIgnoreCase);
             }
 
             @Override
@@ -1124,7 +1132,7 @@ public class JdbcDatabaseSnapshot extends DatabaseSnapshot {
             protected boolean shouldBulkSelect(String schemaKey, ResultSetCache resultSetCache) {
                 LiquibaseTableNamesFactory liquibaseTableNamesFactory = Scope.getCurrentScope().getSingleton(LiquibaseTableNamesFactory.class);
                 List<String> liquibaseTableNames = liquibaseTableNamesFactory.getLiquibaseTableNames(database);
-                return liquibaseTableNames.stream().noneMatch(tableName::equalsIgnoreCase);
+                return (tableName == null) || liquibaseTableNames.stream().noneMatch(tableName::equalsIgnoreCase);
             }
 
             @Override
@@ -0,0 +1,169 @@
+package liquibase.snapshot;
+
+import liquibase.Scope;
+import liquibase.database.AbstractJdbcDatabase;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.UnexpectedLiquibaseException;
+import liquibase.structure.DatabaseObject;
+import liquibase.structure.core.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Runs the schema-wide {@link JdbcDatabaseSnapshot.CachingDatabaseMetaData} bulk queries for each schema and object type
+ * concurrently, each on its own connection from {@link SnapshotControl#getParallelDataSource()}, and adds the results to
+ * the result set caches of the snapshot being built.
+ * <p>
+ * The snapshot itself is still built by the regular serial walk of the object graph, which finds the prefetched rows
+ * in the cache instead of querying for them. Anything that was not prefetched, or could not be, is queried by that walk
+ * as usual, so the resulting snapshot is the same as a serial one.
+ */
+class ParallelMetaDataPrefetcher {
+
+
+    private final JdbcDatabaseSnapshot snapshot;
+    private final Database database;
+    private final SnapshotControl snapshotControl;
+
+    private final Queue<Database> idleDatabases = new ConcurrentLinkedQueue<>();
+    private final Queue<Database> openedDatabases = new ConcurrentLinkedQueue<>();
+
+    ParallelMetaDataPrefetcher(JdbcDatabaseSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.database = snapshot.getDatabase();
+        this.snapshotControl = snapshot.getSnapshotControl();
+    }
+
+    /**
+     * Returns true if the given snapshot can use a parallel prefetch for the given examples.
+     */
+    static boolean canPrefetch(JdbcDatabaseSnapshot snapshot, DatabaseObject[] examples) {
+        if ((examples == null) || !snapshot.getSnapshotControl().isParallel()) {
+            return false;
+        }
+        if (!(snapshot.getDatabase() instanceof AbstractJdbcDatabase) || !(snapshot.getDatabase().getConnection() instanceof JdbcConnection)) {
+            return false;
+        }
+        Set<Catalog> catalogs = new HashSet<>();
+        for (DatabaseObject example : examples) {
+            if (example instanceof Schema) {
+                catalogs.add(((Schema) example).getCatalog());
+            }
+        }
+        //with more than one catalog the bulk queries already span all catalogs in a single query
+        return catalogs.size() == 1;
+    }
+
+    void prefetch(DatabaseObject[] examples) {
+        List<Callable<JdbcDatabaseSnapshot>> tasks = new ArrayList<>();
+        for (DatabaseObject example : examples) {
+            if (example instanceof Schema) {
+                addTasks((Schema) example, tasks);
+            }
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        Scope.getCurrentScope().getLog(getClass()).fine("Prefetching snapshot metadata with " + tasks.size() + " queries over up to " + snapshotControl.getParallelism() + " connections");
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(snapshotControl.getParallelism(), tasks.size()));
+        try {
+            List<Future<JdbcDatabaseSnapshot>> results = executor.invokeAll(tasks);
+            //merge in submission order so the cache contents do not depend on which query finished first
+            for (Future<JdbcDatabaseSnapshot> result : results) {
+                try {
+                    snapshot.addBulkResults(result.get());
+                } catch (ExecutionException e) {
+                    Scope.getCurrentScope().getLog(getClass()).fine("Cannot prefetch snapshot metadata, it will be read serially: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnexpectedLiquibaseException(e);
+        } finally {
+            executor.shutdownNow();
+            closeDatabases();
+        }
+    }
+
+    private void addTasks(Schema schema, List<Callable<JdbcDatabaseSnapshot>> tasks) {
+        AbstractJdbcDatabase jdbcDatabase = (AbstractJdbcDatabase) database;
+        String catalogName = jdbcDatabase.getJdbcCatalogName(schema);
+        String schemaName = jdbcDatabase.getJdbcSchemaName(schema);
+
+        if (snapshotControl.shouldInclude(Table.class)) {
+            tasks.add(task(metaData -> metaData.getTables(catalogName, schemaName, null)));
+        }
+        if (snapshotControl.shouldInclude(View.class)) {
+            tasks.add(task(metaData -> metaData.getViews(catalogName, schemaName, null)));
+        }
+        if (snapshotControl.shouldInclude(Column.class)) {
+            tasks.add(task(metaData -> metaData.getColumns(catalogName, schemaName, null, null)));
+            tasks.add(task(metaData -> metaData.getNotNullConst(catalogName, schemaName, null)));
+        }
+        if (snapshotControl.shouldInclude(PrimaryKey.class)) {
+            tasks.add(task(metaData -> metaData.getPrimaryKeys(catalogName, schemaName, null)));
+        }
+        if (snapshotControl.shouldInclude(ForeignKey.class)) {
+            tasks.add(task(metaData -> metaData.getForeignKeys(catalogName, schemaName, null, null)));
+        }
+        if (snapshotControl.shouldInclude(Index.class)) {
+            tasks.add(task(metaData -> metaData.getIndexInfo(catalogName, schemaName, null, null)));
+        }
+        if (snapshotControl.shouldInclude(UniqueConstraint.class)) {
+            //UniqueConstraintSnapshotGenerator looks these up by the schema's own names
+            tasks.add(task(metaData -> metaData.getUniqueConstraints(schema.getCatalogName(), schema.getName(), null)));
+        }
+    }
+
+    /**
+     * Creates a task that runs the given query against an empty snapshot on a separate connection,
+     * and returns that snapshot so its result set caches can be merged.
+     */
+    private Callable<JdbcDatabaseSnapshot> task(MetaDataQuery query) {
+        return () -> {
+            Database workerDatabase = idleDatabases.poll();
+            if (workerDatabase == null) {
+                workerDatabase = openDatabase();
+            }
+            try {
+                JdbcDatabaseSnapshot workerSnapshot = new JdbcDatabaseSnapshot(null, workerDatabase, snapshotControl);
+                query.run(workerSnapshot.getMetaDataFromCache());
+                return workerSnapshot;
+            } finally {
+                idleDatabases.add(workerDatabase);
+            }
+        };
+    }
+
+    private Database openDatabase() throws Exception {
+        Database workerDatabase = database.getClass().getConstructor().newInstance();
+        workerDatabase.setConnection(new JdbcConnection(snapshotControl.getParallelDataSource().getConnection()));
+        openedDatabases.add(workerDatabase);
+
+        workerDatabase.setDefaultCatalogName(database.getDefaultCatalogName());
+        workerDatabase.setDefaultSchemaName(database.getDefaultSchemaName());
+        workerDatabase.setObjectQuotingStrategy(database.getObjectQuotingStrategy());
+        workerDatabase.setOutputDefaultCatalog(database.getOutputDefaultCatalog());
+        workerDatabase.setOutputDefaultSchema(database.getOutputDefaultSchema());
+        return workerDatabase;
+    }
+
+    private void closeDatabases() {
+        for (Database workerDatabase : openedDatabases) {
+            try {
+                workerDatabase.close();
+            } catch (DatabaseException e) {
+                Scope.getCurrentScope().getLog(getClass()).fine("Cannot close parallel snapshot connection: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface MetaDataQuery {
+        void run(JdbcDatabaseSnapshot.CachingDatabaseMetaData metaData) throws Exception;
+    }
+}
@@ -6,7 +6,6 @@ import liquibase.database.core.InformixDatabase;
 import liquibase.database.jvm.JdbcConnection;
 import liquibase.exception.DatabaseException;
 import liquibase.exception.UnexpectedLiquibaseException;
-import liquibase.executor.jvm.ColumnMapRowMapper;
 import liquibase.executor.jvm.RowMapperResultSetExtractor;
 import liquibase.structure.core.Catalog;
 import liquibase.structure.core.Schema;
@@ -101,6 +100,21 @@ public class ResultSetCache {
         }
     }
 
+    /**
+     * Copies the results of the bulk queries done by the given cache into this cache, for each schema this cache has not
+     * bulk queried itself. Results of single queries are not copied, just like they are not kept by {@link #get(ResultSetExtractor)}.
+     */
+    void addBulkResults(ResultSetCache other) {
+        for (Map.Entry<String, Boolean> bulkQuery : other.didBulkQuery.entrySet()) {
+            String schemaKey = bulkQuery.getKey();
+            Map<String, List<CachedRow>> rows = other.cacheBySchema.get(schemaKey);
+            if (Boolean.TRUE.equals(bulkQuery.getValue()) && (rows != null) && !didBulkQuery.containsKey(schemaKey)) {
+                cacheBySchema.put(schemaKey, new HashMap<>(rows));
+                didBulkQuery.put(schemaKey, true);
+            }
+        }
+    }
+
     public <T> T getInfo(String key, Class<T> type) {
         return (T) info.get(key);
     }
@@ -286,9 +300,8 @@ public class ResultSetCache {
         protected List<CachedRow> extract(ResultSet resultSet, final boolean informixIndexTrimHint)
                 throws SQLException {
             resultSet.setFetchSize(database.getFetchSize());
-            List<CachedRow> returnList = new ArrayList<>();
             try {
-                List<Map> result = (List<Map>) new RowMapperResultSetExtractor(new ColumnMapRowMapper(database.isCaseSensitive()) {
+                return (List<CachedRow>) new RowMapperResultSetExtractor(new CachedRowMapper(database.isCaseSensitive()) {
                     @Override
                     protected Object getColumnValue(ResultSet rs, int index) throws SQLException {
                         Object value = super.getColumnValue(rs, index);
@@ -312,14 +325,9 @@ public class ResultSetCache {
                         return value;
                     }
                 }).extractData(resultSet);
-
-                for (Map row : result) {
-                    returnList.add(new CachedRow(row));
-                }
             } finally {
                 JdbcUtil.closeResultSet(resultSet);
             }
-            return returnList;
         }
     }
 
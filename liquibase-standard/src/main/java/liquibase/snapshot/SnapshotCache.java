@@ -0,0 +1,233 @@
+package liquibase.snapshot;
+
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.database.DatabaseConnection;
+import liquibase.database.core.CockroachDatabase;
+import liquibase.database.core.MSSQLDatabase;
+import liquibase.database.core.OracleDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.LiquibaseParseException;
+import liquibase.executor.ExecutorService;
+import liquibase.parser.core.json.JsonSnapshotParser;
+import liquibase.serializer.SnapshotSerializerFactory;
+import liquibase.statement.core.RawParameterizedSqlStatement;
+import liquibase.structure.DatabaseObject;
+import liquibase.structure.core.Data;
+import liquibase.structure.core.Schema;
+import liquibase.util.LiquibaseUtil;
+import liquibase.util.MD5Util;
+import liquibase.util.StringUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stores snapshots of whole schemas on disk, so that later snapshots of the same schemas can be read from disk instead
+ * of from the database metadata while the schemas are unchanged.
+ * <p>
+ * Each stored snapshot is keyed by the connection, Liquibase version, schemas and included types, and records a
+ * fingerprint of the schemas' DDL read from the database catalog before the snapshot was taken. A stored snapshot is
+ * only used while that fingerprint is unchanged, otherwise the schemas are snapshotted again and the stored snapshot is
+ * replaced. Databases without a fingerprint query are always snapshotted from the database metadata.
+ */
+public class SnapshotCache {
+
+    private static final String FINGERPRINT_METADATA_KEY = "snapshotCacheFingerprint";
+
+    private final Path directory;
+
+    public SnapshotCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns a cache in the directory set by {@link GlobalConfiguration#SNAPSHOT_CACHE_DIRECTORY}, or null if it is not set.
+     */
+    public static SnapshotCache fromConfiguration() {
+        String directory = StringUtil.trimToNull(GlobalConfiguration.SNAPSHOT_CACHE_DIRECTORY.getCurrentValue());
+        return (directory == null) ? null : new SnapshotCache(Paths.get(directory));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the stored snapshot of the given examples if it is still current, otherwise creates a new
+     * {@link JdbcDatabaseSnapshot} and stores it. Stored snapshots are restored into a {@link JdbcDatabaseSnapshot} as well.
+     */
+    DatabaseSnapshot createSnapshot(DatabaseObject[] examples, Database database, SnapshotControl snapshotControl) throws DatabaseException, InvalidExampleException {
+        Schema[] schemas = getCacheableSchemas(examples, snapshotControl);
+        String fingerprint = null;
+        if (schemas != null) {
+            try {
+                fingerprint = getFingerprint(database, schemas);
+            } catch (DatabaseException e) {
+                Scope.getCurrentScope().getLog(getClass()).fine("Cannot read the schema fingerprint, the snapshot will not be cached: " + e.getMessage(), e);
+            }
+        }
+        if (fingerprint == null) {
+            return new JdbcDatabaseSnapshot(examples, database, snapshotControl);
+        }
+
+        Path file = directory.resolve(getKey(database, schemas, snapshotControl) + ".json");
+        DatabaseSnapshot cachedSnapshot = read(file, database, snapshotControl, fingerprint);
+        if (cachedSnapshot != null) {
+            Scope.getCurrentScope().getLog(getClass()).info("Using cached snapshot " + file);
+            return cachedSnapshot;
+        }
+
+        DatabaseSnapshot snapshot = new JdbcDatabaseSnapshot(examples, database, snapshotControl);
+        write(snapshot, file, fingerprint);
+        return snapshot;
+    }
+
+    /**
+     * Returns a value that changes whenever DDL runs against the given schemas, or null if the database does not
+     * support reading one. The schemas are all in the default catalog.
+     */
+    protected String getFingerprint(Database database, Schema[] schemas) throws DatabaseException {
+        String sql;
+        int schemaListCount;
+        if ((database instanceof PostgresDatabase) && !(database instanceof CockroachDatabase)) {
+            sql = "WITH ns AS (SELECT oid FROM pg_catalog.pg_namespace WHERE nspname IN (%1$s)), " +
+                    "rel AS (SELECT oid FROM pg_catalog.pg_class WHERE relnamespace IN (SELECT oid FROM ns)) " +
+                    "SELECT COUNT(*) AS object_count, md5(string_agg(x, ',' ORDER BY x)) AS fingerprint FROM (" +
+                    "SELECT 'c' || c.oid || ':' || c.xmin::text AS x FROM pg_catalog.pg_class c WHERE c.oid IN (SELECT oid FROM rel) " +
+                    "UNION ALL SELECT 'a' || a.attrelid || ':' || a.attnum || ':' || a.xmin::text FROM pg_catalog.pg_attribute a WHERE a.attrelid IN (SELECT oid FROM rel) " +
+                    "UNION ALL SELECT 'd' || d.oid || ':' || d.xmin::text FROM pg_catalog.pg_attrdef d WHERE d.adrelid IN (SELECT oid FROM rel) " +
+                    "UNION ALL SELECT 'o' || o.oid || ':' || o.xmin::text FROM pg_catalog.pg_constraint o WHERE o.connamespace IN (SELECT oid FROM ns) " +
+                    "UNION ALL SELECT 'r' || r.oid || ':' || r.xmin::text FROM pg_catalog.pg_rewrite r WHERE r.ev_class IN (SELECT oid FROM rel) " +
+                    "UNION ALL SELECT 'm' || m.objoid || ':' || m.objsubid || ':' || m.xmin::text FROM pg_catalog.pg_description m WHERE m.objoid IN (SELECT oid FROM rel) " +
+                    "UNION ALL SELECT 'p' || p.oid || ':' || p.xmin::text FROM pg_catalog.pg_proc p WHERE p.pronamespace IN (SELECT oid FROM ns)" +
+                    ((database.getDatabaseMajorVersion() >= 10) ? " UNION ALL SELECT 's' || s.seqrelid || ':' || s.xmin::text FROM pg_catalog.pg_sequence s WHERE s.seqrelid IN (SELECT oid FROM rel)" : "") +
+                    ") t";
+            schemaListCount = 1;
+        } else if (database instanceof OracleDatabase) {
+            //LAST_DDL_TIME only has second precision, so a fingerprint read within a second of a DDL change is never reused
+            sql = "SELECT COUNT(*) AS OBJECT_COUNT, TO_CHAR(MAX(LAST_DDL_TIME), 'YYYY-MM-DD HH24:MI:SS') AS LAST_DDL_TIME, " +
+                    "CASE WHEN MAX(LAST_DDL_TIME) > SYSDATE - 2/86400 THEN TO_CHAR(SYSTIMESTAMP, 'YYYY-MM-DD HH24:MI:SS.FF') END AS RECENT_DDL, " +
+                    "(SELECT SUM(ORA_HASH(OWNER || '.' || TABLE_NAME, 4294967295, ORA_HASH(COMMENTS))) FROM ALL_TAB_COMMENTS WHERE OWNER IN (%1$s) AND COMMENTS IS NOT NULL) AS TABLE_COMMENTS, " +
+                    "(SELECT SUM(ORA_HASH(OWNER || '.' || TABLE_NAME || '.' || COLUMN_NAME, 4294967295, ORA_HASH(COMMENTS))) FROM ALL_COL_COMMENTS WHERE OWNER IN (%1$s) AND COMMENTS IS NOT NULL) AS COLUMN_COMMENTS " +
+                    "FROM ALL_OBJECTS WHERE OWNER IN (%1$s)";
+            schemaListCount = 3;
+        } else if (database instanceof MSSQLDatabase) {
+            //modify_date of a table also changes when its indexes are created or altered
+            sql = "SELECT COUNT(*) AS object_count, CONVERT(varchar(30), MAX(o.modify_date), 126) AS last_modified, " +
+                    "CASE WHEN MAX(o.modify_date) > DATEADD(second, -2, GETDATE()) THEN CONVERT(varchar(30), SYSDATETIME(), 126) END AS recent_ddl, " +
+                    "(SELECT CHECKSUM_AGG(CHECKSUM(p.major_id, p.minor_id, p.name, CONVERT(nvarchar(4000), p.value))) FROM sys.extended_properties p " +
+                    "JOIN sys.objects po ON po.object_id = p.major_id JOIN sys.schemas ps ON ps.schema_id = po.schema_id WHERE p.class = 1 AND ps.name IN (%1$s)) AS extended_properties " +
+                    "FROM sys.objects o JOIN sys.schemas s ON s.schema_id = o.schema_id WHERE s.name IN (%1$s)";
+            schemaListCount = 2;
+        } else {
+            return null;
+        }
+
+        List<String> schemaNames = new ArrayList<>();
+        for (Schema schema : schemas) {
+            if ((schema.getCatalogName() != null) && !schema.getCatalogName().equalsIgnoreCase(database.getDefaultCatalogName())) {
+                return null;
+            }
+            schemaNames.add((schema.getName() == null) ? database.getDefaultSchemaName() : schema.getName());
+        }
+
+        RawParameterizedSqlStatement statement = new RawParameterizedSqlStatement(String.format(sql, StringUtil.repeat("?, ", schemaNames.size() - 1) + "?"));
+        for (int i = 0; i < schemaListCount; i++) {
+            for (String schemaName : schemaNames) {
+                statement.addParameter(schemaName);
+            }
+        }
+        return String.valueOf(Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", database).queryForList(statement));
+    }
+
+    /**
+     * Returns the schemas to snapshot if the snapshot can be cached, or null if it cannot.
+     * Only snapshots of whole schemas without data or object filters are cached.
+     */
+    private Schema[] getCacheableSchemas(DatabaseObject[] examples, SnapshotControl snapshotControl) {
+        if ((examples == null) || (examples.length == 0) || (snapshotControl.getObjectChangeFilter() != null) || snapshotControl.shouldInclude(Data.class)) {
+            return null;
+        }
+        Schema[] schemas = new Schema[examples.length];
+        for (int i = 0; i < examples.length; i++) {
+            if (!(examples[i] instanceof Schema)) {
+                return null;
+            }
+            schemas[i] = (Schema) examples[i];
+        }
+        return schemas;
+    }
+
+    private String getKey(Database database, Schema[] schemas, SnapshotControl snapshotControl) {
+        DatabaseConnection connection = database.getConnection();
+        SortedSet<String> schemaNames = new TreeSet<>();
+        for (Schema schema : schemas) {
+            schemaNames.add(schema.getCatalogName() + "." + schema.getName());
+        }
+        SortedSet<String> typeNames = new TreeSet<>();
+        for (Class<? extends DatabaseObject> type : snapshotControl.getTypesToInclude()) {
+            typeNames.add(type.getName());
+        }
+
+        return MD5Util.computeMD5(StringUtil.join(Arrays.asList(
+                database.getClass().getName(),
+                connection.getURL(),
+                connection.getConnectionUserName(),
+                LiquibaseUtil.getBuildVersion(),
+                String.valueOf(database.getObjectQuotingStrategy()),
+                String.valueOf(snapshotControl.shouldSearchNestedObjects()),
+                StringUtil.join(schemaNames, ","),
+                StringUtil.join(typeNames, ",")), "\n"));
+    }
+
+    private DatabaseSnapshot read(Path file, Database database, SnapshotControl snapshotControl, String fingerprint) throws DatabaseException, InvalidExampleException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        //restored into a JdbcDatabaseSnapshot, so that generators can still include objects missing from the file
+        JdbcDatabaseSnapshot snapshot = new JdbcDatabaseSnapshot(new DatabaseObject[0], database, snapshotControl);
+        try (InputStream stream = Files.newInputStream(file)) {
+            new JsonSnapshotParser().load(stream, snapshot, Scope.getCurrentScope().getResourceAccessor());
+        } catch (IOException | LiquibaseParseException e) {
+            Scope.getCurrentScope().getLog(getClass()).fine("Cannot read cached snapshot " + file + ", the schemas will be snapshotted again: " + e.getMessage(), e);
+            return null;
+        }
+
+        if (!fingerprint.equals(String.valueOf(snapshot.getMetadata().remove(FINGERPRINT_METADATA_KEY)))) {
+            Scope.getCurrentScope().getLog(getClass()).fine("Cached snapshot " + file + " is out of date");
+            return null;
+        }
+        return snapshot;
+    }
+
+    private void write(DatabaseSnapshot snapshot, Path file, String fingerprint) {
+        AtomicReference<String> serialized = new AtomicReference<>();
+        snapshot.getMetadata().put(FINGERPRINT_METADATA_KEY, fingerprint);
+        try {
+            Scope.child(DatabaseSnapshot.SNAPSHOT_SCOPE_KEY, snapshot, () ->
+                    serialized.set(SnapshotSerializerFactory.getInstance().getSerializer("json").serialize(snapshot, true)));
+
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tempFile, serialized.get().getBytes(GlobalConfiguration.OUTPUT_FILE_ENCODING.getCurrentValue()));
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (Exception e) {
+            Scope.getCurrentScope().getLog(getClass()).warning("Cannot cache snapshot in " + file + ": " + e.getMessage(), e);
+        } finally {
+            snapshot.getMetadata().remove(FINGERPRINT_METADATA_KEY);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import liquibase.structure.core.DatabaseObjectFactory;
 import lombok.Getter;
 import lombok.Setter;
 
+import javax.sql.DataSource;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -29,6 +30,29 @@ public class SnapshotControl implements LiquibaseSerializable {
     private boolean warnIfObjectNotFound = true;
     @Setter
     private boolean searchNestedObjects = true;
+
+    /**
+     * Source of additional connections used to run the schema-wide metadata queries concurrently.
+     * Parallel snapshotting is only used when this is set and {@link #getParallelism()} is greater than 1.
+     */
+    @Getter
+    @Setter
+    private DataSource parallelDataSource;
+
+    /**
+     * Maximum number of connections to open from {@link #getParallelDataSource()}. Defaults to 1, which snapshots serially.
+     */
+    @Getter
+    @Setter
+    private int parallelism = 1;
+
+    /**
+     * Cache to read whole-schema snapshots from and store them in. When not set, snapshots are always read from the
+     * database metadata. The diff commands set it from {@link liquibase.GlobalConfiguration#SNAPSHOT_CACHE_DIRECTORY}.
+     */
+    @Getter
+    @Setter
+    private SnapshotCache snapshotCache;
     
     
     /**
@@ -78,6 +102,10 @@ public class SnapshotControl implements LiquibaseSerializable {
         this.objectChangeFilter = objectChangeFilter;
     }
 
+    public ObjectChangeFilter getObjectChangeFilter() {
+        return objectChangeFilter;
+    }
+
     public SnapshotListener getSnapshotListener() {
         return snapshotListener;
     }
@@ -208,6 +236,13 @@ public class SnapshotControl implements LiquibaseSerializable {
         return this;
     }
 
+    /**
+     * Returns true if the snapshot should prefetch metadata concurrently over connections from {@link #getParallelDataSource()}.
+     */
+    public boolean isParallel() {
+        return (parallelDataSource != null) && (parallelism > 1);
+    }
+
     public <T extends DatabaseObject> boolean shouldInclude(T example) {
         if (objectChangeFilter != null) {
             return objectChangeFilter.include(example);
@@ -340,6 +340,9 @@ public class SnapshotGeneratorFactory {
             }
             return snapshot;
         }
+        if (snapshotControl.getSnapshotCache() != null) {
+            return snapshotControl.getSnapshotCache().createSnapshot(examples, database, snapshotControl);
+        }
         return new JdbcDatabaseSnapshot(examples, database, snapshotControl);
     }
 
@@ -14,6 +14,8 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static liquibase.sqlgenerator.SqlGenerator.EMPTY_SQL;
@@ -25,12 +27,16 @@ import static liquibase.sqlgenerator.SqlGenerator.EMPTY_SQL;
  */
 public class SqlGeneratorFactory {
 
-    private static SqlGeneratorFactory instance;
+    private static volatile SqlGeneratorFactory instance;
     //caches for expensive reflection based calls that slow down Liquibase initialization: CORE-1207
     private final Map<Class<?>, Type[]> genericInterfacesCache = new HashMap<>();
     private final Map<Class<?>, Type> genericSuperClassCache = new HashMap<>();
-    private final List<SqlGenerator> generators = new ArrayList<>();
-    private final Map<String, SortedSet<SqlGenerator>> generatorsByKey = new HashMap<>();
+    private final List<SqlGenerator> generators = new CopyOnWriteArrayList<>();
+    /**
+     * Generators valid for a statement class, database and database version. Replaced as a whole when generators
+     * are registered or unregistered so lookups never need to lock or re-check against the registered generators.
+     */
+    private volatile Map<GeneratorKey, SortedSet<SqlGenerator>> generatorsByKey = new ConcurrentHashMap<>();
     public static final String GENERATED_SQL_ARRAY_SCOPE_KEY = "generatedSqlArray";
 
     private SqlGeneratorFactory() {
@@ -46,11 +52,18 @@ public class SqlGeneratorFactory {
     /**
      * Return singleton SqlGeneratorFactory
      */
-    public static synchronized SqlGeneratorFactory getInstance() {
-        if (instance == null) {
-            instance = new SqlGeneratorFactory();
+    public static SqlGeneratorFactory getInstance() {
+        SqlGeneratorFactory factory = instance;
+        if (factory == null) {
+            synchronized (SqlGeneratorFactory.class) {
+                factory = instance;
+                if (factory == null) {
+                    factory = new SqlGeneratorFactory();
+                    instance = factory;
+                }
+            }
         }
-        return instance;
+        return factory;
     }
 
     public static synchronized void reset() {
@@ -59,15 +72,13 @@ public class SqlGeneratorFactory {
 
 
     public void register(SqlGenerator generator) {
-        if (this.generators.size() == 0) {
-            //handle case in tests where we clear out the generators
-            this.generatorsByKey.clear();
-        }
         generators.add(generator);
+        clearCache();
     }
 
     public void unregister(SqlGenerator generator) {
         generators.remove(generator);
+        clearCache();
     }
 
     public void unregister(Class generatorClass) {
@@ -81,22 +92,31 @@ public class SqlGeneratorFactory {
     }
 
 
+    /**
+     * Returns the registered generators. The returned collection is live, so the cache of generators by statement is
+     * cleared because the caller may modify it.
+     */
     protected Collection<SqlGenerator> getGenerators() {
+        clearCache();
         return generators;
     }
 
-    public synchronized SortedSet<SqlGenerator> getGenerators(SqlStatement statement, Database database) {
-        String databaseName = null;
-        if (database == null) {
-            databaseName = "NULL";
-        } else {
-            databaseName = database.getShortName();
-        }
+    private void clearCache() {
+        this.generatorsByKey = new ConcurrentHashMap<>();
+    }
 
+    /**
+     * Returns the generators that support the given statement and database, in the order they should be called.
+     * The returned set is shared and cannot be modified.
+     */
+    public SortedSet<SqlGenerator> getGenerators(SqlStatement statement, Database database) {
+        String databaseName;
         int version;
         if (database == null) {
+            databaseName = "NULL";
             version = 0;
         } else {
+            databaseName = database.getShortName();
             try {
                 version = database.getDatabaseMajorVersion();
             } catch (Exception e) {
@@ -104,18 +124,24 @@ public class SqlGeneratorFactory {
             }
         }
 
-        String key = statement.getClass().getName()+":"+ databaseName+":"+ version;
+        GeneratorKey key = new GeneratorKey(statement.getClass(), databaseName, version);
 
-        if (generatorsByKey.containsKey(key) && !generatorsByKey.get(key).isEmpty()) {
-            SortedSet<SqlGenerator> result = new TreeSet<>(new SqlGeneratorComparator());
-            result.addAll(generatorsByKey.get(key));
-            result.retainAll(getGenerators());
-            return result;
+        //read the cache before the generators so a concurrent register() can only cause us to populate a discarded cache
+        Map<GeneratorKey, SortedSet<SqlGenerator>> cache = this.generatorsByKey;
+        SortedSet<SqlGenerator> validGenerators = cache.get(key);
+        if (validGenerators == null) {
+            validGenerators = Collections.unmodifiableSortedSet(findGenerators(statement, database));
+            if (!validGenerators.isEmpty()) {
+                cache.put(key, validGenerators);
+            }
         }
+        return validGenerators;
+    }
 
+    private synchronized SortedSet<SqlGenerator> findGenerators(SqlStatement statement, Database database) {
         SortedSet<SqlGenerator> validGenerators = new TreeSet<>(new SqlGeneratorComparator());
 
-        for (SqlGenerator generator : getGenerators()) {
+        for (SqlGenerator generator : generators) {
             Class clazz = generator.getClass();
             Type classType = null;
             while (clazz != null) {
@@ -137,7 +163,6 @@ public class SqlGeneratorFactory {
                 clazz = clazz.getSuperclass();
             }
         }
-        generatorsByKey.put(key, validGenerators);
         return validGenerators;
     }
 
@@ -297,4 +322,37 @@ public class SqlGeneratorFactory {
         }
         return affectedObjects;
     }
+
+    private static final class GeneratorKey {
+        private final Class<?> statementClass;
+        private final String databaseName;
+        private final int databaseMajorVersion;
+        private final int hashCode;
+
+        private GeneratorKey(Class<?> statementClass, String databaseName, int databaseMajorVersion) {
+            this.statementClass = statementClass;
+            this.databaseName = databaseName;
+            this.databaseMajorVersion = databaseMajorVersion;
+            this.hashCode = (31 * ((31 * statementClass.hashCode()) + Objects.hashCode(databaseName))) + databaseMajorVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof GeneratorKey)) {
+                return false;
+            }
+            GeneratorKey that = (GeneratorKey) o;
+            return databaseMajorVersion == that.databaseMajorVersion
+                    && statementClass == that.statementClass
+                    && Objects.equals(databaseName, that.databaseName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package liquibase.sqlgenerator.core;
+
+import liquibase.database.Database;
+import liquibase.exception.ValidationErrors;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorChain;
+import liquibase.statement.InsertMultiRowExecutablePreparedStatement;
+
+/**
+ * Dummy SQL generator for {@link liquibase.statement.InsertMultiRowExecutablePreparedStatement}
+ */
+public class InsertMultiRowExecutablePreparedStatementGenerator extends AbstractSqlGenerator<InsertMultiRowExecutablePreparedStatement> {
+    @Override
+    public ValidationErrors validate(InsertMultiRowExecutablePreparedStatement statement, Database database, SqlGeneratorChain sqlGeneratorChain) {
+        return new ValidationErrors();
+    }
+
+    @Override
+    public Sql[] generateSql(InsertMultiRowExecutablePreparedStatement statement, Database database, SqlGeneratorChain sqlGeneratorChain) {
+        return EMPTY_SQL;
+    }
+}
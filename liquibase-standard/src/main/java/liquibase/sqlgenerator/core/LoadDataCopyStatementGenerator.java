@@ -0,0 +1,22 @@
+package liquibase.sqlgenerator.core;
+
+import liquibase.database.Database;
+import liquibase.exception.ValidationErrors;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorChain;
+import liquibase.statement.LoadDataCopyStatement;
+
+/**
+ * Dummy SQL generator for {@link liquibase.statement.LoadDataCopyStatement}
+ */
+public class LoadDataCopyStatementGenerator extends AbstractSqlGenerator<LoadDataCopyStatement> {
+    @Override
+    public ValidationErrors validate(LoadDataCopyStatement statement, Database database, SqlGeneratorChain sqlGeneratorChain) {
+        return new ValidationErrors();
+    }
+
+    @Override
+    public Sql[] generateSql(LoadDataCopyStatement statement, Database database, SqlGeneratorChain sqlGeneratorChain) {
+        return EMPTY_SQL;
+    }
+}
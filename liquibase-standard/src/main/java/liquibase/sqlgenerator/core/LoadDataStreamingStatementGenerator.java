@@ -0,0 +1,22 @@
+package liquibase.sqlgenerator.core;
+
+import liquibase.database.Database;
+import liquibase.exception.ValidationErrors;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorChain;
+import liquibase.statement.LoadDataStreamingStatement;
+
+/**
+ * Dummy SQL generator for {@link liquibase.statement.LoadDataStreamingStatement}
+ */
+public class LoadDataStreamingStatementGenerator extends AbstractSqlGenerator<LoadDataStreamingStatement> {
+    @Override
+    public ValidationErrors validate(LoadDataStreamingStatement statement, Database database, SqlGeneratorChain sqlGeneratorChain) {
+        return new ValidationErrors();
+    }
+
+    @Override
+    public Sql[] generateSql(LoadDataStreamingStatement statement, Database database, SqlGeneratorChain sqlGeneratorChain) {
+        return EMPTY_SQL;
+    }
+}
@@ -0,0 +1,159 @@
+package liquibase.statement;
+
+import liquibase.change.ColumnConfig;
+import liquibase.changelog.ChangeSet;
+import liquibase.database.Database;
+import liquibase.database.core.MySQLDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.resource.ResourceAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts several rows with a single multi-row {@code INSERT INTO t(a, b) VALUES(?, ?), (?, ?)} prepared statement.
+ * Databases such as PostgreSQL and MySQL execute one multi-row INSERT much faster than a JDBC batch of single-row
+ * INSERTs. Use {@link #getMaxRowsPerStatement(Database, List, int)} to size the groups of
+ * rows so the statement stays within the bind parameter limit of the driver.
+ */
+public class InsertMultiRowExecutablePreparedStatement extends ExecutablePreparedStatementBase {
+
+    /**
+     * PgJDBC sends the number of bind parameters as a signed 16-bit value.
+     */
+    public static final int POSTGRES_MAX_BIND_PARAMETERS = Short.MAX_VALUE;
+
+    /**
+     * MySQL Connector/J sends the number of bind parameters as an unsigned 16-bit value.
+     */
+    public static final int MYSQL_MAX_BIND_PARAMETERS = 65535;
+
+    private final List<ExecutablePreparedStatementBase> rows;
+
+    public InsertMultiRowExecutablePreparedStatement(
+            Database database, String catalogName, String schemaName, String tableName,
+            ChangeSet changeSet, ResourceAccessor resourceAccessor, List<? extends ExecutablePreparedStatementBase> rows) {
+        super(database, catalogName, schemaName, tableName, rows.get(0).getColumns(), changeSet, resourceAccessor);
+        this.rows = new ArrayList<>(rows);
+    }
+
+    /**
+     * Returns the single-row statements combined into this statement.
+     */
+    public List<ExecutablePreparedStatementBase> getIndividualStatements() {
+        return new ArrayList<>(rows);
+    }
+
+    @Override
+    public boolean continueOnError() {
+        return false;
+    }
+
+    @Override
+    protected String generateSql(List<ColumnConfig> cols) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ");
+        sql.append(database.escapeTableName(getCatalogName(), getSchemaName(), getTableName()));
+        sql.append("(");
+        boolean firstColumn = true;
+        for (ColumnConfig column : getColumns()) {
+            if (isSkipped(column)) {
+                continue;
+            }
+            if (!firstColumn) {
+                sql.append(", ");
+            }
+            sql.append(database.escapeColumnName(getCatalogName(), getSchemaName(), getTableName(), column.getName()));
+            firstColumn = false;
+        }
+        sql.append(") VALUES");
+
+        boolean firstRow = true;
+        for (ExecutablePreparedStatementBase row : rows) {
+            sql.append(firstRow ? "(" : ", (");
+            boolean firstValue = true;
+            for (ColumnConfig column : row.getColumns()) {
+                if (isSkipped(column)) {
+                    continue;
+                }
+                if (!firstValue) {
+                    sql.append(", ");
+                }
+                if (column.getValueObject() instanceof DatabaseFunction) {
+                    sql.append(column.getValueObject());
+                } else {
+                    sql.append("?");
+                    cols.add(column);
+                }
+                firstValue = false;
+            }
+            sql.append(")");
+            firstRow = false;
+        }
+        return sql.toString();
+    }
+
+    private boolean isSkipped(ColumnConfig column) {
+        return database.supportsAutoIncrement() && Boolean.TRUE.equals(column.isAutoIncrement());
+    }
+
+    /**
+     * Returns true if all the given statements are plain single-row INSERTs into the same columns, so they can be
+     * combined into one multi-row statement.
+     */
+    public static boolean canCombine(List<? extends ExecutablePreparedStatementBase> statements) {
+        if (statements.isEmpty()) {
+            return false;
+        }
+        List<String> columnNames = getColumnNames(statements.get(0));
+        for (ExecutablePreparedStatementBase statement : statements) {
+            if (statement.getClass() != InsertExecutablePreparedStatement.class
+                    || !columnNames.equals(getColumnNames(statement))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns how many of the given rows can be combined into one statement without exceeding either
+     * {@code batchSize} or the bind parameter limit of the database. Rows may bind different numbers of parameters
+     * when some of their values are database functions, so the row binding the most parameters is used.
+     */
+    public static int getMaxRowsPerStatement(Database database, List<? extends ExecutablePreparedStatementBase> rows, int batchSize) {
+        int parametersPerRow = 0;
+        for (ExecutablePreparedStatementBase row : rows) {
+            int rowParameters = 0;
+            for (ColumnConfig column : row.getColumns()) {
+                if (!(column.getValueObject() instanceof DatabaseFunction)) {
+                    rowParameters++;
+                }
+            }
+            parametersPerRow = Math.max(parametersPerRow, rowParameters);
+        }
+        if (parametersPerRow == 0) {
+            return batchSize;
+        }
+        return Math.max(1, Math.min(batchSize, getMaxBindParameters(database) / parametersPerRow));
+    }
+
+    /**
+     * Returns the maximum number of bind parameters a single statement may use on the given database.
+     */
+    public static int getMaxBindParameters(Database database) {
+        if (database instanceof PostgresDatabase) {
+            return POSTGRES_MAX_BIND_PARAMETERS;
+        }
+        if (database instanceof MySQLDatabase) {
+            return MYSQL_MAX_BIND_PARAMETERS;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private static List<String> getColumnNames(ExecutablePreparedStatementBase statement) {
+        List<String> names = new ArrayList<>(statement.getColumns().size());
+        for (ColumnConfig column : statement.getColumns()) {
+            names.add(column.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,296 @@
+package liquibase.statement;
+
+import liquibase.Scope;
+import liquibase.change.ColumnConfig;
+import liquibase.change.core.LoadDataChange;
+import liquibase.change.core.LoadDataColumnConfig;
+import liquibase.database.Database;
+import liquibase.database.DatabaseConnection;
+import liquibase.database.PreparedStatementFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.UnexpectedLiquibaseException;
+import liquibase.executor.ExecutorService;
+import liquibase.sql.visitor.SqlVisitor;
+import liquibase.statement.core.InsertStatement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Executes a {@link LoadDataChange} with the PostgreSQL {@code COPY ... FROM STDIN WITH (FORMAT csv)} command.
+ * Rows are converted with the column mappings, null placeholders and type conversions of the change, re-encoded as
+ * CSV and written to the COPY operation in buffered blocks, so neither the file nor the statements are held in memory.
+ * Rows with values the database has to evaluate, such as function calls, are inserted with single INSERT statements
+ * between COPY operations.
+ * <p>
+ * The COPY operation itself is opened through a {@link CopyInOpener}; {@link #pgJdbcCopyInOpener(Database)} provides
+ * one backed by the PgJDBC {@code CopyManager}, which is accessed reflectively so PgJDBC is not a compile time
+ * dependency.
+ */
+public class LoadDataCopyStatement implements ExecutablePreparedStatement {
+
+    /**
+     * Number of characters of CSV data collected before they are sent to the database.
+     */
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final LoadDataChange change;
+    private final Database database;
+    private final CopyInOpener copyInOpener;
+
+    public LoadDataCopyStatement(LoadDataChange change, Database database, CopyInOpener copyInOpener) {
+        this.change = change;
+        this.database = database;
+        this.copyInOpener = copyInOpener;
+    }
+
+    public LoadDataChange getChange() {
+        return change;
+    }
+
+    @Override
+    public void execute(PreparedStatementFactory factory) throws DatabaseException {
+        StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+        CopyIn[] copyIn = new CopyIn[1];
+        long[] rowCount = new long[1];
+        try {
+            change.processRows(database, columns -> {
+                if (hasComputedValue(columns)) {
+                    // COPY only takes literal values, so rows with functions or sequences are inserted on their own
+                    if (copyIn[0] != null) {
+                        rowCount[0] += endCopy(copyIn[0], buffer);
+                        copyIn[0] = null;
+                    }
+                    insert(columns);
+                    rowCount[0]++;
+                    return;
+                }
+                if (copyIn[0] == null) {
+                    String sql = generateSql(columns);
+                    Scope.getCurrentScope().getLog(getClass()).fine("Executing " + sql);
+                    copyIn[0] = copyInOpener.open(sql);
+                }
+                appendRow(buffer, columns);
+                if (buffer.length() >= FLUSH_THRESHOLD) {
+                    flush(copyIn[0], buffer);
+                }
+            });
+            if (copyIn[0] != null) {
+                rowCount[0] += endCopy(copyIn[0], buffer);
+                copyIn[0] = null;
+            }
+            Scope.getCurrentScope().getLog(getClass()).info(String.format("COPY loaded %d rows from %s into %s",
+                    rowCount[0], change.getFile(), change.getTableName()));
+        } catch (DatabaseException | RuntimeException e) {
+            cancel(copyIn[0]);
+            throw e;
+        }
+    }
+
+    private long endCopy(CopyIn copyIn, StringBuilder buffer) throws DatabaseException {
+        flush(copyIn, buffer);
+        return copyIn.endCopy();
+    }
+
+    /**
+     * Returns true if the row has a value which has to be evaluated by the database, such as a function call or the
+     * next value of a sequence, and so cannot be loaded with COPY.
+     */
+    protected boolean hasComputedValue(List<LoadDataColumnConfig> columns) {
+        for (ColumnConfig column : columns) {
+            if ((column.getValueComputed() != null) || (column.getValueSequenceNext() != null)
+                    || (column.getValueSequenceCurrent() != null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inserts a single row with an INSERT statement, for rows which cannot be loaded with COPY.
+     */
+    protected void insert(List<LoadDataColumnConfig> columns) throws DatabaseException {
+        InsertStatement statement = new InsertStatement(change.getCatalogName(), change.getSchemaName(), change.getTableName());
+        for (LoadDataColumnConfig column : columns) {
+            statement.addColumnValue(column.getName(), column.getValueObject());
+        }
+        List<SqlVisitor> sqlVisitors = (change.getChangeSet() == null) ? new ArrayList<>() : change.getChangeSet().getSqlVisitors();
+        Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", database).execute(statement, sqlVisitors);
+    }
+
+    /**
+     * Generates the COPY command for the columns of the first row.
+     */
+    protected String generateSql(List<LoadDataColumnConfig> columns) {
+        StringBuilder sql = new StringBuilder("COPY ");
+        sql.append(database.escapeTableName(change.getCatalogName(), change.getSchemaName(), change.getTableName()));
+        sql.append("(");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(database.escapeColumnName(change.getCatalogName(), change.getSchemaName(), change.getTableName(),
+                    columns.get(i).getName()));
+        }
+        sql.append(") FROM STDIN WITH (FORMAT csv)");
+        return sql.toString();
+    }
+
+    /**
+     * Appends one row in the CSV format expected by COPY: NULL is an unquoted empty field, everything else is quoted.
+     */
+    protected void appendRow(StringBuilder buffer, List<LoadDataColumnConfig> columns) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            String value = toCopyValue(columns.get(i));
+            if (value != null) {
+                buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+        buffer.append('\n');
+    }
+
+    private String toCopyValue(ColumnConfig column) {
+        if ((column.getValueBlobFile() != null) || (column.getValueClobFile() != null)
+                || LoadDataChange.LOAD_DATA_TYPE.BLOB.name().equalsIgnoreCase(column.getType())) {
+            throw new UnexpectedLiquibaseException("Column " + column.getName() + " of " + change.getFile() +
+                    " cannot be loaded with COPY. Use a different loadMode for this change.");
+        }
+        Object value = column.getValueObject();
+        if (value == null) {
+            return null;
+        }
+        if ((value instanceof Date) && !(value instanceof java.sql.Date) && !(value instanceof java.sql.Time)
+                && !(value instanceof Timestamp)) {
+            return new Timestamp(((Date) value).getTime()).toString();
+        }
+        return value.toString();
+    }
+
+    private void flush(CopyIn copyIn, StringBuilder buffer) throws DatabaseException {
+        if (buffer.length() == 0) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private void cancel(CopyIn copyIn) {
+        if (copyIn == null) {
+            return;
+        }
+        try {
+            copyIn.cancelCopy();
+        } catch (DatabaseException e) {
+            Scope.getCurrentScope().getLog(getClass()).fine("Error cancelling COPY: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean skipOnUnsupported() {
+        return false;
+    }
+
+    @Override
+    public boolean continueOnError() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "COPY of " + change.getFile() + " into " + change.getTableName();
+    }
+
+    /**
+     * Returns a {@link CopyInOpener} backed by the PgJDBC {@code CopyManager} of the database connection, or null if
+     * the connection is not a PgJDBC connection.
+     */
+    public static CopyInOpener pgJdbcCopyInOpener(Database database) {
+        DatabaseConnection connection = database.getConnection();
+        if (!(connection instanceof JdbcConnection)) {
+            return null;
+        }
+        Connection jdbcConnection = ((JdbcConnection) connection).getUnderlyingConnection();
+        if (jdbcConnection == null) {
+            return null;
+        }
+        try {
+            ClassLoader classLoader = jdbcConnection.getClass().getClassLoader();
+            Class<?> pgConnectionClass = Class.forName("org.postgresql.PGConnection", false, classLoader);
+            if (!jdbcConnection.isWrapperFor(pgConnectionClass)) {
+                return null;
+            }
+            Object copyManager = pgConnectionClass.getMethod("getCopyAPI").invoke(jdbcConnection.unwrap(pgConnectionClass));
+            Method copyInMethod = Class.forName("org.postgresql.copy.CopyManager", false, classLoader)
+                    .getMethod("copyIn", String.class);
+            Class<?> copyInClass = Class.forName("org.postgresql.copy.CopyIn", false, classLoader);
+            Method writeToCopy = copyInClass.getMethod("writeToCopy", byte[].class, int.class, int.class);
+            Method endCopy = copyInClass.getMethod("endCopy");
+            Method cancelCopy = copyInClass.getMethod("cancelCopy");
+
+            return sql -> {
+                Object pgCopyIn = invoke(copyInMethod, copyManager, sql);
+                return new CopyIn() {
+                    @Override
+                    public void writeToCopy(byte[] data, int offset, int length) throws DatabaseException {
+                        invoke(writeToCopy, pgCopyIn, data, offset, length);
+                    }
+
+                    @Override
+                    public long endCopy() throws DatabaseException {
+                        return (Long) invoke(endCopy, pgCopyIn);
+                    }
+
+                    @Override
+                    public void cancelCopy() throws DatabaseException {
+                        invoke(cancelCopy, pgCopyIn);
+                    }
+                };
+            };
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException |
+                 SQLException e) {
+            Scope.getCurrentScope().getLog(LoadDataCopyStatement.class).fine("PgJDBC COPY API is not available: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) throws DatabaseException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw new DatabaseException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new DatabaseException(e);
+        }
+    }
+
+    /**
+     * Opens a {@code COPY ... FROM STDIN} operation.
+     */
+    @FunctionalInterface
+    public interface CopyInOpener {
+        CopyIn open(String sql) throws DatabaseException;
+    }
+
+    /**
+     * An open {@code COPY ... FROM STDIN} operation, modelled after the PgJDBC {@code CopyIn} interface.
+     */
+    public interface CopyIn {
+        void writeToCopy(byte[] data, int offset, int length) throws DatabaseException;
+
+        long endCopy() throws DatabaseException;
+
+        void cancelCopy() throws DatabaseException;
+    }
+}
@@ -0,0 +1,70 @@
+package liquibase.statement;
+
+import liquibase.Scope;
+import liquibase.change.core.LoadDataChange;
+import liquibase.database.Database;
+import liquibase.database.PreparedStatementFactory;
+import liquibase.exception.DatabaseException;
+import liquibase.executor.Executor;
+import liquibase.executor.ExecutorService;
+import liquibase.sql.visitor.SqlVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Executes a {@link LoadDataChange} without reading the whole CSV file into memory. The file is read in chunks
+ * and the statements generated for each chunk are executed through the "jdbc" {@link Executor} before the next chunk
+ * is read, so the memory used is bounded by the chunk size rather than by the size of the file.
+ */
+public class LoadDataStreamingStatement implements ExecutablePreparedStatement {
+
+    private final LoadDataChange change;
+    private final Database database;
+    private final int chunkSize;
+
+    public LoadDataStreamingStatement(LoadDataChange change, Database database) {
+        this(change, database, change.getEffectiveBatchSize());
+    }
+
+    public LoadDataStreamingStatement(LoadDataChange change, Database database, int chunkSize) {
+        this.change = change;
+        this.database = database;
+        this.chunkSize = chunkSize;
+    }
+
+    public LoadDataChange getChange() {
+        return change;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public void execute(PreparedStatementFactory factory) throws DatabaseException {
+        Executor executor = Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", database);
+        List<SqlVisitor> sqlVisitors = change.getChangeSet() == null ? new ArrayList<>() : change.getChangeSet().getSqlVisitors();
+
+        change.generateStatementsInChunks(database, chunkSize, statements -> {
+            for (SqlStatement statement : statements) {
+                executor.execute(statement, sqlVisitors);
+            }
+        });
+    }
+
+    @Override
+    public boolean skipOnUnsupported() {
+        return false;
+    }
+
+    @Override
+    public boolean continueOnError() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "Streaming load of " + change.getFile() + " into " + change.getTableName();
+    }
+}
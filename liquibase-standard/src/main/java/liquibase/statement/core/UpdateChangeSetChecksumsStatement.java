@@ -0,0 +1,86 @@
+package liquibase.statement.core;
+
+import liquibase.ChecksumVersion;
+import liquibase.Scope;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.column.LiquibaseColumn;
+import liquibase.database.Database;
+import liquibase.database.ObjectQuotingStrategy;
+import liquibase.database.PreparedStatementFactory;
+import liquibase.exception.DatabaseException;
+import liquibase.listener.SqlListener;
+import liquibase.sql.SqlConfiguration;
+import liquibase.statement.AbstractSqlStatement;
+import liquibase.statement.ExecutablePreparedStatement;
+import liquibase.util.StringUtil;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Updates the checksums of several changesets in the DATABASECHANGELOG table with a single JDBC batch of a prepared
+ * UPDATE statement, instead of one {@link UpdateChangeSetChecksumStatement} round trip per changeset.
+ * The rows are updated the same way {@link UpdateChangeSetChecksumStatement} updates them.
+ */
+public class UpdateChangeSetChecksumsStatement extends AbstractSqlStatement implements ExecutablePreparedStatement {
+
+    private final Database database;
+    private final List<ChangeSet> changeSets;
+
+    public UpdateChangeSetChecksumsStatement(Database database, List<ChangeSet> changeSets) {
+        this.database = database;
+        this.changeSets = new ArrayList<>(changeSets);
+    }
+
+    public List<ChangeSet> getChangeSets() {
+        return changeSets;
+    }
+
+    @Override
+    public void execute(PreparedStatementFactory factory) throws DatabaseException {
+        String sql = generateSql();
+        for (SqlListener listener : Scope.getCurrentScope().getListeners(SqlListener.class)) {
+            listener.writeSqlWillRun(sql);
+        }
+        Scope.getCurrentScope().getLog(getClass()).log(SqlConfiguration.SHOW_AT_LOG_LEVEL.getCurrentValue(), sql, null);
+
+        try (PreparedStatement stmt = factory.create(sql)) {
+            for (ChangeSet changeSet : changeSets) {
+                stmt.setString(1, changeSet.generateCheckSum(ChecksumVersion.latest()).toString());
+                stmt.setString(2, changeSet.getId());
+                stmt.setString(3, changeSet.getAuthor());
+                stmt.setString(4, getFilePath(changeSet));
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        } catch (SQLException e) {
+            throw new DatabaseException(e);
+        }
+    }
+
+    private String generateSql() {
+        String catalogName = database.getLiquibaseCatalogName();
+        String schemaName = database.getLiquibaseSchemaName();
+        String tableName = database.getDatabaseChangeLogTableName();
+        ObjectQuotingStrategy currentStrategy = database.getObjectQuotingStrategy();
+        database.setObjectQuotingStrategy(ObjectQuotingStrategy.LEGACY);
+        try {
+            return "UPDATE " + database.escapeTableName(catalogName, schemaName, tableName) +
+                    " SET " + database.escapeColumnName(catalogName, schemaName, tableName, "MD5SUM") + " = ?" +
+                    " WHERE " + database.escapeObjectName("ID", LiquibaseColumn.class) + " = ? " +
+                    "AND " + database.escapeObjectName("AUTHOR", LiquibaseColumn.class) + " = ? " +
+                    "AND " + database.escapeObjectName("FILENAME", LiquibaseColumn.class) + " = ?";
+        } finally {
+            database.setObjectQuotingStrategy(currentStrategy);
+        }
+    }
+
+    private String getFilePath(ChangeSet changeSet) {
+        if (StringUtil.isNotEmpty(changeSet.getStoredFilePath())) {
+            return changeSet.getStoredFilePath();
+        }
+        return changeSet.getFilePath();
+    }
+}
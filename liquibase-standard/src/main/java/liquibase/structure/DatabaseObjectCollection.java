@@ -96,18 +96,28 @@ public class DatabaseObjectCollection implements LiquibaseSerializable {
 
         String[] hashes = DatabaseObjectComparatorFactory.getInstance().hash(example, null, database);
 
-        SortedSet<Set<DatabaseObject>> objectSets = new TreeSet<>((o1, o2) -> {
-            int sizeComparison = Integer.compare(o1.size(), o2.size());
-            if (sizeComparison == 0) {
-                return o1.toString().compareTo(o2.toString());
+        Collection<Set<DatabaseObject>> objectSets;
+        if (hashes.length == 1) {
+            //most objects, like tables and columns, have a single hash so there is only one set to look in
+            Set<DatabaseObject> databaseObjects = databaseObjectsByHash.get(hashes[0]);
+            if (databaseObjects == null) {
+                return null;
             }
-            return sizeComparison;
-        });
+            objectSets = Collections.singletonList(databaseObjects);
+        } else {
+            objectSets = new TreeSet<>((o1, o2) -> {
+                int sizeComparison = Integer.compare(o1.size(), o2.size());
+                if (sizeComparison == 0) {
+                    return o1.toString().compareTo(o2.toString());
+                }
+                return sizeComparison;
+            });
 
-        for (String hash : hashes) {
-            Set<DatabaseObject> databaseObjects = databaseObjectsByHash.get(hash);
-            if (databaseObjects != null) {
-                objectSets.add(databaseObjects);
+            for (String hash : hashes) {
+                Set<DatabaseObject> databaseObjects = databaseObjectsByHash.get(hash);
+                if (databaseObjects != null) {
+                    objectSets.add(databaseObjects);
+                }
             }
         }
 
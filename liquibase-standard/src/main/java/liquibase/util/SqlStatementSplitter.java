@@ -0,0 +1,205 @@
+package liquibase.util;
+
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import liquibase.changelog.ChangeSet;
+import liquibase.parser.LiquibaseSqlParser;
+import liquibase.parser.SqlParserFactory;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Splits SQL clauses into statements the way {@link StringUtil#processMultiLineSQL(String, boolean, boolean, String, ChangeSet)}
+ * does, returning each statement as soon as its end delimiter is read.
+ * <p>
+ * Created with {@link #split(Reader, boolean, boolean, String, ChangeSet)}, the SQL is tokenized from the reader as the
+ * statements are requested, so only the current statement is held in memory instead of the whole SQL text.
+ */
+public class SqlStatementSplitter implements Iterator<String> {
+
+    private final Iterator<String> clauses;
+    private final boolean splitStatements;
+    private final String endDelimiter;
+
+    /**
+     * Clauses read ahead, with the clauses forming a multi-token end delimiter merged
+     */
+    private final List<String> mergedClauses = new ArrayList<>();
+    private final List<String> possibleMerge = new ArrayList<>();
+
+    private StringBuilder currentString = new StringBuilder();
+    private String previousPiece;
+    private boolean previousDelimiter;
+    private int isInClause;
+
+    private String nextStatement;
+    private boolean finished;
+
+    /**
+     * @param clauses         the clauses of the SQL, in order, as returned by {@link LiquibaseSqlParser#tokenize(Reader, boolean, boolean, ChangeSet)}
+     * @param splitStatements if false, all the clauses are returned as a single statement
+     * @param endDelimiter    the end delimiter, or null to use the default delimiters
+     */
+    public SqlStatementSplitter(Iterator<String> clauses, boolean splitStatements, String endDelimiter) {
+        this.clauses = clauses;
+        this.splitStatements = splitStatements;
+        this.endDelimiter = endDelimiter;
+    }
+
+    /**
+     * Returns a splitter over the SQL read from the given reader, using the {@link LiquibaseSqlParser} from the
+     * {@link SqlParserFactory}.
+     *
+     * @param stripComments if true then comments will be stripped, if false then they will be left in the statements
+     * @param changeSet     the changeset associated with the sql being parsed
+     */
+    public static SqlStatementSplitter split(Reader reader, boolean stripComments, boolean splitStatements, String endDelimiter, ChangeSet changeSet) {
+        LiquibaseSqlParser sqlParser = Scope.getCurrentScope().getSingleton(SqlParserFactory.class).getSqlParser();
+        return new SqlStatementSplitter(sqlParser.tokenize(reader, true, !stripComments, changeSet), splitStatements, endDelimiter);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextStatement == null && !finished) {
+            String piece = nextClause();
+            if (piece == null) {
+                finished = true;
+                nextStatement = StringUtils.trimToNull(currentString.toString());
+                currentString = null;
+            } else {
+                processClause(piece);
+            }
+        }
+        return nextStatement != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String statement = nextStatement;
+        nextStatement = null;
+        return statement;
+    }
+
+    private void processClause(String piece) {
+        if (piece.equalsIgnoreCase("BEGIN")) {
+            String nextPiece = peekNextNonBlankClause();
+            if ((!"transaction".equalsIgnoreCase(nextPiece)
+                    && !"trans".equalsIgnoreCase(nextPiece)
+                    && !"tran".equalsIgnoreCase(nextPiece))
+                    && !"dialog".equalsIgnoreCase(nextPiece)
+                    && !"conversation".equalsIgnoreCase(nextPiece)
+                    && !"distributed".equalsIgnoreCase(nextPiece)) {
+                isInClause++;
+            }
+        }
+        if (piece.equalsIgnoreCase("END") && isInClause > 0) {
+            String nextPiece = peekNextNonBlankClause();
+            if (!"transaction".equalsIgnoreCase(nextPiece)
+                    && !"trans".equalsIgnoreCase(nextPiece)
+                    && !"tran".equalsIgnoreCase(nextPiece)) {
+                isInClause--;
+            }
+        }
+
+        if (isInClause == 0 && splitStatements && StringUtil.isDelimiter(piece, previousPiece, endDelimiter)) {
+            String trimmedString;
+            if (Boolean.TRUE.equals(GlobalConfiguration.STRICT.getCurrentValue())) {
+                String sentenceWithoutDelimiter = removeEndDelimiterIfItsASlash(endDelimiter, currentString);
+                trimmedString = sentenceWithoutDelimiter.isEmpty() ? StringUtils.trimToNull(currentString.toString()) : StringUtils.trimToNull(sentenceWithoutDelimiter);
+            } else {
+                trimmedString = StringUtils.trimToNull(currentString.toString());
+            }
+            nextStatement = trimmedString;
+            currentString = new StringBuilder();
+            previousDelimiter = true;
+        } else {
+            if (!previousDelimiter || (StringUtils.trimToNull(piece) != null)) { //don't include whitespace after a delimiter
+                if ((currentString.length() > 0) || (StringUtils.trimToNull(piece) != null)) { //don't include whitespace before the statement
+                    currentString.append(piece);
+                }
+            }
+            previousDelimiter = false;
+        }
+        previousPiece = piece;
+    }
+
+    private static String removeEndDelimiterIfItsASlash(String endDelimiter, StringBuilder currentString) {
+        String sentenceWithoutDelimiter = "";
+        if(endDelimiter != null && "/".contentEquals(endDelimiter)) {
+            int lastIndexEndDelimiter = currentString.toString().lastIndexOf(endDelimiter);
+            if(lastIndexEndDelimiter >= 0) {
+                sentenceWithoutDelimiter = currentString.substring(0, lastIndexEndDelimiter);
+            }
+        }
+        return sentenceWithoutDelimiter;
+    }
+
+    private String nextClause() {
+        if (mergedClauses.isEmpty() && !readMergedClause()) {
+            return null;
+        }
+        return mergedClauses.remove(0);
+    }
+
+    private String peekNextNonBlankClause() {
+        int index = 0;
+        while (true) {
+            while (index >= mergedClauses.size()) {
+                if (!readMergedClause()) {
+                    return null;
+                }
+            }
+            String clause = StringUtil.trimToNull(mergedClauses.get(index));
+            if (clause != null) {
+                return clause;
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Delimiters like "//" may span multiple tokens. Reads clauses until at least one more clause is available,
+     * combining the ones forming the end delimiter.
+     *
+     * @return false if there are no more clauses
+     */
+    private boolean readMergedClause() {
+        int available = mergedClauses.size();
+        while (mergedClauses.size() == available) {
+            if (!clauses.hasNext()) {
+                return false;
+            }
+            String clause = clauses.next();
+            if (endDelimiter == null) {
+                mergedClauses.add(clause);
+            } else if (possibleMerge.isEmpty()) {
+                if (endDelimiter.startsWith(clause)) {
+                    possibleMerge.add(clause);
+                } else {
+                    mergedClauses.add(clause);
+                }
+            } else {
+                String possibleMergeString = StringUtil.join(possibleMerge, "") + clause;
+                if (endDelimiter.equals(possibleMergeString)) {
+                    mergedClauses.add(possibleMergeString);
+                    possibleMerge.clear();
+                } else if (endDelimiter.startsWith(possibleMergeString)) {
+                    possibleMerge.add(clause);
+                } else {
+                    mergedClauses.addAll(possibleMerge);
+                    mergedClauses.add(clause);
+                    possibleMerge.clear();
+                }
+            }
+        }
+        return true;
+    }
+}
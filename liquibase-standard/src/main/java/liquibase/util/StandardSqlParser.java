@@ -9,7 +9,10 @@ import liquibase.parser.LiquibaseSqlParser;
 import liquibase.util.grammar.*;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.Reader;
 import java.io.StringReader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,13 +44,7 @@ public class StandardSqlParser implements LiquibaseSqlParser {
                 } else if ((token.kind == SimpleSqlGrammarConstants.LINE_COMMENT) || (token.kind ==
                         SimpleSqlGrammarConstants.MULTI_LINE_COMMENT)) {
                     if (preserveComments) {
-                        String comment = token.image;
-                        if (!preserveWhitespace && (token.kind == SimpleSqlGrammarConstants.LINE_COMMENT)) {
-                            if (!comment.endsWith("\n")) {
-                                comment = comment + "\n";
-                            }
-                        }
-                        clauses.append(new StringClauses.Comment(comment));
+                        clauses.append(new StringClauses.Comment(getCommentText(token, preserveWhitespace)));
                     }
                 } else {
                     clauses.append(token.image);
@@ -55,17 +52,80 @@ public class StandardSqlParser implements LiquibaseSqlParser {
                 token = t.getNextToken();
             }
         } catch (Throwable e) {
-            if (changeSet != null) {
-                Change change = Scope.getCurrentScope().get(ChangeSet.CHANGE_KEY, Change.class);
-                String message = enhanceExceptionMessage(changeSet, change, e);
-                throw new UnexpectedLiquibaseException(message, e);
-            } else {
-                throw new UnexpectedLiquibaseException(e);
-            }
+            throw createParseException(changeSet, e);
         }
         return clauses;
     }
 
+    /**
+     * Reads the tokens from the reader as they are requested, so only the current token is held in memory.
+     */
+    @Override
+    public Iterator<String> tokenize(Reader reader, boolean preserveWhitespace, boolean preserveComments, ChangeSet changeSet) {
+        SimpleSqlGrammarTokenManager tokenManager = new SimpleSqlGrammarTokenManager(new SimpleCharStream(reader));
+        return new Iterator<String>() {
+            private String next;
+            private boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && !finished) {
+                    Token token;
+                    try {
+                        token = tokenManager.getNextToken();
+                    } catch (Throwable e) {
+                        throw createParseException(changeSet, e);
+                    }
+                    if (token == null || token.toString().isEmpty()) {
+                        finished = true;
+                    } else if (token.kind == SimpleSqlGrammarConstants.WHITESPACE) {
+                        if (preserveWhitespace) {
+                            next = token.image;
+                        }
+                    } else if ((token.kind == SimpleSqlGrammarConstants.LINE_COMMENT) || (token.kind ==
+                            SimpleSqlGrammarConstants.MULTI_LINE_COMMENT)) {
+                        if (preserveComments) {
+                            next = getCommentText(token, preserveWhitespace);
+                        }
+                    } else {
+                        next = token.image.trim();
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String returnValue = next;
+                next = null;
+                return returnValue;
+            }
+        };
+    }
+
+    private static String getCommentText(Token token, boolean preserveWhitespace) {
+        String comment = token.image;
+        if (!preserveWhitespace && (token.kind == SimpleSqlGrammarConstants.LINE_COMMENT)) {
+            if (!comment.endsWith("\n")) {
+                comment = comment + "\n";
+            }
+        }
+        return comment;
+    }
+
+    private static UnexpectedLiquibaseException createParseException(ChangeSet changeSet, Throwable e) {
+        if (changeSet != null) {
+            Change change = Scope.getCurrentScope().get(ChangeSet.CHANGE_KEY, Change.class);
+            String message = enhanceExceptionMessage(changeSet, change, e);
+            return new UnexpectedLiquibaseException(message, e);
+        } else {
+            return new UnexpectedLiquibaseException(e);
+        }
+    }
+
     /**
      *
      * If this is a RawSQLChange, then add information about the real position of the SQL in the
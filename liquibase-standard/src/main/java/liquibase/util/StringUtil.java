@@ -74,81 +74,12 @@ public class StringUtil {
         StringClauses parsed = sqlParser.parse(multiLineSQL, true, !stripComments, changeSet);
 
         List<String> returnArray = new ArrayList<>();
-
-        StringBuilder currentString = new StringBuilder();
-        String previousPiece = null;
-        boolean previousDelimiter = false;
-        List<Object> parsedArray = Arrays.asList(parsed.toArray(true));
-        int isInClause = 0;
-        List<Object> tokens = mergeTokens(parsedArray, endDelimiter);
-        for (int i = 0; i < tokens.size(); i++) {
-            Object piece = tokens.get(i);
-            String nextPiece = null;
-            int nextIndex = i + 1;
-            while (nextPiece == null && nextIndex < tokens.size()) {
-                nextPiece = StringUtil.trimToNull(String.valueOf(tokens.get(nextIndex)));
-                nextIndex++;
-            }
-
-            if (piece instanceof String && ((String) piece).equalsIgnoreCase("BEGIN")
-                    && (!"transaction".equalsIgnoreCase(nextPiece)
-                    && !"trans".equalsIgnoreCase(nextPiece)
-                    && !"tran".equalsIgnoreCase(nextPiece))
-                    && !"dialog".equalsIgnoreCase(nextPiece)
-                    && !"conversation".equalsIgnoreCase(nextPiece)
-                    && !"distributed".equalsIgnoreCase(nextPiece)) {
-                isInClause++;
-            }
-            if (piece instanceof String && ((String) piece).equalsIgnoreCase("END") && isInClause > 0
-                    && (!"transaction".equalsIgnoreCase(nextPiece)
-                    && !"trans".equalsIgnoreCase(nextPiece)
-                    && !"tran".equalsIgnoreCase(nextPiece))) {
-                isInClause--;
-            }
-
-            if (isInClause == 0 && splitStatements && (piece instanceof String) && isDelimiter((String) piece, previousPiece, endDelimiter)) {
-                String trimmedString;
-                if (Boolean.TRUE.equals(GlobalConfiguration.STRICT.getCurrentValue())) {
-                    String sentenceWithoutDelimiter = removeEndDelimiterIfItsASlash(endDelimiter, currentString);
-                    trimmedString = sentenceWithoutDelimiter.isEmpty() ? StringUtils.trimToNull(currentString.toString()) : StringUtils.trimToNull(sentenceWithoutDelimiter);
-                } else {
-                    trimmedString = StringUtils.trimToNull(currentString.toString());
-                }
-                if (trimmedString != null) {
-                    returnArray.add(trimmedString);
-                }
-                currentString = new StringBuilder();
-                previousDelimiter = true;
-            } else {
-                if (!previousDelimiter || (StringUtils.trimToNull((String) piece) != null)) { //don't include whitespace after a delimiter
-                    if ((currentString.length() > 0) || (StringUtils.trimToNull((String) piece) != null)) { //don't include whitespace before the statement
-                        currentString.append(piece);
-                    }
-                }
-                previousDelimiter = false;
-            }
-            previousPiece = (String) piece;
-        }
-
-        String trimmedString = StringUtils.trimToNull(currentString.toString());
-        if (trimmedString != null) {
-            returnArray.add(trimmedString);
-        }
+        Iterator<String> clauses = Arrays.stream(parsed.toArray(true)).map(String::valueOf).iterator();
+        new SqlStatementSplitter(clauses, splitStatements, endDelimiter).forEachRemaining(returnArray::add);
 
         return returnArray.toArray(new String[0]);
     }
 
-    private static String removeEndDelimiterIfItsASlash(String endDelimiter, StringBuilder currentString) {
-        String sentenceWithoutDelimiter = "";
-        if(endDelimiter != null && "/".contentEquals(endDelimiter)) {
-            int lastIndexEndDelimiter = currentString.toString().lastIndexOf(endDelimiter);
-            if(lastIndexEndDelimiter >= 0) {
-                sentenceWithoutDelimiter = currentString.substring(0, lastIndexEndDelimiter);
-            }
-        }
-        return sentenceWithoutDelimiter;
-    }
-
     /**
      * Removes any comments from multiple line SQL using {@link #stripComments(String, ChangeSet)}
      * and then extracts each individual statement using {@link #splitSQL(String, String, ChangeSet)}.
@@ -176,42 +107,6 @@ public class StringUtil {
         return processMultiLineSQL(multiLineSQL, stripComments, splitStatements, endDelimiter, changeSet);
     }
 
-    /**
-     * Delimiters like "//" may span multiple tokens. Look for them and combine them
-     */
-    private static List<Object> mergeTokens(List<Object> parsedArray, String endDelimiter) {
-        if (endDelimiter == null) {
-            return parsedArray;
-        }
-
-        List<Object> returnList = new ArrayList<>();
-        List<String> possibleMerge = new ArrayList<>();
-        for (Object obj : parsedArray) {
-            if (possibleMerge.size() == 0) {
-                if ((obj instanceof String) && endDelimiter.startsWith((String) obj)) {
-                    possibleMerge.add((String) obj);
-                } else {
-                    returnList.add(obj);
-                }
-            } else {
-                String possibleMergeString = StringUtil.join(possibleMerge, "") + obj.toString();
-                if (endDelimiter.equals(possibleMergeString)) {
-                    returnList.add(possibleMergeString);
-                    possibleMerge.clear();
-                } else if (endDelimiter.startsWith(possibleMergeString)) {
-                    possibleMerge.add(obj.toString());
-                } else {
-                    returnList.addAll(possibleMerge);
-                    returnList.add(obj);
-                    possibleMerge.clear();
-                }
-            }
-        }
-
-        return returnList;
-
-    }
-
     /**
      * Returns true if the input is a delimiter in one of the popular RDBMSs. Recognized delimiters are: semicolon (;),
      * a slash (as the only content) or the word GO (as the only content).
@@ -231,6 +231,69 @@ class ScopeTest extends Specification {
         errors.isEmpty()
     }
 
+    def "java properties are looked up after the scope values and before the parent values"() {
+        expect:
+        Scope.child([test1: "parent 1", test2: "parent 2", test3: "parent 3"], {
+            Scope.child([test1: "child 1", (Scope.JAVA_PROPERTIES): [test1: "property 1", test2: "property 2"]], {
+                assert Scope.currentScope.get("test1", String) == "child 1"
+                assert Scope.currentScope.get("test2", String) == "property 2"
+                assert Scope.currentScope.get("test3", String) == "parent 3"
+
+                Scope.child([test2: "grandchild 2"], {
+                    assert Scope.currentScope.get("test1", String) == "child 1"
+                    assert Scope.currentScope.get("test2", String) == "grandchild 2"
+                } as Scope.ScopedRunner)
+            } as Scope.ScopedRunner)
+        } as Scope.ScopedRunner)
+    }
+
+    def "null scope values leave the parent value visible"() {
+        expect:
+        Scope.child([test1: "parent 1"], {
+            Scope.child([test1: null], {
+                assert Scope.currentScope.get("test1", String) == "parent 1"
+                assert Scope.currentScope.has("test1")
+            } as Scope.ScopedRunner)
+        } as Scope.ScopedRunner)
+    }
+
+    def "lpm args set on a scope are seen by the scopes created afterwards"() {
+        expect:
+        Scope.child([test1: "parent 1"], {
+            Scope.currentScope.setLpmArgs("--help")
+
+            Scope.child([test2: "child 2"], {
+                assert Scope.currentScope.get(Scope.Attr.lpmArgs, String) == "--help"
+                assert Scope.currentScope.get("test1", String) == "parent 1"
+            } as Scope.ScopedRunner)
+        } as Scope.ScopedRunner)
+        Scope.currentScope.get(Scope.Attr.lpmArgs, String) == null
+    }
+
+    def "getSingleton returns the same object to concurrent threads"() {
+        given:
+        def threadCount = 10
+        def singletons = Collections.synchronizedList([])
+        def start = new java.util.concurrent.CountDownLatch(1)
+
+        when:
+        def threads = (0..<threadCount).collect {
+            Thread.start {
+                start.await()
+                Scope.child([threadId: it], {
+                    singletons.add(Scope.currentScope.getSingleton(TestSingleton))
+                } as Scope.ScopedRunner)
+            }
+        }
+        start.countDown()
+        threads.each { it.join(10000) }
+
+        then:
+        singletons.size() == threadCount
+        singletons.unique(false) { System.identityHashCode(it) }.size() == 1
+        Scope.currentScope.getSingleton(TestSingleton).is(singletons[0])
+    }
+
     def "custom scope manager can be set"() {
         given:
         def customManager = new SingletonScopeManager()
@@ -249,6 +312,9 @@ class ScopeTest extends Specification {
         Scope.setScopeManager(null)
     }
 
+    static class TestSingleton implements SingletonObject {
+    }
+
     private class TestMdcManager implements MdcManager {
 
         private Map<String, Object> values = new ConcurrentHashMap<>()
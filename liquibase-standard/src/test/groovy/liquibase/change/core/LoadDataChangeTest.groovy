@@ -13,7 +13,11 @@ import liquibase.database.DatabaseFactory
 import liquibase.database.core.H2Database
 import liquibase.database.core.MSSQLDatabase
 import liquibase.database.core.MockDatabase
+import liquibase.database.core.MySQLDatabase
+import liquibase.database.core.PostgresDatabase
 import liquibase.exception.ValidationErrors
+import liquibase.executor.Executor
+import liquibase.executor.ExecutorService
 import liquibase.parser.core.ParsedNode
 import liquibase.parser.core.ParsedNodeException
 import liquibase.resource.ClassLoaderResourceAccessor
@@ -671,6 +675,200 @@ class LoadDataChangeTest extends StandardChangeTest {
         "jdoe" == ((InsertStatement) sqlStatements[1]).getColumnValue("username")
     }
 
+    def "loadMode streaming produces a single streaming statement"() throws Exception {
+        when:
+        LoadDataChange loadDataChange = new LoadDataChange()
+        loadDataChange.setSchemaName("SCHEMA_NAME")
+        loadDataChange.setTableName("TABLE_NAME")
+        loadDataChange.setLoadMode("streaming")
+        loadDataChange.setFile("liquibase/change/core/sample.data1.csv")
+
+        SqlStatement[] sqlStatement = loadDataChange.generateStatements(new MSSQLDatabase())
+
+        then:
+        loadDataChange.getEffectiveLoadMode() == LoadDataChange.LoadMode.STREAMING
+        sqlStatement.length == 1
+        assert sqlStatement[0] instanceof LoadDataStreamingStatement
+        ((LoadDataStreamingStatement) sqlStatement[0]).getChange() == loadDataChange
+    }
+
+    def "loadMode defaults to the global loadDataMode setting"() {
+        when:
+        LoadDataChange loadDataChange = new LoadDataChange()
+        def mode = Scope.child([(GlobalConfiguration.LOAD_DATA_MODE.key): "STREAMING"], {
+            return loadDataChange.getEffectiveLoadMode()
+        } as Scope.ScopedRunnerWithReturn)
+
+        then:
+        loadDataChange.getEffectiveLoadMode() == LoadDataChange.LoadMode.DEFAULT
+        mode == LoadDataChange.LoadMode.STREAMING
+    }
+
+    def "generateStatementsInChunks hands over one chunk of rows at a time"() throws Exception {
+        when:
+        LoadDataChange loadDataChange = new LoadDataChange()
+        loadDataChange.setSchemaName("SCHEMA_NAME")
+        loadDataChange.setTableName("TABLE_NAME")
+        loadDataChange.setUsePreparedStatements(Boolean.FALSE)
+        loadDataChange.setFile("liquibase/change/core/sample.data1.csv")
+
+        List<SqlStatement[]> chunks = []
+        loadDataChange.generateStatementsInChunks(new MSSQLDatabase(), 1, { statements -> chunks.add(statements) })
+
+        then:
+        chunks.size() == 2
+        chunks[0].length == 1
+        ((InsertSetStatement) chunks[0][0]).getStatementsArray().length == 1
+        "bjohnson" == ((InsertSetStatement) chunks[0][0]).getStatementsArray()[0].getColumnValue("username")
+        "jdoe" == ((InsertSetStatement) chunks[1][0]).getStatementsArray()[0].getColumnValue("username")
+    }
+
+    def "batchSize splits prepared statements into several JDBC batches"() throws Exception {
+        when:
+        LoadDataChange loadDataChange = new LoadDataChange()
+        loadDataChange.setSchemaName("SCHEMA_NAME")
+        loadDataChange.setTableName("TABLE_NAME")
+        loadDataChange.setUsePreparedStatements(Boolean.TRUE)
+        loadDataChange.setBatchSize(1)
+        loadDataChange.setFile("liquibase/change/core/sample.data1.csv")
+
+        SqlStatement[] sqlStatement = loadDataChange.generateStatements(new MSSQLDatabase() { public boolean supportsBatchUpdates() { return true } })
+
+        then:
+        sqlStatement.length == 2
+        ((BatchDmlExecutablePreparedStatement) sqlStatement[0]).getIndividualStatements().size() == 1
+        ((BatchDmlExecutablePreparedStatement) sqlStatement[1]).getIndividualStatements().size() == 1
+    }
+
+    @Unroll
+    def "prepared statements are combined into multi-row INSERTs on #database.shortName"() throws Exception {
+        when:
+        LoadDataChange loadDataChange = new LoadDataChange()
+        loadDataChange.setSchemaName("SCHEMA_NAME")
+        loadDataChange.setTableName("TABLE_NAME")
+        loadDataChange.setUsePreparedStatements(Boolean.TRUE)
+        loadDataChange.setBatchSize(batchSize)
+        loadDataChange.setFile("liquibase/change/core/sample.data1.csv")
+
+        SqlStatement[] sqlStatement = loadDataChange.generateStatements(database)
+
+        then:
+        sqlStatement.length == expectedStatements
+        sqlStatement.every { it instanceof InsertMultiRowExecutablePreparedStatement }
+        sqlStatement.collect { ((InsertMultiRowExecutablePreparedStatement) it).getIndividualStatements().size() }.sum() == 2
+
+        where:
+        database                                                                  | batchSize | expectedStatements
+        new PostgresDatabase() { public boolean supportsBatchUpdates() { true } } | null      | 1
+        new PostgresDatabase() { public boolean supportsBatchUpdates() { true } } | 1         | 2
+        new MySQLDatabase() { public boolean supportsBatchUpdates() { true } }    | null      | 1
+    }
+
+    def "batchSize must be positive"() {
+        when:
+        LoadDataChange loadDataChange = new LoadDataChange()
+        loadDataChange.setTableName("TABLE_NAME")
+        loadDataChange.setFile("liquibase/change/core/sample.data1.csv")
+        loadDataChange.setBatchSize(0)
+
+        then:
+        loadDataChange.validate(new MSSQLDatabase()).getErrorMessages().contains("batchSize must be greater than zero, but was 0")
+    }
+
+    def "loadMode copy falls back to INSERT statements without a PgJDBC connection"() throws Exception {
+        when:
+        LoadDataChange loadDataChange = new LoadDataChange()
+        loadDataChange.setTableName("TABLE_NAME")
+        loadDataChange.setLoadMode("copy")
+        loadDataChange.setFile("liquibase/change/core/sample.data1.csv")
+
+        SqlStatement[] sqlStatement = loadDataChange.generateStatements(new PostgresDatabase())
+
+        then:
+        loadDataChange.getEffectiveLoadMode() == LoadDataChange.LoadMode.COPY
+        sqlStatement.length == 1
+        assert sqlStatement[0] instanceof InsertSetStatement
+    }
+
+    def "loadMode copy streams converted rows as CSV"() {
+        when:
+        LoadDataChange change = new LoadDataChange()
+        change.load(new ParsedNode(null, "loadData").addChildren([
+                file     : "liquibase/change/core/sample.data.with.nulls.csv",
+                tableName: "worker",
+                loadMode : "copy"
+        ]).setValue([
+                [column: [name: "name", type: "STRING"]],
+                [column: [name: "middlename", type: "STRING", nullPlaceholder: ""]],
+                [column: [name: "surname", nullPlaceholder: ""]],
+                [column: [name: "job", type: "STRING", nullPlaceholder: "NONE"]],
+        ]), new ClassLoaderResourceAccessor())
+        SnapshotGeneratorFactory.instance = new MockSnapshotGeneratorFactory()
+
+        String copySql = null
+        def copied = new ByteArrayOutputStream()
+        boolean ended = false
+        def opener = { String sql ->
+            copySql = sql
+            return new LoadDataCopyStatement.CopyIn() {
+                void writeToCopy(byte[] data, int offset, int length) { copied.write(data, offset, length) }
+                long endCopy() { ended = true; return 4 }
+                void cancelCopy() {}
+            }
+        } as LoadDataCopyStatement.CopyInOpener
+        new LoadDataCopyStatement(change, new PostgresDatabase(), opener).execute(null)
+
+        then:
+        copySql == "COPY worker(name, middlename, surname, job) FROM STDIN WITH (FORMAT csv)"
+        ended
+        copied.toString("UTF-8") == "\"Fred\",\"Twinkletoes\",\"Flintstone\",\"Crane operator\"\n" +
+                ",\"null\",\"null\",\"null\"\n" +
+                "\"\",,,\"\"\n" +
+                "\"NONE\",\"NONE\",\"NONE\",\n"
+    }
+
+    def "loadMode copy inserts rows with computed values between COPY operations"() {
+        when:
+        LoadDataChange change = new LoadDataChange()
+        change.load(new ParsedNode(null, "loadData").addChildren([
+                file     : "liquibase/change/core/sample.data.with.functions.csv",
+                tableName: "event",
+                loadMode : "copy"
+        ]).setValue([
+                [column: [name: "id", type: "NUMERIC"]],
+                [column: [name: "created", type: "DATETIME"]],
+        ]), new ClassLoaderResourceAccessor())
+        SnapshotGeneratorFactory.instance = new MockSnapshotGeneratorFactory()
+
+        def database = new PostgresDatabase()
+        def inserts = []
+        def executor = Mock(Executor)
+        executor.execute(_ as SqlStatement, _ as List) >> { SqlStatement statement, List visitors -> inserts.add(statement) }
+        Scope.currentScope.getSingleton(ExecutorService).setExecutor("jdbc", database, executor)
+
+        def copies = []
+        def opener = { String sql ->
+            def copied = new ByteArrayOutputStream()
+            copies.add(copied)
+            return new LoadDataCopyStatement.CopyIn() {
+                void writeToCopy(byte[] data, int offset, int length) { copied.write(data, offset, length) }
+                long endCopy() { return 1 }
+                void cancelCopy() {}
+            }
+        } as LoadDataCopyStatement.CopyInOpener
+        try {
+            new LoadDataCopyStatement(change, database, opener).execute(null)
+        } finally {
+            Scope.currentScope.getSingleton(ExecutorService).clearExecutor("jdbc", database)
+        }
+
+        then:
+        copies*.toString("UTF-8") == ["\"1\",\"2022-09-13 12:34:56.0\"\n", "\"3\",\"2022-09-14 12:34:56.0\"\n"]
+        inserts.size() == 1
+        ((InsertStatement) inserts[0]).getColumnValue("id") == 2
+        ((InsertStatement) inserts[0]).getColumnValue("created") == new DatabaseFunction("CURRENT_TIMESTAMP")
+    }
+
     Table addColumns(Table table, ColDef... colunms) {
         colunms.each {
             table.addColumn(new Column(Table.class, table.schema.catalogName, table.schema.name, table.name
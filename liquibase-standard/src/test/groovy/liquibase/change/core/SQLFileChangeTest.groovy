@@ -10,6 +10,7 @@ import liquibase.changelog.ChangeSet
 import liquibase.changelog.DatabaseChangeLog
 import liquibase.database.core.MockDatabase
 import liquibase.exception.UnexpectedLiquibaseException
+import liquibase.sdk.resource.MockResourceAccessor
 import liquibase.statement.SqlStatement
 import liquibase.test.JUnitResourceAccessor
 import liquibase.util.StreamUtil
@@ -58,6 +59,40 @@ class SQLFileChangeTest extends StandardChangeTest {
     }
 
 
+    @Unroll
+    def "generateStatements splits the file while reading it like inline sql: #fileContents"() throws Exception {
+        when:
+        def changeLogParameters = new ChangeLogParameters()
+        changeLogParameters.set("table.name", "customer")
+        changeLogParameters.set("two.statements", "select 1;\nselect 2")
+        def changeSet = new ChangeSet("x", "y", false, false, null, null, null, new DatabaseChangeLog("com/example/changelog.xml"))
+        changeSet.setChangeLogParameters(changeLogParameters)
+
+        def fileChange = new SQLFileChange(path: "com/example/file.sql", endDelimiter: endDelimiter)
+        fileChange.setChangeSet(changeSet)
+        def inlineChange = new SQLFileChange(endDelimiter: endDelimiter)
+        inlineChange.setChangeSet(changeSet)
+        inlineChange.setSql(fileContents)
+
+        def fileStatements = Scope.child([(Scope.Attr.resourceAccessor.name()): new MockResourceAccessor(["com/example/file.sql": fileContents])], {
+            fileChange.generateStatements(new MockDatabase())
+        } as Scope.ScopedRunnerWithReturn)
+
+        then:
+        fileStatements*.sql == expectedStatements
+        inlineChange.generateStatements(new MockDatabase())*.sql == expectedStatements
+
+        where:
+        fileContents                                                    | endDelimiter | expectedStatements
+        "  \r\n SELECT * FROM \${table.name};\r\nSELECT 2;\r\n"          | null         | ["SELECT * FROM customer", "SELECT 2"]
+        "\${two.statements};"                                           | null         | ["select 1", "select 2"]
+        "select '\${table\n.name}';"                                    | null         | ["select '\${table\n.name}'"]
+        "create procedure p as\nbegin\n  select 1;\nend;\n/\nselect 2\n/" | "/"          | ["create procedure p as\nbegin\n  select 1;\nend;", "select 2"]
+        "select 1\n//\nselect 2\n//"                                     | "//"         | ["select 1", "select 2"]
+        "--comment\nselect 1;\n/* multi\nline */ select 2;"              | null         | ["--comment\nselect 1", "/* multi\nline */ select 2"]
+        "   \n  "                                                        | null         | []
+    }
+
     def getConfirmationMessage() throws Exception {
         when:
         def change = new SQLFileChange();
@@ -0,0 +1,105 @@
+package liquibase.changelog
+
+import liquibase.GlobalConfiguration
+import liquibase.Scope
+import liquibase.change.CheckSum
+import liquibase.change.core.CreateTableChange
+import liquibase.ChecksumVersion
+import liquibase.parser.core.ParsedNode
+import liquibase.sdk.supplier.resource.ResourceSupplier
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+
+class ChecksumCacheTest extends Specification {
+
+    @Shared
+    resourceSupplier = new ResourceSupplier()
+
+    @TempDir
+    Path tempDir
+
+    def "cached checksums match computed checksums and are read back from the file"() {
+        when:
+        def cacheFile = tempDir.resolve("checksums.properties")
+        def computed = checkSum(null, createTableNode("table_1"))
+        def cached = checkSum(cacheFile, createTableNode("table_1"))
+        def reread = new ChecksumCache(cacheFile)
+
+        then:
+        cached == computed
+        reread.get(key(createTableNode("table_1"))) == computed
+        checkSum(cacheFile, createTableNode("table_2")) != computed
+    }
+
+    def "checksums are read from the cache for unchanged content"() {
+        when:
+        def cacheFile = tempDir.resolve("checksums.properties")
+        def key = key(createTableNode("table_1"))
+        new ChecksumCache(cacheFile).with {
+            put(key, CheckSum.parse("9:11111111111111111111111111111111"))
+            save()
+        }
+
+        then:
+        checkSum(cacheFile, createTableNode("table_1")).toString() == "9:11111111111111111111111111111111"
+    }
+
+    def "changesets that read other files or were changed after loading are not cached"() {
+        when:
+        def cacheFile = tempDir.resolve("checksums.properties")
+        def sqlFileNode = new ParsedNode(null, "changeSet")
+                .addChildren([id: "1", author: "test"])
+                .addChild(new ParsedNode(null, "sqlFile").addChild(null, "path", "com/example/file.sql"))
+        def modified = load(cacheFile, createTableNode("table_1"))
+        modified.addChange(new CreateTableChange(tableName: "table_2"))
+
+        then:
+        key(sqlFileNode) == null
+        inScope(cacheFile) { ChecksumCache.getKey(modified, modified.parsedContentDigest) } == null
+    }
+
+    def "digest does not confuse values with nested nodes"() {
+        expect:
+        ChecksumCache.digest(new ParsedNode(null, "sql").setValue("a,b=c")) != ChecksumCache.digest(new ParsedNode(null, "sql").setValue("a").addChild(null, "b", "c"))
+    }
+
+    private static ParsedNode createTableNode(String tableName) {
+        return new ParsedNode(null, "changeSet")
+                .addChildren([id: "1", author: "test"])
+                .addChild(new ParsedNode(null, "createTable").addChild(null, "tableName", tableName))
+    }
+
+    private ChangeSet load(Path cacheFile, ParsedNode node) {
+        return inScope(cacheFile) {
+            def changeSet = new ChangeSet(new DatabaseChangeLog("com/example/test.xml"))
+            changeSet.load(node, resourceSupplier.simpleResourceAccessor)
+            return changeSet
+        }
+    }
+
+    private CheckSum checkSum(Path cacheFile, ParsedNode node) {
+        def changeSet = load(cacheFile, node)
+        return inScope(cacheFile) {
+            def checkSum = changeSet.generateCheckSum(ChecksumVersion.latest())
+            ChecksumCache.fromConfiguration()?.save()
+            return checkSum
+        }
+    }
+
+    private String key(ParsedNode node) {
+        def changeSet = load(null, node)
+        return Scope.child([(Scope.Attr.checksumVersion.name()): ChecksumVersion.latest()], {
+            ChecksumCache.getKey(changeSet, ChecksumCache.digest(node))
+        } as Scope.ScopedRunnerWithReturn)
+    }
+
+    private static <T> T inScope(Path cacheFile, Closure<T> closure) {
+        if (cacheFile == null) {
+            return closure.call()
+        }
+        return Scope.child([(GlobalConfiguration.CHECKSUM_CACHE_FILE.key): cacheFile.toString()], closure as Scope.ScopedRunnerWithReturn<T>)
+    }
+}
@@ -212,6 +212,59 @@ create view sql_view as select * from sql_table;'''
         changeLog.getChangeSet(path, "auth", "with-dbms-and-context") == null
     }
 
+    def "getChangeSets finds changesets added, moved or renamed after earlier lookups"() {
+        def path = "com/example/path.xml"
+        when:
+        def changeLog = new DatabaseChangeLog(path)
+        def first = new ChangeSet("1", "Auth", false, false, path, null, null, changeLog)
+        changeLog.addChangeSet(first)
+
+        then:
+        changeLog.getChangeSets("/com/example/PATH.xml", "auth", "1") == [first]
+        changeLog.getChangeSets(path, "auth", "2").isEmpty()
+
+        when: "changesets are added after the first lookup"
+        def second = new ChangeSet("1", "auth", false, false, path, null, null, changeLog)
+        def runFirst = new ChangeSet("1", "AUTH", false, false, path, null, null, changeLog)
+        runFirst.setRunOrder("first")
+        changeLog.addChangeSet(second)
+        changeLog.addChangeSet(runFirst)
+
+        then:
+        changeLog.getChangeSets(path, "auth", "1") == [runFirst, first, second]
+
+        when: "the file path of a changeset changes"
+        second.setFilePath("com/example/other.xml")
+
+        then:
+        changeLog.getChangeSets(path, "auth", "1") == [runFirst, first]
+        changeLog.getChangeSets("com/example/other.xml", "auth", "1") == [second]
+
+        when: "the changeset list is modified directly"
+        changeLog.getChangeSets().remove(first)
+
+        then:
+        changeLog.getChangeSets(path, "auth", "1") == [runFirst]
+        changeLog.getChangeSets(path, null, "1").isEmpty()
+
+        when: "a changeset is replaced directly, leaving the size unchanged"
+        def replacement = new ChangeSet("2", "auth", false, false, path, null, null, changeLog)
+        changeLog.getChangeSets().set(0, replacement)
+
+        then:
+        changeLog.getChangeSets(path, "auth", "1").isEmpty()
+        changeLog.getChangeSets(path, "auth", "2") == [replacement]
+
+        when: "the changeset list is reordered directly"
+        def third = new ChangeSet("2", "auth", false, false, path, null, null, changeLog)
+        changeLog.addChangeSet(third)
+        changeLog.getChangeSets(path, "auth", "2")
+        Collections.reverse(changeLog.getChangeSets().subList(0, 3))
+
+        then:
+        changeLog.getChangeSets(path, "auth", "2") == [third, replacement]
+    }
+
     def "load handles both changes and preconditions"() {
         when:
         def children = [
@@ -427,6 +480,93 @@ create view sql_view as select * from sql_table;'''
         ((RawSQLChange) rootChangeLog.getChangeSets().get(3).changes[0]).sql == testSql
     }
 
+    @Unroll
+    def "include and includeAll load the same changesets in the same order with includeParserThreads #threads"() {
+        given:
+        def header = """<databaseChangeLog xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                   xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                   xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd">"""
+        def resourceAccessor = new MockResourceAccessor([
+                "com/example/first.xml"   : header + """<changeSet id="first" author="example"><createTable tableName="first\${suffix}"><column name="id" type="int"/></createTable></changeSet></databaseChangeLog>""",
+                "com/example/second.xml"  : header + """<property name="suffix" value="_b"/><changeSet id="second" author="example"><createTable tableName="second\${suffix}"><column name="id" type="int"/></createTable></changeSet></databaseChangeLog>""",
+                "com/example/dir/a.yaml"  : """databaseChangeLog:
+  - changeSet:
+      id: a
+      author: example
+      changes:
+        - createTable:
+            tableName: a\${suffix}
+            columns:
+              - column:
+                  name: id
+                  type: int
+""",
+                "com/example/dir/b.sql"   : "--liquibase formatted sql\n--changeset example:b\ncreate table b\${suffix} (id int);\n",
+                "com/example/dir/c.xml"   : header + """<property name="suffix" value="_c"/><changeSet id="c" author="example"><createTable tableName="c\${suffix}"><column name="id" type="int"/></createTable></changeSet></databaseChangeLog>""",
+                "com/example/dir/d.xml"   : header + """<changeSet id="d" author="example"><createTable tableName="d\${suffix}"><column name="id" type="int"/></createTable></changeSet></databaseChangeLog>""",
+        ])
+
+        when:
+        def rootChangeLog = new DatabaseChangeLog("com/example/root.xml")
+        rootChangeLog.setChangeLogParameters(new ChangeLogParameters())
+        rootChangeLog.getChangeLogParameters().set("suffix", "_root", (String) null, null, null, false, rootChangeLog)
+        Scope.child([(ChangeLogParserConfiguration.INCLUDE_PARSER_THREADS.key): threads], {
+            rootChangeLog.load(new ParsedNode(null, "databaseChangeLog")
+                    .addChildren([include: [file: "com/example/first.xml"]])
+                    .addChildren([include: [file: "com/example/second.xml"]])
+                    .addChildren([includeAll: [path: "com/example/dir"]])
+                    , resourceAccessor)
+        } as Scope.ScopedRunner)
+
+        then:
+        rootChangeLog.changeSets.collect { it.filePath + "::" + it.id } == [
+                "com/example/first.xml::first",
+                "com/example/second.xml::second",
+                "com/example/dir/a.yaml::a",
+                "com/example/dir/b.sql::b",
+                "com/example/dir/c.xml::c",
+                "com/example/dir/d.xml::d",
+        ]
+        rootChangeLog.changeSets.collect { it.changes[0] instanceof RawSQLChange ? it.changes[0].sql : it.changes[0].tableName } == [
+                "first_root",
+                "second_b",
+                "a_b",
+                "create table b_b (id int);",
+                "c_b",
+                "d_b",
+        ]
+
+        where:
+        threads << [1, 4]
+    }
+
+    @Unroll
+    def "includeAll reports the same parsing error with includeParserThreads #threads"() {
+        given:
+        def resourceAccessor = new MockResourceAccessor([
+                "com/example/dir/a.sql"  : "--liquibase formatted sql\n--changeset example:a\ncreate table a (id int);\n",
+                "com/example/dir/b.xml"  : "<databaseChangeLog><changeSet id=\"b\"",
+                "com/example/dir/c.sql"  : "--liquibase formatted sql\n--changeset example:c\ncreate table c (id int);\n",
+        ])
+
+        when:
+        def rootChangeLog = new DatabaseChangeLog("com/example/root.xml")
+        rootChangeLog.setChangeLogParameters(new ChangeLogParameters())
+        Scope.child([(ChangeLogParserConfiguration.INCLUDE_PARSER_THREADS.key): threads], {
+            rootChangeLog.load(new ParsedNode(null, "databaseChangeLog")
+                    .addChildren([includeAll: [path: "com/example/dir"]])
+                    , resourceAccessor)
+        } as Scope.ScopedRunner)
+
+        then:
+        def e = thrown(SetupException)
+        e.message.contains("com/example/dir/b.xml")
+        rootChangeLog.changeSets.collect { it.id } == ["a"]
+
+        where:
+        threads << [1, 4]
+    }
+
     def "included changelogs inherit contexts, labels, and ignores via load()"() {
         when:
         def resourceAccessor = new MockResourceAccessor(["com/example/test1.xml": test1Xml, "com/example/test2.xml": test1Xml.replace("testUser", "otherUser").replace("person", "person2")])
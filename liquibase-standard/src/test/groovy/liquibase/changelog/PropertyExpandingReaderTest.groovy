@@ -0,0 +1,39 @@
+package liquibase.changelog
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PropertyExpandingReaderTest extends Specification {
+
+    @Unroll
+    def "reading expands the parameters like expandExpressions: #text"() {
+        when:
+        def parameters = new ChangeLogParameters()
+        parameters.set("table", "customer")
+        parameters.set("multi.line", "a\nb")
+        def changeLog = new DatabaseChangeLog()
+        changeLog.setChangeLogParameters(parameters)
+
+        def reader = new PropertyExpandingReader(parameters, changeLog, new StringReader(text))
+
+        then:
+        reader.text == parameters.expandExpressions(text, changeLog)
+
+        where:
+        text << [
+                "",
+                "select * from \${table};\nselect 2;\n",
+                "no trailing line break \${table}",
+                "\${multi.line}\n\${multi.line}",
+                "expression \${tab\nle} spanning lines\nnext line \${table}",
+                "unclosed \${table\nto the end\n",
+                "dollar \$\n{table} and \$\${table}",
+                "closing } outside \${table} }\n",
+        ]
+    }
+
+    def "reader without changeset parameters returns the text as is"() {
+        expect:
+        new PropertyExpandingReader((ChangeSet) null, new StringReader("select \${table}")).text == "select \${table}"
+    }
+}
@@ -0,0 +1,66 @@
+package liquibase.changelog
+
+import liquibase.change.CheckSum
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class RanChangeSetIndexTest extends Specification {
+
+    private static RanChangeSet ranChangeSet(String path, String id, String author) {
+        return new RanChangeSet(path, id, author, CheckSum.parse("12345"), new Date(), null, null, null, null, null, null, null)
+    }
+
+    @Unroll
+    def "get matches the same changesets as isSameAs: #path::#id::#author"() {
+        when:
+        def ran = ranChangeSet("path/changelog.xml", "1", "testAuthor")
+        def index = new RanChangeSetIndex([ranChangeSet("path/other.xml", "1", "testAuthor"), ran])
+        def changeSet = new ChangeSet(id, author, false, false, path, null, null, null)
+
+        then:
+        (index.get(changeSet) != null) == ran.isSameAs(changeSet)
+        index.contains(changeSet) == expected
+
+        where:
+        path                             | id  | author       | expected
+        "path/changelog.xml"             | "1" | "testAuthor" | true
+        "PATH/Changelog.xml"             | "1" | "TESTAUTHOR" | true
+        "classpath:path/changelog.xml"   | "1" | "testAuthor" | true
+        "/path/changelog.xml"            | "1" | "testAuthor" | true
+        "path\\changelog.xml"            | "1" | "testAuthor" | true
+        "path/changelog.xml"             | "2" | "testAuthor" | false
+        "path/changelog.xml"             | "1" | "otherAuthor"| false
+        "other/changelog.xml"            | "1" | "testAuthor" | false
+    }
+
+    def "get returns the first matching entry, like a linear scan"() {
+        when:
+        def first = ranChangeSet("path/changelog.xml", "1", "testAuthor")
+        def second = ranChangeSet("PATH/changelog.xml", "1", "testAuthor")
+        def index = new RanChangeSetIndex([first, second])
+
+        then:
+        index.get(new ChangeSet("1", "testAuthor", false, false, "path/changelog.xml", null, null, null)).is(first)
+    }
+
+    def "add and remove keep the index in sync with the list"() {
+        when:
+        def changeSet = new ChangeSet("1", "testAuthor", false, false, "path/changelog.xml", null, null, null)
+        def index = new RanChangeSetIndex(null)
+
+        then:
+        index.get(changeSet) == null
+
+        when:
+        index.add(ranChangeSet("path/changelog.xml", "1", "testAuthor"))
+
+        then:
+        index.contains(changeSet)
+
+        when:
+        index.remove(ranChangeSet("path/changelog.xml", "1", "testAuthor"))
+
+        then:
+        !index.contains(changeSet)
+    }
+}
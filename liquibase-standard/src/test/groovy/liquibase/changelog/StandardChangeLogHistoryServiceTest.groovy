@@ -0,0 +1,72 @@
+package liquibase.changelog
+
+import liquibase.ChecksumVersion
+import liquibase.Contexts
+import liquibase.LabelExpression
+import liquibase.change.core.CreateTableChange
+import liquibase.database.Database
+import liquibase.database.DatabaseFactory
+import liquibase.database.jvm.JdbcConnection
+import liquibase.util.StringUtil
+import spock.lang.Specification
+
+import java.sql.DriverManager
+
+class StandardChangeLogHistoryServiceTest extends Specification {
+
+    private Database database
+    private StandardChangeLogHistoryService service
+
+    def setup() {
+        def url = "jdbc:h2:mem:" + StringUtil.randomIdentifier(10)
+        database = DatabaseFactory.instance.findCorrectDatabaseImplementation(new JdbcConnection(DriverManager.getConnection(url, "sa", "")))
+        service = new StandardChangeLogHistoryService()
+        service.setDatabase(database)
+        service.init()
+    }
+
+    def cleanup() {
+        database?.close()
+    }
+
+    def "upgradeChecksums updates all null checksums in the table and in the ran changesets"() {
+        when:
+        def changeLog = new DatabaseChangeLog("com/example/changelog.xml")
+        for (int i = 1; i <= 3; i++) {
+            def changeSet = new ChangeSet(i as String, "example", false, false, "com/example/changelog.xml", null, null, changeLog)
+            changeSet.addChange(new CreateTableChange(tableName: "table_" + i))
+            changeLog.addChangeSet(changeSet)
+            service.setExecType(changeSet, ChangeSet.ExecType.EXECUTED)
+        }
+        service.clearAllCheckSums()
+        def ranChangeSets = service.getRanChangeSets()
+        def checksumsBefore = ranChangeSets*.lastCheckSum
+        service.upgradeChecksums(changeLog, new Contexts(), new LabelExpression())
+
+        then:
+        checksumsBefore == [null, null, null]
+        service.getRanChangeSets().size() == 3
+        (0..2).every { service.getRanChangeSets()[it].is(ranChangeSets[it]) }
+        service.getRanChangeSets()*.lastCheckSum == changeLog.changeSets*.generateCheckSum(ChecksumVersion.latest())
+        storedChecksums() == changeLog.changeSets*.generateCheckSum(ChecksumVersion.latest())*.toString()
+    }
+
+    def "replaceChecksums with no changesets does nothing"() {
+        when:
+        service.replaceChecksums([])
+
+        then:
+        service.getRanChangeSets().isEmpty()
+    }
+
+    private List<String> storedChecksums() {
+        def statement = ((JdbcConnection) database.connection).createStatement()
+        def resultSet = statement.executeQuery("select md5sum from databasechangelog order by orderexecuted")
+        def checksums = []
+        while (resultSet.next()) {
+            checksums.add(resultSet.getString(1))
+        }
+        statement.close()
+        return checksums
+    }
+}
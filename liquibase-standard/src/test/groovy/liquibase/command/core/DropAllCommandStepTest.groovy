@@ -0,0 +1,106 @@
+package liquibase.command.core
+
+import liquibase.CatalogAndSchema
+import liquibase.command.CommandScope
+import liquibase.command.core.helpers.DbUrlConnectionArgumentsCommandStep
+import liquibase.database.Database
+import liquibase.database.DatabaseFactory
+import liquibase.database.jvm.JdbcConnection
+import liquibase.util.StringUtil
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.sql.DriverManager
+
+class DropAllCommandStepTest extends Specification {
+
+    private Connection connection
+    private Database database
+
+    def setup() {
+        connection = DriverManager.getConnection("jdbc:h2:mem:" + StringUtil.randomIdentifier(10) + ";DB_CLOSE_DELAY=-1", "sa", "")
+        database = DatabaseFactory.instance.findCorrectDatabaseImplementation(new JdbcConnection(connection))
+        execute("create schema tenant",
+                "create table tenant.person (id int primary key, name varchar(50))",
+                "create table tenant.address (id int primary key, person_id int references tenant.person(id))",
+                "create view tenant.person_names as select name from tenant.person",
+                "create sequence tenant.person_seq",
+                "create table public.kept (id int)")
+    }
+
+    def cleanup() {
+        connection.createStatement().execute("shutdown")
+        connection.close()
+    }
+
+    def "nativeDrop drops and recreates the schema"() {
+        when:
+        dropAll("TENANT", true)
+
+        then:
+        countObjects("TENANT") == 0
+        schemaExists("TENANT")
+        countObjects("PUBLIC") > 0
+    }
+
+    def "nativeDrop is not used for the schema holding the Liquibase tables"() {
+        when:
+        dropAll("PUBLIC", true)
+
+        then:
+        countObjects("PUBLIC") == 0
+        countObjects("TENANT") > 0
+    }
+
+    def "without nativeDrop the objects are dropped after a snapshot"() {
+        when:
+        dropAll("TENANT", false)
+
+        then:
+        countObjects("TENANT") == 0
+        schemaExists("TENANT")
+    }
+
+    def "supportsNativeDropDatabaseObjects"() {
+        expect:
+        database.supportsNativeDropDatabaseObjects(new CatalogAndSchema(null, schema)) == expected
+
+        where:
+        schema               | expected
+        "TENANT"             | true
+        "tenant"             | true
+        "PUBLIC"             | false
+        "INFORMATION_SCHEMA" | false
+        null                 | false
+    }
+
+    private void dropAll(String schemas, boolean nativeDrop) {
+        new CommandScope(DropAllCommandStep.COMMAND_NAME)
+                .addArgumentValue(DbUrlConnectionArgumentsCommandStep.DATABASE_ARG, database)
+                .addArgumentValue(DropAllCommandStep.SCHEMAS_ARG, schemas)
+                .addArgumentValue(DropAllCommandStep.NATIVE_DROP_ARG, nativeDrop)
+                .execute()
+    }
+
+    private void execute(String... sql) {
+        def statement = connection.createStatement()
+        for (def oneSql : sql) {
+            statement.execute(oneSql)
+        }
+        statement.close()
+    }
+
+    private int countObjects(String schema) {
+        def resultSet = connection.createStatement().executeQuery(
+                "select (select count(*) from information_schema.tables where table_schema = '" + schema + "')" +
+                        " + (select count(*) from information_schema.sequences where sequence_schema = '" + schema + "')")
+        resultSet.next()
+        return resultSet.getInt(1)
+    }
+
+    private boolean schemaExists(String schema) {
+        def resultSet = connection.createStatement().executeQuery("select count(*) from information_schema.schemata where schema_name = '" + schema + "'")
+        resultSet.next()
+        return resultSet.getInt(1) == 1
+    }
+}
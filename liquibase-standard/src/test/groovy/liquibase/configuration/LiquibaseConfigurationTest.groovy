@@ -113,6 +113,93 @@ class LiquibaseConfigurationTest extends Specification {
     }
 
 
+    def "getCurrentConfiguredValue reuses provider values until the provider version changes"() {
+        given:
+        def liquibaseConfiguration = Scope.currentScope.getSingleton(LiquibaseConfiguration)
+        def versionedProvider = new CountingProvider(key: "test.versionedValue", version: 1)
+        def unversionedProvider = new CountingProvider(key: "test.versionedValue", version: null, precedence: 11)
+        liquibaseConfiguration.registerProvider(versionedProvider)
+        liquibaseConfiguration.registerProvider(unversionedProvider)
+
+        when:
+        def firstValue = liquibaseConfiguration.getCurrentConfiguredValue(null, null, "test.versionedValue")
+        def secondValue = liquibaseConfiguration.getCurrentConfiguredValue(null, null, "test.versionedValue")
+
+        then:
+        firstValue.providedValues*.describe() == secondValue.providedValues*.describe()
+        versionedProvider.lookups == 1
+        unversionedProvider.lookups == 2
+
+        when:
+        versionedProvider.version = 2
+        liquibaseConfiguration.getCurrentConfiguredValue(null, null, "test.versionedValue")
+
+        then:
+        versionedProvider.lookups == 2
+
+        when:
+        liquibaseConfiguration.unregisterProvider(unversionedProvider)
+        def valueAfterUnregister = liquibaseConfiguration.getCurrentConfiguredValue(null, null, "test.versionedValue")
+
+        then:
+        versionedProvider.lookups == 3
+        valueAfterUnregister.providedValues.size() == 1
+
+        cleanup:
+        liquibaseConfiguration.unregisterProvider(versionedProvider)
+        liquibaseConfiguration.unregisterProvider(unversionedProvider)
+    }
+
+    def "getCurrentConfiguredValue sees system property and scope changes"() {
+        given:
+        def liquibaseConfiguration = Scope.currentScope.getSingleton(LiquibaseConfiguration)
+
+        when:
+        System.setProperty("test.changingValue", "first")
+        def firstValue = liquibaseConfiguration.getCurrentConfiguredValue(null, null, "test.changingValue").value
+        System.setProperty("test.changingValue", "second")
+        def secondValue = liquibaseConfiguration.getCurrentConfiguredValue(null, null, "test.changingValue").value
+        def scopedValue = Scope.child(["test.changingValue": "scoped"], {
+            return liquibaseConfiguration.getCurrentConfiguredValue(null, null, "test.changingValue").value
+        } as Scope.ScopedRunnerWithReturn)
+        def valueAfterScope = liquibaseConfiguration.getCurrentConfiguredValue(null, null, "test.changingValue").value
+
+        then:
+        firstValue == "first"
+        secondValue == "second"
+        scopedValue == "scoped"
+        valueAfterScope == "second"
+
+        cleanup:
+        System.clearProperty("test.changingValue")
+    }
+
+    static class CountingProvider extends AbstractConfigurationValueProvider {
+        String key
+        Object version
+        int precedence = 10
+        int lookups
+
+        @Override
+        int getPrecedence() {
+            return precedence
+        }
+
+        @Override
+        Object getValuesVersion() {
+            return version
+        }
+
+        @Override
+        ProvidedValue getProvidedValue(String... keyAndAliases) {
+            if (keyAndAliases[0] != key) {
+                return null
+            }
+            lookups++
+            return new ProvidedValue(keyAndAliases[0], keyAndAliases[0], "value " + precedence, "Counting provider " + precedence, this)
+        }
+    }
+
     class TestModifier implements ConfiguredValueModifier<String> {
         @Override
         int getOrder() {
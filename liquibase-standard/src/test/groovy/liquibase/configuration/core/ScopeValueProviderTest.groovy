@@ -1,6 +1,8 @@
 package liquibase.configuration.core
 
 import liquibase.Scope
+import liquibase.SingletonObject
+import liquibase.SingletonScopeManager
 import liquibase.configuration.ProvidedValue
 import spock.lang.Specification
 import spock.lang.Unroll
@@ -53,4 +55,50 @@ class ScopeValueProviderTest extends Specification {
         "invalid"          | null            | null
         null               | null            | null
     }
+
+    def "values version is the same only within the same scope"() {
+        when:
+        def provider = new ScopeValueProvider()
+        def rootScopes = []
+        def rootVersions = []
+        2.times {
+            def thread = new Thread({
+                Scope.setScopeManager(new SingletonScopeManager())
+                rootScopes.add(Scope.getCurrentScope())
+                rootVersions.add(provider.getValuesVersion())
+            })
+            thread.start()
+            thread.join()
+        }
+        def childVersions = Scope.child(["key": "value"], {
+            return [provider.getValuesVersion(), provider.getValuesVersion()]
+        } as Scope.ScopedRunnerWithReturn)
+
+        then:
+        rootScopes*.getScopeId() == ["root", "root"]
+        rootVersions[0] != rootVersions[1]
+        childVersions[0] == childVersions[1]
+        childVersions[0] != provider.getValuesVersion()
+    }
+
+    def "values version changes when a value is set in the scope or the root scope"() {
+        when:
+        def provider = new ScopeValueProvider()
+        def versions = Scope.child(["key": "value"], {
+            def before = provider.getValuesVersion()
+            Scope.getCurrentScope().setLpmArgs("child args")
+            def afterChild = provider.getValuesVersion()
+            Scope.getCurrentScope().getSingleton(TestSingleton)
+            def afterRoot = provider.getValuesVersion()
+            return [before, afterChild, afterRoot, provider.getValuesVersion()]
+        } as Scope.ScopedRunnerWithReturn)
+
+        then:
+        versions[0] != versions[1]
+        versions[1] != versions[2]
+        versions[2] == versions[3]
+    }
+
+    static class TestSingleton implements SingletonObject {
+    }
 }
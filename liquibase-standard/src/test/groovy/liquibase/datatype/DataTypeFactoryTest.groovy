@@ -2,6 +2,7 @@ package liquibase.datatype
 
 import liquibase.database.core.*
 import liquibase.datatype.core.*
+import liquibase.exception.UnexpectedLiquibaseException
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -289,6 +290,40 @@ class DataTypeFactoryTest extends Specification {
         "uuid"                                         | new MariaDBDatabase()  | "UUID"                                         | UUIDType      | false
         "timestamp"                                    | new FirebirdDatabase() | "TIMESTAMP"                                    | TimestampType | false
         "timestamp(6)"                                 | new FirebirdDatabase() | "TIMESTAMP"                                    | TimestampType | false
+        "int identity"                                 | new MockDatabase()     | "INT"                                          | IntType       | true
+        "\"varchar\"(20)"                              | new MockDatabase()     | "VARCHAR(20)"                                  | VarcharType   | false
+        "varchar(20 BYTE)"                             | new MockDatabase()     | "VARCHAR(20)"                                  | VarcharType   | false
+        "decimal (18, 2)"                              | new MockDatabase()     | "DECIMAL(18, 2)"                               | DecimalType   | false
+    }
+
+    def "fromDescription returns a new data type every time"() {
+        when:
+        def database = new MockDatabase()
+        def first = DataTypeFactory.getInstance().fromDescription("varchar(255)", database)
+        first.addParameter(10)
+        first.setAdditionalInformation("changed")
+        def second = DataTypeFactory.getInstance().fromDescription("varchar(255)", database)
+
+        then:
+        !first.is(second)
+        second.getParameters() == ["255"] as Object[]
+        second.getAdditionalInformation() == null
+        second.toDatabaseDataType(database).toString() == "VARCHAR(255)"
+    }
+
+    def "fromDescription does not cache invalid embedded information"() {
+        when:
+        DataTypeFactory.getInstance().fromDescription("int{autoIncrement}", new MockDatabase())
+
+        then:
+        def e = thrown(UnexpectedLiquibaseException)
+        e.message.contains("unparseable embedded information")
+
+        when:
+        DataTypeFactory.getInstance().fromDescription("int{autoIncrement}", new MockDatabase())
+
+        then:
+        thrown(UnexpectedLiquibaseException)
     }
 
     @Unroll("#featureName: #object for #database")
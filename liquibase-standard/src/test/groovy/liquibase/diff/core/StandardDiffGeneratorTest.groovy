@@ -0,0 +1,84 @@
+package liquibase.diff.core
+
+import liquibase.CatalogAndSchema
+import liquibase.GlobalConfiguration
+import liquibase.Scope
+import liquibase.database.DatabaseFactory
+import liquibase.database.jvm.JdbcConnection
+import liquibase.diff.DiffResult
+import liquibase.diff.compare.CompareControl
+import liquibase.snapshot.DatabaseSnapshot
+import liquibase.snapshot.SnapshotControl
+import liquibase.snapshot.SnapshotGeneratorFactory
+import liquibase.structure.core.Column
+import liquibase.structure.core.Index
+import liquibase.structure.core.Table
+import liquibase.util.StringUtil
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.sql.DriverManager
+
+class StandardDiffGeneratorTest extends Specification {
+
+    private List<Connection> connections = []
+
+    def cleanup() {
+        for (def connection : connections) {
+            connection.createStatement().execute("shutdown")
+            connection.close()
+        }
+    }
+
+    def "diff with several threads finds the same differences as with one"() {
+        when:
+        def reference = snapshot(
+                "create table person (id int primary key, name varchar(50) not null, email varchar(100))",
+                "create index idx_person_name on person(name)",
+                "create table address (id int primary key, person_id int, city varchar(50))",
+                "create table only_in_reference (id int)")
+        def comparison = snapshot(
+                "create table person (id int primary key, name varchar(80), phone varchar(20))",
+                "create table address (id int primary key, person_id int, city varchar(50))",
+                "create table only_in_comparison (id int)")
+
+        def serialDiff = new StandardDiffGenerator().compare(reference, comparison, compareControl(reference))
+        def concurrentDiff = Scope.child([(GlobalConfiguration.DIFF_THREADS.key): 4], {
+            return new StandardDiffGenerator().compare(reference, comparison, compareControl(reference))
+        } as Scope.ScopedRunnerWithReturn<DiffResult>)
+
+        then:
+        !serialDiff.areEqual()
+        serialDiff.getMissingObjects(Table)*.name.sort() == ["ONLY_IN_REFERENCE"]
+        serialDiff.getUnexpectedObjects(Table)*.name.sort() == ["ONLY_IN_COMPARISON"]
+        serialDiff.getMissingObjects(Column)*.name.contains("EMAIL")
+        serialDiff.getUnexpectedObjects(Column)*.name.contains("PHONE")
+        serialDiff.getMissingObjects(Index)*.name.contains("IDX_PERSON_NAME")
+        serialDiff.getChangedObjects(Column).keySet()*.name.contains("NAME")
+
+        concurrentDiff.getMissingObjects() == serialDiff.getMissingObjects()
+        concurrentDiff.getUnexpectedObjects() == serialDiff.getUnexpectedObjects()
+        concurrentDiff.getChangedObjects().keySet() == serialDiff.getChangedObjects().keySet()
+        concurrentDiff.getChangedObjects().collect { key, value -> key.toString() + value.getDifferences()*.toString().sort() }.sort() ==
+                serialDiff.getChangedObjects().collect { key, value -> key.toString() + value.getDifferences()*.toString().sort() }.sort()
+    }
+
+    private DatabaseSnapshot snapshot(String... sql) {
+        def connection = DriverManager.getConnection("jdbc:h2:mem:" + StringUtil.randomIdentifier(10) + ";DB_CLOSE_DELAY=-1", "sa", "")
+        connections.add(connection)
+        def statement = connection.createStatement()
+        for (def oneSql : sql) {
+            statement.execute(oneSql)
+        }
+        statement.close()
+
+        def database = DatabaseFactory.instance.findCorrectDatabaseImplementation(new JdbcConnection(connection))
+        return SnapshotGeneratorFactory.instance.createSnapshot(CatalogAndSchema.DEFAULT, database, new SnapshotControl(database))
+    }
+
+    private static CompareControl compareControl(DatabaseSnapshot snapshot) {
+        return new CompareControl(
+                [new CompareControl.SchemaComparison(CatalogAndSchema.DEFAULT, CatalogAndSchema.DEFAULT)] as CompareControl.SchemaComparison[],
+                snapshot.getSnapshotControl().getTypesToInclude())
+    }
+}
@@ -0,0 +1,103 @@
+package liquibase.integration.spring
+
+import liquibase.exception.LiquibaseException
+import liquibase.util.StringUtil
+import org.h2.jdbcx.JdbcDataSource
+import org.springframework.core.io.DefaultResourceLoader
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.sql.Connection
+
+class MultiTenantSpringLiquibaseTest extends Specification {
+
+    private JdbcDataSource dataSource
+    private Connection connection
+
+    def setup() {
+        dataSource = new JdbcDataSource()
+        dataSource.setURL("jdbc:h2:mem:" + StringUtil.randomIdentifier(10) + ";DB_CLOSE_DELAY=-1")
+        dataSource.setUser("sa")
+        connection = dataSource.getConnection()
+    }
+
+    def cleanup() {
+        connection.createStatement().execute("shutdown")
+        connection.close()
+    }
+
+    @Unroll
+    def "migrates every schema with parallelism #parallelism"() {
+        given:
+        def schemas = ["TENANT_1", "TENANT_2", "TENANT_3", "TENANT_4", "TENANT_5"]
+        createSchemas(schemas)
+        def liquibase = multiTenantSpringLiquibase(schemas, parallelism)
+
+        when:
+        liquibase.afterPropertiesSet()
+
+        then:
+        schemas.every { countRows(it + ".TENANT_TABLE") == 1 }
+        schemas.every { countRows(it + ".DATABASECHANGELOG") == 2 }
+
+        where:
+        parallelism << [1, 3]
+    }
+
+    def "migrates the other schemas and reports every failed one when migrating in parallel"() {
+        given:
+        createSchemas(["TENANT_1", "TENANT_2", "TENANT_3"])
+        def liquibase = multiTenantSpringLiquibase(["TENANT_1", "MISSING_1", "TENANT_2", "MISSING_2", "TENANT_3"], 2)
+
+        when:
+        liquibase.afterPropertiesSet()
+
+        then:
+        def e = thrown(LiquibaseException)
+        e.message == "Liquibase failed for 2 of 5 tenants: schema MISSING_1, schema MISSING_2"
+        e.suppressed.length == 1
+        ["TENANT_1", "TENANT_2", "TENANT_3"].every { countRows(it + ".TENANT_TABLE") == 1 }
+    }
+
+    def "stops at the first failed schema when migrating one after the other"() {
+        given:
+        createSchemas(["TENANT_1", "TENANT_2"])
+        def liquibase = multiTenantSpringLiquibase(["TENANT_1", "MISSING_1", "TENANT_2"], 1)
+
+        when:
+        liquibase.afterPropertiesSet()
+
+        then:
+        thrown(LiquibaseException)
+        countRows("TENANT_1.TENANT_TABLE") == 1
+        countTables("TENANT_2") == 0
+    }
+
+    private MultiTenantSpringLiquibase multiTenantSpringLiquibase(List<String> schemas, int parallelism) {
+        def liquibase = new MultiTenantSpringLiquibase()
+        liquibase.setDataSource(dataSource)
+        liquibase.setSchemas(schemas)
+        liquibase.setChangeLog("classpath:liquibase/integration/spring/multi-tenant-changelog.xml")
+        liquibase.setResourceLoader(new DefaultResourceLoader())
+        liquibase.setParallelism(parallelism)
+        return liquibase
+    }
+
+    private void createSchemas(List<String> schemas) {
+        for (def schema : schemas) {
+            connection.createStatement().execute("create schema " + schema)
+        }
+    }
+
+    private int countRows(String table) {
+        def resultSet = connection.createStatement().executeQuery("select count(*) from " + table)
+        resultSet.next()
+        return resultSet.getInt(1)
+    }
+
+    private int countTables(String schema) {
+        def resultSet = connection.createStatement().executeQuery("select count(*) from information_schema.tables where table_schema = '" + schema + "'")
+        resultSet.next()
+        return resultSet.getInt(1)
+    }
+}
@@ -0,0 +1,93 @@
+package liquibase.parser
+
+import liquibase.GlobalConfiguration
+import liquibase.Scope
+import liquibase.changelog.ChangeLogParameters
+import liquibase.parser.core.ParsedNode
+import liquibase.parser.core.xml.XMLChangeLogSAXParser
+import liquibase.resource.DirectoryResourceAccessor
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class ChangeLogNodeCacheTest extends Specification {
+
+    @TempDir
+    Path cacheDirectory
+
+    @TempDir
+    Path changeLogDirectory
+
+    private static final String CHANGELOG = """<databaseChangeLog xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                   xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                   xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                      http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd">
+    <property name="table.name" value="example"/>
+    <changeSet id="1" author="example">
+        <createTable tableName="\${table.name}">
+            <column name="id" type="int"/>
+        </createTable>
+        <sql>select 'ü' from dual</sql>
+    </changeSet>
+</databaseChangeLog>
+"""
+
+    def "parsed changelogs are loaded from the cache with the same content"() {
+        when:
+        def parsed = parse(CHANGELOG)
+        def cached = parse(CHANGELOG)
+
+        then:
+        Files.list(cacheDirectory).count() == 1
+        cached.changeSets.size() == 1
+        cached.changeSets[0].changes[0].tableName == "example"
+        cached.changeSets[0].changes[1].sql == "select 'ü' from dual"
+        cached.changeSets[0].generateCheckSum(liquibase.ChecksumVersion.latest()) == parsed.changeSets[0].generateCheckSum(liquibase.ChecksumVersion.latest())
+    }
+
+    def "cached nodes are used instead of parsing the file"() {
+        when:
+        def cache = new ChangeLogNodeCache(cacheDirectory)
+        cache.put(CHANGELOG.getBytes("UTF-8"), new ParsedNode(null, "databaseChangeLog"))
+
+        then:
+        parse(CHANGELOG).changeSets.isEmpty()
+        parse(CHANGELOG.replace("example", "other")).changeSets.size() == 1
+    }
+
+    def "changelogs with a DOCTYPE are not cached"() {
+        when:
+        new ChangeLogNodeCache(cacheDirectory).put("<!DOCTYPE databaseChangeLog []><databaseChangeLog/>".getBytes("UTF-8"), new ParsedNode(null, "databaseChangeLog"))
+
+        then:
+        Files.list(cacheDirectory).count() == 0
+    }
+
+    def "nodes cached without validation or secure parsing are not used with them enabled"() {
+        when:
+        def cache = new ChangeLogNodeCache(cacheDirectory)
+        Scope.child([(GlobalConfiguration.VALIDATE_XML_CHANGELOG_FILES.key): false, (GlobalConfiguration.SECURE_PARSING.key): false], {
+            cache.put(CHANGELOG.getBytes("UTF-8"), new ParsedNode(null, "databaseChangeLog"))
+        } as Scope.ScopedRunner)
+
+        then:
+        Scope.child([(GlobalConfiguration.VALIDATE_XML_CHANGELOG_FILES.key): false, (GlobalConfiguration.SECURE_PARSING.key): false], {
+            cache.get(CHANGELOG.getBytes("UTF-8"))
+        } as Scope.ScopedRunnerWithReturn) != null
+        Scope.child([(GlobalConfiguration.VALIDATE_XML_CHANGELOG_FILES.key): true, (GlobalConfiguration.SECURE_PARSING.key): false], {
+            cache.get(CHANGELOG.getBytes("UTF-8"))
+        } as Scope.ScopedRunnerWithReturn) == null
+        Scope.child([(GlobalConfiguration.VALIDATE_XML_CHANGELOG_FILES.key): false, (GlobalConfiguration.SECURE_PARSING.key): true], {
+            cache.get(CHANGELOG.getBytes("UTF-8"))
+        } as Scope.ScopedRunnerWithReturn) == null
+    }
+
+    private parse(String changeLog) {
+        Files.write(changeLogDirectory.resolve("changelog.xml"), changeLog.getBytes("UTF-8"))
+        return Scope.child([(ChangeLogParserConfiguration.CHANGELOG_CACHE_DIRECTORY.key): cacheDirectory.toString()], {
+            new XMLChangeLogSAXParser().parse("changelog.xml", new ChangeLogParameters(), new DirectoryResourceAccessor(changeLogDirectory))
+        } as Scope.ScopedRunnerWithReturn)
+    }
+}
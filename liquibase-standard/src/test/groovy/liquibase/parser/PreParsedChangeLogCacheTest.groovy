@@ -0,0 +1,95 @@
+package liquibase.parser
+
+import liquibase.Scope
+import liquibase.changelog.ChangeLogParameters
+import liquibase.changelog.DatabaseChangeLog
+import liquibase.sdk.resource.MockResourceAccessor
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PreParsedChangeLogCacheTest extends Specification {
+
+    private static final String XML_ROOT = """<databaseChangeLog xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                   xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                   xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                      http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd">
+    <include file="com/example/included.xml"/>
+</databaseChangeLog>"""
+
+    private static final String XML_INCLUDED = """<databaseChangeLog xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                   xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                   xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                      http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd">
+    <changeSet id="1" author="\${author}"><output>test</output></changeSet>
+</databaseChangeLog>"""
+
+    private static final String XML_EMPTY = """<databaseChangeLog xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                   xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                   xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                      http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd"/>"""
+
+    private static final String YAML_ROOT = """databaseChangeLog:
+  - include:
+      file: com/example/included.yaml
+"""
+
+    private static final String YAML_INCLUDED = """databaseChangeLog:
+  - changeSet:
+      id: 1
+      author: \${author}
+      changes:
+        - output:
+            message: test
+"""
+
+    @Unroll
+    def "loads each changelog from a copy of the files parsed once for #format"() {
+        given:
+        def root = "com/example/root." + format
+        def included = "com/example/included." + format
+        def resourceAccessor = new MockResourceAccessor([(root): rootContent, (included): includedContent])
+        def cache = new PreParsedChangeLogCache()
+
+        when:
+        def changeLogs = Scope.child([(PreParsedChangeLogCache.SCOPE_KEY): cache, (Scope.Attr.resourceAccessor.name()): resourceAccessor], {
+            def first = parse(root, "first", resourceAccessor)
+            resourceAccessor.setContent(included, emptyContent)
+            def second = parse(root, "second", resourceAccessor)
+            return [first, second]
+        } as Scope.ScopedRunnerWithReturn)
+
+        then:
+        cache.size() == 2
+        changeLogs[0].changeSets*.author == ["first"]
+        changeLogs[1].changeSets*.author == ["second"]
+
+        where:
+        format | rootContent | includedContent | emptyContent
+        "xml"  | XML_ROOT    | XML_INCLUDED    | XML_EMPTY
+        "yaml" | YAML_ROOT   | YAML_INCLUDED   | "databaseChangeLog: []"
+    }
+
+    def "parses the files every time without a cache in the scope"() {
+        given:
+        def resourceAccessor = new MockResourceAccessor(["com/example/root.xml": XML_ROOT, "com/example/included.xml": XML_INCLUDED])
+
+        when:
+        def changeLogs = Scope.child([(Scope.Attr.resourceAccessor.name()): resourceAccessor], {
+            def first = parse("com/example/root.xml", "first", resourceAccessor)
+            resourceAccessor.setContent("com/example/included.xml", XML_EMPTY)
+            def second = parse("com/example/root.xml", "second", resourceAccessor)
+            return [first, second]
+        } as Scope.ScopedRunnerWithReturn)
+
+        then:
+        changeLogs[0].changeSets*.author == ["first"]
+        changeLogs[1].changeSets.isEmpty()
+    }
+
+    private static DatabaseChangeLog parse(String path, String author, MockResourceAccessor resourceAccessor) {
+        def parameters = new ChangeLogParameters()
+        parameters.set("author", author)
+        def parser = ChangeLogParserFactory.getInstance().getParser(path, resourceAccessor)
+        return PreParsedChangeLogCache.parse(parser, path, parameters, resourceAccessor)
+    }
+}
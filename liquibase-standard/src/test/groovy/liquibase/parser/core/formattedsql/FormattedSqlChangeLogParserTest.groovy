@@ -907,6 +907,53 @@ create table table1 (
         assert e.getMessage().toLowerCase().contains("-property name")
     }
 
+    def "comment style patterns are compiled once and shared between parser instances"() {
+        when:
+        def first = new MockFormattedSqlChangeLogParser(VALID_CHANGELOG)
+        def second = new MockFormattedSqlChangeLogParser(VALID_CHANGELOG)
+
+        then:
+        first.CHANGE_SET_PATTERN.is(second.CHANGE_SET_PATTERN)
+        first.ROLLBACK_PATTERN.is(second.ROLLBACK_PATTERN)
+        first.INSTRUCTION_PREFIX_PATTERN.is(second.INSTRUCTION_PREFIX_PATTERN)
+    }
+
+    def "only lines starting with a comment are instruction candidates"() {
+        when:
+        def parser = new MockFormattedSqlChangeLogParser(VALID_CHANGELOG)
+
+        then:
+        parser.isInstructionCandidate(line) == expected
+
+        where:
+        line                                 | expected
+        "--changeset a:1"                    | true
+        "   \t-- rollback drop table x;"     | true
+        "- comment with one dash"            | true
+        "/* liquibase rollback"              | true
+        "select '--changeset a:1' from dual" | false
+        "insert into t values ('rollback')"  | false
+        ""                                   | false
+    }
+
+    def "parse indented instructions between long sql bodies"() throws Exception {
+        when:
+        def body = (1..200).collect { "insert into test_table values (${it}, '-- changeset in a string');" }.join("\n")
+        def changeLog = new MockFormattedSqlChangeLogParser("""--liquibase formatted sql
+
+  --changeset example:1
+${body}
+    --rollback delete from test_table;
+\t--changeset example:2
+${body}
+""").parse("asdf.sql", new ChangeLogParameters(), new JUnitResourceAccessor())
+
+        then:
+        changeLog.getChangeSets()*.id == ["1", "2"]
+        changeLog.getChangeSets().every { StringUtil.standardizeLineEndings(((RawSQLChange) it.getChanges()[0]).getSql().trim()) == body }
+        ((RawSQLChange) changeLog.getChangeSets()[0].getRollback().getChanges()[0]).getSql() == "delete from test_table;"
+    }
+
     def "parse strings that contain keywords not at the beginning"() throws Exception {
         when:
         def changeLog = new MockFormattedSqlChangeLogParser("""
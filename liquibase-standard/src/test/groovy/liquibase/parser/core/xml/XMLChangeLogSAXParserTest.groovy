@@ -17,6 +17,8 @@ import liquibase.util.LiquibaseUtil
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import javax.xml.parsers.SAXParserFactory
+
 class XMLChangeLogSAXParserTest extends Specification {
 
     def INSECURE_XML = """
@@ -163,6 +165,134 @@ class XMLChangeLogSAXParserTest extends Specification {
 
     }
 
+    def "validates changelogs against a schema compiled once and shared by all parsers"() {
+        given:
+        def schemaCache = Scope.getCurrentScope().getSingleton(XMLChangeLogSchemaCache)
+        schemaCache.clear()
+        def header = """<databaseChangeLog xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                   xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                   xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                      http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd">"""
+        def resourceAccessor = new MockResourceAccessor([
+                "com/example/valid1.xml": header + """<changeSet id="1" author="example"><output>1</output></changeSet></databaseChangeLog>""",
+                "com/example/valid2.xml": header + """<changeSet id="2" author="example"><output>2</output></changeSet></databaseChangeLog>""",
+                "com/example/invalid.xml": header + """<iDontKnowWhatImDoing/></databaseChangeLog>""",
+        ])
+
+        when:
+        def changeLog1 = new XMLChangeLogSAXParser().parse("com/example/valid1.xml", new ChangeLogParameters(), resourceAccessor)
+        def changeLog2 = new XMLChangeLogSAXParser().parse("com/example/valid2.xml", new ChangeLogParameters(), resourceAccessor)
+
+        then:
+        schemaCache.size() == 1
+        changeLog1.changeSets*.id == ["1"]
+        changeLog2.changeSets*.id == ["2"]
+
+        when:
+        new XMLChangeLogSAXParser().parse("com/example/invalid.xml", new ChangeLogParameters(), resourceAccessor)
+
+        then:
+        def e = thrown(ChangeLogParseException)
+        e.message.contains("Error parsing line")
+        e.message.contains("iDontKnowWhatImDoing")
+        schemaCache.size() == 1
+    }
+
+    def "caches schemas separately for each resource accessor"() {
+        given:
+        def schemaCache = Scope.getCurrentScope().getSingleton(XMLChangeLogSchemaCache)
+        schemaCache.clear()
+        def resourceAccessor = new MockResourceAccessor(["com/example/valid.xml": """<databaseChangeLog xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                   xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                   xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                      http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd">
+    <changeSet id="1" author="example"><output>test</output></changeSet>
+</databaseChangeLog>"""])
+
+        when:
+        new XMLChangeLogSAXParser().parse("com/example/valid.xml", new ChangeLogParameters(), resourceAccessor)
+        Scope.child(Scope.Attr.resourceAccessor.name(), resourceAccessor, { ->
+            new XMLChangeLogSAXParser().parse("com/example/valid.xml", new ChangeLogParameters(), resourceAccessor)
+        })
+
+        then:
+        schemaCache.size() == 2
+    }
+
+    def "reuses parsers released by other threads"() {
+        given:
+        def xmlParser = new XMLChangeLogSAXParser()
+        def changeLog = """<databaseChangeLog xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                   xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                   xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                      http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd">
+    <changeSet id="1" author="example"><output>test</output></changeSet>
+</databaseChangeLog>"""
+        def resourceAccessor = new MockResourceAccessor(["com/example/a.xml": changeLog, "com/example/b.xml": changeLog])
+
+        when:
+        def thread = new Thread({ xmlParser.parse("com/example/a.xml", new ChangeLogParameters(), resourceAccessor) })
+        thread.start()
+        thread.join()
+        def parser = xmlParser.parserPool.first().parser
+        xmlParser.parse("com/example/b.xml", new ChangeLogParameters(), resourceAccessor)
+
+        then:
+        xmlParser.parserPool.size() == 1
+        xmlParser.parserPool.first().parser.is(parser)
+    }
+
+    def "keeps a bounded number of released parsers"() {
+        given:
+        def xmlParser = new XMLChangeLogSAXParser()
+
+        when:
+        (XMLChangeLogSAXParser.MAX_POOLED_PARSERS + 2).times {
+            xmlParser.releaseParser(null, SAXParserFactory.newInstance().newSAXParser())
+        }
+
+        then:
+        xmlParser.parserPool.size() == XMLChangeLogSAXParser.MAX_POOLED_PARSERS
+    }
+
+    def "changelogs declaring schema locations on nested elements are validated against the schemas they reference"() {
+        given:
+        def schemaCache = Scope.getCurrentScope().getSingleton(XMLChangeLogSchemaCache)
+        schemaCache.clear()
+        def changeLog = """<databaseChangeLog xmlns="http://www.liquibase.org/xml/ns/dbchangelog"
+                   xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                   xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                      http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd">
+    <changeSet id="1" author="example" xsi:schemaLocation="http://www.liquibase.org/xml/ns/dbchangelog
+                      http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-latest.xsd"><output>test</output></changeSet>
+</databaseChangeLog>"""
+        def resourceAccessor = new MockResourceAccessor(["com/example/nested.xml": changeLog])
+
+        when:
+        def schemaLocations = schemaCache.readSchemaLocations(new ByteArrayInputStream(changeLog.getBytes("UTF-8")))
+        def parsed = new XMLChangeLogSAXParser().parse("com/example/nested.xml", new ChangeLogParameters(), resourceAccessor)
+
+        then:
+        schemaLocations == null
+        parsed.changeSets*.id == ["1"]
+        schemaCache.size() == 0
+    }
+
+    def "changelogs with a DOCTYPE are validated against the schemas they reference instead of a cached schema"() {
+        given:
+        def schemaCache = Scope.getCurrentScope().getSingleton(XMLChangeLogSchemaCache)
+        schemaCache.clear()
+
+        when:
+        def resourceAccessor = new MockResourceAccessor(["com/example/invalid.xml": INVALID_XML])
+        new XMLChangeLogSAXParser().parse("com/example/invalid.xml", new ChangeLogParameters(), resourceAccessor)
+
+        then:
+        def e = thrown(ChangeLogParseException)
+        e.message.contains("iDontKnowWhatImDoing")
+        schemaCache.size() == 0
+    }
+
     def "getSchemaVersion"() {
         expect:
         XMLChangeLogSAXParser.getSchemaVersion() == "latest" //because test run in an environment with build.version == DEV
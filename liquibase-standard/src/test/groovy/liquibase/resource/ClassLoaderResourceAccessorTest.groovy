@@ -1,5 +1,7 @@
 package liquibase.resource
 
+import liquibase.GlobalConfiguration
+import liquibase.Scope
 import liquibase.test.TestContext
 import liquibase.util.StreamUtil
 import spock.lang.Specification
@@ -120,4 +122,22 @@ class ClassLoaderResourceAccessorTest extends Specification {
                 ]
         ]
     }
+
+    @Unroll
+    def "search with indexed files: #path"() {
+        given:
+        def expected = testResourceAccessor.search(path, recursive)*.getPath()
+
+        expect:
+        Scope.child([(GlobalConfiguration.INDEX_RESOURCE_SEARCH.key): true], {
+            //searching twice reuses the jar and zip resource accessors from the first search
+            assert testResourceAccessor.search(path, recursive)*.getPath() as SortedSet == expected as SortedSet
+            assert testResourceAccessor.search(path, recursive)*.getPath() as SortedSet == expected as SortedSet
+        } as Scope.ScopedRunner)
+
+        where:
+        path          | recursive
+        "com/example" | true
+        "com/example" | false
+    }
 }
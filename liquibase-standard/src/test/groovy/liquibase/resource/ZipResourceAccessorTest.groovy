@@ -1,5 +1,7 @@
 package liquibase.resource
 
+import liquibase.GlobalConfiguration
+import liquibase.Scope
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -69,6 +71,73 @@ class ZipResourceAccessorTest extends Specification {
         ]
     }
 
+    @Unroll
+    def "search with indexed files returns the same files: #path"() {
+        given:
+        def searchOptions = new ResourceAccessor.SearchOptions()
+        searchOptions.setRecursive(recursive)
+        searchOptions.setMinDepth(minDepth)
+        searchOptions.setTrimmedEndsWithFilter(endsWith)
+        def expected = simpleTestAccessor.search(path, searchOptions)*.getPath()
+
+        when:
+        def indexed = Scope.child([(GlobalConfiguration.INDEX_RESOURCE_SEARCH.key): true], {
+            return simpleTestAccessor.search(path, searchOptions)*.getPath()
+        } as Scope.ScopedRunnerWithReturn)
+
+        then:
+        indexed == expected
+        expected.size() > 0
+
+        where:
+        path                      | recursive | minDepth | endsWith
+        "com/example"             | false     | 0        | ""
+        "com/example/"            | true      | 0        | ""
+        "/com/example/everywhere" | true      | 0        | ""
+        "com/example"             | true      | 2        | ""
+        "com/example"             | true      | 0        | "EVERYWHERE.txt"
+        ""                        | true      | 0        | ""
+        ""                        | false     | 0        | ".txt"
+    }
+
+    def "search with indexed files lists each file once"() {
+        given:
+        def index = Scope.getCurrentScope().getSingleton(ResourcePathIndex)
+        index.clear()
+        def otherAccessor = new ZipResourceAccessor(new File(this.getClass().getClassLoader().getResource("simple-files.jar").toURI()))
+
+        when:
+        Scope.child([(GlobalConfiguration.INDEX_RESOURCE_SEARCH.key): true], {
+            simpleTestAccessor.search("com/example", true)
+            otherAccessor.search("com", false)
+        } as Scope.ScopedRunner)
+
+        then:
+        index.size() == 1
+
+        cleanup:
+        index.clear()
+    }
+
+    def "search with indexed files still checks the path"() {
+        when:
+        def missing = Scope.child([(GlobalConfiguration.INDEX_RESOURCE_SEARCH.key): true], {
+            return simpleTestAccessor.search("com/example/invalid", true)
+        } as Scope.ScopedRunnerWithReturn)
+
+        then:
+        missing.size() == 0
+
+        when:
+        Scope.child([(GlobalConfiguration.INDEX_RESOURCE_SEARCH.key): true], {
+            simpleTestAccessor.search("file-in-jar-root.txt", true)
+        } as Scope.ScopedRunner)
+
+        then:
+        def e = thrown(IOException)
+        e.message == "'file-in-jar-root.txt' is a file, not a directory"
+    }
+
     def describeLocations() {
         expect:
         simpleTestAccessor.describeLocations().size() == 1
@@ -0,0 +1,55 @@
+package liquibase.snapshot
+
+import spock.lang.Specification
+
+class CachedRowTest extends Specification {
+
+    def "rows sharing columns read and write their own values"() {
+        when:
+        def columns = new CachedRow.Columns(["TABLE_NAME", "COLUMN_NAME", "NULLABLE"] as String[])
+        def first = new CachedRow(columns, ["T1", "C1", 1] as Object[])
+        def second = new CachedRow(columns, ["T1", "C2", 0] as Object[])
+        first.set("COLUMN_NAME", "C3")
+
+        then:
+        first.getString("COLUMN_NAME") == "C3"
+        second.getString("COLUMN_NAME") == "C2"
+        first.getInt("NULLABLE") == 1
+        second.getInt("NULLABLE") == 0
+        first.containsColumn("TABLE_NAME")
+        !first.containsColumn("REMARKS")
+        first.get("REMARKS") == null
+    }
+
+    def "columns not in the result set can still be set"() {
+        when:
+        def columns = new CachedRow.Columns(["TABLE_NAME"] as String[])
+        def first = new CachedRow(columns, ["T1"] as Object[])
+        def second = new CachedRow(columns, ["T2"] as Object[])
+        first.set("INDEX_TYPE", "BTREE")
+
+        then:
+        first.containsColumn("INDEX_TYPE")
+        first.getString("INDEX_TYPE") == "BTREE"
+        !second.containsColumn("INDEX_TYPE")
+    }
+
+    def "duplicate column names use the last value, like a column map"() {
+        when:
+        def row = new CachedRow(new CachedRow.Columns(["NAME", "NAME"] as String[]), ["first", "last"] as Object[])
+
+        then:
+        row.getString("NAME") == "last"
+    }
+
+    def "map rows are backed by the given map"() {
+        when:
+        def map = [TABLE_NAME: "T1"]
+        def row = new CachedRow(map)
+        row.set("REMARKS", "remarks")
+
+        then:
+        row.getString("TABLE_NAME") == "T1"
+        map.REMARKS == "remarks"
+    }
+}
@@ -0,0 +1,97 @@
+package liquibase.snapshot
+
+import liquibase.CatalogAndSchema
+import liquibase.database.Database
+import liquibase.database.DatabaseFactory
+import liquibase.database.jvm.JdbcConnection
+import liquibase.diff.compare.CompareControl
+import liquibase.diff.DiffGeneratorFactory
+import liquibase.structure.core.Column
+import liquibase.structure.core.ForeignKey
+import liquibase.structure.core.Table
+import liquibase.util.StringUtil
+import org.h2.jdbcx.JdbcDataSource
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.Connection
+import java.sql.DriverManager
+import java.util.concurrent.atomic.AtomicInteger
+
+class ParallelSnapshotTest extends Specification {
+
+    private String url
+    private Connection keepAlive
+    private Database database
+
+    def setup() {
+        url = "jdbc:h2:mem:" + StringUtil.randomIdentifier(10) + ";DB_CLOSE_DELAY=-1"
+        keepAlive = DriverManager.getConnection(url, "sa", "")
+        def statement = keepAlive.createStatement()
+        for (def schema : ["S1", "S2", "S3"]) {
+            statement.execute("create schema " + schema)
+            statement.execute("create table " + schema + ".parent (id int primary key, name varchar(50) not null, code varchar(10), constraint uq_" + schema + "_code unique (code))")
+            statement.execute("create table " + schema + ".child (id int primary key, parent_id int, constraint fk_" + schema + "_parent foreign key (parent_id) references " + schema + ".parent(id))")
+            statement.execute("create index idx_" + schema + "_name on " + schema + ".parent(name)")
+            statement.execute("create view " + schema + ".parent_names as select name from " + schema + ".parent")
+        }
+        statement.close()
+
+        database = DatabaseFactory.instance.findCorrectDatabaseImplementation(new JdbcConnection(DriverManager.getConnection(url, "sa", "")))
+    }
+
+    def cleanup() {
+        database?.close()
+        keepAlive?.createStatement()?.execute("shutdown")
+        keepAlive?.close()
+    }
+
+    def "parallel snapshot is identical to the serial snapshot"() {
+        when:
+        def openedConnections = new AtomicInteger()
+        def dataSource = countingDataSource(openedConnections)
+        CatalogAndSchema[] schemas = [new CatalogAndSchema(null, "S1"), new CatalogAndSchema(null, "S2"), new CatalogAndSchema(null, "S3")]
+
+        def serialSnapshot = SnapshotGeneratorFactory.instance.createSnapshot(schemas, database, new SnapshotControl(database))
+
+        def parallelControl = new SnapshotControl(database)
+        parallelControl.setParallelDataSource(dataSource)
+        parallelControl.setParallelism(4)
+        def parallelSnapshot = SnapshotGeneratorFactory.instance.createSnapshot(schemas, database, parallelControl)
+
+        def compareControl = new CompareControl(
+                [new CompareControl.SchemaComparison(new CatalogAndSchema(null, "S1"), new CatalogAndSchema(null, "S1")),
+                 new CompareControl.SchemaComparison(new CatalogAndSchema(null, "S2"), new CatalogAndSchema(null, "S2")),
+                 new CompareControl.SchemaComparison(new CatalogAndSchema(null, "S3"), new CatalogAndSchema(null, "S3"))] as CompareControl.SchemaComparison[],
+                serialSnapshot.getSnapshotControl().getTypesToInclude())
+        def diff = DiffGeneratorFactory.instance.compare(serialSnapshot, parallelSnapshot, compareControl)
+
+        then:
+        openedConnections.get() > 0
+        parallelSnapshot.get(Table).size() == 6
+        parallelSnapshot.get(ForeignKey).size() == 3
+        parallelSnapshot.get(Column).size() == serialSnapshot.get(Column).size()
+        diff.areEqual()
+    }
+
+    def "snapshot is serial when no data source is configured"() {
+        when:
+        def snapshotControl = new SnapshotControl(database)
+        snapshotControl.setParallelism(4)
+
+        then:
+        !snapshotControl.isParallel()
+        SnapshotGeneratorFactory.instance.createSnapshot(new CatalogAndSchema(null, "S1"), database, snapshotControl).get(Table).size() == 2
+    }
+
+    private DataSource countingDataSource(AtomicInteger openedConnections) {
+        def h2DataSource = new JdbcDataSource()
+        h2DataSource.setURL(url)
+        h2DataSource.setUser("sa")
+        h2DataSource.setPassword("")
+        return [getConnection: { ->
+            openedConnections.incrementAndGet()
+            return h2DataSource.getConnection()
+        }] as DataSource
+    }
+}
@@ -0,0 +1,135 @@
+package liquibase.snapshot
+
+import liquibase.CatalogAndSchema
+import liquibase.GlobalConfiguration
+import liquibase.Scope
+import liquibase.database.Database
+import liquibase.database.DatabaseFactory
+import liquibase.database.jvm.JdbcConnection
+import liquibase.diff.DiffGeneratorFactory
+import liquibase.diff.compare.CompareControl
+import liquibase.exception.DatabaseException
+import liquibase.structure.core.Column
+import liquibase.structure.core.Schema
+import liquibase.structure.core.Table
+import liquibase.util.StringUtil
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.sql.DriverManager
+
+class SnapshotCacheTest extends Specification {
+
+    @TempDir
+    Path cacheDirectory
+
+    private Database database
+    private String fingerprint = "1"
+
+    def setup() {
+        def url = "jdbc:h2:mem:" + StringUtil.randomIdentifier(10)
+        database = DatabaseFactory.instance.findCorrectDatabaseImplementation(new JdbcConnection(DriverManager.getConnection(url, "sa", "")))
+        def statement = ((JdbcConnection) database.connection).createStatement()
+        statement.execute("create table parent (id int primary key, name varchar(50) not null)")
+        statement.execute("create table child (id int primary key, parent_id int, constraint fk_parent foreign key (parent_id) references parent(id))")
+        statement.close()
+    }
+
+    def cleanup() {
+        database?.close()
+    }
+
+    def "unchanged schemas are read from the cache"() {
+        when:
+        def first = snapshot()
+        execute("create table not_fingerprinted (id int)")
+        def second = snapshot()
+
+        then:
+        first instanceof JdbcDatabaseSnapshot
+        Files.list(cacheDirectory).count() == 1
+        second instanceof JdbcDatabaseSnapshot
+        second.get(Table).size() == 2
+        second.get(Column).size() == first.get(Column).size()
+        second.getMetadata().get("snapshotCacheFingerprint") == null
+        DiffGeneratorFactory.instance.compare(first, second, compareControl(first)).areEqual()
+    }
+
+    def "changed schemas are snapshotted again"() {
+        when:
+        snapshot()
+        execute("create table other (id int)")
+        fingerprint = "2"
+        def second = snapshot()
+
+        then:
+        second instanceof JdbcDatabaseSnapshot
+        second.get(Table).size() == 3
+
+        when:
+        execute("create table not_fingerprinted (id int)")
+        def third = snapshot()
+
+        then:
+        third.get(Table).size() == 3
+    }
+
+    def "objects missing from a cached snapshot can still be included"() {
+        when:
+        snapshot()
+        execute("create table not_fingerprinted (id int)")
+        def cached = snapshot()
+        def cachedTableCount = cached.get(Table).size()
+        def table = cached.include(new Table(null, database.getDefaultSchemaName(), "NOT_FINGERPRINTED"))
+
+        then:
+        cachedTableCount == 2
+        table != null
+        table.getColumn("ID") != null
+    }
+
+    def "the configured cache directory is only used when a cache is set on the snapshot control"() {
+        when:
+        def snapshot = Scope.child([(GlobalConfiguration.SNAPSHOT_CACHE_DIRECTORY.key): cacheDirectory.toString()], {
+            return SnapshotGeneratorFactory.instance.createSnapshot(database.getDefaultSchema(), database, new SnapshotControl(database))
+        } as Scope.ScopedRunnerWithReturn)
+
+        then:
+        snapshot.get(Table).size() == 2
+        Files.list(cacheDirectory).count() == 0
+    }
+
+    def "snapshots are not cached without a fingerprint"() {
+        when:
+        fingerprint = null
+        snapshot()
+
+        then:
+        snapshot() instanceof JdbcDatabaseSnapshot
+        Files.list(cacheDirectory).count() == 0
+    }
+
+    private void execute(String sql) {
+        def statement = ((JdbcConnection) database.connection).createStatement()
+        statement.execute(sql)
+        statement.close()
+    }
+
+    private DatabaseSnapshot snapshot() {
+        def snapshotControl = new SnapshotControl(database)
+        snapshotControl.setSnapshotCache(new SnapshotCache(cacheDirectory) {
+            @Override
+            protected String getFingerprint(Database database, Schema[] schemas) throws DatabaseException {
+                return fingerprint
+            }
+        })
+        return SnapshotGeneratorFactory.instance.createSnapshot(database.getDefaultSchema(), database, snapshotControl)
+    }
+
+    private CompareControl compareControl(DatabaseSnapshot snapshot) {
+        def schema = new CatalogAndSchema(null, database.getDefaultSchemaName())
+        return new CompareControl([new CompareControl.SchemaComparison(schema, schema)] as CompareControl.SchemaComparison[], snapshot.getSnapshotControl().getTypesToInclude())
+    }
+}
@@ -0,0 +1,69 @@
+package liquibase.util
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class SqlStatementSplitterTest extends Specification {
+
+    @Unroll
+    def "split returns the same statements as processMultiLineSQL: #sql"() {
+        expect:
+        SqlStatementSplitter.split(new StringReader(sql), stripComments, true, endDelimiter, null).toList() ==
+                StringUtil.processMultiLineSQL(sql, stripComments, true, endDelimiter, null).toList()
+
+        where:
+        sql                                                                          | stripComments | endDelimiter
+        "select 1; select 2;"                                                        | false         | null
+        "select 1\ngo\nselect 2\ngo"                                                 | false         | null
+        "-- comment\nselect 1;\n/* comment */select 2"                               | true          | null
+        "-- comment\nselect 1;\n/* comment */select 2"                               | false         | null
+        "begin transaction;\ninsert into t values (1);\ncommit;"                     | false         | null
+        "create procedure p as\nbegin\n  select 1;\nend;\n/\nselect 2\n/"            | false         | "/"
+        "select 1\n//\nselect 2\n//"                                                 | false         | "//"
+        "select 1\n\nGO\nselect 2"                                                   | false         | "\nGO"
+        "select 1 //"                                                                | false         | "//"
+        "begin\n  select 1;\nend"                                                    | false         | null
+    }
+
+    def "split reads the sql as the statements are requested"() {
+        when:
+        def statementCount = 100000
+        def charactersRead = 0
+        def reader = new Reader() {
+            private int statement = 0
+            private String pending = ""
+
+            @Override
+            int read(char[] buffer, int offset, int length) {
+                if (pending.isEmpty()) {
+                    if (statement == statementCount) {
+                        return -1
+                    }
+                    pending = "insert into test_table values (" + (statement++) + ", 'some text');\n"
+                }
+                def count = Math.min(length, pending.length())
+                pending.getChars(0, count, buffer, offset)
+                pending = pending.substring(count)
+                charactersRead += count
+                return count
+            }
+
+            @Override
+            void close() {
+            }
+        }
+        def splitter = SqlStatementSplitter.split(reader, false, true, null, null)
+        def first = splitter.next()
+        def readForFirstStatement = charactersRead
+        def count = 1
+        while (splitter.hasNext()) {
+            splitter.next()
+            count++
+        }
+
+        then:
+        first == "insert into test_table values (0, 'some text')"
+        readForFirstStatement < 100000
+        count == statementCount
+    }
+}
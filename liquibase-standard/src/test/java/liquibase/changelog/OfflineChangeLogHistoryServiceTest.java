@@ -1,5 +1,6 @@
 package liquibase.changelog;
 
+import liquibase.ChecksumVersion;
 import liquibase.Contexts;
 import liquibase.LabelExpression;
 import liquibase.Scope;
@@ -21,6 +22,7 @@ import java.lang.reflect.Field;
 import java.util.Map;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
 
@@ -98,6 +100,39 @@ public class OfflineChangeLogHistoryServiceTest {
         assertTrue(writer.toString().contains("INSERT INTO PUBLIC.DATABASECHANGELOG"));
     }
 
+    /**
+     * Test that upgradeChecksums writes the missing checksums to the CSV, and to the SQL only with outputLiquibaseSql
+     */
+    @Test
+    public void testUpgradeChecksumsUpdatesCsv() throws Exception {
+        assertUpgradeChecksums("true", true);
+    }
+
+    @Test
+    public void testUpgradeChecksumsUpdatesCsvWithoutOutputLiquibaseSql() throws Exception {
+        assertUpgradeChecksums("false", false);
+    }
+
+    private void assertUpgradeChecksums(String outputLiquibaseSql, boolean expectUpdateSql) throws Exception {
+        // Given
+        StringWriter writer = new StringWriter();
+        OfflineChangeLogHistoryService service = createService(writer, outputLiquibaseSql);
+        ChangeSet changeSet = createChangeSet();
+        service.init();
+        service.setExecType(changeSet, ChangeSet.ExecType.EXECUTED);
+        service.clearAllCheckSums();
+        assertNull(service.getRanChangeSets().get(0).getLastCheckSum());
+
+        // When
+        service.upgradeChecksums(changeSet.getChangeLog(), new Contexts(), new LabelExpression());
+        writer.close();
+        unregisterService(service);
+
+        // Assert
+        assertEquals(changeSet.generateCheckSum(ChecksumVersion.latest()), service.getRanChangeSets().get(0).getLastCheckSum());
+        assertEquals(expectUpdateSql, writer.toString().contains("UPDATE PUBLIC.DATABASECHANGELOG SET MD5SUM"));
+    }
+
     /**
      *
      * Create OfflineChangeLogHistoryService and register LoggingExecutor
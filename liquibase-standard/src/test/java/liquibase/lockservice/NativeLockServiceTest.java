@@ -0,0 +1,159 @@
+package liquibase.lockservice;
+
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import liquibase.database.core.CockroachDatabase;
+import liquibase.database.core.H2Database;
+import liquibase.database.core.MSSQLDatabase;
+import liquibase.database.core.MariaDBDatabase;
+import liquibase.database.core.MySQLDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.DatabaseException;
+import liquibase.executor.Executor;
+import liquibase.executor.ExecutorService;
+import liquibase.statement.SqlStatement;
+import liquibase.statement.core.RawParameterizedSqlStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class NativeLockServiceTest {
+
+    @Before
+    public void before() {
+        LockServiceFactory.getInstance().resetAll();
+    }
+
+    @After
+    public void after() {
+        LockServiceFactory.getInstance().resetAll();
+    }
+
+    @Test
+    public void supportsOnlyDatabasesWithNativeLocksWhenConfigured() throws Exception {
+        NativeLockService lockService = new NativeLockService();
+        assertFalse(lockService.supports(new PostgresDatabase()));
+
+        withWaitStrategy(GlobalConfiguration.ChangelogLockWaitStrategy.NATIVE, () -> {
+            assertTrue(lockService.supports(new PostgresDatabase()));
+            assertTrue(lockService.supports(new MySQLDatabase()));
+            assertTrue(lockService.supports(new MariaDBDatabase()));
+            assertTrue(lockService.supports(new MSSQLDatabase()));
+            assertFalse(lockService.supports(new CockroachDatabase()));
+            assertFalse(lockService.supports(new H2Database()));
+        });
+    }
+
+    @Test
+    public void factoryReturnsNativeLockServiceWhenConfigured() throws Exception {
+        assertEquals(StandardLockService.class, LockServiceFactory.getInstance().getLockService(new PostgresDatabase()).getClass());
+
+        withWaitStrategy(GlobalConfiguration.ChangelogLockWaitStrategy.NATIVE, () -> {
+            assertEquals(NativeLockService.class, LockServiceFactory.getInstance().getLockService(new PostgresDatabase()).getClass());
+            assertEquals(StandardLockService.class, LockServiceFactory.getInstance().getLockService(new H2Database()).getClass());
+        });
+    }
+
+    @Test
+    public void nativeLockNameDependsOnLockTable() {
+        PostgresDatabase database = new PostgresDatabase();
+        NativeLockService lockService = new NativeLockService();
+        lockService.setDatabase(database);
+        String lockName = lockService.getNativeLockName();
+
+        database.setDatabaseChangeLogLockTableName("OTHER_LOCK");
+        assertTrue(lockName.startsWith("liquibase_"));
+        assertFalse(lockName.equals(lockService.getNativeLockName()));
+    }
+
+    @Test
+    public void fixedStrategyWaitsTheRecheckTime() {
+        StandardLockService lockService = new StandardLockService();
+        lockService.setChangeLogLockRecheckTime(2);
+
+        assertEquals(2000, lockService.getLockRecheckDelay(0));
+        assertEquals(2000, lockService.getLockRecheckDelay(5));
+    }
+
+    @Test
+    public void backoffStrategyDoublesWithJitterUpToTheRecheckTime() throws Exception {
+        StandardLockService lockService = new StandardLockService();
+        lockService.setChangeLogLockRecheckTime(2);
+
+        withWaitStrategy(GlobalConfiguration.ChangelogLockWaitStrategy.BACKOFF, () -> {
+            for (int i = 0; i < 100; i++) {
+                long first = lockService.getLockRecheckDelay(0);
+                assertTrue(first > 50 && first <= 100);
+                long third = lockService.getLockRecheckDelay(2);
+                assertTrue(third > 200 && third <= 400);
+                long capped = lockService.getLockRecheckDelay(30);
+                assertTrue(capped > 1000 && capped <= 2000);
+            }
+        });
+    }
+
+    @Test
+    public void postgresLockResetsLockTimeoutWithoutRollingBack() throws Exception {
+        PostgresDatabase database = spy(new PostgresDatabase());
+        Executor executor = mockPostgresExecutor(database);
+        try {
+            NativeLockService lockService = new NativeLockService();
+            lockService.setDatabase(database);
+
+            assertTrue(lockService.acquireNativeLock(1000));
+            verify(database, never()).rollback();
+            assertLockTimeoutReset(executor);
+        } finally {
+            Scope.getCurrentScope().getSingleton(ExecutorService.class).clearExecutor("jdbc", database);
+        }
+    }
+
+    @Test
+    public void postgresLockRollsBackAndResetsLockTimeoutOnTimeout() throws Exception {
+        PostgresDatabase database = spy(new PostgresDatabase());
+        doNothing().when(database).rollback();
+        Executor executor = mockPostgresExecutor(database);
+        doThrow(new DatabaseException(new SQLException("canceling statement due to lock timeout", "55P03")))
+                .when(executor).execute(any(SqlStatement.class));
+        try {
+            NativeLockService lockService = new NativeLockService();
+            lockService.setDatabase(database);
+
+            assertFalse(lockService.acquireNativeLock(1000));
+            verify(database).rollback();
+            assertLockTimeoutReset(executor);
+        } finally {
+            Scope.getCurrentScope().getSingleton(ExecutorService.class).clearExecutor("jdbc", database);
+        }
+    }
+
+    private static Executor mockPostgresExecutor(PostgresDatabase database) throws Exception {
+        Executor executor = mock(Executor.class);
+        when(executor.queryForObject(any(SqlStatement.class), eq(String.class))).thenReturn("5s");
+        Scope.getCurrentScope().getSingleton(ExecutorService.class).setExecutor("jdbc", database, executor);
+        return executor;
+    }
+
+    private static void assertLockTimeoutReset(Executor executor) throws Exception {
+        ArgumentCaptor<SqlStatement> statements = ArgumentCaptor.forClass(SqlStatement.class);
+        verify(executor, times(3)).queryForObject(statements.capture(), eq(String.class));
+        RawParameterizedSqlStatement reset = (RawParameterizedSqlStatement) statements.getAllValues().get(2);
+        assertTrue(reset.getSql().contains("set_config('lock_timeout'"));
+        assertEquals(Collections.singletonList("5s"), reset.getParameters());
+    }
+
+    private static void withWaitStrategy(GlobalConfiguration.ChangelogLockWaitStrategy strategy, Scope.ScopedRunner<?> runner) throws Exception {
+        Scope.child(Collections.singletonMap(GlobalConfiguration.CHANGELOGLOCK_WAIT_STRATEGY.getKey(), strategy), runner);
+    }
+}
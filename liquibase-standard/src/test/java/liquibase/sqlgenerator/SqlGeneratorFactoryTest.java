@@ -182,7 +182,24 @@ public class SqlGeneratorFactoryTest {
         SortedSet<SqlGenerator> allGenerators = SqlGeneratorFactory.getInstance().getGenerators(new AddAutoIncrementStatement(null, null, "person", "name", "varchar(255)", null, null, null, null), new H2Database());
 
         assertNotNull(allGenerators);
-        assertEquals(1, allGenerators.size());        
+        assertEquals(1, allGenerators.size());
+    }
+
+    @Test
+    public void getGeneratorsReusesCachedSetUntilRegister() {
+        SortedSet<SqlGenerator> generators = factory.getGenerators(statement, database);
+        assertSame(generators, factory.getGenerators(statement, database));
+
+        factory.register(new CustomAddAutoIncrementGeneratorHsqlH2());
+
+        SortedSet<SqlGenerator> afterRegister = factory.getGenerators(statement, database);
+        assertNotSame(generators, afterRegister);
+        assertEquals(generators.size() + 1, afterRegister.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getGeneratorsCannotBeModified() {
+        factory.getGenerators(statement, database).clear();
     }
 
     @LiquibaseService(skip = true)
@@ -0,0 +1,160 @@
+package liquibase.statement;
+
+import liquibase.change.ColumnConfig;
+import liquibase.changelog.ChangeSet;
+import liquibase.database.Database;
+import liquibase.database.PreparedStatementFactory;
+import liquibase.database.core.MSSQLDatabase;
+import liquibase.database.core.MySQLDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.DatabaseException;
+import liquibase.resource.ResourceAccessor;
+import liquibase.sql.visitor.SqlVisitor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InsertMultiRowExecutablePreparedStatementTest {
+
+    @Mock
+    private ChangeSet changeSet;
+
+    private final List<SqlVisitor> sqlVisitors = new ArrayList<>();
+
+    @Mock
+    private ResourceAccessor resourceAccessor;
+
+    @Mock
+    private JdbcConnection connection;
+
+    @Mock
+    private PreparedStatement ps;
+
+    private Database database;
+
+    private PreparedStatementFactory preparedStatementFactory;
+
+    @Before
+    public void setUp() throws Exception {
+        database = new MySQLDatabase();
+        preparedStatementFactory = new PreparedStatementFactory(connection);
+    }
+
+    @Test
+    public void testExecute() throws DatabaseException, SQLException {
+        when(changeSet.getSqlVisitors()).thenReturn(sqlVisitors);
+        when(connection.prepareStatement(any(String.class))).thenReturn(ps);
+
+        InsertMultiRowExecutablePreparedStatement statement = new InsertMultiRowExecutablePreparedStatement(database,
+                null,
+                null,
+                "tableName",
+                changeSet,
+                resourceAccessor,
+                Arrays.asList(row("a1", "b1"), row("a2", "b2"), row("a3", "b3")));
+
+        statement.execute(preparedStatementFactory);
+
+        verify(connection).prepareStatement(
+                "INSERT INTO tableName(column1, column2) VALUES(?, ?), (?, ?), (?, ?)");
+        verify(ps).setString(1, "a1");
+        verify(ps).setString(2, "b1");
+        verify(ps).setString(3, "a2");
+        verify(ps).setString(4, "b2");
+        verify(ps).setString(5, "a3");
+        verify(ps).setString(6, "b3");
+        verify(ps).execute();
+        verifyNoMoreInteractions(ps);
+    }
+
+    @Test
+    public void testExecute_ValueComputed() throws DatabaseException, SQLException {
+        when(changeSet.getSqlVisitors()).thenReturn(sqlVisitors);
+        when(connection.prepareStatement(any(String.class))).thenReturn(ps);
+
+        InsertExecutablePreparedStatement computedRow = row("a2", null);
+        computedRow.getColumns().get(1).setValueComputed(new DatabaseFunction("NOW()"));
+
+        InsertMultiRowExecutablePreparedStatement statement = new InsertMultiRowExecutablePreparedStatement(database,
+                null,
+                null,
+                "tableName",
+                changeSet,
+                resourceAccessor,
+                Arrays.asList(row("a1", "b1"), computedRow));
+
+        statement.execute(preparedStatementFactory);
+
+        verify(connection).prepareStatement(
+                "INSERT INTO tableName(column1, column2) VALUES(?, ?), (?, NOW())");
+        verify(ps).setString(1, "a1");
+        verify(ps).setString(2, "b1");
+        verify(ps).setString(3, "a2");
+        verify(ps).execute();
+        verifyNoMoreInteractions(ps);
+    }
+
+    @Test
+    public void testCanCombine() {
+        assertTrue(InsertMultiRowExecutablePreparedStatement.canCombine(Arrays.asList(row("a1", "b1"), row("a2", "b2"))));
+        assertFalse(InsertMultiRowExecutablePreparedStatement.canCombine(Collections.emptyList()));
+
+        ColumnConfig otherColumn = new ColumnConfig();
+        otherColumn.setName("other");
+        otherColumn.setValue("value");
+        InsertExecutablePreparedStatement otherRow = new InsertExecutablePreparedStatement(database, null, null,
+                "tableName", Collections.singletonList(otherColumn), changeSet, resourceAccessor);
+        assertFalse(InsertMultiRowExecutablePreparedStatement.canCombine(Arrays.asList(row("a1", "b1"), otherRow)));
+    }
+
+    @Test
+    public void testMaxRowsPerStatementRespectsBindParameterLimit() {
+        List<InsertExecutablePreparedStatement> rows = Collections.singletonList(row("a", "b"));
+
+        assertEquals(1000, InsertMultiRowExecutablePreparedStatement.getMaxRowsPerStatement(new PostgresDatabase(), rows, 1000));
+        assertEquals(Short.MAX_VALUE / 2, InsertMultiRowExecutablePreparedStatement.getMaxRowsPerStatement(new PostgresDatabase(), rows, 100000));
+        assertEquals(65535 / 2, InsertMultiRowExecutablePreparedStatement.getMaxRowsPerStatement(new MySQLDatabase(), rows, 100000));
+        assertEquals(100000, InsertMultiRowExecutablePreparedStatement.getMaxRowsPerStatement(new MSSQLDatabase(), rows, 100000));
+    }
+
+    @Test
+    public void testMaxRowsPerStatementUsesTheRowWithTheMostBindParameters() {
+        InsertExecutablePreparedStatement computedRow = row("a1", null);
+        computedRow.getColumns().get(1).setValueComputed(new DatabaseFunction("NOW()"));
+
+        assertEquals(Short.MAX_VALUE / 2, InsertMultiRowExecutablePreparedStatement.getMaxRowsPerStatement(
+                new PostgresDatabase(), Arrays.asList(computedRow, row("a2", "b2")), 100000));
+        assertEquals(Short.MAX_VALUE, InsertMultiRowExecutablePreparedStatement.getMaxRowsPerStatement(
+                new PostgresDatabase(), Collections.singletonList(computedRow), 100000));
+    }
+
+    private InsertExecutablePreparedStatement row(String value1, String value2) {
+        ColumnConfig columnConfig1 = new ColumnConfig();
+        columnConfig1.setName("column1");
+        columnConfig1.setValue(value1);
+
+        ColumnConfig columnConfig2 = new ColumnConfig();
+        columnConfig2.setName("column2");
+        columnConfig2.setValue(value2);
+
+        return new InsertExecutablePreparedStatement(database, null, null, "tableName",
+                Arrays.asList(columnConfig1, columnConfig2), changeSet, resourceAccessor);
+    }
+}